@@ -5,18 +5,18 @@ import static com.redis.om.spring.util.ObjectUtils.isPrimitiveOfType;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.*;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.annotation.Reference;
-import org.springframework.data.annotation.Version;
 import org.springframework.data.redis.connection.RedisKeyCommands;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
@@ -29,11 +29,12 @@ import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
 import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.lang.Nullable;
-import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.audit.EntityAuditor;
 import com.redis.om.spring.convert.RedisOMCustomConversions;
@@ -43,6 +44,12 @@ import com.redis.om.spring.mapping.RedisEnhancedPersistentEntity;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.serialization.DocumentChangeTracker;
+import com.redis.om.spring.serialization.DocumentSerializers;
+import com.redis.om.spring.serialization.gson.LazyLoadingProxy;
+import com.redis.om.spring.serialization.gson.ReferencePrefetch;
+import com.redis.om.spring.util.CompactKeyNames;
+import com.redis.om.spring.util.EntityMetadata;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.vectorize.Embedder;
 
@@ -82,6 +89,7 @@ import redis.clients.jedis.util.SafeEncoder;
  */
 public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   private static final Log logger = LogFactory.getLog(RedisJSONKeyValueAdapter.class);
+  private static final Pattern SIMPLE_FIELD_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
   private final JSONOperations<?> redisJSONOperations;
   private final RedisOperations<?, ?> redisOperations;
   private final RedisMappingContext mappingContext;
@@ -154,7 +162,8 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     embedder.processEntity(item);
     Optional<Long> maybeTtl = getTTLForEntity(item);
 
-    ops.set(key, item);
+    writeDocument(ops, key, item);
+    DocumentSerializers.of(gsonBuilder).evictReference(key);
     processReferences(key, item);
 
     redisOperations.execute((RedisCallback<Object>) connection -> {
@@ -201,6 +210,8 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     @SuppressWarnings(
       "unchecked"
     ) JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
+    DocumentChangeTracker changeTracker = DocumentSerializers.of(gsonBuilder).getChangeTracker();
+    long generation = changeTracker.generation(key);
     T entity = ops.get(key, type);
     if (entity != null) {
       // Use optimized method if we can get the persistent entity
@@ -211,6 +222,12 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
         // Fallback to utility method
         ObjectUtils.populateRedisKey(entity, key);
       }
+      if (isChangeTracked(type)) {
+        JsonElement document = DocumentSerializers.of(gsonBuilder).toJsonTree(entity);
+        if (document.isJsonObject()) {
+          changeTracker.snapshot(key, entity, document.getAsJsonObject(), generation);
+        }
+      }
     }
     return entity;
   }
@@ -236,20 +253,25 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     }
     query.limit(Math.toIntExact(offset), limit);
     SearchResult searchResult = searchOps.search(query);
-    Gson gson = gsonBuilder.create();
+    Gson gson = DocumentSerializers.of(gsonBuilder).getGson();
 
     // Get persistent entity once for all results
     RedisPersistentEntity<?> persistentEntity = mappingContext.getPersistentEntity(type);
     boolean useOptimized = persistentEntity instanceof RedisEnhancedPersistentEntity;
 
-    return searchResult.getDocuments().stream().map(d -> {
-      T entity = gson.fromJson(SafeEncoder.encode((byte[]) d.get("$")), type);
-      if (useOptimized) {
-        return ((RedisEnhancedPersistentEntity<?>) persistentEntity).populateRedisKey(entity, d.getId());
-      } else {
-        return ObjectUtils.populateRedisKey(entity, d.getId());
-      }
-    }).toList();
+    @SuppressWarnings(
+      "unchecked"
+    ) JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
+    List<Document> documents = searchResult.getDocuments();
+    return ReferencePrefetch.resolving(type, ReferencePrefetch.rootDocuments(documents), ops::mgetAligned,
+        DocumentSerializers.of(gsonBuilder)::isReferenceCached, () -> documents.stream().map(d -> {
+          T entity = gson.fromJson(SafeEncoder.encode((byte[]) d.get("$")), type);
+          if (useOptimized) {
+            return ((RedisEnhancedPersistentEntity<?>) persistentEntity).populateRedisKey(entity, d.getId());
+          } else {
+            return ObjectUtils.populateRedisKey(entity, d.getId());
+          }
+        }).toList());
   }
 
   /**
@@ -298,6 +320,9 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     if (entity != null) {
       String key = createKeyAsString(resolvedKeyspace, stringId);
       ops.del(key, Path2.ROOT_PATH);
+      DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+      serializers.evictReference(key);
+      serializers.getChangeTracker().written(key);
     }
 
     return entity;
@@ -339,6 +364,9 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
         }
       }
     }
+    DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+    serializers.clearReferences();
+    serializers.getChangeTracker().clear();
   }
 
   /*
@@ -384,16 +412,79 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     return exists != null && exists;
   }
 
+  private boolean isChangeTracked(Class<?> entityClass) {
+    return redisOMProperties.getRepository().getChangeTracking().isEnabledFor(entityClass);
+  }
+
+  /**
+   * Writes the document of an entity. Entities with change tracking enabled that were
+   * loaded or saved before, and whose document was not written otherwise since, only have
+   * their changed top-level fields written.
+   *
+   * @param ops  the JSON operations
+   * @param key  the key of the document
+   * @param item the entity
+   */
+  private void writeDocument(JSONOperations<String> ops, String key, Object item) {
+    DocumentChangeTracker changeTracker = DocumentSerializers.of(gsonBuilder).getChangeTracker();
+    if (!isChangeTracked(item.getClass())) {
+      changeTracker.written(key);
+      ops.set(key, item);
+      return;
+    }
+    JsonElement document = DocumentSerializers.of(gsonBuilder).toJsonTree(item);
+    if (!document.isJsonObject()) {
+      changeTracker.written(key);
+      ops.set(key, item);
+      return;
+    }
+    JsonObject fields = document.getAsJsonObject();
+    DocumentChangeTracker.Changes changes = changeTracker.changes(key, item, fields);
+    long generation = changeTracker.written(key);
+    if (changes == null || !writeChanges(ops, key, changes)) {
+      ops.set(key, fields);
+    }
+    changeTracker.snapshot(key, item, fields, generation);
+  }
+
+  private boolean writeChanges(JSONOperations<String> ops, String key, DocumentChangeTracker.Changes changes) {
+    if (changes.isEmpty()) {
+      return Boolean.TRUE.equals(redisOperations.execute((RedisCallback<Boolean>) connection -> connection
+          .keyCommands().exists(toBytes(key))));
+    }
+    Map<Path2, JsonElement> values = new LinkedHashMap<>();
+    for (Map.Entry<String, JsonElement> field : changes.changed().entrySet()) {
+      if (!SIMPLE_FIELD_NAME.matcher(field.getKey()).matches()) {
+        return false;
+      }
+      values.put(Path2.of("$." + field.getKey()), field.getValue());
+    }
+    for (String field : changes.removed()) {
+      if (!SIMPLE_FIELD_NAME.matcher(field).matches()) {
+        return false;
+      }
+      values.put(Path2.of("$." + field), null);
+    }
+    return ops.setPaths(key, values);
+  }
+
   @SuppressWarnings(
     "unchecked"
   )
   private void processReferences(String key, Object item) {
-    List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Reference.class);
+    List<Field> fields = EntityMetadata.of(item.getClass()).getReferenceFields();
     if (!fields.isEmpty()) {
       JSONOperations<String> ops = (JSONOperations<String>) redisJSONOperations;
       PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
       fields.forEach(f -> {
         var referencedValue = accessor.getPropertyValue(f.getName());
+        if (referencedValue instanceof LazyLoadingProxy proxy && !proxy.loaded()) {
+          // the references of an unused proxy are unchanged
+          Object keys = ObjectUtils.isCollection(f) ? proxy.referenceKeys() : proxy.referenceKeys().get(0);
+          ops.set(key, keys, Path2.of("$." + CompactKeyNames.storedName(f)));
+          return;
+        }
+        referencedValue = LazyLoadingProxy.unwrap(referencedValue);
         if (referencedValue != null) {
           if (referencedValue instanceof Collection<?> referenceValues) {
             List<String> referenceKeys = new ArrayList<>();
@@ -404,12 +495,12 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
                 referenceKeys.add(referenceKey);
               }
             });
-            ops.set(key, referenceKeys, Path2.of("$." + f.getName()));
+            ops.set(key, referenceKeys, Path2.of("$." + CompactKeyNames.storedName(f)));
           } else {
             Object id = ObjectUtils.getIdFieldForEntity(referencedValue);
             if (id != null) {
               String referenceKey = indexer.getKeyspaceForEntityClass(f.getType()) + id;
-              ops.set(key, referenceKey, Path2.of("$." + f.getName()));
+              ops.set(key, referenceKey, Path2.of("$." + CompactKeyNames.storedName(f)));
             }
           }
         }
@@ -418,7 +509,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
   }
 
   private void processVersion(String key, Object item) {
-    List<Field> fields = ObjectUtils.getFieldsWithAnnotation(item.getClass(), Version.class);
+    List<Field> fields = EntityMetadata.of(item.getClass()).getVersionFields();
     if (fields.size() == 1) {
       BeanWrapper wrapper = new BeanWrapperImpl(item);
       Field versionField = fields.get(0);
@@ -470,7 +561,7 @@ public class RedisJSONKeyValueAdapter extends RedisKeyValueAdapter {
     if (settings != null) {
       if (StringUtils.hasText(settings.getTimeToLivePropertyName())) {
         try {
-          Field fld = ReflectionUtils.findField(entityClass, settings.getTimeToLivePropertyName());
+          Field fld = EntityMetadata.of(entityClass).getField(settings.getTimeToLivePropertyName());
           if (fld != null) {
             long ttlPropertyValue = getTtlFieldValue(entityClass, fld, entity);
 
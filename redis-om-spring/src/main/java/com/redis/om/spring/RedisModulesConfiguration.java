@@ -19,7 +19,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.*;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -38,6 +37,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 import com.github.f4b6a3.ulid.Ulid;
@@ -46,9 +46,11 @@ import com.redis.om.spring.annotations.Bloom;
 import com.redis.om.spring.annotations.Cuckoo;
 import com.redis.om.spring.annotations.Document;
 import com.redis.om.spring.annotations.IndexingOptions;
+import com.redis.om.spring.bloom.BloomFilterReplicas;
 import com.redis.om.spring.client.RedisModulesClient;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
+import com.redis.om.spring.metrics.LatencyRecorder;
 import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.NoOpCommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
@@ -60,6 +62,8 @@ import com.redis.om.spring.repository.RedisDocumentRepository;
 import com.redis.om.spring.repository.RedisEnhancedRepository;
 import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
+import com.redis.om.spring.serialization.DocumentSerializers;
+import com.redis.om.spring.serialization.JacksonDocumentSerializer;
 import com.redis.om.spring.serialization.gson.*;
 import com.redis.om.spring.serialization.gson.GsonBuilderCustomizer;
 import com.redis.om.spring.vectorize.Embedder;
@@ -287,6 +291,13 @@ public class RedisModulesConfiguration {
     // Register factory for handling Boolean values in Maps (must be after type adapters)
     builder.registerTypeAdapterFactory(MapBooleanTypeAdapterFactory.getInstance());
 
+    // Compress @Compressed fields
+    builder.registerTypeAdapterFactory(CompressedFieldsTypeAdapterFactory.getInstance());
+
+    // Store the fields of @CompactKeys classes under short names, keeping the configured naming otherwise
+    builder.setFieldNamingStrategy(new CompactFieldNamingStrategy(builder.create().fieldNamingStrategy()));
+    builder.registerTypeAdapterFactory(CompactKeysTypeAdapterFactory.getInstance());
+
     return builder;
   }
 
@@ -307,6 +318,38 @@ public class RedisModulesConfiguration {
     return gsonBuilder.create();
   }
 
+  /**
+   * Creates the document serializers of the configured GsonBuilder.
+   * <p>
+   * JSON documents are serialized with a single Gson instance shared by all operations,
+   * except for the entity classes configured with
+   * {@code redis.om.spring.repository.serialization.jackson-entity-classes}, which are
+   * serialized with Jackson.
+   *
+   * @param gsonBuilder the configured Gson builder
+   * @param properties  the Redis OM properties
+   * @return the document serializers
+   */
+  @Bean
+  public DocumentSerializers documentSerializers(@Qualifier(
+    "omGsonBuilder"
+  ) GsonBuilder gsonBuilder, RedisOMProperties properties) {
+    DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+    List<String> jacksonEntityClasses = properties.getRepository().getSerialization().getJacksonEntityClasses();
+    if (!jacksonEntityClasses.isEmpty()) {
+      JacksonDocumentSerializer jackson = new JacksonDocumentSerializer();
+      for (String className : jacksonEntityClasses) {
+        try {
+          serializers.register(ClassUtils.forName(className, getClass().getClassLoader()), jackson);
+        } catch (ClassNotFoundException | LinkageError e) {
+          logger.warn(String.format("Entity class %s configured for Jackson serialization was not found",
+              className), e);
+        }
+      }
+    }
+    return serializers;
+  }
+
   /**
    * Creates the Redis modules client for accessing Redis Stack modules.
    * <p>
@@ -322,6 +365,9 @@ public class RedisModulesConfiguration {
       name = "redisModulesClient"
   )
   @Lazy
+  @DependsOn(
+    "documentSerializers"
+  )
   RedisModulesClient redisModulesClient( //
       JedisConnectionFactory jedisConnectionFactory, //
       @Qualifier(
@@ -438,6 +484,28 @@ public class RedisModulesConfiguration {
     return redisModulesOperations.opsForCountMinSketch();
   }
 
+  /**
+   * Creates the recorder of repository latencies when latency metrics are enabled.
+   * <p>
+   * Repository factories add an interceptor recording every repository method call with
+   * this recorder, and applications can inject it to read the fleet-wide percentiles.
+   *
+   * @param redisModulesOperations the Redis modules operations instance
+   * @param template               the string Redis template
+   * @param properties             the Redis OM properties
+   * @return the latency recorder
+   */
+  @Bean
+  @ConditionalOnProperty(
+      name = "redis.om.spring.repository.latency-metrics.enabled", havingValue = "true"
+  )
+  public LatencyRecorder latencyRecorder(RedisModulesOperations<String> redisModulesOperations,
+      StringRedisTemplate template, RedisOMProperties properties) {
+    RedisOMProperties.Repository.LatencyMetrics metrics = properties.getRepository().getLatencyMetrics();
+    return new LatencyRecorder(redisModulesOperations.opsForTDigest(), template, metrics.getCompression(), metrics
+        .getFlushInterval(), metrics.getMaxPendingSamples(), metrics.getWindow());
+  }
+
   /**
    * Creates the primary Redis template for general Redis operations.
    * <p>
@@ -648,18 +716,19 @@ public class RedisModulesConfiguration {
   /**
    * Creates a cache manager for Redis OM Spring internal caching.
    * <p>
-   * This cache manager is used internally by Redis OM Spring for caching
-   * metadata, search results, and other frequently accessed data to improve
-   * performance. It uses a concurrent map-based implementation suitable
-   * for development and testing environments.
+   * This cache manager holds the entities deserialized from the references of the
+   * classes listed in {@code redis.om.spring.references.cached-reference-classes}. Its
+   * caches are bounded by {@code cache-maximum-size}, expire their entries after
+   * {@code cache-time-to-live}, and record hit and miss statistics.
    *
+   * @param properties the Redis OM properties configuring the reference cache
    * @return the cache manager instance for internal caching
    */
   @Bean(
       name = "redisOMCacheManager"
   )
-  public CacheManager getCacheManager() {
-    return new ConcurrentMapCacheManager();
+  public CacheManager getCacheManager(RedisOMProperties properties) {
+    return new ReferenceCacheManager(properties.getReferences());
   }
 
   /**
@@ -771,7 +840,14 @@ public class RedisModulesConfiguration {
             String filterName = !ObjectUtils.isEmpty(bloom.name()) ?
                 bloom.name() :
                 String.format("bf:%s:%s", cl.getSimpleName(), field.getName());
-            ops.createFilter(filterName, bloom.capacity(), bloom.errorRate());
+            try {
+              ops.createFilter(filterName, bloom.capacity(), bloom.errorRate());
+            } finally {
+              // registered once the filter exists, whether it was just created or was already there
+              if (bloom.localReplica()) {
+                ac.getBean(BloomFilterReplicas.class).register(filterName, bloom.localReplicaRefreshInterval());
+              }
+            }
           }
         }
       } catch (Exception e) {
@@ -250,6 +250,57 @@ public class RedisOMProperties {
      */
     private boolean throwOnSaveAllFailure = false;
 
+    /**
+     * The maximum number of keys sent in a single pipeline by bulk key operations
+     * such as existsAllById, getExpirationAll and setExpirationAll, and the number of
+     * keys read per page by exportTo and streamAll.
+     */
+    private int bulkKeyBatchSize = 1000;
+
+    /**
+     * The maximum number of documents written by a single {@code JSON.MSET} in
+     * {@code saveAll}. {@code 0} disables {@code JSON.MSET} and sends one {@code JSON.SET}
+     * per document.
+     */
+    private int msetBatchSize = 100;
+
+    /**
+     * The maximum number of documents read by a single {@code JSON.MGET} in
+     * {@code findAllById}. Larger batches are split into chunks of this size.
+     */
+    private int mgetBatchSize = 1000;
+
+    /**
+     * The maximum number of {@code JSON.MGET} chunks of a single {@code findAllById}
+     * read at the same time, each on its own pooled connection.
+     */
+    private int mgetParallelism = 4;
+
+    /**
+     * Write-behind (buffered, coalescing) save configuration settings.
+     */
+    private final WriteBehind writeBehind = new WriteBehind();
+
+    /**
+     * Hot-key tracking and caching configuration settings.
+     */
+    private final HotKeys hotKeys = new HotKeys();
+
+    /**
+     * Repository latency metrics configuration settings.
+     */
+    private final LatencyMetrics latencyMetrics = new LatencyMetrics();
+
+    /**
+     * JSON document serialization configuration settings.
+     */
+    private final Serialization serialization = new Serialization();
+
+    /**
+     * Change tracking configuration settings.
+     */
+    private final ChangeTracking changeTracking = new ChangeTracking();
+
     /**
      * Default constructor for Repository configuration.
      */
@@ -266,6 +317,51 @@ public class RedisOMProperties {
       return query;
     }
 
+    /**
+     * Gets the write-behind configuration.
+     *
+     * @return the write-behind configuration
+     */
+    public WriteBehind getWriteBehind() {
+      return writeBehind;
+    }
+
+    /**
+     * Gets the hot-key tracking configuration.
+     *
+     * @return the hot-key tracking configuration
+     */
+    public HotKeys getHotKeys() {
+      return hotKeys;
+    }
+
+    /**
+     * Gets the repository latency metrics configuration.
+     *
+     * @return the latency metrics configuration
+     */
+    public LatencyMetrics getLatencyMetrics() {
+      return latencyMetrics;
+    }
+
+    /**
+     * Gets the JSON document serialization configuration.
+     *
+     * @return the serialization configuration
+     */
+    public Serialization getSerialization() {
+      return serialization;
+    }
+
+    /**
+     * Gets the change tracking configuration.
+     *
+     * @return the change tracking configuration
+     */
+    public ChangeTracking getChangeTracking() {
+      return changeTracking;
+    }
+
     /**
      * Checks if indexes should be dropped and recreated during deleteAll operations.
      *
@@ -322,6 +418,78 @@ public class RedisOMProperties {
       this.throwOnSaveAllFailure = throwOnSaveAllFailure;
     }
 
+    /**
+     * Gets the maximum number of keys sent in a single pipeline by bulk key operations.
+     *
+     * @return the bulk key batch size
+     */
+    public int getBulkKeyBatchSize() {
+      return bulkKeyBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of keys sent in a single pipeline by bulk key operations.
+     *
+     * @param bulkKeyBatchSize the bulk key batch size to set (must be positive)
+     */
+    public void setBulkKeyBatchSize(int bulkKeyBatchSize) {
+      this.bulkKeyBatchSize = bulkKeyBatchSize;
+    }
+
+    /**
+     * Gets the maximum number of documents written by a single {@code JSON.MSET}.
+     *
+     * @return the JSON.MSET batch size, {@code 0} if JSON.MSET is disabled
+     */
+    public int getMsetBatchSize() {
+      return msetBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of documents written by a single {@code JSON.MSET}.
+     *
+     * @param msetBatchSize the JSON.MSET batch size, {@code 0} to disable JSON.MSET
+     */
+    public void setMsetBatchSize(int msetBatchSize) {
+      this.msetBatchSize = msetBatchSize;
+    }
+
+    /**
+     * Gets the maximum number of documents read by a single {@code JSON.MGET}.
+     *
+     * @return the JSON.MGET batch size
+     */
+    public int getMgetBatchSize() {
+      return mgetBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of documents read by a single {@code JSON.MGET}.
+     *
+     * @param mgetBatchSize the JSON.MGET batch size, {@code 0} to read all documents with one JSON.MGET
+     */
+    public void setMgetBatchSize(int mgetBatchSize) {
+      this.mgetBatchSize = mgetBatchSize;
+    }
+
+    /**
+     * Gets the maximum number of JSON.MGET chunks read at the same time.
+     *
+     * @return the JSON.MGET parallelism
+     */
+    public int getMgetParallelism() {
+      return mgetParallelism;
+    }
+
+    /**
+     * Sets the maximum number of JSON.MGET chunks read at the same time.
+     *
+     * @param mgetParallelism the JSON.MGET parallelism, {@code 1} to read the chunks one after the other
+     */
+    public void setMgetParallelism(int mgetParallelism) {
+      this.mgetParallelism = mgetParallelism;
+    }
+
     /**
      * Configuration properties for query behavior.
      * <p>
@@ -406,6 +574,538 @@ public class RedisOMProperties {
         this.defaultDistanceMetric = defaultDistanceMetric;
       }
     }
+
+    /**
+     * Configuration properties for write-behind repository saves.
+     * <p>
+     * When enabled, {@code save()} on document and hash repositories places the entity in
+     * an in-memory buffer keyed by its Redis key, so repeated saves of the same entity
+     * coalesce and only the latest state is written. A background flusher writes the buffer
+     * in pipelined chunks whenever {@link #getBatchSize() batchSize} entities are pending or
+     * every {@link #getFlushInterval() flushInterval} milliseconds, whichever comes first.
+     * </p>
+     */
+    public static class WriteBehind {
+      /**
+       * Whether write-behind saves are enabled.
+       */
+      private boolean enabled = false;
+
+      /**
+       * The maximum time, in milliseconds, an entity stays buffered before being flushed.
+       */
+      private long flushInterval = 100;
+
+      /**
+       * The number of pending entities that triggers a flush, and the chunk size used
+       * when writing the buffer to Redis.
+       */
+      private int batchSize = 500;
+
+      /**
+       * Fully qualified class names of the entities that use write-behind saves.
+       * When empty, all entities use write-behind saves while the mode is enabled.
+       */
+      private List<String> entityClasses = new ArrayList<>();
+
+      /**
+       * Default constructor for WriteBehind configuration.
+       */
+      public WriteBehind() {
+        // Default constructor for Spring configuration binding
+      }
+
+      /**
+       * Checks if write-behind saves are enabled.
+       *
+       * @return {@code true} if write-behind saves are enabled, {@code false} otherwise
+       */
+      public boolean isEnabled() {
+        return enabled;
+      }
+
+      /**
+       * Sets whether write-behind saves are enabled.
+       *
+       * @param enabled {@code true} to enable write-behind saves, {@code false} to disable
+       */
+      public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+      }
+
+      /**
+       * Checks if write-behind saves apply to the given entity class.
+       *
+       * @param entityClass the entity class managed by a repository
+       * @return {@code true} if saves of the entity class should be buffered
+       */
+      public boolean isEnabledFor(Class<?> entityClass) {
+        return enabled && (entityClasses.isEmpty() || entityClasses.contains(entityClass.getName()));
+      }
+
+      /**
+       * Gets the maximum time, in milliseconds, an entity stays buffered.
+       *
+       * @return the flush interval in milliseconds
+       */
+      public long getFlushInterval() {
+        return flushInterval;
+      }
+
+      /**
+       * Sets the maximum time, in milliseconds, an entity stays buffered.
+       *
+       * @param flushInterval the flush interval in milliseconds (must be positive)
+       */
+      public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+      }
+
+      /**
+       * Gets the number of pending entities that triggers a flush.
+       *
+       * @return the flush batch size
+       */
+      public int getBatchSize() {
+        return batchSize;
+      }
+
+      /**
+       * Sets the number of pending entities that triggers a flush.
+       *
+       * @param batchSize the flush batch size (must be positive)
+       */
+      public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+      }
+
+      /**
+       * Gets the class names of the entities that use write-behind saves.
+       *
+       * @return the list of entity class names
+       */
+      public List<String> getEntityClasses() {
+        return entityClasses;
+      }
+
+      /**
+       * Sets the class names of the entities that use write-behind saves.
+       *
+       * @param entityClasses the list of entity class names
+       */
+      public void setEntityClasses(List<String> entityClasses) {
+        this.entityClasses = entityClasses;
+      }
+    }
+
+    /**
+     * Configuration properties for hot-key tracking.
+     * <p>
+     * When enabled, the ids read through {@code findById} and {@code findAllById} are
+     * sampled into a Redis {@code TOPK} structure per keyspace, shared by all application
+     * instances. Every {@link #getRefreshInterval() refreshInterval} milliseconds each
+     * instance pulls the current top-k and keeps the entities with those ids in a local
+     * cache, so cached entries follow the access skew observed across the whole fleet.
+     * </p>
+     * <p>
+     * Writes issued through the repository evict the entity from the local cache. Writes
+     * issued by other instances become visible at the next refresh, which empties the
+     * cache.
+     * </p>
+     */
+    public static class HotKeys {
+      /**
+       * Whether hot-key tracking and caching are enabled.
+       */
+      private boolean enabled = false;
+
+      /**
+       * The number of hot keys tracked, and cached, per keyspace.
+       */
+      private int topK = 100;
+
+      /**
+       * The interval, in milliseconds, at which sampled reads are sent to Redis and the
+       * hot keys are pulled back. Cached entities are at most this old.
+       */
+      private long refreshInterval = 5000;
+
+      /**
+       * The fraction of reads that are sampled, between 0 and 1.
+       */
+      private double sampleRate = 1.0;
+
+      /**
+       * Fully qualified class names of the entities whose reads are tracked.
+       * When empty, reads of all entities are tracked while the mode is enabled.
+       */
+      private List<String> entityClasses = new ArrayList<>();
+
+      /**
+       * Default constructor for HotKeys configuration.
+       */
+      public HotKeys() {
+        // Default constructor for Spring configuration binding
+      }
+
+      /**
+       * Checks if hot-key tracking is enabled.
+       *
+       * @return {@code true} if hot-key tracking is enabled, {@code false} otherwise
+       */
+      public boolean isEnabled() {
+        return enabled;
+      }
+
+      /**
+       * Sets whether hot-key tracking is enabled.
+       *
+       * @param enabled {@code true} to enable hot-key tracking, {@code false} to disable
+       */
+      public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+      }
+
+      /**
+       * Checks if hot-key tracking applies to the given entity class.
+       *
+       * @param entityClass the entity class managed by a repository
+       * @return {@code true} if reads of the entity class should be tracked
+       */
+      public boolean isEnabledFor(Class<?> entityClass) {
+        return enabled && (entityClasses.isEmpty() || entityClasses.contains(entityClass.getName()));
+      }
+
+      /**
+       * Gets the number of hot keys tracked per keyspace.
+       *
+       * @return the number of hot keys
+       */
+      public int getTopK() {
+        return topK;
+      }
+
+      /**
+       * Sets the number of hot keys tracked per keyspace.
+       *
+       * @param topK the number of hot keys (must be positive)
+       */
+      public void setTopK(int topK) {
+        this.topK = topK;
+      }
+
+      /**
+       * Gets the interval, in milliseconds, at which hot keys are refreshed.
+       *
+       * @return the refresh interval in milliseconds
+       */
+      public long getRefreshInterval() {
+        return refreshInterval;
+      }
+
+      /**
+       * Sets the interval, in milliseconds, at which hot keys are refreshed.
+       *
+       * @param refreshInterval the refresh interval in milliseconds (must be positive)
+       */
+      public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+      }
+
+      /**
+       * Gets the fraction of reads that are sampled.
+       *
+       * @return the sample rate, between 0 and 1
+       */
+      public double getSampleRate() {
+        return sampleRate;
+      }
+
+      /**
+       * Sets the fraction of reads that are sampled.
+       *
+       * @param sampleRate the sample rate, between 0 and 1
+       */
+      public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+      }
+
+      /**
+       * Gets the class names of the entities whose reads are tracked.
+       *
+       * @return the list of entity class names
+       */
+      public List<String> getEntityClasses() {
+        return entityClasses;
+      }
+
+      /**
+       * Sets the class names of the entities whose reads are tracked.
+       *
+       * @param entityClasses the list of entity class names
+       */
+      public void setEntityClasses(List<String> entityClasses) {
+        this.entityClasses = entityClasses;
+      }
+    }
+
+    /**
+     * Configuration properties for the repository latency metrics.
+     * <p>
+     * When enabled, the latency of every repository method call is recorded into a Redis
+     * T-Digest per repository method, shared by all application instances, so that
+     * fleet-wide percentiles can be read back with
+     * {@link com.redis.om.spring.metrics.LatencyRecorder}.
+     * </p>
+     *
+     * @since 2.0.7
+     */
+    public static class LatencyMetrics {
+      /**
+       * Whether repository latencies are recorded.
+       */
+      private boolean enabled = false;
+
+      /**
+       * The interval, in milliseconds, at which recorded latencies are sent to Redis.
+       */
+      private long flushInterval = 1000;
+
+      /**
+       * The compression of the T-Digests created for each repository method.
+       */
+      private int compression = 100;
+
+      /**
+       * The maximum number of latencies kept in memory between two flushes. Latencies
+       * recorded beyond this limit are dropped.
+       */
+      private int maxPendingSamples = 100_000;
+
+      /**
+       * The number of minutes of latencies the percentiles cover. Latencies are stored in
+       * one T-Digest per minute, which expires once it has left the window.
+       */
+      private int window = 15;
+
+      /**
+       * Default constructor for LatencyMetrics configuration.
+       */
+      public LatencyMetrics() {
+        // Default constructor for Spring configuration binding
+      }
+
+      /**
+       * Checks if repository latencies are recorded.
+       *
+       * @return {@code true} if latency metrics are enabled, {@code false} otherwise
+       */
+      public boolean isEnabled() {
+        return enabled;
+      }
+
+      /**
+       * Sets whether repository latencies are recorded.
+       *
+       * @param enabled {@code true} to enable latency metrics, {@code false} to disable
+       */
+      public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+      }
+
+      /**
+       * Gets the interval, in milliseconds, at which latencies are sent to Redis.
+       *
+       * @return the flush interval in milliseconds
+       */
+      public long getFlushInterval() {
+        return flushInterval;
+      }
+
+      /**
+       * Sets the interval, in milliseconds, at which latencies are sent to Redis.
+       *
+       * @param flushInterval the flush interval in milliseconds (must be positive)
+       */
+      public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+      }
+
+      /**
+       * Gets the compression of the T-Digests created for each repository method.
+       *
+       * @return the T-Digest compression
+       */
+      public int getCompression() {
+        return compression;
+      }
+
+      /**
+       * Sets the compression of the T-Digests created for each repository method.
+       *
+       * @param compression the T-Digest compression (must be positive)
+       */
+      public void setCompression(int compression) {
+        this.compression = compression;
+      }
+
+      /**
+       * Gets the maximum number of latencies kept in memory between two flushes.
+       *
+       * @return the maximum number of pending latencies
+       */
+      public int getMaxPendingSamples() {
+        return maxPendingSamples;
+      }
+
+      /**
+       * Sets the maximum number of latencies kept in memory between two flushes.
+       *
+       * @param maxPendingSamples the maximum number of pending latencies
+       */
+      public void setMaxPendingSamples(int maxPendingSamples) {
+        this.maxPendingSamples = maxPendingSamples;
+      }
+
+      /**
+       * Gets the number of minutes of latencies the percentiles cover.
+       *
+       * @return the window in minutes
+       */
+      public int getWindow() {
+        return window;
+      }
+
+      /**
+       * Sets the number of minutes of latencies the percentiles cover.
+       *
+       * @param window the window in minutes (must be positive)
+       */
+      public void setWindow(int window) {
+        this.window = window;
+      }
+    }
+
+    /**
+     * Configuration properties for the serialization of JSON documents.
+     * <p>
+     * Documents are serialized with a single Gson instance shared by all operations. The
+     * entity classes listed in {@link #getJacksonEntityClasses() jacksonEntityClasses} are
+     * serialized with Jackson instead, see
+     * {@link com.redis.om.spring.serialization.DocumentSerializers}.
+     * </p>
+     *
+     * @since 2.0.7
+     */
+    public static class Serialization {
+      /**
+       * Fully qualified names of the {@code @Document} entity classes serialized with
+       * Jackson instead of Gson.
+       */
+      private List<String> jacksonEntityClasses = new ArrayList<>();
+
+      /**
+       * Default constructor for Serialization configuration.
+       */
+      public Serialization() {
+        // Default constructor for Spring configuration binding
+      }
+
+      /**
+       * Gets the class names of the entities serialized with Jackson.
+       *
+       * @return the list of entity class names
+       */
+      public List<String> getJacksonEntityClasses() {
+        return jacksonEntityClasses;
+      }
+
+      /**
+       * Sets the class names of the entities serialized with Jackson.
+       *
+       * @param jacksonEntityClasses the list of entity class names
+       */
+      public void setJacksonEntityClasses(List<String> jacksonEntityClasses) {
+        this.jacksonEntityClasses = jacksonEntityClasses;
+      }
+    }
+
+    /**
+     * Configuration properties for the change tracking of {@code @Document} entities.
+     * <p>
+     * When enabled, a fingerprint of each top-level field is kept for the entity instances
+     * returned by {@code findById} or passed to {@code save}. Saving such an instance again
+     * only writes the fields that changed, with one {@code JSON.SET} per changed path sent
+     * in a single pipeline, instead of rewriting and re-indexing the whole document.
+     * </p>
+     *
+     * @since 2.0.7
+     */
+    public static class ChangeTracking {
+      /**
+       * Whether saves of tracked entities only write their changed fields.
+       */
+      private boolean enabled = false;
+
+      /**
+       * Fully qualified names of the entity classes that are tracked. All entities are
+       * tracked when empty.
+       */
+      private List<String> entityClasses = new ArrayList<>();
+
+      /**
+       * Default constructor for ChangeTracking configuration.
+       */
+      public ChangeTracking() {
+        // Default constructor for Spring configuration binding
+      }
+
+      /**
+       * Checks if change tracking is enabled.
+       *
+       * @return {@code true} if change tracking is enabled, {@code false} otherwise
+       */
+      public boolean isEnabled() {
+        return enabled;
+      }
+
+      /**
+       * Sets whether change tracking is enabled.
+       *
+       * @param enabled {@code true} to enable change tracking, {@code false} to disable
+       */
+      public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+      }
+
+      /**
+       * Checks if the instances of an entity class are tracked.
+       *
+       * @param entityClass the entity class
+       * @return {@code true} if change tracking is enabled for the class
+       */
+      public boolean isEnabledFor(Class<?> entityClass) {
+        return enabled && (entityClasses.isEmpty() || entityClasses.contains(entityClass.getName()));
+      }
+
+      /**
+       * Gets the class names of the tracked entities.
+       *
+       * @return the list of entity class names
+       */
+      public List<String> getEntityClasses() {
+        return entityClasses;
+      }
+
+      /**
+       * Sets the class names of the tracked entities.
+       *
+       * @param entityClasses the list of entity class names
+       */
+      public void setEntityClasses(List<String> entityClasses) {
+        this.entityClasses = entityClasses;
+      }
+    }
   }
 
   /**
@@ -427,6 +1127,17 @@ public class RedisOMProperties {
      */
     private List<String> cachedReferenceClasses = new ArrayList<>();
 
+    /**
+     * The maximum number of referenced entities kept in the reference cache.
+     */
+    private long cacheMaximumSize = 10_000;
+
+    /**
+     * The time, in milliseconds, a referenced entity stays in the reference cache; 0 to
+     * keep entities until they are evicted.
+     */
+    private long cacheTimeToLive = 60_000;
+
     /**
      * Default constructor for References configuration.
      */
@@ -469,5 +1180,41 @@ public class RedisOMProperties {
     public void setCachedReferenceClasses(List<String> cachedReferenceClasses) {
       this.cachedReferenceClasses = cachedReferenceClasses;
     }
+
+    /**
+     * Gets the maximum number of referenced entities kept in the reference cache.
+     *
+     * @return the maximum cache size
+     */
+    public long getCacheMaximumSize() {
+      return cacheMaximumSize;
+    }
+
+    /**
+     * Sets the maximum number of referenced entities kept in the reference cache.
+     *
+     * @param cacheMaximumSize the maximum cache size to set
+     */
+    public void setCacheMaximumSize(long cacheMaximumSize) {
+      this.cacheMaximumSize = cacheMaximumSize;
+    }
+
+    /**
+     * Gets the time, in milliseconds, a referenced entity stays in the reference cache.
+     *
+     * @return the time to live of cached entities
+     */
+    public long getCacheTimeToLive() {
+      return cacheTimeToLive;
+    }
+
+    /**
+     * Sets the time, in milliseconds, a referenced entity stays in the reference cache.
+     *
+     * @param cacheTimeToLive the time to live of cached entities to set
+     */
+    public void setCacheTimeToLive(long cacheTimeToLive) {
+      this.cacheTimeToLive = cacheTimeToLive;
+    }
   }
 }
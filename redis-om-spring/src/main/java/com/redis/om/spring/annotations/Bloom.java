@@ -95,4 +95,33 @@ public @interface Bloom {
    * @return the expected capacity (number of items)
    */
   int capacity();
+
+  /**
+   * Whether to keep an in-process copy of the Bloom filter.
+   * <p>
+   * When enabled, the filter is loaded with {@code BF.SCANDUMP} and {@code existsBy...}
+   * repository methods on this field are answered locally, without a round trip to Redis.
+   * Values saved through this application are added to the copy immediately; values added
+   * by other clients become visible after the next refresh, see
+   * {@link #localReplicaRefreshInterval()}. Until the first load completes, checks are sent
+   * to Redis.
+   * </p>
+   * <p>
+   * The copy takes as much heap as the filter takes in Redis, so this is meant for
+   * filters that are checked far more often than they are written.
+   * </p>
+   *
+   * @return {@code true} to answer existence checks from a local copy of the filter
+   * @since 2.0.7
+   */
+  boolean localReplica() default false;
+
+  /**
+   * The interval, in milliseconds, at which the local copy of the filter is reloaded from
+   * Redis when {@link #localReplica()} is enabled.
+   *
+   * @return the refresh interval in milliseconds
+   * @since 2.0.7
+   */
+  long localReplicaRefreshInterval() default 30_000;
 }
@@ -0,0 +1,57 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Stores the fields of a JSON document class under short, generated names.
+ * <p>
+ * Each field declared in the annotated class is written under the initials of its name,
+ * e.g. {@code customerShippingAddressLine1} as {@code csal1}. The short name of a field only
+ * depends on its own name, so adding fields never renames stored keys. Short names that
+ * clash with each other or with the names of other fields are rejected when the class is
+ * first mapped, and one of the fields must then be named explicitly. Fields annotated with
+ * {@code @Id}, {@code @Version}, {@code @SerializedName} or {@code @JsonProperty} keep their
+ * names. Search index aliases and the generated metamodel keep the field names, so queries
+ * are unchanged; only the JSON paths point to the short names. Documents written with the
+ * full field names are still read.
+ * </p>
+ * <p>
+ * The annotation applies to the fields declared in the annotated class, so nested classes
+ * and superclasses are compacted by annotating them too.
+ * </p>
+ *
+ * <pre>{@code
+ * @Document
+ * @CompactKeys(omitDefaults = true)
+ * public class Order {
+ *   @Id
+ *   private String id;
+ *
+ *   @Indexed
+ *   private String customerShippingAddressLine1;
+ *
+ *   @Indexed
+ *   private int quantity;
+ * }
+ * }</pre>
+ *
+ * @since 2.0.7
+ */
+@Documented
+@Retention(
+  RetentionPolicy.RUNTIME
+)
+@Target(
+  { ElementType.TYPE }
+)
+public @interface CompactKeys {
+  /**
+   * Whether {@code null} fields, and primitive fields holding their default value
+   * ({@code 0} or {@code false}), are left out of the stored document. Primitive fields read
+   * back as their default value and object fields as the class initializes them. Indexed
+   * fields are always written, so that queries on default values still match.
+   *
+   * @return true to omit null and default values
+   */
+  boolean omitDefaults() default false;
+}
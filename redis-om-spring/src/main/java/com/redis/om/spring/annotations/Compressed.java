@@ -0,0 +1,40 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Stores a large, non-indexed {@code String} or {@code byte[]} field compressed.
+ * <p>
+ * Values are compressed with Deflate. In {@link Document @Document} entities the
+ * compressed value is stored as {@code {"deflate": "<base64>"}} in place of the field, in
+ * {@link org.springframework.data.redis.core.RedisHash @RedisHash} entities as the raw
+ * compressed bytes of the hash field. Values are decompressed transparently on read, and
+ * values that would not get smaller are stored as they are. Values written before the
+ * field was annotated are still read.
+ * </p>
+ * <p>
+ * Compressed fields cannot be searched: they must not be indexed.
+ * </p>
+ *
+ * <pre>{@code
+ * @Document
+ * public class Page {
+ *   @Id
+ *   private String id;
+ *
+ *   @Compressed
+ *   private String html;
+ * }
+ * }</pre>
+ *
+ * @since 2.0.7
+ */
+@Documented
+@Retention(
+  RetentionPolicy.RUNTIME
+)
+@Target(
+  { ElementType.FIELD }
+)
+public @interface Compressed {
+}
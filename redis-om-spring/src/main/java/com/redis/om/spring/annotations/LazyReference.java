@@ -0,0 +1,43 @@
+package com.redis.om.spring.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Loads a {@link org.springframework.data.annotation.Reference @Reference} field of a
+ * {@link Document @Document} entity lazily.
+ * <p>
+ * Instead of being read together with the document, the referenced entity is replaced by
+ * a proxy, and a collection of references by a proxy collection, that read the referenced
+ * entities with a {@code JSON.GET} or {@code JSON.MGET} when first used. Documents whose
+ * references are rarely used are then read without the cost of their references.
+ * </p>
+ * <p>
+ * Proxies implement {@link com.redis.om.spring.serialization.gson.LazyLoadingProxy}.
+ * Calling a method of a proxy whose referenced entity no longer exists throws a
+ * {@link org.springframework.dao.DataRetrievalFailureException}. References to final
+ * classes and records cannot be proxied and are loaded eagerly.
+ * </p>
+ *
+ * <pre>{@code
+ * @Document
+ * public class Order {
+ *   @Id
+ *   private String id;
+ *
+ *   @Reference
+ *   @LazyReference
+ *   private Customer customer;
+ * }
+ * }</pre>
+ *
+ * @since 2.0.7
+ */
+@Documented
+@Retention(
+  RetentionPolicy.RUNTIME
+)
+@Target(
+  { ElementType.FIELD }
+)
+public @interface LazyReference {
+}
@@ -8,11 +8,11 @@ import java.util.List;
 
 import org.springframework.beans.PropertyAccessor;
 import org.springframework.beans.PropertyAccessorFactory;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 
+import com.redis.om.spring.util.EntityMetadata;
+
 /**
  * Auditor for automatically setting entity audit fields like created and last modified dates.
  */
@@ -57,9 +57,8 @@ public class EntityAuditor {
    * @param isNew whether the entity is new
    */
   public void processEntity(Object item, boolean isNew) {
-    var auditClass = isNew ? CreatedDate.class : LastModifiedDate.class;
-
-    List<Field> fields = com.redis.om.spring.util.ObjectUtils.getFieldsWithAnnotation(item.getClass(), auditClass);
+    EntityMetadata metadata = EntityMetadata.of(item.getClass());
+    List<Field> fields = isNew ? metadata.getCreatedDateFields() : metadata.getLastModifiedDateFields();
     if (!fields.isEmpty()) {
       PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(item);
       fields.forEach(f -> {
@@ -24,8 +24,15 @@ import org.springframework.stereotype.Component;
 import com.google.gson.Gson;
 import com.redis.om.spring.annotations.AutoComplete;
 import com.redis.om.spring.annotations.AutoCompletePayload;
+import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.repository.support.RedisOmBatch;
+import com.redis.om.spring.util.SideEffectPlan;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 
 /**
  * Aspect that automatically manages autocomplete suggestions for Redis entities.
@@ -119,6 +126,11 @@ public class AutoCompleteAspect implements Ordered {
     "inSaveOperation() && args(entity,..)"
   )
   public void addSuggestion(JoinPoint jp, Object entity) {
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addSuggestion(jp, entity));
+      return;
+    }
     processSuggestionsForEntity(entity);
   }
 
@@ -150,8 +162,9 @@ public class AutoCompleteAspect implements Ordered {
 
   /**
    * Processes autocomplete suggestions after a bulk save operation.
-   * This method iterates through all saved entities and updates their
-   * corresponding suggestion dictionaries in Redis.
+   * Suggestions of all saved entities are deduplicated per dictionary and written,
+   * together with their payloads, in a single pipeline. Without a standalone or
+   * sentinel connection the entities are processed one by one.
    * 
    * @param jp       the join point providing method execution context
    * @param entities the list of entities that were saved
@@ -160,9 +173,58 @@ public class AutoCompleteAspect implements Ordered {
     "inSaveAllOperation() && args(entities,..)"
   )
   public void addAllSuggestions(JoinPoint jp, List<Object> entities) {
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addAllSuggestions(jp, entities));
+      return;
+    }
+    Optional<Jedis> maybeJedis = rmo.client().getJedis();
+    if (maybeJedis.isEmpty()) {
+      for (Object entity : entities) {
+        processSuggestionsForEntity(entity);
+      }
+      return;
+    }
+
+    // Deduplicate suggestions per dictionary, the last saved entity providing the payload
+    Map<String, Map<String, String>> suggestionsByKey = new LinkedHashMap<>();
+    Map<String, String> payloadKeys = new HashMap<>();
     for (Object entity : entities) {
-      processSuggestionsForEntity(entity);
+      for (SideEffectPlan.SuggestionTarget target : SideEffectPlan.of(entity.getClass()).getSuggestionTargets()) {
+        String key = target.target().name();
+        try {
+          Object value = target.target().read(entity);
+          if (value != null) {
+            Map<String, Object> payload = target.readPayload(entity);
+            suggestionsByKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(value.toString(),
+                payload != null ? gson.toJson(payload) : null);
+            payloadKeys.put(key, target.payloadKey());
+          }
+        } catch (ReflectiveOperationException e) {
+          logger.error("Error while processing suggestions...", e);
+        }
+      }
     }
+    if (suggestionsByKey.isEmpty()) {
+      return;
+    }
+
+    CommandListener listener = rmo.commandListener();
+    Map<String, Map<String, Response<Long>>> responses = new LinkedHashMap<>();
+    try (Jedis jedis = maybeJedis.get()) {
+      Pipeline pipeline = jedis.pipelined();
+      suggestionsByKey.forEach((key, suggestions) -> suggestions.forEach((suggestion, payload) -> {
+        if (payload != null) {
+          pipeline.hset(payloadKeys.get(key), suggestion, payload);
+        }
+        listener.addSuggestionStarted(key, key, suggestion, 1.0);
+        responses.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(suggestion, pipeline.ftSugAdd(key, suggestion,
+            1.0));
+      }));
+      pipeline.sync();
+    }
+    responses.forEach((key, suggestions) -> suggestions.forEach((suggestion, response) -> listener
+        .addSuggestionFinished(key, key, suggestion, 1.0, response.get())));
   }
 
   /**
@@ -187,6 +249,11 @@ public class AutoCompleteAspect implements Ordered {
     "inRedisDocumentRepositoryDelete() && args(entity,..)"
   )
   public void deleteSuggestion(JoinPoint jp, Object entity) {
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> deleteSuggestion(jp, entity));
+      return;
+    }
     deleteSuggestionsForEntity(entity);
   }
 
@@ -245,6 +312,11 @@ public class AutoCompleteAspect implements Ordered {
     "inRedisDocumentRepositoryDeleteAllEntities() && args(entities,..)"
   )
   public void deleteAllSuggestionsFromEntities(JoinPoint jp, List<Object> entities) {
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> deleteAllSuggestionsFromEntities(jp, entities));
+      return;
+    }
     for (Object entity : entities) {
       for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
         if (field.isAnnotationPresent(AutoComplete.class)) {
@@ -300,8 +372,7 @@ public class AutoCompleteAspect implements Ordered {
     CrudRepository repository = (CrudRepository) jp.getTarget();
     Optional<Object> maybeEntity = repository.findById(id.toString());
     if (maybeEntity.isPresent()) {
-      Object entity = maybeEntity.get();
-      deleteSuggestionsForEntity(entity);
+      deleteSuggestionsAfterDelete(maybeEntity.get());
     }
   }
 
@@ -335,8 +406,7 @@ public class AutoCompleteAspect implements Ordered {
     for (Object id : ids) {
       Optional<Object> maybeEntity = repository.findById(id.toString());
       if (maybeEntity.isPresent()) {
-        Object entity = maybeEntity.get();
-        deleteSuggestionsForEntity(entity);
+        deleteSuggestionsAfterDelete(maybeEntity.get());
       }
     }
   }
@@ -347,55 +417,38 @@ public class AutoCompleteAspect implements Ordered {
   }
 
   private void processSuggestionsForEntity(Object entity) {
-    final List<Field> entityClassFields = com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity
-        .getClass());
-    for (Field field : entityClassFields) {
-      if (field.isAnnotationPresent(AutoComplete.class)) {
-        String suggestion = "";
-        Map<String, Object> payload = null;
-
-        AutoComplete suggestible = field.getAnnotation(AutoComplete.class);
-        String key = !ObjectUtils.isEmpty(suggestible.name()) ?
-            suggestible.name() :
-            String.format(Suggestion.KEY_FORMAT_STRING, entity.getClass().getSimpleName(), field.getName());
-        SearchOperations<String> ops = rmo.opsForSearch(key);
-        try {
-          PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-          suggestion = pd.getReadMethod().invoke(entity).toString();
-        } catch (IllegalArgumentException | IntrospectionException | IllegalAccessException |
-                 InvocationTargetException e) {
-          logger.error("Error while processing suggestions...", e);
+    for (SideEffectPlan.SuggestionTarget target : SideEffectPlan.of(entity.getClass()).getSuggestionTargets()) {
+      String key = target.target().name();
+      try {
+        Object value = target.target().read(entity);
+        if (value == null) {
+          continue;
         }
-
-        for (Field field2 : entityClassFields) {
-          if (field2.isAnnotationPresent(AutoCompletePayload.class)) {
-            AutoCompletePayload suggestiblePayload = field2.getAnnotation(AutoCompletePayload.class);
-            boolean inPayload = (!suggestiblePayload.value().isBlank() && suggestiblePayload.value().equalsIgnoreCase(
-                field.getName())) || (Arrays.asList(suggestiblePayload.fields()).contains(field.getName()));
-            if (inPayload) {
-              try {
-                payload = payload == null ? new HashMap<>() : payload;
-                PropertyDescriptor pd = new PropertyDescriptor(field2.getName(), entity.getClass());
-                payload.put(field2.getName(), pd.getReadMethod().invoke(entity));
-              } catch (IllegalArgumentException | IntrospectionException | IllegalAccessException |
-                       InvocationTargetException e) {
-                logger.error("Error while processing suggestions...", e);
-              }
-            }
-          }
+        String suggestion = value.toString();
+        Map<String, Object> payload = target.readPayload(entity);
+        if (payload != null) {
+          template.opsForHash().put(target.payloadKey(), suggestion, gson.toJson(payload));
         }
-        if (payload != null && !payload.isEmpty()) {
-          String payLoadKey = !ObjectUtils.isEmpty(suggestible.name()) ?
-              suggestible.name() :
-              String.format(Suggestion.PAYLOAD_KEY_FORMAT_STRING, entity.getClass().getSimpleName(), field.getName());
-          template.opsForHash().put(payLoadKey, suggestion, gson.toJson(payload));
-        }
-
-        ops.addSuggestion(key, suggestion);
+        rmo.opsForSearch(key).addSuggestion(key, suggestion);
+      } catch (ReflectiveOperationException e) {
+        logger.error("Error while processing suggestions...", e);
       }
     }
   }
 
+  /**
+   * Removes the suggestions of an entity about to be deleted, once the delete has been sent
+   * when it is part of a {@link RedisOmBatch}.
+   */
+  private void deleteSuggestionsAfterDelete(Object entity) {
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> deleteSuggestionsForEntity(entity));
+    } else {
+      deleteSuggestionsForEntity(entity);
+    }
+  }
+
   private void deleteSuggestionsForEntity(Object entity) {
     for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
       if (field.isAnnotationPresent(AutoComplete.class)) {
@@ -1,12 +1,11 @@
 package com.redis.om.spring.bloom;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.aspectj.lang.JoinPoint;
@@ -18,6 +17,8 @@ import org.springframework.stereotype.Component;
 
 import com.redis.om.spring.annotations.Bloom;
 import com.redis.om.spring.ops.pds.BloomOperations;
+import com.redis.om.spring.repository.support.RedisOmBatch;
+import com.redis.om.spring.util.SideEffectPlan;
 
 /**
  * Aspect for automatically maintaining Bloom filters on entity fields annotated with {@link Bloom}.
@@ -36,7 +37,7 @@ import com.redis.om.spring.ops.pds.BloomOperations;
  * For each field annotated with {@link Bloom}, the aspect:
  * <ol>
  * <li>Determines the Bloom filter name (explicit or generated)</li>
- * <li>Extracts the field value using reflection</li>
+ * <li>Extracts the field value through the getter resolved by {@link SideEffectPlan}</li>
  * <li>Adds the value to the corresponding Bloom filter</li>
  * </ol>
  * <p>
@@ -53,14 +54,17 @@ import com.redis.om.spring.ops.pds.BloomOperations;
 public class BloomAspect implements Ordered {
   private static final Log logger = LogFactory.getLog(BloomAspect.class);
   private final BloomOperations<String> ops;
+  private final BloomFilterReplicas replicas;
 
   /**
    * Creates a new BloomAspect with the specified Bloom operations.
    *
-   * @param ops the Bloom operations for managing filters
+   * @param ops      the Bloom operations for managing filters
+   * @param replicas the local filter copies to keep in step with the writes
    */
-  public BloomAspect(BloomOperations<String> ops) {
+  public BloomAspect(BloomOperations<String> ops, BloomFilterReplicas replicas) {
     this.ops = ops;
+    this.replicas = replicas;
   }
 
   /**
@@ -105,19 +109,20 @@ public class BloomAspect implements Ordered {
     "inSaveOperation() && args(entity,..)"
   )
   public void addToBloom(JoinPoint jp, Object entity) {
-    for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
-      if (field.isAnnotationPresent(Bloom.class)) {
-        Bloom bloom = field.getAnnotation(Bloom.class);
-        String filterName = !ObjectUtils.isEmpty(bloom.name()) ?
-            bloom.name() :
-            String.format("bf:%s:%s", entity.getClass().getSimpleName(), field.getName());
-        try {
-          PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-          ops.add(filterName, pd.getReadMethod().invoke(entity).toString());
-        } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException |
-                 InvocationTargetException e) {
-          logger.error(String.format("Could not add value to Bloom filter %s", filterName), e);
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addToBloom(jp, entity));
+      return;
+    }
+    for (SideEffectPlan.Target<Bloom> target : SideEffectPlan.of(entity.getClass()).getBloomTargets()) {
+      try {
+        Object value = target.read(entity);
+        if (value != null) {
+          ops.add(target.name(), value.toString());
+          replicas.add(target.name(), value.toString());
         }
+      } catch (ReflectiveOperationException e) {
+        logger.error(String.format("Could not add value to Bloom filter %s", target.name()), e);
       }
     }
   }
@@ -153,8 +158,9 @@ public class BloomAspect implements Ordered {
    * Advice that executes after successful saveAll operations to add field values to Bloom filters.
    * <p>
    * This method processes all fields in each saved entity that are annotated with {@link Bloom}
-   * and adds their values to the corresponding Bloom filters. This provides efficient batch
-   * processing for multiple entity saves.
+   * and adds their values to the corresponding Bloom filters. Values are grouped by filter so
+   * that each filter is updated with a single {@code BF.MADD} command, whatever the number of
+   * entities.
    * </p>
    *
    * @param jp       the join point representing the saveAll operation
@@ -164,23 +170,29 @@ public class BloomAspect implements Ordered {
     "inSaveAllOperation() && args(entities,..)"
   )
   public void addAllToBloom(JoinPoint jp, List<Object> entities) {
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addAllToBloom(jp, entities));
+      return;
+    }
+    Map<String, List<String>> valuesByFilter = new LinkedHashMap<>();
     for (Object entity : entities) {
-      for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
-        if (field.isAnnotationPresent(Bloom.class)) {
-          Bloom bloom = field.getAnnotation(Bloom.class);
-          String filterName = !ObjectUtils.isEmpty(bloom.name()) ?
-              bloom.name() :
-              String.format("bf:%s:%s", entity.getClass().getSimpleName(), field.getName());
-          try {
-            PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-            ops.add(filterName, pd.getReadMethod().invoke(entity).toString());
-          } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException |
-                   InvocationTargetException e) {
-            logger.error(String.format("Could not add values to Bloom filter %s", filterName), e);
+      for (SideEffectPlan.Target<Bloom> target : SideEffectPlan.of(entity.getClass()).getBloomTargets()) {
+        try {
+          Object value = target.read(entity);
+          if (value != null) {
+            valuesByFilter.computeIfAbsent(target.name(), name -> new ArrayList<>()).add(value.toString());
           }
+        } catch (ReflectiveOperationException e) {
+          logger.error(String.format("Could not add values to Bloom filter %s", target.name()), e);
         }
       }
     }
+    valuesByFilter.forEach((filterName, values) -> {
+      String[] items = values.toArray(String[]::new);
+      ops.addMulti(filterName, items);
+      replicas.add(filterName, items);
+    });
   }
 
   /**
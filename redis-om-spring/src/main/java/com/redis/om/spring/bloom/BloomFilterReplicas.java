@@ -0,0 +1,178 @@
+package com.redis.om.spring.bloom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.ops.pds.BloomOperations;
+
+/**
+ * Registry of the in-process Bloom filter copies enabled with {@link Bloom#localReplica()}.
+ * <p>
+ * Each registered filter is loaded in the background with {@code BF.SCANDUMP} and reloaded
+ * at its refresh interval. The {@link BloomAspect} adds the values it writes to Redis to the
+ * local copy as well, and {@code existsBy...} repository methods check the copy instead of
+ * sending {@code BF.EXISTS}.
+ * </p>
+ * <p>
+ * Values added locally while a reload is in progress are replayed on the reloaded copy,
+ * so a value saved by this application is never reported as absent.
+ * </p>
+ *
+ * @see LocalBloomFilter
+ * @since 2.0.7
+ */
+@Component
+public class BloomFilterReplicas implements DisposableBean {
+  private static final Log logger = LogFactory.getLog(BloomFilterReplicas.class);
+
+  private final BloomOperations<String> ops;
+  private final Map<String, Replica> replicas = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "redis-om-bloom-replica");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * Creates a new registry loading filters with the given Bloom operations.
+   *
+   * @param ops the Bloom operations used to dump the filters
+   */
+  public BloomFilterReplicas(BloomOperations<String> ops) {
+    this.ops = ops;
+  }
+
+  /**
+   * Starts maintaining a local copy of the given filter. The first load happens in the
+   * background; registering the same filter again has no effect.
+   *
+   * @param filterName      the name of the filter
+   * @param refreshInterval the reload interval, in milliseconds
+   */
+  public void register(String filterName, long refreshInterval) {
+    replicas.computeIfAbsent(filterName, name -> {
+      Replica replica = new Replica(name);
+      scheduler.scheduleWithFixedDelay(replica::refresh, 0, Math.max(refreshInterval, 1), TimeUnit.MILLISECONDS);
+      return replica;
+    });
+  }
+
+  /**
+   * Checks a value against the local copy of a filter.
+   *
+   * @param filterName the name of the filter
+   * @param value      the value to check
+   * @return the local answer, or empty if the filter is not replicated or not loaded yet
+   */
+  public Optional<Boolean> mightContain(String filterName, String value) {
+    Replica replica = replicas.get(filterName);
+    LocalBloomFilter filter = replica != null ? replica.filter : null;
+    return filter != null ? Optional.of(filter.mightContain(value)) : Optional.empty();
+  }
+
+  /**
+   * Adds values that were just written to a Redis filter to its local copy, if any.
+   *
+   * @param filterName the name of the filter
+   * @param values     the values added to the Redis filter
+   */
+  public void add(String filterName, String... values) {
+    Replica replica = replicas.get(filterName);
+    if (replica != null) {
+      replica.add(values);
+    }
+  }
+
+  /**
+   * Returns whether a local copy of the given filter is maintained.
+   *
+   * @param filterName the name of the filter
+   * @return {@code true} if the filter was registered
+   */
+  public boolean isReplicated(String filterName) {
+    return replicas.containsKey(filterName);
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+    replicas.clear();
+  }
+
+  private final class Replica {
+    private final String name;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<String> addedDuringRefresh = new ArrayList<>();
+    private volatile LocalBloomFilter filter;
+    private boolean refreshing;
+
+    private Replica(String name) {
+      this.name = name;
+    }
+
+    private void add(String... values) {
+      lock.readLock().lock();
+      try {
+        LocalBloomFilter current = filter;
+        for (String value : values) {
+          if (current != null) {
+            current.add(value);
+          }
+        }
+        if (refreshing) {
+          synchronized (addedDuringRefresh) {
+            addedDuringRefresh.addAll(List.of(values));
+          }
+        }
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    private void refresh() {
+      setRefreshing(true);
+      LocalBloomFilter loaded = null;
+      try {
+        loaded = LocalBloomFilter.load(ops, name);
+      } catch (RuntimeException e) {
+        logger.warn(String.format("Could not reload the local copy of Bloom filter %s", name), e);
+      }
+
+      lock.writeLock().lock();
+      try {
+        synchronized (addedDuringRefresh) {
+          if (loaded != null) {
+            addedDuringRefresh.forEach(loaded::add);
+            filter = loaded;
+          }
+          addedDuringRefresh.clear();
+        }
+        refreshing = false;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private void setRefreshing(boolean refreshing) {
+      lock.writeLock().lock();
+      try {
+        this.refreshing = refreshing;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,246 @@
+package com.redis.om.spring.bloom;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.redis.om.spring.ops.pds.BloomOperations;
+
+/**
+ * In-process, read-mostly copy of a Redis Bloom filter.
+ * <p>
+ * The copy is decoded from the chunks returned by {@code BF.SCANDUMP} and answers
+ * membership checks with the same hashing scheme as the RedisBloom module, so a value
+ * reported as absent here was absent from the Redis filter at the time of the dump.
+ * Values can be added locally to keep the copy in step with the writes issued by this
+ * process until the next dump.
+ * </p>
+ * <p>
+ * Instances are safe for concurrent use. Reads are lock-free.
+ * </p>
+ *
+ * @see BloomFilterReplicas
+ * @since 2.0.7
+ */
+public final class LocalBloomFilter {
+
+  // RedisBloom chain options, see bloom.h
+  private static final int OPT_FORCE64 = 4;
+
+  // Packed dumpedChainHeader (size, nfilters, options, growth) and dumpedChainLink sizes
+  private static final int HEADER_SIZE = 8 + 4 + 4 + 4;
+  private static final int LINK_SIZE = 8 + 8 + 8 + 8 + 8 + 4 + 8 + 1;
+
+  private static final long M64 = 0xc6a4a7935bd1e995L;
+  private static final int M32 = 0x5bd1e995;
+  private static final int SEED32 = 0x9747b28c;
+
+  private final boolean force64;
+  private final Link[] links;
+
+  private LocalBloomFilter(boolean force64, Link[] links) {
+    this.force64 = force64;
+    this.links = links;
+  }
+
+  /**
+   * Dumps the given Redis Bloom filter with {@code BF.SCANDUMP} and decodes it.
+   *
+   * @param ops  the Bloom operations to dump the filter with
+   * @param name the name of the filter
+   * @return the local copy of the filter
+   * @throws IllegalStateException if the dump cannot be decoded
+   */
+  public static LocalBloomFilter load(BloomOperations<String> ops, String name) {
+    Map.Entry<Long, byte[]> chunk = ops.scanDump(name, 0);
+    byte[] header = chunk.getValue();
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    while (chunk.getKey() != 0) {
+      chunk = ops.scanDump(name, chunk.getKey());
+      if (chunk.getKey() != 0 && chunk.getValue() != null) {
+        data.writeBytes(chunk.getValue());
+      }
+    }
+    return decode(header, data.toByteArray());
+  }
+
+  /**
+   * Decodes a Bloom filter from the header chunk and the concatenated data chunks of a
+   * {@code BF.SCANDUMP}.
+   *
+   * @param header the first chunk of the dump
+   * @param data   the following chunks, concatenated in order
+   * @return the decoded filter
+   * @throws IllegalStateException if the chunks do not describe a Bloom filter
+   */
+  static LocalBloomFilter decode(byte[] header, byte[] data) {
+    if (header == null || header.length < HEADER_SIZE) {
+      throw new IllegalStateException("Unexpected BF.SCANDUMP header");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.getLong(); // total number of items
+    int nfilters = buffer.getInt();
+    int options = buffer.getInt();
+    buffer.getInt(); // growth
+    if (nfilters <= 0 || header.length != HEADER_SIZE + nfilters * LINK_SIZE) {
+      throw new IllegalStateException("Unexpected BF.SCANDUMP header");
+    }
+
+    Link[] links = new Link[nfilters];
+    ByteBuffer bits = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < nfilters; i++) {
+      long bytes = buffer.getLong();
+      long bitCount = buffer.getLong();
+      buffer.getLong(); // number of items in the link
+      buffer.getDouble(); // error rate
+      buffer.getDouble(); // bits per entry
+      int hashes = buffer.getInt();
+      buffer.getLong(); // capacity
+      int n2 = buffer.get() & 0xff;
+      if (bytes > bits.remaining() || bytes > Integer.MAX_VALUE) {
+        throw new IllegalStateException("BF.SCANDUMP data is shorter than its header announces");
+      }
+      long mod = n2 > 0 ? 1L << n2 : bitCount;
+      links[i] = new Link(hashes, mod, read(bits, (int) bytes));
+    }
+    if (bits.hasRemaining()) {
+      throw new IllegalStateException("BF.SCANDUMP data is longer than its header announces");
+    }
+    return new LocalBloomFilter((options & OPT_FORCE64) != 0, links);
+  }
+
+  /**
+   * Checks whether a value may have been added to the filter.
+   *
+   * @param value the value to check
+   * @return {@code false} if the value is definitely absent, {@code true} if it may be present
+   */
+  public boolean mightContain(String value) {
+    long[] hash = hash(value.getBytes(StandardCharsets.UTF_8));
+    for (int i = links.length - 1; i >= 0; i--) {
+      if (links[i].test(hash[0], hash[1])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds a value to the local copy, in the most recent link of the filter like Redis does.
+   *
+   * @param value the value to add
+   */
+  public void add(String value) {
+    long[] hash = hash(value.getBytes(StandardCharsets.UTF_8));
+    links[links.length - 1].set(hash[0], hash[1]);
+  }
+
+  private long[] hash(byte[] data) {
+    if (force64) {
+      long a = murmurHash64A(data, M64);
+      return new long[] { a, murmurHash64A(data, a) };
+    }
+    int a = murmurHash2(data, SEED32);
+    return new long[] { Integer.toUnsignedLong(a), Integer.toUnsignedLong(murmurHash2(data, a)) };
+  }
+
+  private static AtomicLongArray read(ByteBuffer bits, int bytes) {
+    AtomicLongArray words = new AtomicLongArray((bytes + 7) / 8);
+    for (int i = 0; i < bytes; i++) {
+      long b = bits.get() & 0xffL;
+      if (b != 0) {
+        words.set(i >>> 3, words.get(i >>> 3) | b << ((i & 7) * 8));
+      }
+    }
+    return words;
+  }
+
+  static long murmurHash64A(byte[] data, long seed) {
+    final int r = 47;
+    int length = data.length;
+    long h = seed ^ (length * M64);
+    ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < length / 8; i++) {
+      long k = buffer.getLong();
+      k *= M64;
+      k ^= k >>> r;
+      k *= M64;
+      h ^= k;
+      h *= M64;
+    }
+    int tail = length & ~7;
+    switch (length & 7) {
+      case 7:
+        h ^= (data[tail + 6] & 0xffL) << 48;
+      case 6:
+        h ^= (data[tail + 5] & 0xffL) << 40;
+      case 5:
+        h ^= (data[tail + 4] & 0xffL) << 32;
+      case 4:
+        h ^= (data[tail + 3] & 0xffL) << 24;
+      case 3:
+        h ^= (data[tail + 2] & 0xffL) << 16;
+      case 2:
+        h ^= (data[tail + 1] & 0xffL) << 8;
+      case 1:
+        h ^= data[tail] & 0xffL;
+        h *= M64;
+    }
+    h ^= h >>> r;
+    h *= M64;
+    h ^= h >>> r;
+    return h;
+  }
+
+  static int murmurHash2(byte[] data, int seed) {
+    final int r = 24;
+    int length = data.length;
+    int h = seed ^ length;
+    ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+    for (int i = 0; i < length / 4; i++) {
+      int k = buffer.getInt();
+      k *= M32;
+      k ^= k >>> r;
+      k *= M32;
+      h *= M32;
+      h ^= k;
+    }
+    int tail = length & ~3;
+    switch (length & 3) {
+      case 3:
+        h ^= (data[tail + 2] & 0xff) << 16;
+      case 2:
+        h ^= (data[tail + 1] & 0xff) << 8;
+      case 1:
+        h ^= data[tail] & 0xff;
+        h *= M32;
+    }
+    h ^= h >>> 13;
+    h *= M32;
+    h ^= h >>> 15;
+    return h;
+  }
+
+  private record Link(int hashes, long mod, AtomicLongArray words) {
+    boolean test(long a, long b) {
+      for (int i = 0; i < hashes; i++) {
+        long x = Long.remainderUnsigned(a + i * b, mod);
+        if ((words.get((int) (x >>> 6)) & (1L << x)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void set(long a, long b) {
+      for (int i = 0; i < hashes; i++) {
+        long x = Long.remainderUnsigned(a + i * b, mod);
+        long mask = 1L << x;
+        words.accumulateAndGet((int) (x >>> 6), mask, (w, m) -> w | m);
+      }
+    }
+  }
+}
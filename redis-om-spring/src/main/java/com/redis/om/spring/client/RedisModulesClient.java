@@ -1,7 +1,16 @@
 package com.redis.om.spring.client;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
@@ -13,6 +22,7 @@ import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 
+import com.google.common.collect.Iterables;
 import com.google.gson.GsonBuilder;
 import com.redis.om.spring.RedisOMProperties;
 
@@ -22,8 +32,10 @@ import redis.clients.jedis.bloom.commands.CountMinSketchCommands;
 import redis.clients.jedis.bloom.commands.CuckooFilterCommands;
 import redis.clients.jedis.bloom.commands.TDigestSketchCommands;
 import redis.clients.jedis.bloom.commands.TopKFilterCommands;
+import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.json.commands.RedisJsonCommands;
 import redis.clients.jedis.search.RediSearchCommands;
+import redis.clients.jedis.util.JedisClusterCRC16;
 
 /**
  * A unified client for accessing Redis Stack modules including RediSearch, RedisJSON,
@@ -52,6 +64,7 @@ public class RedisModulesClient {
   private final GsonBuilder builder;
   private final UnifiedJedis unifiedJedis;
   private final JedisConnectionFactory jedisConnectionFactory;
+  private final Map<String, Boolean> supportedCommands = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new RedisModulesClient.
@@ -201,6 +214,117 @@ public class RedisModulesClient {
     }
   }
 
+  /**
+   * Checks if the server knows a command, such as a module command only available in
+   * recent module versions. The server is asked once per command with
+   * {@code COMMAND INFO} and the answer is cached.
+   *
+   * @param command the command name, e.g. {@code JSON.MSET}
+   * @return {@code true} if the server supports the command
+   */
+  public boolean supportsCommand(String command) {
+    return supportedCommands.computeIfAbsent(command.toUpperCase(Locale.ROOT), name -> {
+      try {
+        Object reply = unifiedJedis.sendCommand(Protocol.Command.COMMAND, "INFO", name);
+        return reply instanceof List<?> infos && !infos.isEmpty() && infos.get(0) != null;
+      } catch (RuntimeException e) {
+        logger.debug(String.format("Could not check support of command %s", name), e);
+        return false;
+      }
+    });
+  }
+
+  /**
+   * Opens a pipeline suited to the deployment: a pipeline on a pooled connection in
+   * standalone and Sentinel mode, or a cluster pipeline sending each command to the node
+   * owning its key in cluster mode. Closing the pipeline releases its connections.
+   *
+   * @return a new pipeline, to be closed by the caller
+   * @since 2.0.7
+   */
+  public AbstractPipeline pipelined() {
+    if (jedisConnectionFactory.isRedisClusterAware()) {
+      return ((JedisCluster) jedisConnectionFactory.getClusterConnection().getNativeConnection()).pipelined();
+    }
+    return unifiedJedis.pipelined();
+  }
+
+  /**
+   * Runs a single-key command for each of the given items, pipelining the commands in
+   * chunks of {@code chunkSize} items. Each chunk is one round trip per node.
+   *
+   * @param items       the items to run the command for
+   * @param keyFunction maps an item to the key the command is run on
+   * @param chunkSize   the maximum number of commands per pipeline
+   * @param command     queues the command for one key on the pipeline
+   * @param <T>         the type of the items
+   * @param <R>         the type of the command's reply
+   * @return a map from each item to the command's reply, in iteration order
+   * @since 2.0.7
+   */
+  public <T, R> Map<T, R> pipelineByKey(Iterable<T> items, Function<? super T, String> keyFunction, int chunkSize,
+      BiFunction<PipeliningBase, String, Response<R>> command) {
+    Map<T, R> results = new LinkedHashMap<>();
+    for (List<T> chunk : Iterables.partition(items, Math.max(chunkSize, 1))) {
+      Map<T, Response<R>> responses = new LinkedHashMap<>();
+      try (AbstractPipeline pipeline = pipelined()) {
+        for (T item : chunk) {
+          responses.put(item, command.apply(pipeline, keyFunction.apply(item)));
+        }
+        pipeline.sync();
+      }
+      responses.forEach((item, response) -> results.put(item, response.get()));
+    }
+    return results;
+  }
+
+  /**
+   * Tells whether the client is connected to a Redis Cluster, where a multi-key command may
+   * only be sent for keys that hash to the same slot.
+   *
+   * @return {@code true} in cluster mode
+   * @since 2.0.7
+   */
+  public boolean isCluster() {
+    return jedisConnectionFactory.isRedisClusterAware();
+  }
+
+  /**
+   * Groups items by the hash slot of their key in cluster mode, so that each group can be
+   * sent as one multi-key command, or returns all the items as a single group otherwise.
+   * Items keep their relative order within a group.
+   *
+   * @param items       the items to group
+   * @param keyFunction maps an item to its key
+   * @param <T>         the type of the items
+   * @return the groups of items, in the order of their first item
+   * @since 2.0.7
+   */
+  public <T> Collection<List<T>> groupBySlot(List<T> items, Function<? super T, String> keyFunction) {
+    if (!isCluster()) {
+      return items.isEmpty() ? List.of() : List.of(items);
+    }
+    Map<Integer, List<T>> slots = new LinkedHashMap<>();
+    for (T item : items) {
+      slots.computeIfAbsent(JedisClusterCRC16.getSlot(keyFunction.apply(item)), slot -> new ArrayList<>()).add(item);
+    }
+    return slots.values();
+  }
+
+  /**
+   * Creates the arguments of a raw command to send on a pipeline opened by
+   * {@link #pipelined()}. In cluster mode the keys, added with
+   * {@link CommandArguments#key(Object)}, route the command to its node, so they must all
+   * hash to the same slot.
+   *
+   * @param command the command to send
+   * @return the arguments of the command, starting with the command itself
+   * @since 2.0.7
+   */
+  public CommandArguments commandArguments(ProtocolCommand command) {
+    return isCluster() ? new ClusterCommandArguments(command) : new CommandArguments(command);
+  }
+
   /**
    * Attempts to retrieve the underlying Jedis connection if available.
    * <p>
@@ -0,0 +1,45 @@
+package com.redis.om.spring.convert;
+
+import org.springframework.data.redis.core.convert.RedisData;
+
+/**
+ * Maps one {@link org.springframework.data.redis.core.RedisHash @RedisHash} entity type to
+ * and from the fields of its Redis hash without reflection.
+ * <p>
+ * Implementations are generated by the metamodel annotation processor as
+ * {@code <Entity>$HashMapper} when it runs with {@code -Aredis.om.generateHashMappers=true}.
+ * {@link MappingRedisOMConverter} uses them in place of its reflective property walk and
+ * falls back to it for entities without one. Mappers only write the entity's properties:
+ * the type hint, keyspace, id and TTL of the {@link RedisData} are still set by the
+ * converter.
+ * </p>
+ *
+ * @param <T> the entity type
+ * @see EntityHashMappers
+ * @since 2.0.7
+ */
+public interface EntityHashMapper<T> {
+
+  /**
+   * Returns the entity type this mapper handles.
+   *
+   * @return the entity type
+   */
+  Class<T> getEntityType();
+
+  /**
+   * Writes the properties of an entity to the bucket of a {@link RedisData}.
+   *
+   * @param entity the entity to write
+   * @param sink   the data to write the properties to
+   */
+  void write(T entity, RedisData sink);
+
+  /**
+   * Reads an entity from the bucket of a {@link RedisData}.
+   *
+   * @param source the data to read the properties from
+   * @return the entity
+   */
+  T read(RedisData source);
+}
@@ -0,0 +1,142 @@
+package com.redis.om.spring.convert;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+/**
+ * Looks up the generated {@link EntityHashMapper} of entity types and provides the value
+ * encodings the generated mappers use.
+ * <p>
+ * The encodings are the ones {@link MappingRedisOMConverter} applies through its
+ * conversion service: strings as UTF-8, numbers as their decimal string, booleans as
+ * {@code "true"}/{@code "false"} and enums as their name. Hashes written by a mapper can
+ * therefore be read by the converter and vice versa.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class EntityHashMappers {
+  /**
+   * Suffix of the generated mapper of an entity class.
+   */
+  public static final String MAPPER_CLASS_SUFFIX = "$HashMapper";
+
+  private static final Log logger = LogFactory.getLog(EntityHashMappers.class);
+
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.UTF_8);
+
+  private static final ClassValue<Optional<EntityHashMapper<?>>> MAPPERS = new ClassValue<>() {
+    @Override
+    protected Optional<EntityHashMapper<?>> computeValue(Class<?> type) {
+      return Optional.ofNullable(loadMapper(type));
+    }
+  };
+
+  private EntityHashMappers() {
+  }
+
+  /**
+   * Returns the generated mapper of an entity type.
+   *
+   * @param type the entity type
+   * @param <T>  the entity type
+   * @return the mapper, or {@code null} if none was generated for the type
+   */
+  @Nullable
+  @SuppressWarnings(
+    "unchecked"
+  )
+  public static <T> EntityHashMapper<T> forType(Class<T> type) {
+    return (EntityHashMapper<T>) MAPPERS.get(type).orElse(null);
+  }
+
+  /**
+   * Encodes a string, number, boolean or enum value.
+   *
+   * @param value the value
+   * @return the encoded value
+   */
+  public static byte[] toBytes(Object value) {
+    if (value instanceof Boolean b) {
+      return b ? TRUE : FALSE;
+    }
+    if (value instanceof Enum<?> e) {
+      return e.name().getBytes(StandardCharsets.UTF_8);
+    }
+    return value.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Decodes a string value.
+   *
+   * @param source the encoded value
+   * @return the string
+   */
+  public static String toString(byte[] source) {
+    return new String(source, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Decodes a numeric value.
+   *
+   * @param source the encoded value
+   * @param type   the number type
+   * @param <N>    the number type
+   * @return the number, or {@code null} if the value is empty
+   */
+  @Nullable
+  public static <N extends Number> N toNumber(byte[] source, Class<N> type) {
+    return source.length == 0 ? null : NumberUtils.parseNumber(toString(source), type);
+  }
+
+  /**
+   * Decodes a boolean value; {@code "1"} and {@code "true"} are {@code true}.
+   *
+   * @param source the encoded value
+   * @return the boolean
+   */
+  public static Boolean toBoolean(byte[] source) {
+    String value = toString(source);
+    return "1".equals(value) || "true".equalsIgnoreCase(value);
+  }
+
+  /**
+   * Decodes an enum value.
+   *
+   * @param source the encoded value
+   * @param type   the enum type
+   * @param <E>    the enum type
+   * @return the enum constant, or {@code null} if the value is empty
+   */
+  @Nullable
+  public static <E extends Enum<E>> E toEnum(byte[] source, Class<E> type) {
+    return source.length == 0 ? null : Enum.valueOf(type, toString(source).trim());
+  }
+
+  @Nullable
+  private static EntityHashMapper<?> loadMapper(Class<?> type) {
+    if (type.getEnclosingClass() != null || type.getClassLoader() == null) {
+      return null;
+    }
+    String mapperClassName = type.getName() + MAPPER_CLASS_SUFFIX;
+    if (!ClassUtils.isPresent(mapperClassName, type.getClassLoader())) {
+      return null;
+    }
+    try {
+      Class<?> mapperClass = ClassUtils.forName(mapperClassName, type.getClassLoader());
+      EntityHashMapper<?> mapper = (EntityHashMapper<?>) mapperClass.getDeclaredConstructor().newInstance();
+      return mapper.getEntityType() == type ? mapper : null;
+    } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+      logger.warn(String.format("Could not load the hash mapper of %s, falling back to the converter", type
+          .getName()), e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.redis.om.spring.convert;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression of the values of {@link com.redis.om.spring.annotations.Compressed
+ * &#64;Compressed} fields.
+ * <p>
+ * Values are compressed with Deflate. Compressed hash values start with a two-byte marker,
+ * a NUL byte that never starts text, so values written before a field was annotated are
+ * recognized and read as they are.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class FieldCompression {
+  private static final byte[] MARKER = { 0, 'Z' };
+
+  private FieldCompression() {
+  }
+
+  /**
+   * Compresses bytes with Deflate.
+   *
+   * @param source the bytes to compress
+   * @return the compressed bytes
+   */
+  public static byte[] deflate(byte[] source) {
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    try {
+      deflater.setInput(source);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Decompresses bytes compressed with {@link #deflate(byte[])}.
+   *
+   * @param source the compressed bytes
+   * @return the decompressed bytes
+   * @throws IllegalArgumentException if the bytes are not a valid Deflate stream
+   */
+  public static byte[] inflate(byte[] source) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(source);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(source.length * 4);
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int count = inflater.inflate(buffer);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("Truncated compressed value");
+        }
+        out.write(buffer, 0, count);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("Invalid compressed value", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  /**
+   * Encodes the value of a compressed hash field: the marked compressed bytes, or the
+   * value as it is if compressing it would not make it smaller.
+   *
+   * @param value the {@code String} or {@code byte[]} value
+   * @return the bytes to store in the hash field
+   */
+  public static byte[] compress(Object value) {
+    byte[] raw = value instanceof byte[] bytes ? bytes : value.toString().getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = deflate(raw);
+    if (compressed.length + MARKER.length >= raw.length && !isCompressed(raw)) {
+      return raw;
+    }
+    byte[] marked = new byte[MARKER.length + compressed.length];
+    System.arraycopy(MARKER, 0, marked, 0, MARKER.length);
+    System.arraycopy(compressed, 0, marked, MARKER.length, compressed.length);
+    return marked;
+  }
+
+  /**
+   * Decodes the value of a compressed hash field.
+   *
+   * @param source the bytes stored in the hash field
+   * @param type   {@code String.class} or {@code byte[].class}
+   * @return the value
+   */
+  public static Object decompress(byte[] source, Class<?> type) {
+    byte[] raw = source;
+    if (isCompressed(source)) {
+      try {
+        raw = inflate(Arrays.copyOfRange(source, MARKER.length, source.length));
+      } catch (IllegalArgumentException e) {
+        // a value written before the field was annotated that happens to start with the marker
+      }
+    }
+    return type == byte[].class ? raw : new String(raw, StandardCharsets.UTF_8);
+  }
+
+  private static boolean isCompressed(byte[] source) {
+    return source.length > MARKER.length && source[0] == MARKER[0] && source[1] == MARKER[1];
+  }
+}
@@ -37,6 +37,7 @@ import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.*;
 
+import com.redis.om.spring.annotations.Compressed;
 import com.redis.om.spring.annotations.Indexed;
 import com.redis.om.spring.annotations.TagIndexed;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
@@ -183,6 +184,13 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
           .getType());
     }
 
+    if (path.isEmpty() && readType.getType() == type) {
+      EntityHashMapper<R> hashMapper = getHashMapper(type);
+      if (hashMapper != null) {
+        return hashMapper.read(source);
+      }
+    }
+
     RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(readType);
     EntityInstantiator instantiator = entityInstantiators.getInstantiatorFor(entity);
 
@@ -275,6 +283,11 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
 
     TypeInformation<?> typeInformation = persistentProperty.getTypeInformation();
 
+    if (persistentProperty.isAnnotationPresent(Compressed.class)) {
+      byte[] sourceBytes = source.getBucket().get(currentPath);
+      return sourceBytes != null ? FieldCompression.decompress(sourceBytes, typeInformation.getType()) : null;
+    }
+
     if (persistentProperty.isMap()) {
 
       Class<?> mapValueType = persistentProperty.getMapValueType();
@@ -433,9 +446,12 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
 
     sink.setKeyspace(entity.getKeySpace());
 
+    EntityHashMapper<Object> hashMapper = getHashMapper(source.getClass());
     if (entity.getTypeInformation().isCollectionLike()) {
       writeCollection(entity.getType(), entity.getKeySpace(), "", (List) source, entity.getTypeInformation()
           .getRequiredComponentType(), sink);
+    } else if (hashMapper != null) {
+      hashMapper.write(source, sink);
     } else {
       writeInternal(entity.getKeySpace(), "", source, entity.getTypeInformation(), sink);
     }
@@ -452,6 +468,22 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
     }
   }
 
+  /**
+   * Returns the generated {@link EntityHashMapper} to use for a type, unless custom
+   * conversions take over the type as a whole.
+   */
+  @Nullable
+  @SuppressWarnings(
+    "unchecked"
+  )
+  private <T> EntityHashMapper<T> getHashMapper(Class<?> type) {
+    if (type.isInterface() || customConversions.hasCustomWriteTarget(type) || customConversions
+        .hasCustomReadTarget(Map.class, type)) {
+      return null;
+    }
+    return (EntityHashMapper<T>) EntityHashMappers.forType(type);
+  }
+
   /**
    * Writes a partial update to Redis, applying only the specified property changes.
    *
@@ -693,6 +725,14 @@ public class MappingRedisOMConverter implements RedisConverter, InitializingBean
         return;
       }
 
+      if (persistentProperty.isAnnotationPresent(Compressed.class)) {
+
+        if (propertyValue != null) {
+          sink.getBucket().put(propertyStringPath, FieldCompression.compress(propertyValue));
+        }
+        return;
+      }
+
       if (persistentProperty.isMap()) {
 
         if (propertyValue != null) {
@@ -1,15 +1,13 @@
 
 package com.redis.om.spring.countmin;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.aspectj.lang.JoinPoint;
@@ -23,7 +21,9 @@ import org.springframework.stereotype.Component;
 
 import com.redis.om.spring.annotations.CountMin;
 import com.redis.om.spring.ops.pds.CountMinSketchOperations;
+import com.redis.om.spring.repository.support.RedisOmBatch;
 import com.redis.om.spring.tuple.Pair;
+import com.redis.om.spring.util.SideEffectPlan;
 
 /**
  * Aspect for automatically maintaining Count-Min Sketches on entity fields annotated with {@link CountMin}.
@@ -123,43 +123,12 @@ public class CountMinAspect implements Ordered {
     "inSaveOperation() && args(entity,..)"
   )
   public void addToCountMin(JoinPoint jp, Object entity) {
-    for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
-      if (field.isAnnotationPresent(CountMin.class)) {
-        CountMin countMin = field.getAnnotation(CountMin.class);
-        String sketchName = !ObjectUtils.isEmpty(countMin.name()) ?
-            countMin.name() :
-            String.format("cms:%s:%s", entity.getClass().getSimpleName(), field.getName());
-
-        try {
-          PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-          Object fieldValue = pd.getReadMethod().invoke(entity);
-
-          if (fieldValue != null) {
-            // Initialize the Count-min Sketch if it doesn't exist
-            initializeCountMinSketch(sketchName, countMin);
-
-            // Increment the count for the field value
-            if (fieldValue instanceof Pair<?, ?> pair && pair.getFirst() instanceof String && pair
-                .getSecond() instanceof Number) {
-              ops.cmsIncrBy(sketchName, (String) pair.getFirst(), ((Number) pair.getSecond()).longValue());
-            } else if (fieldValue instanceof Iterable<?> iterable) {
-              for (Object item : iterable) {
-                if (item instanceof Pair<?, ?> p && p.getFirst() instanceof String && p.getSecond() instanceof Number) {
-                  ops.cmsIncrBy(sketchName, (String) p.getFirst(), ((Number) p.getSecond()).longValue());
-                } else {
-                  ops.cmsIncrBy(sketchName, item.toString(), 1);
-                }
-              }
-            } else {
-              ops.cmsIncrBy(sketchName, fieldValue.toString(), 1);
-            }
-          }
-        } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException |
-                 InvocationTargetException e) {
-          logger.error(String.format("Could not add value to Count-min Sketch %s", sketchName), e);
-        }
-      }
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addToCountMin(jp, entity));
+      return;
     }
+    incrementAll(List.of(entity));
   }
 
   /**
@@ -220,8 +189,9 @@ public class CountMinAspect implements Ordered {
    * Advice that executes after successful saveAll operations to update Count-Min Sketches.
    * <p>
    * This method processes all fields in each saved entity that are annotated with {@link CountMin}
-   * and increments their counts in the corresponding sketches. This provides efficient batch
-   * processing for multiple entity saves.
+   * and increments their counts in the corresponding sketches. Increments are summed per
+   * sketch and item across all entities and applied with a single {@code CMS.INCRBY} per
+   * sketch.
    * </p>
    *
    * @param jp       the join point representing the saveAll operation
@@ -231,45 +201,59 @@ public class CountMinAspect implements Ordered {
     "inSaveAllOperation() && args(entities,..)"
   )
   public void addAllToCountMin(JoinPoint jp, List<Object> entities) {
-    for (Object entity : entities) {
-      for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
-        if (field.isAnnotationPresent(CountMin.class)) {
-          CountMin countMin = field.getAnnotation(CountMin.class);
-          String sketchName = !ObjectUtils.isEmpty(countMin.name()) ?
-              countMin.name() :
-              String.format("cms:%s:%s", entity.getClass().getSimpleName(), field.getName());
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addAllToCountMin(jp, entities));
+      return;
+    }
+    incrementAll(entities);
+  }
 
-          try {
-            PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-            Object fieldValue = pd.getReadMethod().invoke(entity);
+  /**
+   * Aggregates the increments contributed by the given entities per sketch and item, then
+   * applies them with one multi-item {@code CMS.INCRBY} per sketch.
+   *
+   * @param entities the saved entities
+   */
+  private void incrementAll(List<Object> entities) {
+    Map<SideEffectPlan.Target<CountMin>, Map<String, Long>> incrementsBySketch = new LinkedHashMap<>();
+    for (Object entity : entities) {
+      for (SideEffectPlan.Target<CountMin> target : SideEffectPlan.of(entity.getClass()).getCountMinTargets()) {
+        try {
+          Object fieldValue = target.read(entity);
+          if (fieldValue != null) {
+            collectIncrements(fieldValue, incrementsBySketch.computeIfAbsent(target, t -> new LinkedHashMap<>()));
+          }
+        } catch (ReflectiveOperationException e) {
+          logger.error(String.format("Could not add value to Count-min Sketch %s", target.name()), e);
+        }
+      }
+    }
 
-            if (fieldValue != null) {
-              // Initialize the Count-min Sketch if it doesn't exist
-              initializeCountMinSketch(sketchName, countMin);
+    incrementsBySketch.forEach((target, increments) -> {
+      if (!increments.isEmpty()) {
+        // Initialize the Count-min Sketch if it doesn't exist
+        initializeCountMinSketch(target.name(), target.annotation());
+        ops.cmsIncrBy(target.name(), increments);
+      }
+    });
+  }
 
-              // Increment the count for the field value
-              if (fieldValue instanceof Pair<?, ?> pair && pair.getFirst() instanceof String && pair
-                  .getSecond() instanceof Number) {
-                ops.cmsIncrBy(sketchName, (String) pair.getFirst(), ((Number) pair.getSecond()).longValue());
-              } else if (fieldValue instanceof Iterable<?> iterable) {
-                for (Object item : iterable) {
-                  if (item instanceof Pair<?, ?> p && p.getFirst() instanceof String && p
-                      .getSecond() instanceof Number) {
-                    ops.cmsIncrBy(sketchName, (String) p.getFirst(), ((Number) p.getSecond()).longValue());
-                  } else {
-                    ops.cmsIncrBy(sketchName, item.toString(), 1);
-                  }
-                }
-              } else {
-                ops.cmsIncrBy(sketchName, fieldValue.toString(), 1);
-              }
-            }
-          } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException |
-                   InvocationTargetException e) {
-            logger.error(String.format("Could not add value to Count-min Sketch %s", sketchName), e);
-          }
+  private void collectIncrements(Object fieldValue, Map<String, Long> increments) {
+    if (fieldValue instanceof Pair<?, ?> pair && pair.getFirst() instanceof String item && pair
+        .getSecond() instanceof Number count) {
+      increments.merge(item, count.longValue(), Long::sum);
+    } else if (fieldValue instanceof Iterable<?> iterable) {
+      for (Object item : iterable) {
+        if (item instanceof Pair<?, ?> p && p.getFirst() instanceof String first && p
+            .getSecond() instanceof Number count) {
+          increments.merge(first, count.longValue(), Long::sum);
+        } else {
+          increments.merge(item.toString(), 1L, Long::sum);
         }
       }
+    } else {
+      increments.merge(fieldValue.toString(), 1L, Long::sum);
     }
   }
 
@@ -327,18 +311,11 @@ public class CountMinAspect implements Ordered {
       return;
     }
 
-    for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entityClass)) {
-      if (field.isAnnotationPresent(CountMin.class)) {
-        CountMin countMin = field.getAnnotation(CountMin.class);
-        String sketchName = !ObjectUtils.isEmpty(countMin.name()) ?
-            countMin.name() :
-            String.format("cms:%s:%s", entityClass.getSimpleName(), field.getName());
-
-        try {
-          stringRedisTemplate.delete(sketchName);
-        } catch (Exception e) {
-          logger.warn(String.format("Failed to delete Count-Min Sketch %s", sketchName), e);
-        }
+    for (SideEffectPlan.Target<CountMin> sketch : SideEffectPlan.of(entityClass).getCountMinTargets()) {
+      try {
+        stringRedisTemplate.delete(sketch.name());
+      } catch (Exception e) {
+        logger.warn(String.format("Failed to delete Count-Min Sketch %s", sketch.name()), e);
       }
     }
   }
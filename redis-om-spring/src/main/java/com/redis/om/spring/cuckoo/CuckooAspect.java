@@ -1,12 +1,11 @@
 package com.redis.om.spring.cuckoo;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.aspectj.lang.JoinPoint;
@@ -18,6 +17,8 @@ import org.springframework.stereotype.Component;
 
 import com.redis.om.spring.annotations.Cuckoo;
 import com.redis.om.spring.ops.pds.CuckooFilterOperations;
+import com.redis.om.spring.repository.support.RedisOmBatch;
+import com.redis.om.spring.util.SideEffectPlan;
 
 /**
  * Aspect for automatically maintaining Cuckoo Filters on entity fields annotated with {@link Cuckoo}.
@@ -37,7 +38,7 @@ import com.redis.om.spring.ops.pds.CuckooFilterOperations;
  * For each field annotated with {@link Cuckoo}, the aspect:
  * <ol>
  * <li>Determines the Cuckoo filter name (explicit or generated)</li>
- * <li>Extracts the field value using reflection</li>
+ * <li>Extracts the field value through the getter resolved by {@link SideEffectPlan}</li>
  * <li>Adds the value to the corresponding Cuckoo filter</li>
  * </ol>
  * <p>
@@ -109,19 +110,19 @@ public class CuckooAspect implements Ordered {
     "inSaveOperation() && args(entity,..)"
   )
   public void addToCuckoo(JoinPoint jp, Object entity) {
-    for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
-      if (field.isAnnotationPresent(Cuckoo.class)) {
-        Cuckoo cuckoo = field.getAnnotation(Cuckoo.class);
-        String filterName = !ObjectUtils.isEmpty(cuckoo.name()) ?
-            cuckoo.name() :
-            String.format("cf:%s:%s", entity.getClass().getSimpleName(), field.getName());
-        try {
-          PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-          ops.add(filterName, pd.getReadMethod().invoke(entity).toString());
-        } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException |
-                 InvocationTargetException e) {
-          logger.error(String.format("Could not add value to Cuckoo filter %s", filterName), e);
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addToCuckoo(jp, entity));
+      return;
+    }
+    for (SideEffectPlan.Target<Cuckoo> target : SideEffectPlan.of(entity.getClass()).getCuckooTargets()) {
+      try {
+        Object value = target.read(entity);
+        if (value != null) {
+          ops.add(target.name(), value.toString());
         }
+      } catch (ReflectiveOperationException e) {
+        logger.error(String.format("Could not add value to Cuckoo filter %s", target.name()), e);
       }
     }
   }
@@ -157,8 +158,9 @@ public class CuckooAspect implements Ordered {
    * Advice that executes after successful saveAll operations to add field values to Cuckoo filters.
    * <p>
    * This method processes all fields in each saved entity that are annotated with {@link Cuckoo}
-   * and adds their values to the corresponding Cuckoo filters. This provides efficient batch
-   * processing for multiple entity saves.
+   * and adds their values to the corresponding Cuckoo filters. Values are grouped by filter so
+   * that each filter is updated with a single {@code CF.INSERT} command, whatever the number of
+   * entities.
    * </p>
    *
    * @param jp       the join point representing the saveAll operation
@@ -168,23 +170,25 @@ public class CuckooAspect implements Ordered {
     "inSaveAllOperation() && args(entities,..)"
   )
   public void addAllToCuckoo(JoinPoint jp, List<Object> entities) {
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      batch.get().afterFlush(() -> addAllToCuckoo(jp, entities));
+      return;
+    }
+    Map<String, List<String>> valuesByFilter = new LinkedHashMap<>();
     for (Object entity : entities) {
-      for (Field field : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(entity.getClass())) {
-        if (field.isAnnotationPresent(Cuckoo.class)) {
-          Cuckoo cuckoo = field.getAnnotation(Cuckoo.class);
-          String filterName = !ObjectUtils.isEmpty(cuckoo.name()) ?
-              cuckoo.name() :
-              String.format("cf:%s:%s", entity.getClass().getSimpleName(), field.getName());
-          try {
-            PropertyDescriptor pd = new PropertyDescriptor(field.getName(), entity.getClass());
-            ops.add(filterName, pd.getReadMethod().invoke(entity).toString());
-          } catch (IllegalArgumentException | IllegalAccessException | IntrospectionException |
-                   InvocationTargetException e) {
-            logger.error(String.format("Could not add values to Bloom filter %s", filterName), e);
+      for (SideEffectPlan.Target<Cuckoo> target : SideEffectPlan.of(entity.getClass()).getCuckooTargets()) {
+        try {
+          Object value = target.read(entity);
+          if (value != null) {
+            valuesByFilter.computeIfAbsent(target.name(), name -> new ArrayList<>()).add(value.toString());
           }
+        } catch (ReflectiveOperationException e) {
+          logger.error(String.format("Could not add values to Cuckoo filter %s", target.name()), e);
         }
       }
     }
+    valuesByFilter.forEach((filterName, values) -> ops.insert(filterName, values.toArray(String[]::new)));
   }
 
   /**
@@ -18,6 +18,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.geo.Point;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.util.ClassUtils;
 
 import com.github.f4b6a3.ulid.Ulid;
@@ -26,9 +27,11 @@ import com.redis.om.spring.annotations.*;
 import com.redis.om.spring.id.IdFilter;
 import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.repository.query.QueryUtils;
+import com.redis.om.spring.serialization.DocumentSerializers;
 import com.redis.om.spring.serialization.gson.EnumTypeAdapter;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Tuples;
+import com.redis.om.spring.util.CompactKeyNames;
 
 import redis.clients.jedis.search.FieldName;
 import redis.clients.jedis.search.schemafields.*;
@@ -69,15 +72,19 @@ class IndexDefinitionBuilder {
    */
   List<SearchField> buildSearchFields(Class<?> entityClass, boolean isDocument,
       List<java.lang.reflect.Field> allClassFields) {
-    List<SearchField> searchFields = processIndexedFields(allClassFields, isDocument);
-    createIndexedFieldsForIdFields(entityClass, searchFields.stream().map(SearchField::getSchemaField).toList(),
-        isDocument).forEach(searchFields::add);
-    return searchFields;
+    try {
+      List<SearchField> searchFields = processIndexedFields(allClassFields, isDocument);
+      createIndexedFieldsForIdFields(entityClass, searchFields.stream().map(SearchField::getSchemaField).toList(),
+          isDocument).forEach(searchFields::add);
+      return searchFields;
+    } finally {
+      factory.clearStoredPrefixes();
+    }
   }
 
   Optional<String> getDocumentScoreField(List<java.lang.reflect.Field> allClassFields, boolean isDocument) {
     return allClassFields.stream().filter(field -> field.isAnnotationPresent(DocumentScore.class)).findFirst().map(
-        field -> (isDocument ? "$." : "") + field.getName());
+        field -> isDocument ? "$." + CompactKeyNames.storedName(field) : field.getName());
   }
 
   // ---------------------------------------------------------------------------
@@ -92,8 +99,20 @@ class IndexDefinitionBuilder {
     return fields;
   }
 
+  /**
+   * A {@code @Compressed} value is stored deflated, so it could never match an index on the
+   * field: reject the combination instead of creating an index that silently finds nothing.
+   */
+  private static void checkNotCompressed(java.lang.reflect.Field field) {
+    if (field.isAnnotationPresent(Compressed.class) && isIndexed(field)) {
+      throw new MappingException(String.format("@Compressed field %s.%s cannot be indexed", field
+          .getDeclaringClass().getName(), field.getName()));
+    }
+  }
+
   List<SearchField> findIndexFields(java.lang.reflect.Field field, String prefix, boolean isDocument) {
     List<SearchField> fields = new ArrayList<>();
+    checkNotCompressed(field);
 
     if (field.isAnnotationPresent(Indexed.class)) {
       logger.info(String.format("Found @Indexed annotation on field of type: %s", field.getType()));
@@ -124,7 +143,7 @@ class IndexDefinitionBuilder {
           if (Objects.requireNonNull(indexed.serializationHint()) == SerializationHint.ORDINAL) {
             fields.add(SearchField.of(field, factory.indexAsNumericFieldFor(field, isDocument, prefix, indexed
                 .sortable(), indexed.noindex(), indexed.alias(), indexed.indexMissing(), indexed.indexEmpty())));
-            gsonBuilder.registerTypeAdapter(fieldType, EnumTypeAdapter.of(fieldType));
+            DocumentSerializers.of(gsonBuilder).registerTypeAdapter(fieldType, EnumTypeAdapter.of(fieldType));
           } else {
             fields.add(SearchField.of(field, factory.indexAsTagFieldFor(field, isDocument, prefix, indexed.sortable(),
                 indexed.separator(), indexed.arrayIndex(), indexed.alias(), indexed.indexMissing(), indexed
@@ -179,9 +198,7 @@ class IndexDefinitionBuilder {
                 indexed.alias() :
                 field.getName();
 
-            String mapJsonPath = (prefix == null || prefix.isBlank()) ?
-                "$." + field.getName() + ".*" :
-                "$." + prefix + "." + field.getName() + ".*";
+            String mapJsonPath = "$." + factory.storedPath(prefix, field) + ".*";
             String mapFieldAlias = mapFieldNameForIndex + "_values";
 
             if (CharSequence.class.isAssignableFrom(
@@ -221,9 +238,7 @@ class IndexDefinitionBuilder {
                 if (subfield.isAnnotationPresent(Indexed.class)) {
                   Indexed subfieldIndexed = subfield.getAnnotation(Indexed.class);
                   String jsonFieldName = factory.getJsonFieldName(subfield);
-                  String nestedJsonPath = (prefix == null || prefix.isBlank()) ?
-                      "$." + field.getName() + ".*." + jsonFieldName :
-                      "$." + prefix + "." + field.getName() + ".*." + jsonFieldName;
+                  String nestedJsonPath = "$." + factory.storedPath(prefix, field) + ".*." + jsonFieldName;
                   String subfieldAlias = (subfieldIndexed.alias() != null && !subfieldIndexed.alias().isEmpty()) ?
                       subfieldIndexed.alias() :
                       subfield.getName();
@@ -273,9 +288,7 @@ class IndexDefinitionBuilder {
           fields.add(SearchField.of(field, factory.indexAsGeoFieldFor(field, isDocument, prefix, indexed.alias())));
         } else {
           for (java.lang.reflect.Field subfield : getDeclaredFieldsTransitively(field.getType())) {
-            String subfieldPrefix = (prefix == null || prefix.isBlank()) ?
-                field.getName() :
-                String.join(".", prefix, field.getName());
+            String subfieldPrefix = factory.nestedPrefix(prefix, field);
             fields.addAll(findIndexFields(subfield, subfieldPrefix, isDocument));
           }
         }
@@ -307,9 +320,7 @@ class IndexDefinitionBuilder {
 
             for (java.lang.reflect.Field subfield : com.redis.om.spring.util.ObjectUtils.getDeclaredFieldsTransitively(
                 nestedType)) {
-              String subfieldPrefix = (prefix == null || prefix.isBlank()) ?
-                  field.getName() :
-                  String.join(".", prefix, field.getName());
+              String subfieldPrefix = factory.nestedPrefix(prefix, field);
               fields.addAll(createNestedIndexFields(field, subfield, subfieldPrefix, isDocument));
             }
           }
@@ -408,7 +419,9 @@ class IndexDefinitionBuilder {
       boolean isDocument) {
     com.google.gson.annotations.SerializedName serializedName = referenceIdField.getAnnotation(
         com.google.gson.annotations.SerializedName.class);
-    String fname = (serializedName != null) ? serializedName.value() : referenceIdField.getName();
+    String fname = (serializedName != null) ?
+        serializedName.value() :
+        isDocument ? CompactKeyNames.storedName(referenceIdField) : referenceIdField.getName();
 
     String fieldPrefix = factory.getFieldPrefix("", isDocument);
     FieldName fieldName = FieldName.of(fieldPrefix + fname);
@@ -459,7 +472,7 @@ class IndexDefinitionBuilder {
       String subFieldName = subField.getName();
 
       String fieldPath = isDocument ?
-          factory.getFieldPrefix(prefix, true) + referenceFieldName + "." + subFieldName :
+          "$." + factory.storedPath(prefix, referenceField) + "." + CompactKeyNames.storedName(subField) :
           referenceFieldName + "_" + subFieldName;
 
       String alias = referenceFieldName + "_" + subFieldName;
@@ -646,9 +659,9 @@ class IndexDefinitionBuilder {
 
         if (subField.isAnnotationPresent(TagIndexed.class)) {
           TagIndexed ti = subField.getAnnotation(TagIndexed.class);
-          tempPrefix = field.getName() + "[0:].";
+          tempPrefix = CompactKeyNames.storedName(field) + "[0:].";
 
-          FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + subField.getName() + suffix);
+          FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + CompactKeyNames.storedName(subField) + suffix);
           fieldName = fieldName.as(QueryUtils.searchIndexFieldAliasFor(subField, prefix));
 
           logger.info(String.format("Creating nested relationships: %s -> %s", field.getName(), subField.getName()));
@@ -669,9 +682,9 @@ class IndexDefinitionBuilder {
           );
           if (subFieldIsTagField) {
             Indexed indexed = subField.getAnnotation(Indexed.class);
-            tempPrefix = field.getName() + "[0:].";
+            tempPrefix = CompactKeyNames.storedName(field) + "[0:].";
 
-            FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + subField.getName() + suffix);
+            FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + CompactKeyNames.storedName(subField) + suffix);
             String alias = QueryUtils.searchIndexFieldAliasFor(subField, prefix);
             fieldName = fieldName.as(alias);
 
@@ -682,7 +695,7 @@ class IndexDefinitionBuilder {
               .getType() == LocalDateTime.class) || (subField.getType() == LocalDate.class) || (subField
                   .getType() == Date.class)) {
 
-            FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + subField.getName() + suffix);
+            FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + CompactKeyNames.storedName(subField) + suffix);
             String alias = QueryUtils.searchIndexFieldAliasFor(subField, prefix);
             fieldName = fieldName.as(alias);
 
@@ -691,9 +704,9 @@ class IndexDefinitionBuilder {
           }
         } else if (subField.isAnnotationPresent(Searchable.class)) {
           Searchable searchable = subField.getAnnotation(Searchable.class);
-          tempPrefix = field.getName() + "[0:].";
+          tempPrefix = CompactKeyNames.storedName(field) + "[0:].";
 
-          FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + subField.getName() + suffix);
+          FieldName fieldName = FieldName.of(fieldPrefix + tempPrefix + CompactKeyNames.storedName(subField) + suffix);
           String alias = QueryUtils.searchIndexFieldAliasFor(subField, prefix);
           fieldName = fieldName.as(alias);
 
@@ -725,7 +738,7 @@ class IndexDefinitionBuilder {
     Class<?> nestedFieldType = ClassUtils.resolvePrimitiveIfNecessary(nestedField.getType());
 
     String fullFieldPath = isDocument ?
-        "$." + arrayField.getName() + "[*]." + nestedField.getName() :
+        "$." + CompactKeyNames.storedName(arrayField) + "[*]." + CompactKeyNames.storedName(nestedField) :
         arrayField.getName() + "[*]." + nestedField.getName();
 
     logger.info(String.format("Creating automatic nested field index: %s -> %s", arrayField.getName(), fullFieldPath));
@@ -1,24 +1,43 @@
 package com.redis.om.spring.indexing;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.data.redis.connection.RedisHashCommands;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 
-import com.redis.om.spring.util.ObjectUtils;
+import com.redis.om.spring.util.EntityMetadata;
+
+import redis.clients.jedis.PipeliningBase;
 
 /**
  * Handles maintenance of lexicographic sorted sets for fields marked with lexicographic=true.
  * This component is responsible for keeping sorted sets in sync with entity changes
  * during save, update, and delete operations.
+ * <p>
+ * Each sorted set {@code <prefix><field>:lex} has a companion hash
+ * {@code {<prefix><field>:lex}:ids} mapping every entity ID to its current member, so the
+ * previous member of an updated or deleted entity is removed with an exact {@code ZREM}
+ * instead of a scan of the sorted set. The lookup, removal and addition are done
+ * atomically by a small Lua script, which can be queued in the pipeline writing the
+ * entity. The hash tag in the name of the companion hash puts it in the slot of its
+ * sorted set, so the script also runs on Redis Cluster. Sorted sets written before the
+ * companion hash existed are indexed into it on first use, and a marker key
+ * {@code {<prefix><field>:lex}:ids:migrated} records that the indexing completed.
+ * </p>
  *
  * @author Redis OM Spring Team
  * @since 1.0.0
@@ -27,8 +46,34 @@ import com.redis.om.spring.util.ObjectUtils;
 public class LexicographicIndexer {
   private static final Log logger = LogFactory.getLog(LexicographicIndexer.class);
 
+  /**
+   * Replaces the member of an entity: KEYS are the sorted set and its reverse mapping,
+   * ARGV the entity ID and its new member, or an empty string to only remove the old one.
+   */
+  static final String REPLACE_MEMBER_SCRIPT = """
+      local old = redis.call('HGET', KEYS[2], ARGV[1])
+      if old == ARGV[2] then
+        return 0
+      end
+      if old then
+        redis.call('ZREM', KEYS[1], old)
+      end
+      if ARGV[2] == '' then
+        redis.call('HDEL', KEYS[2], ARGV[1])
+      else
+        redis.call('ZADD', KEYS[1], 0, ARGV[2])
+        redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+      end
+      return 1
+      """;
+
+  private static final RedisScript<Long> REPLACE_MEMBER = RedisScript.of(REPLACE_MEMBER_SCRIPT, Long.class);
+
+  private static final int MIGRATION_BATCH_SIZE = 1000;
+
   private final RedisTemplate<String, String> redisTemplate;
   private final RediSearchIndexer indexer;
+  private final Set<String> mappedSortedSets = ConcurrentHashMap.newKeySet();
 
   /**
    * Creates a new LexicographicIndexer with the specified dependencies.
@@ -41,6 +86,32 @@ public class LexicographicIndexer {
     this.indexer = indexer;
   }
 
+  /**
+   * Returns the key of the hash mapping entity IDs to their members in a lexicographic
+   * sorted set. The key hashes to the slot of the sorted set: it reuses the hash tag of
+   * the sorted set key when there is one, and wraps the sorted set key in a hash tag
+   * otherwise.
+   *
+   * @param sortedSetKey the sorted set key
+   * @return the key of the reverse mapping
+   */
+  public static String reverseMappingKey(String sortedSetKey) {
+    int open = sortedSetKey.indexOf('{');
+    int close = open >= 0 ? sortedSetKey.indexOf('}', open + 1) : -1;
+    return close > open + 1 ? sortedSetKey + ":ids" : "{" + sortedSetKey + "}:ids";
+  }
+
+  /**
+   * Returns the key marking that the members of a lexicographic sorted set written before
+   * reverse mappings existed were all indexed into its reverse mapping.
+   *
+   * @param sortedSetKey the sorted set key
+   * @return the key of the migration marker
+   */
+  public static String migrationMarkerKey(String sortedSetKey) {
+    return reverseMappingKey(sortedSetKey) + ":migrated";
+  }
+
   /**
    * Process entity before save/update to maintain lexicographic sorted sets.
    * Removes old entries if updating and adds new entries.
@@ -51,12 +122,25 @@ public class LexicographicIndexer {
    * @param entityPrefix the Redis key prefix for the entity type
    */
   public void processEntity(Object entity, String entityId, boolean isNew, String entityPrefix) {
+    processEntity(entity, entityId, entityPrefix, null);
+  }
+
+  /**
+   * Process entity before save/update to maintain lexicographic sorted sets, queuing the
+   * commands in the pipeline or transaction writing the entity.
+   *
+   * @param entity       the entity being saved
+   * @param entityId     the entity ID
+   * @param entityPrefix the Redis key prefix for the entity type
+   * @param pipeline     the pipeline or transaction to queue the commands to, or
+   *                     {@code null} to run them right away
+   */
+  public void processEntity(Object entity, String entityId, String entityPrefix, @Nullable PipeliningBase pipeline) {
     Class<?> entityClass = entity.getClass();
     Set<String> lexicographicFields = indexer.getLexicographicFields(entityClass);
-    List<Field> idFields = ObjectUtils.getIdFieldsForEntityClass(entityClass);
 
-    logger.debug(String.format("Processing entity %s with ID %s, isNew=%s, entityPrefix=%s", entityClass
-        .getSimpleName(), entityId, isNew, entityPrefix));
+    logger.debug(String.format("Processing entity %s with ID %s, entityPrefix=%s", entityClass.getSimpleName(),
+        entityId, entityPrefix));
     logger.debug(String.format("Lexicographic fields: %s", lexicographicFields));
 
     if (lexicographicFields == null || lexicographicFields.isEmpty()) {
@@ -65,7 +149,7 @@ public class LexicographicIndexer {
     }
 
     for (String fieldName : lexicographicFields) {
-      Field field = ReflectionUtils.findField(entityClass, fieldName);
+      Field field = EntityMetadata.of(entityClass).getField(fieldName);
       if (field == null) {
         logger.warn(String.format("Lexicographic field %s not found on class %s", fieldName, entityClass.getName()));
         continue;
@@ -73,23 +157,12 @@ public class LexicographicIndexer {
 
       field.setAccessible(true);
       Object fieldValue = ReflectionUtils.getField(field, entity);
+      String sortedSetKey = entityPrefix + fieldName + ":lex";
+      // A null value removes the previous member, if any
+      String member = fieldValue != null ? member(fieldValue, entityId) : "";
 
-      if (fieldValue != null) {
-        String sortedSetKey = entityPrefix + fieldName + ":lex";
-        String member = fieldValue.toString() + "#" + entityId;
-
-        logger.debug(String.format("Processing field %s, value=%s, member=%s, isNew=%s", fieldName, fieldValue, member,
-            isNew));
-
-        // If updating, remove the previous member before adding the current one.
-        if (!isNew) {
-          removeOldEntry(sortedSetKey, entityId, field, fieldValue, idFields);
-        }
-
-        // Add the new entry with score 0 (all entries have same score for lexicographic ordering)
-        Boolean added = redisTemplate.opsForZSet().add(sortedSetKey, member, 0.0);
-        logger.debug(String.format("Added entry %s to sorted set %s (result: %s)", member, sortedSetKey, added));
-      }
+      logger.debug(String.format("Processing field %s, value=%s, member=%s", fieldName, fieldValue, member));
+      replaceMember(sortedSetKey, entityId, member, pipeline);
     }
   }
 
@@ -101,31 +174,22 @@ public class LexicographicIndexer {
    * @param entityPrefix the Redis key prefix for the entity type
    */
   public void processEntityDeletion(Object entity, String entityId, String entityPrefix) {
-    Class<?> entityClass = entity.getClass();
-    Set<String> lexicographicFields = indexer.getLexicographicFields(entityClass);
-    List<Field> idFields = ObjectUtils.getIdFieldsForEntityClass(entityClass);
-
-    if (lexicographicFields == null || lexicographicFields.isEmpty()) {
-      return;
-    }
-
-    for (String fieldName : lexicographicFields) {
-      String sortedSetKey = entityPrefix + fieldName + ":lex";
-      Field field = ReflectionUtils.findField(entityClass, fieldName);
-      if (field == null) {
-        logger.warn(String.format("Lexicographic field %s not found on class %s", fieldName, entityClass.getName()));
-        removeOldEntryByScan(sortedSetKey, entityId);
-        continue;
-      }
+    processEntityDeletionById(entity.getClass(), entityId, entityPrefix, null);
+  }
 
-      field.setAccessible(true);
-      Object fieldValue = ReflectionUtils.getField(field, entity);
-      if (isIdField(field, idFields) && fieldValue != null) {
-        removeExactEntry(sortedSetKey, member(fieldValue, entityId));
-      } else {
-        removeOldEntryByScan(sortedSetKey, entityId);
-      }
-    }
+  /**
+   * Process entity deletion to remove entries from lexicographic sorted sets, queuing the
+   * commands in the pipeline or transaction deleting the entity.
+   *
+   * @param entity       the entity being deleted
+   * @param entityId     the entity ID
+   * @param entityPrefix the Redis key prefix for the entity type
+   * @param pipeline     the pipeline or transaction to queue the commands to, or
+   *                     {@code null} to run them right away
+   */
+  public void processEntityDeletion(Object entity, String entityId, String entityPrefix,
+      @Nullable PipeliningBase pipeline) {
+    processEntityDeletionById(entity.getClass(), entityId, entityPrefix, pipeline);
   }
 
   /**
@@ -136,96 +200,110 @@ public class LexicographicIndexer {
    * @param entityPrefix the Redis key prefix for the entity type
    */
   public void processEntityDeletionById(Class<?> entityClass, String entityId, String entityPrefix) {
+    processEntityDeletionById(entityClass, entityId, entityPrefix, null);
+  }
+
+  /**
+   * Process entity deletion by ID when entity is not available, queuing the commands in
+   * the pipeline or transaction deleting the entity.
+   *
+   * @param entityClass  the entity class
+   * @param entityId     the entity ID
+   * @param entityPrefix the Redis key prefix for the entity type
+   * @param pipeline     the pipeline or transaction to queue the commands to, or
+   *                     {@code null} to run them right away
+   */
+  public void processEntityDeletionById(Class<?> entityClass, String entityId, String entityPrefix,
+      @Nullable PipeliningBase pipeline) {
     Set<String> lexicographicFields = indexer.getLexicographicFields(entityClass);
-    Optional<Field> singleIdField = getSingleIdField(entityClass);
 
     if (lexicographicFields == null || lexicographicFields.isEmpty()) {
       return;
     }
 
     for (String fieldName : lexicographicFields) {
-      String sortedSetKey = entityPrefix + fieldName + ":lex";
-      if (singleIdField.map(idField -> idField.getName().equals(fieldName)).orElse(false)) {
-        removeExactEntry(sortedSetKey, member(entityId, entityId));
-      } else {
-        removeOldEntryByScan(sortedSetKey, entityId);
-      }
+      replaceMember(entityPrefix + fieldName + ":lex", entityId, "", pipeline);
     }
   }
 
   /**
-   * Removes the old lexicographic member for an update.
-   * <p>
-   * For ID fields the old member is deterministic, because the ID value is stable for
-   * the entity being updated. For other mutable lexicographic fields, the previous
-   * value may be unknown, so the fallback uses a cursor scan to avoid materializing the
-   * entire sorted set in JVM heap.
+   * Replaces the member of an entity in a sorted set with the given one, removing the
+   * previous member found in the reverse mapping.
    *
    * @param sortedSetKey the sorted set key
-   * @param entityId     the entity ID to remove
-   * @param field        the lexicographic field
-   * @param fieldValue   the current field value
-   * @param idFields     ID fields declared by the entity
+   * @param entityId     the entity ID
+   * @param member       the new member, or an empty string to only remove the previous one
+   * @param pipeline     the pipeline to queue the script to, or {@code null} to run it
    */
-  private void removeOldEntry(String sortedSetKey, String entityId, Field field, Object fieldValue,
-      List<Field> idFields) {
-    if (isIdField(field, idFields) && fieldValue != null) {
-      removeExactEntry(sortedSetKey, member(fieldValue, entityId));
+  private void replaceMember(String sortedSetKey, String entityId, String member, @Nullable PipeliningBase pipeline) {
+    ensureReverseMapping(sortedSetKey);
+    List<String> keys = List.of(sortedSetKey, reverseMappingKey(sortedSetKey));
+    if (pipeline != null) {
+      pipeline.eval(REPLACE_MEMBER_SCRIPT, keys, List.of(entityId, member));
     } else {
-      removeOldEntryByScan(sortedSetKey, entityId);
+      Long replaced = redisTemplate.execute(REPLACE_MEMBER, keys, entityId, member);
+      logger.debug(String.format("Replaced member of %s in sorted set %s with %s (result: %s)", entityId,
+          sortedSetKey, member, replaced));
     }
   }
 
   /**
-   * Removes entries ending with the given entity ID from the sorted set using a cursor scan.
-   * This is needed because we may not know the old field value during updates.
+   * Indexes the members of a sorted set written before reverse mappings existed into its
+   * reverse mapping, once per sorted set. The members are read with a cursor scan and
+   * added with {@code HSETNX}, so mappings written concurrently win, and the migration
+   * marker is set once the whole sorted set was scanned. An interrupted migration is
+   * therefore resumed by the next instance writing to the sorted set.
    *
    * @param sortedSetKey the sorted set key
-   * @param entityId     the entity ID to remove
    */
-  private void removeOldEntryByScan(String sortedSetKey, String entityId) {
-    logger.debug(String.format("Removing old entries for entityId %s from %s", entityId, sortedSetKey));
-    String suffix = "#" + entityId;
-    logger.debug(String.format("Looking for entries ending with: %s", suffix));
-
-    ScanOptions options = ScanOptions.scanOptions().match("*" + escapeRedisGlob(suffix)).count(1000).build();
-    try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(sortedSetKey, options)) {
-      while (cursor.hasNext()) {
-        String member = cursor.next().getValue();
-        if (member != null && member.endsWith(suffix)) {
-          removeExactEntry(sortedSetKey, member);
+  private void ensureReverseMapping(String sortedSetKey) {
+    if (mappedSortedSets.contains(sortedSetKey)) {
+      return;
+    }
+    String markerKey = migrationMarkerKey(sortedSetKey);
+    if (!Boolean.TRUE.equals(redisTemplate.hasKey(markerKey))) {
+      String mappingKey = reverseMappingKey(sortedSetKey);
+      if (Boolean.TRUE.equals(redisTemplate.hasKey(sortedSetKey))) {
+        logger.info(String.format("Building reverse mapping %s of lexicographic sorted set %s", mappingKey,
+            sortedSetKey));
+        List<String> members = new ArrayList<>(MIGRATION_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().count(MIGRATION_BATCH_SIZE).build();
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(sortedSetKey,
+            options)) {
+          while (cursor.hasNext()) {
+            String member = cursor.next().getValue();
+            if (member != null && member.indexOf('#') >= 0) {
+              members.add(member);
+            }
+            if (members.size() == MIGRATION_BATCH_SIZE) {
+              mapMembers(mappingKey, members);
+              members.clear();
+            }
+          }
         }
+        mapMembers(mappingKey, members);
       }
+      redisTemplate.opsForValue().set(markerKey, "1");
     }
+    mappedSortedSets.add(sortedSetKey);
   }
 
-  private void removeExactEntry(String sortedSetKey, String member) {
-    Long removed = redisTemplate.opsForZSet().remove(sortedSetKey, member);
-    logger.debug(String.format("Removed entry %s from sorted set %s (result: %s)", member, sortedSetKey, removed));
+  private void mapMembers(String mappingKey, List<String> members) {
+    if (members.isEmpty()) {
+      return;
+    }
+    byte[] key = mappingKey.getBytes(StandardCharsets.UTF_8);
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      RedisHashCommands hashCommands = connection.hashCommands();
+      for (String member : members) {
+        String entityId = member.substring(member.lastIndexOf('#') + 1);
+        hashCommands.hSetNX(key, entityId.getBytes(StandardCharsets.UTF_8), member.getBytes(StandardCharsets.UTF_8));
+      }
+      return null;
+    });
   }
 
   private String member(Object fieldValue, String entityId) {
     return fieldValue + "#" + entityId;
   }
-
-  private boolean isIdField(Field field, List<Field> idFields) {
-    return idFields.stream().anyMatch(idField -> idField.getName().equals(field.getName()));
-  }
-
-  private Optional<Field> getSingleIdField(Class<?> entityClass) {
-    List<Field> idFields = ObjectUtils.getIdFieldsForEntityClass(entityClass);
-    return idFields.size() == 1 ? Optional.of(idFields.get(0)) : Optional.empty();
-  }
-
-  private String escapeRedisGlob(String value) {
-    StringBuilder escaped = new StringBuilder(value.length());
-    for (int i = 0; i < value.length(); i++) {
-      char c = value.charAt(i);
-      if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
-        escaped.append('\\');
-      }
-      escaped.append(c);
-    }
-    return escaped.toString();
-  }
 }
@@ -12,8 +12,8 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration.KeyspaceSettings;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
@@ -30,6 +30,7 @@ import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Tuples;
+import com.redis.om.spring.util.EntityMetadata;
 
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.search.FTCreateParams;
@@ -405,7 +406,7 @@ public class RediSearchIndexer {
         addKeySpaceMapping(entityPrefix, cl);
       }
 
-      updateTTLSettings(cl, entityPrefix, isDocument, document, allClassFields);
+      updateTTLSettings(cl, entityPrefix, isDocument, document);
       List<SchemaField> fields = searchFields.stream().map(SearchField::getSchemaField).toList();
       entityClassToSchema.put(cl, searchFields);
       entityClassToIndexName.put(cl, indexName);
@@ -421,6 +422,8 @@ public class RediSearchIndexer {
 
       // Always (re)create sorted sets for lexicographic fields at the end
       createSortedSetsForLexicographicFields(cl, entityPrefix);
+    } catch (MappingException e) {
+      throw e;
     } catch (Exception e) {
       logger.warn(String.format(SKIPPING_INDEX_CREATION, indexName, e.getMessage()));
     }
@@ -818,16 +821,15 @@ public class RediSearchIndexer {
     return params;
   }
 
-  private void updateTTLSettings(Class<?> cl, String entityPrefix, boolean isDocument, Optional<Document> document,
-      List<java.lang.reflect.Field> allClassFields) {
+  private void updateTTLSettings(Class<?> cl, String entityPrefix, boolean isDocument, Optional<Document> document) {
     if (isDocument) {
       KeyspaceSettings setting = new KeyspaceSettings(cl, entityPrefix);
 
       // Default TTL
       document.filter(doc -> doc.timeToLive() > 0).ifPresent(doc -> setting.setTimeToLive(doc.timeToLive()));
 
-      allClassFields.stream().filter(field -> field.isAnnotationPresent(TimeToLive.class)).findFirst().ifPresent(
-          field -> setting.setTimeToLivePropertyName(field.getName()));
+      EntityMetadata.of(cl).getTimeToLiveFields().stream().findFirst().ifPresent(field -> setting
+          .setTimeToLivePropertyName(field.getName()));
 
       // Use the resolver if the mapping context is enhanced
       if (mappingContext instanceof com.redis.om.spring.mapping.RedisEnhancedMappingContext) {
@@ -1023,7 +1025,7 @@ public class RediSearchIndexer {
       Optional<Document> document = isDocument ?
           Optional.of(entityClass.getAnnotation(Document.class)) :
           Optional.empty();
-      updateTTLSettings(entityClass, entityPrefix, isDocument, document, allClassFields);
+      updateTTLSettings(entityClass, entityPrefix, isDocument, document);
 
       List<SchemaField> fields = searchFields.stream().map(SearchField::getSchemaField).toList();
 
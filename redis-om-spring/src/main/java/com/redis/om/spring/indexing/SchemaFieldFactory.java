@@ -11,20 +11,26 @@ import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 import com.redis.om.spring.annotations.*;
 import com.redis.om.spring.repository.query.QueryUtils;
+import com.redis.om.spring.util.CompactKeyNames;
 
 import redis.clients.jedis.search.FieldName;
 import redis.clients.jedis.search.schemafields.*;
 
 /**
- * Stateless factory that converts annotated {@link java.lang.reflect.Field} descriptors into
+ * Factory that converts annotated {@link java.lang.reflect.Field} descriptors into
  * the Jedis {@link SchemaField} subtypes required by RediSearch index definitions.
  *
+ * <p>The only state it keeps is, for the index being built on the current thread, the stored
+ * JSON path of each nested field prefix: fields of {@link CompactKeys @CompactKeys} classes are
+ * stored under short names, while prefixes keep the field names the aliases are derived from.
+ *
  * <p>All methods are package-private; callers within the {@code indexing} package
  * (primarily {@link IndexDefinitionBuilder} and {@link RediSearchIndexer}) use this class
  * for the low-level annotation → field-type mapping, keeping that concern separate from
  * the higher-level schema assembly logic.
  */
 class SchemaFieldFactory {
+  private final ThreadLocal<Map<String, String>> storedPrefixes = ThreadLocal.withInitial(HashMap::new);
 
   SchemaFieldFactory() {
   }
@@ -199,8 +205,40 @@ class SchemaFieldFactory {
   }
 
   String getFieldPrefix(String prefix, boolean isDocument) {
-    String chain = (prefix == null || prefix.isBlank()) ? "" : prefix + ".";
-    return isDocument ? "$." + chain : chain;
+    if (prefix == null || prefix.isBlank()) {
+      return isDocument ? "$." : "";
+    }
+    return isDocument ? "$." + storedPrefix(prefix) + "." : prefix + ".";
+  }
+
+  /**
+   * Returns the prefix of the fields nested in {@code field}, and records its stored JSON path.
+   */
+  String nestedPrefix(String prefix, java.lang.reflect.Field field) {
+    if (prefix == null || prefix.isBlank()) {
+      storedPrefixes.get().put(field.getName(), CompactKeyNames.storedName(field));
+      return field.getName();
+    }
+    String nested = prefix + "." + field.getName();
+    storedPrefixes.get().put(nested, storedPath(prefix, field));
+    return nested;
+  }
+
+  /**
+   * Returns the stored JSON path, without the leading {@code $.}, of {@code field} under
+   * {@code prefix}.
+   */
+  String storedPath(String prefix, java.lang.reflect.Field field) {
+    String name = CompactKeyNames.storedName(field);
+    return (prefix == null || prefix.isBlank()) ? name : storedPrefix(prefix) + "." + name;
+  }
+
+  void clearStoredPrefixes() {
+    storedPrefixes.remove();
+  }
+
+  private String storedPrefix(String prefix) {
+    return storedPrefixes.get().getOrDefault(prefix, prefix);
   }
 
   String getJsonFieldName(java.lang.reflect.Field field) {
@@ -218,14 +256,16 @@ class SchemaFieldFactory {
         return serializedName.value();
       }
     }
-    return field.getName();
+    return CompactKeyNames.storedName(field);
   }
 
   FieldName buildFieldName(java.lang.reflect.Field field, String prefix, boolean isDocument,
       Optional<String> maybeAlias, Optional<Integer> maybeArrayIndex) {
     SerializedName serializedName = field.getAnnotation(SerializedName.class);
     Indexed indexed = field.getAnnotation(Indexed.class);
-    String fname = (serializedName != null) ? serializedName.value() : field.getName();
+    String fname = (serializedName != null) ?
+        serializedName.value() :
+        isDocument ? CompactKeyNames.storedName(field) : field.getName();
 
     TypeInformation<?> typeInfo = TypeInformation.of(field.getType());
     String fieldPrefix = getFieldPrefix(prefix, isDocument);
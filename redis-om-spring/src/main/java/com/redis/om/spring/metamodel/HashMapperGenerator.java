@@ -0,0 +1,302 @@
+package com.redis.om.spring.metamodel;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+
+import org.springframework.data.redis.core.convert.Bucket;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import com.redis.om.spring.convert.EntityHashMapper;
+import com.redis.om.spring.convert.EntityHashMappers;
+import com.redis.om.spring.util.ObjectUtils;
+import com.squareup.javapoet.*;
+
+/**
+ * Generates the {@link EntityHashMapper} of a {@code @RedisHash} entity, which maps the
+ * entity to and from its hash without the reflective property walk of the converter.
+ * <p>
+ * Mappers are only generated for entities the generated code can map exactly like the
+ * converter does: top-level, non-generic classes extending {@code Object}, with a no-arg
+ * constructor and whose persistent fields are strings, numbers, booleans or enums that
+ * can be read and written through accessors or package-visible fields. Other entities
+ * keep using the converter; the reason is reported as a note.
+ * </p>
+ *
+ * @see MetamodelGenerator
+ * @since 2.0.7
+ */
+final class HashMapperGenerator {
+  /**
+   * Annotation processor option enabling the generation of hash mappers.
+   */
+  static final String GENERATE_HASH_MAPPERS_OPTION = "redis.om.generateHashMappers";
+
+  private static final Set<String> NUMBER_TYPES = Set.of(Byte.class.getName(), Short.class.getName(), Integer.class
+      .getName(), Long.class.getName(), Float.class.getName(), Double.class.getName(), BigDecimal.class.getName(),
+      BigInteger.class.getName());
+  private static final Set<String> LOMBOK_CONSTRUCTORS = Set.of("lombok.AllArgsConstructor",
+      "lombok.RequiredArgsConstructor", "lombok.Builder", "lombok.Data", "lombok.Value");
+
+  private final ProcessingEnvironment processingEnvironment;
+
+  HashMapperGenerator(ProcessingEnvironment processingEnvironment) {
+    this.processingEnvironment = processingEnvironment;
+  }
+
+  /**
+   * Tells whether the generation of hash mappers was enabled with the processor option.
+   *
+   * @return whether mappers are generated
+   */
+  boolean isEnabled() {
+    return Boolean.parseBoolean(processingEnvironment.getOptions().get(GENERATE_HASH_MAPPERS_OPTION));
+  }
+
+  /**
+   * Generates the mapper of an entity, if it can be mapped without the converter.
+   *
+   * @param entity the entity class
+   * @throws IOException if the mapper source cannot be written
+   */
+  void generate(TypeElement entity) throws IOException {
+    List<MappedField> fields = new ArrayList<>();
+    Optional<String> unsupported = checkEntity(entity, fields);
+    if (unsupported.isPresent()) {
+      processingEnvironment.getMessager().printMessage(Diagnostic.Kind.NOTE, "No hash mapper generated for " + entity
+          .getQualifiedName() + " because " + unsupported.get());
+      return;
+    }
+
+    ClassName entityName = ClassName.get(entity);
+    String packageName = entityName.packageName();
+    String mapperName = entityName.simpleName() + EntityHashMappers.MAPPER_CLASS_SUFFIX;
+
+    MethodSpec.Builder write = MethodSpec.methodBuilder("write") //
+        .addAnnotation(Override.class) //
+        .addModifiers(Modifier.PUBLIC) //
+        .addParameter(entityName, "entity") //
+        .addParameter(RedisData.class, "sink") //
+        .addStatement("$T bucket = sink.getBucket()", Bucket.class);
+
+    MethodSpec.Builder read = MethodSpec.methodBuilder("read") //
+        .addAnnotation(Override.class) //
+        .addModifiers(Modifier.PUBLIC) //
+        .returns(entityName) //
+        .addParameter(RedisData.class, "source") //
+        .addStatement("$T bucket = source.getBucket()", Bucket.class) //
+        .addStatement("$T entity = new $T()", entityName, entityName) //
+        .addStatement("byte[] value");
+
+    for (MappedField field : fields) {
+      if (field.type().getKind().isPrimitive()) {
+        write.addStatement("bucket.put($S, $T.toBytes($L))", field.name(), EntityHashMappers.class, field.getter());
+      } else {
+        write.beginControlFlow("if ($L != null)", field.getter()) //
+            .addStatement("bucket.put($S, $T.toBytes($L))", field.name(), EntityHashMappers.class, field.getter()) //
+            .endControlFlow();
+      }
+
+      read.addStatement("value = bucket.get($S)", field.name());
+      if (field.isId()) {
+        // like the converter, fall back to the id of the key the hash was read from
+        read.beginControlFlow("if (value == null && source.getId() != null)") //
+            .addStatement("value = $T.toBytes(source.getId())", EntityHashMappers.class) //
+            .endControlFlow();
+      }
+      read.beginControlFlow("if (value != null)");
+      CodeBlock decoded = decode(field.type());
+      if (field.type().getKind().isPrimitive() && field.type().getKind() != TypeKind.BOOLEAN) {
+        read.addStatement("$T number = $L", TypeName.get(field.type()).box(), decoded) //
+            .beginControlFlow("if (number != null)") //
+            .addStatement(field.set("number")) //
+            .endControlFlow();
+      } else {
+        read.addStatement(field.set(decoded));
+      }
+      read.endControlFlow();
+    }
+    read.addStatement("return entity");
+
+    TypeSpec mapper = TypeSpec.classBuilder(mapperName) //
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL) //
+        .addSuperinterface(ParameterizedTypeName.get(ClassName.get(EntityHashMapper.class), entityName)) //
+        .addOriginatingElement(entity) //
+        .addMethod(MethodSpec.methodBuilder("getEntityType") //
+            .addAnnotation(Override.class) //
+            .addModifiers(Modifier.PUBLIC) //
+            .returns(ParameterizedTypeName.get(ClassName.get(Class.class), entityName)) //
+            .addStatement("return $T.class", entityName) //
+            .build()) //
+        .addMethod(write.build()) //
+        .addMethod(read.build()) //
+        .build();
+
+    processingEnvironment.getMessager().printMessage(Diagnostic.Kind.NOTE, "Generating Hash Mapper: " + (packageName
+        .isEmpty() ? "" : packageName + ".") + mapperName);
+    JavaFile.builder(packageName, mapper).build().writeTo(processingEnvironment.getFiler());
+  }
+
+  private Optional<String> checkEntity(TypeElement entity, List<MappedField> fields) {
+    if (entity.getNestingKind() != NestingKind.TOP_LEVEL) {
+      return Optional.of("it is not a top-level class");
+    }
+    if (entity.getModifiers().contains(Modifier.ABSTRACT) || !entity.getTypeParameters().isEmpty()) {
+      return Optional.of("it is abstract or generic");
+    }
+    if (!entity.getSuperclass().toString().equals(Object.class.getName())) {
+      return Optional.of("it extends another class");
+    }
+    if (hasAnnotation(entity, "lombok.Value") || hasAnnotation(entity, "lombok.experimental.Accessors")) {
+      return Optional.of("its accessors are generated as immutable or fluent ones");
+    }
+    if (!hasNoArgConstructor(entity)) {
+      return Optional.of("it has no no-arg constructor");
+    }
+
+    List<ExecutableElement> methods = ElementFilter.methodsIn(entity.getEnclosedElements());
+    for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+      Set<Modifier> modifiers = field.getModifiers();
+      if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT) || hasAnnotation(field,
+          "org.springframework.data.annotation.Transient")) {
+        continue;
+      }
+      String name = field.getSimpleName().toString();
+      if (modifiers.contains(Modifier.FINAL)) {
+        return Optional.of(name + " is final");
+      }
+      if (hasAnnotation(field, "org.springframework.data.annotation.Reference")) {
+        return Optional.of(name + " is a reference");
+      }
+      if (hasAnnotation(field, "com.redis.om.spring.annotations.Compressed")) {
+        return Optional.of(name + " is compressed");
+      }
+      if (decode(field.asType()) == null) {
+        return Optional.of(name + " is of type " + field.asType() + ", which is mapped by the converter");
+      }
+      String getter = findGetter(entity, field, methods);
+      String setter = findSetter(entity, field, methods);
+      if (getter == null || setter == null) {
+        return Optional.of(name + " has no accessible getter and setter");
+      }
+      fields.add(new MappedField(name, field.asType(), getter, setter, hasAnnotation(field,
+          "org.springframework.data.annotation.Id")));
+    }
+    // as in Spring Data, a field named id is the identifier unless another field is annotated
+    if (fields.stream().noneMatch(MappedField::isId)) {
+      fields.replaceAll(f -> f.name().equals("id") ? new MappedField(f.name(), f.type(), f.getter(), f.setter(),
+          true) : f);
+    }
+    return Optional.empty();
+  }
+
+  private boolean hasNoArgConstructor(TypeElement entity) {
+    Elements elements = processingEnvironment.getElementUtils();
+    if (hasAnnotation(entity, "lombok.NoArgsConstructor")) {
+      return true;
+    }
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(entity.getEnclosedElements())) {
+      if (!constructor.getParameters().isEmpty() || constructor.getModifiers().contains(Modifier.PRIVATE)) {
+        continue;
+      }
+      // Lombok may replace the implicit default constructor, but not a declared one
+      if (elements.getOrigin(constructor) != Elements.Origin.MANDATED || LOMBOK_CONSTRUCTORS.stream().noneMatch(
+          a -> hasAnnotation(entity, a))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String findGetter(TypeElement entity, VariableElement field, List<ExecutableElement> methods) {
+    String name = field.getSimpleName().toString();
+    boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+    for (String prefix : isBoolean ? List.of("is", "get") : List.of("get")) {
+      String getterName = prefix + ObjectUtils.ucfirst(name);
+      if (methods.stream().anyMatch(m -> m.getSimpleName().contentEquals(getterName) && m.getParameters()
+          .isEmpty() && isAccessible(m))) {
+        return "entity." + getterName + "()";
+      }
+    }
+    if (lombokAccessorAvailable(entity, field, "lombok.Getter") && !(isBoolean && name.startsWith("is"))) {
+      return "entity." + (isBoolean ? "is" : "get") + ObjectUtils.ucfirst(name) + "()";
+    }
+    return isAccessible(field) ? "entity." + name : null;
+  }
+
+  private String findSetter(TypeElement entity, VariableElement field, List<ExecutableElement> methods) {
+    String name = field.getSimpleName().toString();
+    String setterName = "set" + ObjectUtils.ucfirst(name);
+    boolean declared = methods.stream().anyMatch(m -> m.getSimpleName().contentEquals(setterName) && m
+        .getParameters().size() == 1 && processingEnvironment.getTypeUtils().isSameType(m.getParameters().get(0)
+            .asType(), field.asType()) && isAccessible(m));
+    boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+    if (declared || (lombokAccessorAvailable(entity, field, "lombok.Setter") && !(isBoolean && name.startsWith(
+        "is")))) {
+      return "entity." + setterName + "($L)";
+    }
+    return isAccessible(field) ? "entity." + name + " = $L" : null;
+  }
+
+  private boolean lombokAccessorAvailable(TypeElement entity, VariableElement field, String accessor) {
+    Optional<? extends AnnotationMirror> onField = field.getAnnotationMirrors().stream().filter(a -> a
+        .getAnnotationType().toString().equals(accessor)).findFirst();
+    if (onField.isPresent()) {
+      return onField.get().getElementValues().values().stream().map(AnnotationValue::toString).noneMatch(v -> v
+          .endsWith("NONE") || v.endsWith("PRIVATE"));
+    }
+    return hasAnnotation(entity, "lombok.Data") || hasAnnotation(entity, accessor);
+  }
+
+  private boolean isAccessible(Element element) {
+    return !element.getModifiers().contains(Modifier.PRIVATE) && !element.getModifiers().contains(Modifier.STATIC);
+  }
+
+  private static boolean hasAnnotation(Element element, String annotation) {
+    return element.getAnnotationMirrors().stream().anyMatch(a -> a.getAnnotationType().toString().equals(
+        annotation));
+  }
+
+  private CodeBlock decode(TypeMirror type) {
+    TypeName typeName = TypeName.get(type);
+    TypeName boxed = typeName.isPrimitive() ? typeName.box() : typeName;
+    switch (type.getKind()) {
+      case BOOLEAN:
+        return CodeBlock.of("$T.toBoolean(value)", EntityHashMappers.class);
+      case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE:
+        return CodeBlock.of("$T.toNumber(value, $T.class)", EntityHashMappers.class, boxed);
+      case DECLARED:
+        String name = typeName.toString();
+        if (name.equals(String.class.getName())) {
+          return CodeBlock.of("$T.toString(value)", EntityHashMappers.class);
+        } else if (name.equals(Boolean.class.getName())) {
+          return CodeBlock.of("$T.toBoolean(value)", EntityHashMappers.class);
+        } else if (NUMBER_TYPES.contains(name)) {
+          return CodeBlock.of("$T.toNumber(value, $T.class)", EntityHashMappers.class, typeName);
+        } else if (processingEnvironment.getTypeUtils().asElement(type).getKind() == ElementKind.ENUM) {
+          return CodeBlock.of("$T.toEnum(value, $T.class)", EntityHashMappers.class, typeName);
+        }
+        return null;
+      default:
+        return null;
+    }
+  }
+
+  private record MappedField(String name, TypeMirror type, String getter, String setter, boolean isId) {
+    CodeBlock set(Object value) {
+      return CodeBlock.of(setter, value);
+    }
+  }
+}
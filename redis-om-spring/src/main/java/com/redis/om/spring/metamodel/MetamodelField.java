@@ -10,6 +10,7 @@ import com.redis.om.spring.search.stream.aggregations.filters.AggregationFilter;
 import com.redis.om.spring.search.stream.aggregations.filters.ExistsFilter;
 import com.redis.om.spring.search.stream.aggregations.filters.NotExistsFilter;
 import com.redis.om.spring.search.stream.predicates.fulltext.IsMissingPredicate;
+import com.redis.om.spring.util.CompactKeyNames;
 import com.redis.om.spring.util.ObjectUtils;
 
 /**
@@ -85,7 +86,7 @@ public class MetamodelField<E, T> implements Comparator<E>, Function<E, T> {
     } catch (NoSuchFieldException e) {
       throw new RuntimeException(e);
     }
-    SearchFieldAccessor sfa = new SearchFieldAccessor(fieldName, "$." + fieldName, field);
+    SearchFieldAccessor sfa = new SearchFieldAccessor(fieldName, "$." + CompactKeyNames.storedName(field), field);
     this.searchFieldAccessor = sfa;
     this.indexed = true;
     this.alias = fieldName;
@@ -39,6 +39,7 @@ import com.redis.om.spring.metamodel.nonindexed.*;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Triple;
 import com.redis.om.spring.tuple.Tuples;
+import com.redis.om.spring.util.CompactKeyNames;
 import com.redis.om.spring.util.ObjectUtils;
 import com.squareup.javapoet.*;
 import com.squareup.javapoet.CodeBlock.Builder;
@@ -65,6 +66,10 @@ import com.squareup.javapoet.CodeBlock.Builder;
  * primitives, collections, nested objects, date/time types, geospatial points,
  * and vector embeddings.</p>
  *
+ * <p>With the {@code -Aredis.om.generateHashMappers=true} option, it also generates a
+ * reflection-free {@link com.redis.om.spring.convert.EntityHashMapper} for each
+ * {@link RedisHash @RedisHash} entity that only has simple properties.</p>
+ *
  * @see Document
  * @see RedisHash
  * @see Indexed
@@ -73,6 +78,9 @@ import com.squareup.javapoet.CodeBlock.Builder;
 @SupportedAnnotationTypes(
     value = { "com.redis.om.spring.annotations.Document", "org.springframework.data.redis.core.RedisHash" }
 )
+@SupportedOptions(
+  HashMapperGenerator.GENERATE_HASH_MAPPERS_OPTION
+)
 @AutoService(
   Processor.class
 )
@@ -83,9 +91,11 @@ public final class MetamodelGenerator extends AbstractProcessor {
   private static final Set<String> DISALLOWED_ACCESS_LEVELS = Stream.of("PROTECTED", "PRIVATE", "NONE").collect(
       Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
   private final Map<String, Integer> depthMap = new HashMap<>();
+  private final Map<String, Map<String, String>> compactKeyNames = new HashMap<>();
   private ProcessingEnvironment processingEnvironment;
   private Messager messager;
   private TypeElement objectTypeElement;
+  private HashMapperGenerator hashMapperGenerator;
 
   /**
    * Default constructor for the metamodel generator processor.
@@ -133,6 +143,7 @@ public final class MetamodelGenerator extends AbstractProcessor {
     messager.printMessage(Diagnostic.Kind.NOTE, "🍃 Redis OM Spring Entity Metamodel Generator");
 
     this.objectTypeElement = processingEnvironment.getElementUtils().getTypeElement("java.lang.Object");
+    this.hashMapperGenerator = new HashMapperGenerator(env);
   }
 
   /**
@@ -166,6 +177,17 @@ public final class MetamodelGenerator extends AbstractProcessor {
       }
     });
 
+    if (hashMapperGenerator.isEnabled()) {
+      hashEntities.stream().filter(ae -> ae.getKind() == ElementKind.CLASS).forEach(ae -> {
+        try {
+          hashMapperGenerator.generate((TypeElement) ae);
+        } catch (IOException ioe) {
+          messager.printMessage(Diagnostic.Kind.ERROR, "Cannot generate hash mapper for " + ae + " because " + ioe
+              .getMessage());
+        }
+      });
+    }
+
     return true;
   }
 
@@ -1070,7 +1092,7 @@ public final class MetamodelGenerator extends AbstractProcessor {
       alias = collectionPrefix != null ? collectionPrefix + "_" + alias : alias;
     }
 
-    String jsonPath = chain.stream().map(e -> e.getSimpleName().toString()).collect(Collectors.joining("."));
+    String jsonPath = chain.stream().map(this::storedName).collect(Collectors.joining("."));
     jsonPath = "$." + (collectionPrefix != null ? collectionPrefix + "." + jsonPath : jsonPath);
 
     CodeBlock aFieldInit = CodeBlock //
@@ -1104,7 +1126,7 @@ public final class MetamodelGenerator extends AbstractProcessor {
         .build();
 
     String searchSchemaAlias = chain.stream().map(e -> e.getSimpleName().toString()).collect(Collectors.joining("_"));
-    String jsonPath = "$." + chain.stream().map(e -> e.getSimpleName().toString()).collect(Collectors.joining("."));
+    String jsonPath = "$." + chain.stream().map(this::storedName).collect(Collectors.joining("."));
 
     CodeBlock aFieldInit = CodeBlock.builder().addStatement("$L = new $T(new $T(\"$L\", \"$L\", $L),$L)", fieldAccessor,
         interceptor, SearchFieldAccessor.class, searchSchemaAlias, jsonPath, chainFieldName, true).build();
@@ -1160,6 +1182,67 @@ public final class MetamodelGenerator extends AbstractProcessor {
     return Tuples.of(aField, aFieldInit);
   }
 
+  /**
+   * Get the name a field element is stored under in JSON documents: its short name when its declaring class is
+   * annotated with @CompactKeys, computed like {@link CompactKeyNames#storedName(Field)} does at runtime, and its
+   * Java name otherwise.
+   */
+  private String storedName(Element fieldElement) {
+    String name = fieldElement.getSimpleName().toString();
+    if (fieldElement.getEnclosingElement() instanceof TypeElement type && type.getAnnotation(
+        CompactKeys.class) != null) {
+      String typeName = type.getQualifiedName().toString();
+      Map<String, String> names = compactKeyNames.get(typeName);
+      if (names == null) {
+        // not computeIfAbsent: computing the names of a class looks up those of its superclasses
+        names = compactKeyNames(type);
+        compactKeyNames.put(typeName, names);
+      }
+      return names.getOrDefault(name, name);
+    }
+    return name;
+  }
+
+  private Map<String, String> compactKeyNames(TypeElement type) {
+    List<String> compacted = new ArrayList<>();
+    Set<String> reserved = new HashSet<>();
+    Map<String, String> names = new HashMap<>();
+    for (TypeMirror parent = type.getSuperclass(); parent instanceof DeclaredType declared; ) {
+      TypeElement parentElement = (TypeElement) declared.asElement();
+      if (parentElement.getQualifiedName().contentEquals("java.lang.Object")) {
+        break;
+      }
+      storedFields(parentElement).forEach(f -> reserved.add(storedName(f)));
+      parent = parentElement.getSuperclass();
+    }
+    for (Element field : storedFields(type)) {
+      String name = field.getSimpleName().toString();
+      String jsonFieldName = getJsonFieldName(field);
+      if (!jsonFieldName.equals(name)) {
+        names.put(name, jsonFieldName);
+        reserved.add(jsonFieldName);
+      } else if (field.getAnnotation(Id.class) != null || field.getAnnotation(
+          org.springframework.data.annotation.Version.class) != null) {
+        reserved.add(name);
+      } else {
+        compacted.add(name);
+      }
+    }
+    try {
+      names.putAll(CompactKeyNames.shortNames(compacted, reserved));
+    } catch (IllegalArgumentException e) {
+      messager.printMessage(Diagnostic.Kind.ERROR, "Cannot compact the keys of " + type.getQualifiedName() + ": " + e
+          .getMessage(), type);
+    }
+    return names;
+  }
+
+  private static List<Element> storedFields(TypeElement type) {
+    return type.getEnclosedElements().stream().filter(e -> e.getKind() == ElementKind.FIELD).filter(e -> !e
+        .getModifiers().contains(Modifier.STATIC) && !e.getModifiers().contains(Modifier.TRANSIENT)).map(
+            e -> (Element) e).toList();
+  }
+
   /**
    * Get the JSON field name for a field element, checking for @JsonProperty and @SerializedName annotations.
    * Falls back to the Java field name if no JSON annotation is found.
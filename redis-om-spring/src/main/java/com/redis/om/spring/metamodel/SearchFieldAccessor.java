@@ -5,6 +5,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import com.redis.om.spring.util.FieldAccessor;
+
 /**
  * Provides access to field information for search operations in the metamodel.
  * This class encapsulates the metadata needed to access and query fields in
@@ -23,6 +25,7 @@ public class SearchFieldAccessor {
   private final String jsonPath;
   private final Class<?> targetClass;
   private final Class<?> declaringClass;
+  private final FieldAccessor accessor;
 
   /**
    * Creates a new SearchFieldAccessor with the specified search alias, JSON path, and fields.
@@ -38,9 +41,11 @@ public class SearchFieldAccessor {
       this.fields.addAll(Arrays.asList(fields));
       this.targetClass = this.fields.get(0).getType();
       this.declaringClass = this.fields.get(0).getDeclaringClass();
+      this.accessor = FieldAccessor.of(this.fields.get(0));
     } else {
       this.targetClass = null;
       this.declaringClass = null;
+      this.accessor = null;
     }
   }
 
@@ -57,6 +62,7 @@ public class SearchFieldAccessor {
     this.jsonPath = jsonPath;
     this.targetClass = targetClass;
     this.declaringClass = declaringClass;
+    this.accessor = null;
   }
 
   /**
@@ -69,6 +75,36 @@ public class SearchFieldAccessor {
     return fields.isEmpty() ? null : fields.get(0);
   }
 
+  /**
+   * Reads the value of the primary field from an entity, without reflection on the hot
+   * path: the field's accessor is bound once, when the metamodel is initialized.
+   *
+   * @param entity the entity to read from
+   * @return the value of the field
+   * @throws IllegalStateException if this accessor has no field
+   */
+  public Object getValue(Object entity) {
+    return requireAccessor().get(entity);
+  }
+
+  /**
+   * Writes a value to the primary field of an entity.
+   *
+   * @param entity the entity to write to
+   * @param value  the value to write
+   * @throws IllegalStateException if this accessor has no field
+   */
+  public void setValue(Object entity, Object value) {
+    requireAccessor().set(entity, value);
+  }
+
+  private FieldAccessor requireAccessor() {
+    if (accessor == null) {
+      throw new IllegalStateException("Synthetic field " + searchAlias + " cannot be accessed on an entity");
+    }
+    return accessor;
+  }
+
   /**
    * Returns the search alias used in RediSearch queries.
    * 
@@ -0,0 +1,15 @@
+package com.redis.om.spring.metrics;
+
+/**
+ * Latency percentiles of a repository method, in milliseconds, across all the
+ * application instances recording into the same Redis.
+ *
+ * @param operation the recorded operation, {@code <RepositoryInterface>.<method>}
+ * @param p50       the median latency
+ * @param p95       the 95th percentile latency
+ * @param p99       the 99th percentile latency
+ * @see LatencyRecorder#percentiles(String)
+ * @since 2.0.7
+ */
+public record LatencyPercentiles(String operation, double p50, double p95, double p99) {
+}
@@ -0,0 +1,276 @@
+package com.redis.om.spring.metrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.Assert;
+
+import com.redis.om.spring.ops.pds.TDigestOperations;
+
+import redis.clients.jedis.bloom.TDigestMergeParams;
+
+/**
+ * Records repository latencies into Redis T-Digests and reads back their percentiles.
+ * <p>
+ * Each operation, usually a repository method, has one T-Digest per minute, stored under
+ * {@code tdigest:latency:{<operation>}:<epoch-minute>} and expiring once it has left the
+ * window of {@code window} minutes. Reading the percentiles of an operation merges the
+ * T-Digests of the window, so they reflect recent latencies rather than every latency ever
+ * recorded. The operation name is the hash tag of the keys, so that they can be merged in
+ * cluster mode. Every application instance adds its latencies to the same T-Digests, so the
+ * percentiles read back cover the whole fleet rather than a single instance.
+ * </p>
+ * <p>
+ * {@link #record(String, long)} only queues the latency in memory; a background thread
+ * sends the queued latencies with one {@code TDIGEST.ADD} per operation every flush
+ * interval. When more than the configured number of latencies are pending, new ones are
+ * dropped rather than slowing down the caller.
+ * </p>
+ *
+ * @see RepositoryLatencyInterceptor
+ * @see com.redis.om.spring.RedisOMProperties.Repository.LatencyMetrics
+ * @since 2.0.7
+ */
+public class LatencyRecorder implements DisposableBean {
+  private static final Log logger = LogFactory.getLog(LatencyRecorder.class);
+
+  /** The format of the T-Digest keys, filled with the operation name and the epoch minute. */
+  public static final String KEY_FORMAT_STRING = "tdigest:latency:{%s}:%d";
+
+  /**
+   * The format of the keys of the sorted sets listing the minutes that have a T-Digest,
+   * filled with the operation name.
+   */
+  public static final String MINUTES_KEY_FORMAT_STRING = "tdigest:latency:{%s}:minutes";
+
+  /** The format of the keys the T-Digests of the window are merged into, filled with the operation name. */
+  public static final String WINDOW_KEY_FORMAT_STRING = "tdigest:latency:{%s}:window";
+
+  /** The key of the Redis set holding the names of all recorded operations. */
+  public static final String OPERATIONS_KEY = "tdigest:latency:operations";
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final TDigestOperations<String> ops;
+  private final StringRedisTemplate template;
+  private final int compression;
+  private final int maxPendingSamples;
+  private final int window;
+  private final Clock clock;
+  private final Map<String, Queue<Double>> pending = new ConcurrentHashMap<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final Map<String, Long> createdMinutes = new ConcurrentHashMap<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "redis-om-latency-metrics");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * Creates a new recorder and starts its periodic flush.
+   *
+   * @param ops               the T-Digest operations used to store the latencies
+   * @param template          the template used to keep track of the recorded operations
+   * @param compression       the compression of the T-Digests created by this recorder
+   * @param flushInterval     the interval, in milliseconds, between two flushes
+   * @param maxPendingSamples the maximum number of latencies queued between two flushes
+   * @param window            the number of minutes of latencies the percentiles cover
+   */
+  public LatencyRecorder(TDigestOperations<String> ops, StringRedisTemplate template, int compression,
+      long flushInterval, int maxPendingSamples, int window) {
+    this(ops, template, compression, flushInterval, maxPendingSamples, window, Clock.systemUTC());
+  }
+
+  LatencyRecorder(TDigestOperations<String> ops, StringRedisTemplate template, int compression, long flushInterval,
+      int maxPendingSamples, int window, Clock clock) {
+    Assert.notNull(ops, "TDigest operations must not be null");
+    Assert.isTrue(flushInterval > 0, "Latency flush interval must be positive");
+    Assert.isTrue(window > 0, "Latency window must be positive");
+    this.ops = ops;
+    this.template = template;
+    this.compression = compression;
+    this.maxPendingSamples = maxPendingSamples;
+    this.window = window;
+    this.clock = clock;
+    scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues the latency of one execution of an operation.
+   *
+   * @param operation    the name of the operation
+   * @param elapsedNanos the duration of the execution, in nanoseconds
+   */
+  public void record(String operation, long elapsedNanos) {
+    if (pendingCount.incrementAndGet() > maxPendingSamples) {
+      pendingCount.decrementAndGet();
+      return;
+    }
+    pending.computeIfAbsent(operation, o -> new ConcurrentLinkedQueue<>()).add(elapsedNanos / NANOS_PER_MILLI);
+  }
+
+  /**
+   * Sends all queued latencies to the T-Digests of the current minute, creating them when
+   * needed.
+   */
+  public void flush() {
+    flushLock.lock();
+    try {
+      long minute = currentMinute();
+      for (Map.Entry<String, Queue<Double>> entry : pending.entrySet()) {
+        double[] values = drain(entry.getValue());
+        if (values.length > 0) {
+          String key = keyFor(entry.getKey(), minute);
+          if (!Long.valueOf(minute).equals(createdMinutes.get(entry.getKey()))) {
+            create(entry.getKey(), key, minute);
+            createdMinutes.put(entry.getKey(), minute);
+          }
+          ops.add(key, values);
+        }
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Reads the fleet-wide latency percentiles of an operation over the last {@code window}
+   * minutes, merging the T-Digests of these minutes.
+   *
+   * @param operation the name of the operation
+   * @return the percentiles, or empty if the operation was not recorded during the window
+   */
+  public Optional<LatencyPercentiles> percentiles(String operation) {
+    long minute = currentMinute();
+    Set<String> minutes = template.opsForZSet().rangeByScore(minutesKeyFor(operation), minute - window + 1, minute);
+    if (minutes == null || minutes.isEmpty()) {
+      return Optional.empty();
+    }
+    String[] keys = minutes.stream().map(m -> keyFor(operation, Long.parseLong(m))).toArray(String[]::new);
+    String key = keys[0];
+    if (keys.length > 1) {
+      key = String.format(WINDOW_KEY_FORMAT_STRING, operation);
+      ops.merge(TDigestMergeParams.mergeParams().compression(compression).override(), key, keys);
+      template.expire(key, Duration.ofMinutes(1));
+    }
+    var quantiles = ops.quantile(key, 0.5, 0.95, 0.99);
+    return Optional.of(new LatencyPercentiles(operation, quantiles.get(0), quantiles.get(1), quantiles.get(2)));
+  }
+
+  /**
+   * Reads the fleet-wide latency percentiles of every operation recorded by any instance.
+   *
+   * @return the percentiles, by operation name
+   */
+  public Map<String, LatencyPercentiles> percentiles() {
+    Map<String, LatencyPercentiles> result = new TreeMap<>();
+    Set<String> operations = template.opsForSet().members(OPERATIONS_KEY);
+    if (operations != null) {
+      operations.forEach(operation -> percentiles(operation).ifPresent(p -> result.put(operation, p)));
+    }
+    return result;
+  }
+
+  /**
+   * Clears the recorded latencies of an operation, for all instances.
+   *
+   * @param operation the name of the operation
+   */
+  public void reset(String operation) {
+    Set<String> minutes = template.opsForZSet().range(minutesKeyFor(operation), 0, -1);
+    if (minutes != null) {
+      for (String minute : minutes) {
+        String key = keyFor(operation, Long.parseLong(minute));
+        if (Boolean.TRUE.equals(template.hasKey(key))) {
+          ops.reset(key);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the key of the T-Digest holding the latencies of an operation recorded during
+   * a minute.
+   *
+   * @param operation the name of the operation
+   * @param minute    the minute, counted from the epoch
+   * @return the T-Digest key
+   */
+  public static String keyFor(String operation, long minute) {
+    return String.format(KEY_FORMAT_STRING, operation, minute);
+  }
+
+  private static String minutesKeyFor(String operation) {
+    return String.format(MINUTES_KEY_FORMAT_STRING, operation);
+  }
+
+  private long currentMinute() {
+    return TimeUnit.MILLISECONDS.toMinutes(clock.millis());
+  }
+
+  /**
+   * Stops the periodic flush after sending the latencies still queued.
+   */
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+    flushQuietly();
+  }
+
+  private double[] drain(Queue<Double> queue) {
+    int size = queue.size();
+    double[] values = new double[size];
+    int count = 0;
+    Double value;
+    while (count < size && (value = queue.poll()) != null) {
+      values[count++] = value;
+    }
+    pendingCount.addAndGet(-count);
+    return count == size ? values : Arrays.copyOf(values, count);
+  }
+
+  private void create(String operation, String key, long minute) {
+    if (!Boolean.TRUE.equals(template.hasKey(key))) {
+      try {
+        ops.create(key, compression);
+      } catch (RuntimeException e) {
+        // another instance created it first
+        logger.debug(String.format("TDigest %s already exists", key), e);
+      }
+    }
+    // kept one minute past the window, so that a T-Digest listed in the window still exists
+    Duration timeToLive = Duration.ofMinutes(window + 1L);
+    template.expire(key, timeToLive);
+    String minutesKey = minutesKeyFor(operation);
+    template.opsForZSet().add(minutesKey, Long.toString(minute), minute);
+    template.opsForZSet().removeRangeByScore(minutesKey, Double.NEGATIVE_INFINITY, minute - window);
+    template.expire(minutesKey, timeToLive);
+    template.opsForSet().add(OPERATIONS_KEY, operation);
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      logger.warn("Could not send repository latencies to Redis", e);
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.redis.om.spring.metrics;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Repository proxy advice that records the latency of every repository method call
+ * with a {@link LatencyRecorder}.
+ * <p>
+ * Calls are recorded under {@code <RepositoryInterface>.<method>}, e.g.
+ * {@code CompanyRepository.findByName}, whether they complete normally or not. Overloads
+ * of a method share the same operation.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public class RepositoryLatencyInterceptor implements MethodInterceptor {
+  private final LatencyRecorder recorder;
+  private final String prefix;
+
+  /**
+   * Creates a new interceptor for the given repository interface.
+   *
+   * @param recorder            the recorder to send the latencies to
+   * @param repositoryInterface the repository interface whose calls are recorded
+   */
+  public RepositoryLatencyInterceptor(LatencyRecorder recorder, Class<?> repositoryInterface) {
+    this.recorder = recorder;
+    this.prefix = repositoryInterface.getSimpleName() + ".";
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Method method = invocation.getMethod();
+    if (method.getDeclaringClass() == Object.class) {
+      return invocation.proceed();
+    }
+    long start = System.nanoTime();
+    try {
+      return invocation.proceed();
+    } finally {
+      recorder.record(prefix + method.getName(), System.nanoTime() - start);
+    }
+  }
+}
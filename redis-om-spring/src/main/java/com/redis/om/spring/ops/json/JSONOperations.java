@@ -1,6 +1,7 @@
 package com.redis.om.spring.ops.json;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.lang.Nullable;
 
@@ -61,13 +62,26 @@ public interface JSONOperations<K> {
    * Gets multiple JSON documents as strings in a single operation.
    *
    * @param keys the keys of the JSON documents to retrieve
-   * @return a list of JSON documents as strings
+   * @return a list of JSON documents as strings, without the keys that do not exist
    */
   @SuppressWarnings(
     "unchecked"
   )
   List<String> mget(K... keys);
 
+  /**
+   * Gets multiple JSON documents as strings in a single operation, keeping each document at
+   * the position of its key.
+   *
+   * @param keys the keys of the JSON documents to retrieve
+   * @return a list of JSON documents as strings, in the order of the keys, with {@code null}
+   *         for keys that do not exist
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  List<String> mgetAligned(K... keys);
+
   /**
    * Gets multiple JSON documents deserialized to the specified type.
    *
@@ -121,6 +135,20 @@ public interface JSONOperations<K> {
    */
   void set(K key, Object object, JsonSetParams params);
 
+  /**
+   * Replaces the values at several paths of an existing JSON document in a single round
+   * trip. Paths mapped to {@code null} are deleted.
+   * <p>
+   * Unlike {@link #set(Object, Object)}, this never creates the document: when the key
+   * does not exist nothing is written and {@code false} is returned.
+   * </p>
+   *
+   * @param key    the key of the JSON document
+   * @param values the new values, by path
+   * @return {@code true} if every path was written, {@code false} otherwise
+   */
+  boolean setPaths(K key, Map<Path2, ?> values);
+
   /**
    * Sets a value at the specified JSONPath with conditional parameters.
    *
@@ -2,7 +2,9 @@ package com.redis.om.spring.ops.json;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.json.JSONArray;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -11,28 +13,32 @@ import org.springframework.data.redis.core.RedisConnectionUtils;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.lang.Nullable;
 
-import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.internal.LinkedTreeMap;
 import com.redis.om.spring.client.RedisModulesClient;
+import com.redis.om.spring.serialization.DocumentSerializers;
+import com.redis.om.spring.serialization.gson.ReferencePrefetch;
 
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.json.JsonSetParams;
 import redis.clients.jedis.json.Path2;
 
 /**
  * Implementation of JSON operations for Redis using RedisJSON module.
  * This class provides methods for storing, retrieving, and manipulating JSON documents
- * in Redis, with automatic serialization and deserialization using Gson.
+ * in Redis, with automatic serialization and deserialization through the
+ * {@link DocumentSerializers} of the Gson configuration.
  *
  * @param <K> the type of keys used to identify JSON documents
  */
 public class JSONOperationsImpl<K> implements JSONOperations<K> {
 
-  private final GsonBuilder builder;
+  private final DocumentSerializers serializers;
   private final RedisModulesClient client;
   private final StringRedisTemplate template;
   private final RedisConnectionFactory connectionFactory;
-  private Gson gson;
 
   /**
    * Constructs a new JSONOperationsImpl with the specified client and JSON builder.
@@ -54,7 +60,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
    */
   public JSONOperationsImpl(RedisModulesClient client, GsonBuilder builder, StringRedisTemplate template) {
     this.client = client;
-    this.builder = builder;
+    this.serializers = DocumentSerializers.of(builder);
     this.template = template;
     this.connectionFactory = template != null ? template.getConnectionFactory() : null;
   }
@@ -86,7 +92,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
     } else if (result instanceof JSONArray jsonArray) {
       return !jsonArray.isEmpty() ? jsonArray.get(0).toString() : null;
     } else if (result instanceof LinkedTreeMap<?, ?> linkedTreeMap) {
-      return getGson().toJson(linkedTreeMap);
+      return serializers.getGson().toJson(linkedTreeMap);
     } else {
       return result.toString();
     }
@@ -121,31 +127,41 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
     if (result instanceof JSONArray jsonArray) {
       return extractValueAsClassFromJSONArray(jsonArray, clazz);
     } else if (result instanceof LinkedTreeMap<?, ?> linkedTreeMap) {
-      asString = getGson().toJson(linkedTreeMap);
+      asString = serializers.getGson().toJson(linkedTreeMap);
     } else {
       asString = result != null ? result.toString() : null;
     }
 
-    return result != null ? getGson().fromJson(asString, clazz) : null;
+    return result != null ? serializers.fromJson(asString, clazz) : null;
   }
 
   /**
    * Retrieves multiple JSON documents as strings for the given keys.
    *
    * @param keys the keys identifying the JSON documents
-   * @return a list of JSON documents as strings
+   * @return a list of JSON documents as strings, without the missing keys
    */
   @SafeVarargs
   @Override
   public final List<String> mget(K... keys) {
-    return (keys.length > 0) ?
-        client.clientForJSON().jsonMGet(getKeysAsString(keys)).stream().filter(Objects::nonNull).map(jsonArr -> jsonArr
-            .get(0)).map(Object::toString).toList() :
-        List.of();
+    return mgetAligned(keys).stream().filter(Objects::nonNull).toList();
+  }
+
+  /**
+   * Retrieves multiple JSON documents as strings for the given keys, by position.
+   *
+   * @param keys the keys identifying the JSON documents
+   * @return a list of JSON documents as strings, with {@code null} for missing keys
+   */
+  @SafeVarargs
+  @Override
+  public final List<String> mgetAligned(K... keys) {
+    return (keys.length > 0) ? mgetKeys(getKeysAsString(keys)) : List.of();
   }
 
   /**
-   * Retrieves and deserializes multiple JSON documents to the specified type.
+   * Retrieves and deserializes multiple JSON documents to the specified type. The
+   * references of the documents are read in bulk, see {@link ReferencePrefetch}.
    *
    * @param <T>   the type to deserialize to
    * @param clazz the class to deserialize to
@@ -155,11 +171,18 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @SafeVarargs
   @Override
   public final <T> List<T> mget(Class<T> clazz, K... keys) {
-    Gson g = getGson();
-    return (keys.length > 0) ?
-        client.clientForJSON().jsonMGet(getKeysAsString(keys)).stream().filter(Objects::nonNull).map(jsonArr -> jsonArr
-            .get(0)).map(Object::toString).map(str -> g.fromJson(str, clazz)).toList() :
-        List.of();
+    if (keys.length == 0) {
+      return List.of();
+    }
+    List<String> documents = mget(keys);
+    return ReferencePrefetch.resolving(clazz, documents.stream(), this::mgetKeys, serializers::isReferenceCached,
+        () -> documents.stream().map(str -> serializers.fromJson(str, clazz)).toList());
+  }
+
+  private List<String> mgetKeys(String... keys) {
+    return client.clientForJSON().jsonMGet(keys).stream().map(jsonArr -> jsonArr != null ?
+        jsonArr.get(0).toString() :
+        null).toList();
   }
 
   /**
@@ -174,10 +197,9 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @SafeVarargs
   @Override
   public final <T> List<T> mget(Path2 path, Class<T> clazz, K... keys) {
-    Gson g = getGson();
     return (keys.length > 0) ?
-        client.clientForJSON().jsonMGet(path, getKeysAsString(keys)).stream().map(Object::toString).map(str -> g
-            .fromJson(str, clazz)).toList() :
+        client.clientForJSON().jsonMGet(path, getKeysAsString(keys)).stream().map(Object::toString).map(
+            str -> serializers.fromJson(str, clazz)).toList() :
         List.of();
   }
 
@@ -196,8 +218,8 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
       try {
         if (connection.isQueueing()) {
           // We're in a transaction - use execute to properly queue the command
-          connection.execute("JSON.SET", key.toString().getBytes(), ".".getBytes(), getGson().toJson(object)
-              .getBytes());
+          connection.execute("JSON.SET", key.toString().getBytes(), ".".getBytes(), serializers.toJsonBytes(
+              object));
           return;
         }
       } finally {
@@ -206,7 +228,7 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
     }
 
     // Not in a transaction or no template available - execute normally
-    client.clientForJSON().jsonSet(key.toString(), Path2.ROOT_PATH, getGson().toJson(object));
+    client.clientForJSON().jsonSet(key.toString(), Path2.ROOT_PATH, serializers.toJsonBytes(object));
   }
 
   /**
@@ -225,8 +247,8 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
       try {
         if (connection.isQueueing()) {
           // We're in a transaction - use execute to properly queue the command
-          connection.execute("JSON.SET", key.toString().getBytes(), path.toString().getBytes(), getGson().toJson(object)
-              .getBytes());
+          connection.execute("JSON.SET", key.toString().getBytes(), path.toString().getBytes(), serializers
+              .toJsonBytes(object));
           return;
         }
       } finally {
@@ -235,7 +257,69 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
     }
 
     // Not in a transaction or no template available - execute normally
-    client.clientForJSON().jsonSet(key.toString(), path, getGson().toJson(object));
+    client.clientForJSON().jsonSet(key.toString(), path, serializers.toJsonBytes(object));
+  }
+
+  /**
+   * Replaces the values at several paths of an existing JSON document, deleting the paths
+   * mapped to {@code null}. The commands are sent in one pipeline, or queued when executed
+   * within a transaction context.
+   *
+   * @param key    the key identifying the JSON document
+   * @param values the new values, by path
+   * @return {@code true} if every path was written, {@code false} otherwise
+   */
+  @Override
+  public boolean setPaths(K key, Map<Path2, ?> values) {
+    if (values.isEmpty()) {
+      return true;
+    }
+    byte[] rawKey = key.toString().getBytes();
+    if (connectionFactory != null) {
+      RedisConnection connection = RedisConnectionUtils.getConnection(connectionFactory);
+      try {
+        if (connection.isQueueing()) {
+          values.forEach((path, value) -> {
+            if (value == null) {
+              connection.execute("JSON.DEL", rawKey, path.toString().getBytes());
+            } else {
+              connection.execute("JSON.SET", rawKey, path.toString().getBytes(), serializers.toJsonBytes(value));
+            }
+          });
+          return true;
+        }
+      } finally {
+        RedisConnectionUtils.releaseConnection(connection, connectionFactory);
+      }
+    }
+
+    Optional<Jedis> maybeJedis = client.getJedis();
+    if (maybeJedis.isEmpty()) {
+      try {
+        values.forEach((path, value) -> {
+          if (value == null) {
+            client.clientForJSON().jsonDel(key.toString(), path);
+          } else {
+            client.clientForJSON().jsonSet(key.toString(), path, serializers.toJsonBytes(value));
+          }
+        });
+        return true;
+      } catch (JedisDataException e) {
+        return false;
+      }
+    }
+
+    try (Jedis jedis = maybeJedis.get()) {
+      Pipeline pipeline = jedis.pipelined();
+      values.forEach((path, value) -> {
+        if (value == null) {
+          pipeline.jsonDel(key.toString(), path);
+        } else {
+          pipeline.jsonSet(key.toString(), path, serializers.toJsonBytes(value));
+        }
+      });
+      return pipeline.syncAndReturnAll().stream().noneMatch(JedisDataException.class::isInstance);
+    }
   }
 
   /**
@@ -319,13 +403,13 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
   @Override
   public <T> List<T> arrPop(K key, Class<T> clazz, Path2 path, Integer index) {
     return client.clientForJSON().jsonArrPop(key.toString(), path, index).stream().map(Object::toString).map(
-        str -> getGson().fromJson(str, clazz)).toList();
+        str -> serializers.fromJson(str, clazz)).toList();
   }
 
   @Override
   public <T> List<T> arrPop(K key, Class<T> clazz, Path2 path) {
-    return client.clientForJSON().jsonArrPop(key.toString(), path).stream().map(Object::toString).map(str -> getGson()
-        .fromJson(str, clazz)).toList();
+    return client.clientForJSON().jsonArrPop(key.toString(), path).stream().map(Object::toString).map(
+        str -> serializers.fromJson(str, clazz)).toList();
   }
 
   @Override
@@ -382,22 +466,10 @@ public class JSONOperationsImpl<K> implements JSONOperations<K> {
         case "Long[]" -> (T) jsonArray.toList().stream().map(e -> Long.valueOf(e.toString())).toArray(Long[]::new);
         case "Double" -> (T) Double.valueOf(element);
         case "Boolean" -> (T) Boolean.valueOf(element);
-        default -> getGson().fromJson(element, clazz);
+        default -> serializers.fromJson(element, clazz);
       };
     } else {
       return null;
     }
   }
-
-  /**
-   * Gets the Gson instance, creating it lazily if needed.
-   *
-   * @return the Gson instance for JSON serialization/deserialization
-   */
-  private Gson getGson() {
-    if (gson == null) {
-      gson = builder.create();
-    }
-    return gson;
-  }
 }
\ No newline at end of file
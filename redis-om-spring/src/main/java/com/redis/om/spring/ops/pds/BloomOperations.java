@@ -93,6 +93,19 @@ public interface BloomOperations<K> {
    */
   List<Boolean> existsMulti(K name, String... values);
 
+  /**
+   * Performs an incremental dump scan of the Bloom filter.
+   * <p>
+   * The first call, with an iterator of 0, returns the filter's header. Each following
+   * call returns the next chunk of the filter's bits, until the returned iterator is 0.
+   * </p>
+   *
+   * @param name     the name of the filter
+   * @param iterator the scan cursor (0 to start, or value from previous scan)
+   * @return a map entry containing the next iterator position and chunk data
+   */
+  Map.Entry<Long, byte[]> scanDump(K name, long iterator);
+
   /**
    * Get information about the filter
    *
@@ -67,6 +67,11 @@ public class BloomOperationsImpl<K> implements BloomOperations<K> {
     return client.clientForBloom().bfMExists(name.toString(), values);
   }
 
+  @Override
+  public Map.Entry<Long, byte[]> scanDump(K name, long iterator) {
+    return client.clientForBloom().bfScanDump(name.toString(), iterator);
+  }
+
   @Override
   public Map<String, Object> info(K name) {
     return client.clientForBloom().bfInfo(name.toString());
@@ -12,6 +12,7 @@ import com.redis.om.spring.autocomplete.Suggestion;
 import com.redis.om.spring.client.RedisModulesClient;
 import com.redis.om.spring.ops.CommandListener;
 import com.redis.om.spring.repository.query.autocomplete.AutoCompleteOptions;
+import com.redis.om.spring.serialization.DocumentSerializers;
 
 import redis.clients.jedis.resps.Tuple;
 import redis.clients.jedis.search.*;
@@ -252,7 +253,7 @@ public class SearchOperationsImpl<K> implements SearchOperations<K> {
   @Override
   public List<Suggestion> getSuggestion(String key, String prefix, AutoCompleteOptions options) {
     commandListener.getSuggestionStarted(index.toString(), key, prefix, options);
-    Gson gson = modulesClient.gsonBuilder().create();
+    Gson gson = DocumentSerializers.of(modulesClient.gsonBuilder()).getGson();
 
     if (options.isWithScore()) {
       List<Tuple> suggestions = search.ftSugGetWithScores(key, prefix, options.isFuzzy(), options.getLimit());
@@ -0,0 +1,16 @@
+package com.redis.om.spring.repository;
+
+import java.util.List;
+
+/**
+ * The entities read by identifier, along with the identifiers that have no entity.
+ *
+ * @param entities   the entities that exist, in the order of their identifiers
+ * @param missingIds the requested identifiers that have no entity, in the order they were requested
+ * @param <T>        the entity type
+ * @param <ID>       the identifier type
+ * @see RedisDocumentRepository#findAllByIdReporting(Iterable)
+ * @since 2.0.7
+ */
+public record FoundEntities<T, ID>(List<T> entities, List<ID> missingIds) {
+}
@@ -1,7 +1,11 @@
 package com.redis.om.spring.repository;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
@@ -11,6 +15,7 @@ import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 
 import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.repository.support.WriteBehindBuffer;
 
 import redis.clients.jedis.json.Path2;
 
@@ -56,6 +61,35 @@ public interface RedisDocumentRepository<T, ID> extends KeyValueRepository<T, ID
    */
   Page<ID> getIds(Pageable pageable);
 
+  /**
+   * Retrieves the entities with the given identifiers, like {@code findAllById}, and reports
+   * the identifiers that have no entity instead of silently leaving them out.
+   * <p>
+   * The documents are read with {@code JSON.MGET}, in chunks of
+   * {@code redis.om.spring.repository.mget-batch-size} keys of which up to
+   * {@code redis.om.spring.repository.mget-parallelism} are read at the same time. The
+   * missing identifiers are also logged at debug level.
+   *
+   * @param ids the identifiers of the entities
+   * @return the entities found, in the order of their identifiers, and the missing identifiers
+   */
+  FoundEntities<T, ID> findAllByIdReporting(Iterable<ID> ids);
+
+  /**
+   * Returns a lazy stream of all the entities of the repository's keyspace, without using
+   * the search index.
+   * <p>
+   * The keyspace is walked with {@code SCAN}, {@code redis.om.spring.repository.bulk-key-batch-size}
+   * keys at a time, and the entities of each page are read with {@code JSON.MGET} as the stream is
+   * consumed, so memory use is bounded by the page size. In cluster mode, the primary nodes
+   * are scanned in parallel and a page is read with one {@code JSON.MGET} per hash slot.
+   * Entities pending in the write-behind buffer are flushed first. Entities saved or deleted
+   * while the stream is consumed may or may not be included.
+   *
+   * @return the entities of the keyspace
+   */
+  Stream<T> streamAll();
+
   /**
    * Deletes a specific field or nested structure within a JSON document
    * identified by the given ID using a JSONPath expression.
@@ -125,6 +159,43 @@ public interface RedisDocumentRepository<T, ID> extends KeyValueRepository<T, ID
    */
   boolean setExpiration(ID id, Long expiration, TimeUnit timeUnit);
 
+  /**
+   * Checks which of the given entities exist in Redis.
+   * <p>
+   * The {@code EXISTS} commands are pipelined in chunks of
+   * {@code redis.om.spring.repository.bulk-key-batch-size} keys, so checking many
+   * identifiers takes a handful of round trips instead of one per identifier.
+   *
+   * @param ids the identifiers of the entities
+   * @return a map from each identifier to whether its entity exists, in iteration order
+   */
+  Map<ID, Boolean> existsAllById(Iterable<ID> ids);
+
+  /**
+   * Retrieves the expiration time (TTL) for several entities in seconds.
+   * <p>
+   * The {@code TTL} commands are pipelined in chunks of
+   * {@code redis.om.spring.repository.bulk-key-batch-size} keys.
+   *
+   * @param ids the identifiers of the entities
+   * @return a map from each identifier to its TTL in seconds, -1 if no expiration is set,
+   *         -2 if the entity doesn't exist, in iteration order
+   */
+  Map<ID, Long> getExpirationAll(Iterable<ID> ids);
+
+  /**
+   * Sets the same expiration time (TTL) for several entities.
+   * <p>
+   * The {@code PEXPIRE} commands are pipelined in chunks of
+   * {@code redis.om.spring.repository.bulk-key-batch-size} keys.
+   *
+   * @param ids        the identifiers of the entities
+   * @param expiration the expiration duration
+   * @param timeUnit   the time unit for the expiration duration
+   * @return the number of entities whose expiration was set
+   */
+  long setExpirationAll(Iterable<ID> ids, Long expiration, TimeUnit timeUnit);
+
   /**
    * Loads entities in bulk from a file.
    * <p>
@@ -140,6 +211,36 @@ public interface RedisDocumentRepository<T, ID> extends KeyValueRepository<T, ID
    */
   Iterable<T> bulkLoad(String file) throws IOException;
 
+  /**
+   * Exports all documents of the repository's keyspace to a file, as newline-delimited
+   * JSON (one document per line).
+   * <p>
+   * The file is created or truncated. When its name ends with {@code .gz}, it is written
+   * gzip-compressed. See {@link #exportTo(OutputStream)} for how documents are read.
+   *
+   * @param file the file to write
+   * @return the number of documents written
+   * @throws IOException if the file cannot be written
+   */
+  long exportTo(Path file) throws IOException;
+
+  /**
+   * Exports all documents of the repository's keyspace to a stream, as newline-delimited
+   * JSON (one document per line).
+   * <p>
+   * Keys are read with {@code SCAN}, and the documents of each page of keys with one
+   * {@code JSON.MGET}, in pages of {@code redis.om.spring.repository.bulk-key-batch-size}
+   * keys. In cluster mode, the primary nodes are scanned in parallel and a page is read with
+   * one pipelined {@code JSON.MGET} per hash slot. Documents are written as stored, without
+   * being converted to entities. Entities pending in the write-behind buffer are flushed
+   * first. The stream is flushed but not closed.
+   *
+   * @param out the stream to write to
+   * @return the number of documents written
+   * @throws IOException if the stream cannot be written
+   */
+  long exportTo(OutputStream out) throws IOException;
+
   /**
    * Updates an existing entity in the repository.
    * <p>
@@ -211,4 +312,28 @@ public interface RedisDocumentRepository<T, ID> extends KeyValueRepository<T, ID
    * @throws IllegalArgumentException if the entity is null or has no identifier
    */
   String getKeyFor(T entity);
+
+  // Write-behind
+
+  /**
+   * Writes all entities buffered by the write-behind mode to Redis.
+   * <p>
+   * When write-behind saves are enabled for the managed entity type (see
+   * {@code redis.om.spring.repository.write-behind.*}), {@code save} only buffers the
+   * entity and a background flusher persists it later. This method acts as a barrier:
+   * every entity saved before the call has been written when it returns. It is a no-op
+   * when write-behind saves are disabled.
+   *
+   * @throws RuntimeException if writing the buffered entities fails
+   */
+  void flush();
+
+  /**
+   * Registers a listener notified each time the write-behind buffer writes a chunk of
+   * entities to Redis.
+   *
+   * @param listener the listener to register
+   * @throws IllegalStateException if write-behind saves are not enabled for the managed entity type
+   */
+  void addFlushListener(WriteBehindBuffer.FlushListener<T> listener);
 }
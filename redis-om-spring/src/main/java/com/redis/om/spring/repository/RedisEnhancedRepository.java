@@ -1,6 +1,8 @@
 package com.redis.om.spring.repository;
 
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
@@ -10,6 +12,7 @@ import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 
 import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.repository.support.WriteBehindBuffer;
 
 /**
  * Enhanced Redis repository interface that provides advanced functionality for entities
@@ -56,6 +59,20 @@ public interface RedisEnhancedRepository<T, ID> extends KeyValueRepository<T, ID
    */
   Page<ID> getIds(Pageable pageable);
 
+  /**
+   * Returns a lazy stream of all the entities of the repository's keyspace, without using
+   * the search index.
+   * <p>
+   * The keyspace is walked with {@code SCAN}, {@code redis.om.spring.repository.bulk-key-batch-size}
+   * keys at a time, and the entities of each page are read with pipelined {@code HGETALL}s as the stream is
+   * consumed, so memory use is bounded by the page size. In cluster mode, the primary nodes
+   * are scanned in parallel. Entities pending in the write-behind buffer are flushed first. Entities saved or deleted while the stream is
+   * consumed may or may not be included.
+   *
+   * @return the entities of the keyspace
+   */
+  Stream<T> streamAll();
+
   /**
    * Updates a specific field of an entity without loading or modifying other fields.
    * <p>
@@ -112,6 +129,43 @@ public interface RedisEnhancedRepository<T, ID> extends KeyValueRepository<T, ID
    */
   boolean setExpiration(ID id, Long expiration, TimeUnit timeUnit);
 
+  /**
+   * Checks which of the given entities exist in Redis.
+   * <p>
+   * The {@code EXISTS} commands are pipelined in chunks of
+   * {@code redis.om.spring.repository.bulk-key-batch-size} keys, so checking many
+   * identifiers takes a handful of round trips instead of one per identifier.
+   *
+   * @param ids the identifiers of the entities
+   * @return a map from each identifier to whether its entity exists, in iteration order
+   */
+  Map<ID, Boolean> existsAllById(Iterable<ID> ids);
+
+  /**
+   * Retrieves the expiration time (TTL) for several entities in seconds.
+   * <p>
+   * The {@code TTL} commands are pipelined in chunks of
+   * {@code redis.om.spring.repository.bulk-key-batch-size} keys.
+   *
+   * @param ids the identifiers of the entities
+   * @return a map from each identifier to its TTL in seconds, -1 if no expiration is set,
+   *         -2 if the entity doesn't exist, in iteration order
+   */
+  Map<ID, Long> getExpirationAll(Iterable<ID> ids);
+
+  /**
+   * Sets the same expiration time (TTL) for several entities.
+   * <p>
+   * The {@code PEXPIRE} commands are pipelined in chunks of
+   * {@code redis.om.spring.repository.bulk-key-batch-size} keys.
+   *
+   * @param ids        the identifiers of the entities
+   * @param expiration the expiration duration
+   * @param timeUnit   the time unit for the expiration duration
+   * @return the number of entities whose expiration was set
+   */
+  long setExpirationAll(Iterable<ID> ids, Long expiration, TimeUnit timeUnit);
+
   /**
    * Returns the Redis keyspace (key prefix) used by this repository.
    * <p>
@@ -167,4 +221,28 @@ public interface RedisEnhancedRepository<T, ID> extends KeyValueRepository<T, ID
    * @throws IllegalArgumentException if the entity is null or has no valid identifier
    */
   String getKeyFor(T entity);
+
+  // Write-behind
+
+  /**
+   * Writes all entities buffered by the write-behind mode to Redis.
+   * <p>
+   * When write-behind saves are enabled for the managed entity type (see
+   * {@code redis.om.spring.repository.write-behind.*}), {@code save} only buffers the
+   * entity and a background flusher persists it later. This method acts as a barrier:
+   * every entity saved before the call has been written when it returns. It is a no-op
+   * when write-behind saves are disabled.
+   *
+   * @throws RuntimeException if writing the buffered entities fails
+   */
+  void flush();
+
+  /**
+   * Registers a listener notified each time the write-behind buffer writes a chunk of
+   * entities to Redis.
+   *
+   * @param listener the listener to register
+   * @throws IllegalStateException if write-behind saves are not enabled for the managed entity type
+   */
+  void addFlushListener(WriteBehindBuffer.FlushListener<T> listener);
 }
@@ -14,9 +14,15 @@ import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.core.PropertyPath;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
 import org.springframework.data.geo.Point;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -41,6 +47,9 @@ import com.redis.om.spring.repository.query.clause.QueryClause;
 import com.redis.om.spring.repository.query.lexicographic.LexicographicQueryExecutor;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
 import com.redis.om.spring.search.stream.SearchStream;
+import com.redis.om.spring.serialization.DocumentSerializers;
+import com.redis.om.spring.serialization.gson.ReferencePrefetch;
+import com.redis.om.spring.util.CompactKeyNames;
 import com.redis.om.spring.util.ObjectUtils;
 
 import redis.clients.jedis.search.FieldName;
@@ -134,7 +143,6 @@ public class RediSearchQuery extends AbstractRedisQuery {
   private final GsonBuilder gsonBuilder;
   private final LexicographicQueryExecutor lexicographicQueryExecutor;
   private boolean isMapContainsQuery;
-  private Gson gson;
 
   /**
    * Creates a new RediSearchQuery instance for the given repository method.
@@ -160,7 +168,7 @@ public class RediSearchQuery extends AbstractRedisQuery {
 
     this.gsonBuilder = gsonBuilder;
     this.lexicographicQueryExecutor = new LexicographicQueryExecutor(this, (RedisModulesOperations<String>) rmo,
-        indexer);
+        indexer, redisOMProperties);
 
     // Only detect nested MapContains patterns (e.g., positionsMapContainsCusip)
     // Simple MapContains (e.g., stringValuesMapContains) should use normal processing
@@ -374,6 +382,12 @@ public class RediSearchQuery extends AbstractRedisQuery {
       }
     }
 
+    if (allLexicographic && lexicographicQueryExecutor.isRangeQuery(queryOrParts) && isLexicographicRangeRead(
+        accessor)) {
+      logger.debug("Reading lexicographic range from sorted set");
+      return processor.processResult(executeLexicographicRange(parameters, accessor));
+    }
+
     String preparedQuery;
     if (allLexicographic && !queryOrParts.isEmpty()) {
       logger.debug("Processing as lexicographic query");
@@ -398,7 +412,7 @@ public class RediSearchQuery extends AbstractRedisQuery {
 
     if (canPerformQueryOptimization) {
       query.returnFields(returnedType.getInputProperties().stream().map(inputProperty -> new FieldName(
-          "$." + inputProperty, inputProperty)).toArray(FieldName[]::new));
+          "$." + storedName(inputProperty), inputProperty)).toArray(FieldName[]::new));
     } else {
       query.returnFields(returnFields);
     }
@@ -480,7 +494,7 @@ public class RediSearchQuery extends AbstractRedisQuery {
     } else if (queryMethod.getReturnedObjectType() == SearchResult.class) {
       result = searchResult;
     } else if (queryMethod.isPageQuery()) {
-      List<Object> content = searchResult.getDocuments().stream().map(this::parseDocumentResult).toList();
+      List<Object> content = parseDocumentResults(searchResult.getDocuments());
       if (maybePageable.isPresent()) {
         Pageable pageable = maybePageable.get();
         result = new PageImpl<>(content, pageable, searchResult.getTotalResults());
@@ -491,12 +505,88 @@ public class RediSearchQuery extends AbstractRedisQuery {
         result = parseDocumentResult(doc);
       }
     } else if ((queryMethod.isCollectionQuery()) || this.type == RediSearchQueryType.DELETE) {
-      result = searchResult.getDocuments().stream().map(this::parseDocumentResult).toList();
+      result = parseDocumentResults(searchResult.getDocuments());
     }
 
     return processor.processResult(result);
   }
 
+  /**
+   * Returns whether a lexicographic range query returns entities, or projections of
+   * entities, in the order of the field, so that it can be read page by page from the
+   * sorted set of the field instead of being turned into an ID filter for RediSearch.
+   */
+  private boolean isLexicographicRangeRead(ParameterAccessor accessor) {
+    Class<?> returnedType = queryMethod.getReturnedObjectType();
+    if (this.type == RediSearchQueryType.DELETE || returnedType == SearchResult.class || SearchStream.class
+        .isAssignableFrom(returnedType) || returnedType == boolean.class || returnedType == Boolean.class) {
+      return false;
+    }
+    if (queryMethod.isStreamQuery() || (sortBy != null && !sortBy.isBlank()) || accessor.getSort().isSorted()) {
+      return false;
+    }
+    return queryMethod.isPageQuery() || queryMethod.isSliceQuery() || queryMethod.isScrollQuery() || queryMethod
+        .isCollectionQuery() || ClassUtils.isAssignable(domainType, returnedType) || queryMethod.getResultProcessor()
+            .getReturnedType().isProjecting();
+  }
+
+  /**
+   * Reads the entities of a lexicographic range query from the sorted set of its field,
+   * one {@code ZRANGE ... BYLEX LIMIT} and {@code JSON.MGET} per page, as a page, a slice,
+   * a window, a list or a single entity.
+   */
+  private Object executeLexicographicRange(Object[] parameters, ParameterAccessor accessor) {
+    int defaultLimit = redisOMProperties.getRepository().getQuery().getLimit();
+
+    if (queryMethod.isPageQuery() || queryMethod.isSliceQuery()) {
+      Pageable pageable = accessor.getPageable();
+      long pageOffset = pageable.isPaged() ? pageable.getOffset() : 0;
+      int pageSize = pageable.isPaged() ? pageable.getPageSize() : defaultLimit;
+      LexicographicQueryExecutor.RangePage<?> page = lexicographicQueryExecutor.findRange(queryOrParts, parameters,
+          domainType, null, pageOffset, pageSize);
+      if (queryMethod.isPageQuery()) {
+        return new PageImpl<>(page.content(), pageable, lexicographicQueryExecutor.countRange(queryOrParts,
+            parameters, domainType));
+      }
+      return new SliceImpl<>(page.content(), pageable, page.hasNext());
+    }
+
+    Limit maxResults = accessor.getLimit();
+    int count = maxResults.isLimited() ?
+        maxResults.max() :
+        (limit != null && limit > 0 ? limit : defaultLimit);
+
+    if (queryMethod.isScrollQuery()) {
+      ScrollPosition position = accessor.getScrollPosition();
+      if (position instanceof KeysetScrollPosition keyset) {
+        if (keyset.scrollsBackward()) {
+          throw new IllegalArgumentException("Lexicographic range queries only scroll forward");
+        }
+        String after = keyset.isInitial() ?
+            null :
+            (String) keyset.getKeys().get(LexicographicQueryExecutor.MEMBER_POSITION_KEY);
+        LexicographicQueryExecutor.RangePage<?> page = lexicographicQueryExecutor.findRange(queryOrParts, parameters,
+            domainType, after, 0, count);
+        return Window.from(page.content(), index -> ScrollPosition.forward(Map.of(
+            LexicographicQueryExecutor.MEMBER_POSITION_KEY, page.members().get(index))), page.hasNext());
+      }
+      long start = position instanceof OffsetScrollPosition offsetPosition && !offsetPosition.isInitial() ?
+          offsetPosition.getOffset() + 1 :
+          0;
+      LexicographicQueryExecutor.RangePage<?> page = lexicographicQueryExecutor.findRange(queryOrParts, parameters,
+          domainType, null, start, count);
+      return Window.from(page.content(), index -> ScrollPosition.offset(start + index), page.hasNext());
+    }
+
+    long start = offset != null && offset > 0 ? offset : 0;
+    if (!queryMethod.isCollectionQuery()) {
+      List<?> content = lexicographicQueryExecutor.findRange(queryOrParts, parameters, domainType, null, start, 1)
+          .content();
+      return content.isEmpty() ? null : content.get(0);
+    }
+    return lexicographicQueryExecutor.findRange(queryOrParts, parameters, domainType, null, start, count).content();
+  }
+
   @Override
   protected Object executeDeleteQuery(Object[] parameters) {
     String indexName = indexer.getIndexName(this.domainType);
@@ -724,6 +814,12 @@ public class RediSearchQuery extends AbstractRedisQuery {
   // RSQ-specific helpers
   // ---------------------------------------------------------------------------
 
+  private List<Object> parseDocumentResults(List<redis.clients.jedis.search.Document> documents) {
+    return ReferencePrefetch.resolving(domainType, ReferencePrefetch.rootDocuments(documents), modulesOperations
+        .opsForJSON()::mgetAligned, DocumentSerializers.of(gsonBuilder)::isReferenceCached, () -> documents.stream()
+            .map(this::parseDocumentResult).toList());
+  }
+
   private Object parseDocumentResult(redis.clients.jedis.search.Document doc) {
     if (doc == null) {
       return null;
@@ -795,10 +891,12 @@ public class RediSearchQuery extends AbstractRedisQuery {
   }
 
   private Gson getGson() {
-    if (gson == null) {
-      gson = gsonBuilder.create();
-    }
-    return gson;
+    return DocumentSerializers.of(gsonBuilder).getGson();
+  }
+
+  private String storedName(String property) {
+    Field field = ReflectionUtils.findField(domainType, property);
+    return field != null ? CompactKeyNames.storedName(field) : property;
   }
 
   private void processMapContainsQuery(String methodName) {
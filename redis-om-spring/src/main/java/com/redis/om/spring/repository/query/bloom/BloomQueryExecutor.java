@@ -10,9 +10,11 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.ReflectionUtils;
 
 import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.bloom.BloomFilterReplicas;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.pds.BloomOperations;
 import com.redis.om.spring.util.ObjectUtils;
+import com.redis.om.spring.util.SpringContext;
 
 /**
  * Query executor for Redis Bloom filter operations in repository methods.
@@ -49,6 +51,9 @@ public class BloomQueryExecutor {
   /** Redis modules operations for executing Bloom filter commands */
   final RedisModulesOperations<String> modulesOperations;
 
+  /** Whether the target field keeps a local copy of its filter */
+  private volatile boolean localReplica;
+
   /**
    * Constructs a new BloomQueryExecutor for the specified query.
    * 
@@ -83,6 +88,7 @@ public class BloomQueryExecutor {
         }
         if (field.isAnnotationPresent(Bloom.class)) {
           Bloom bloom = field.getAnnotation(Bloom.class);
+          localReplica = bloom.localReplica();
           return Optional.of(!org.apache.commons.lang3.ObjectUtils.isEmpty(bloom.name()) ?
               bloom.name() :
               String.format("bf:%s:%s", entityClass.getSimpleName(), field.getName()));
@@ -96,7 +102,9 @@ public class BloomQueryExecutor {
 
   /**
    * Executes the Bloom filter existence query with the given parameters.
-   * This method checks if the specified value exists in the Bloom filter.
+   * This method checks if the specified value exists in the Bloom filter. When the field
+   * enables {@link Bloom#localReplica()} and the local copy is loaded, the check is answered
+   * in-process without a round trip to Redis.
    * 
    * @param parameters  the query parameters (the value to check for existence)
    * @param bloomFilter the Redis key for the Bloom filter
@@ -105,7 +113,14 @@ public class BloomQueryExecutor {
    */
   public Object executeBloomQuery(Object[] parameters, String bloomFilter) {
     logger.debug(String.format("filter:%s, params:%s", bloomFilter, Arrays.toString(parameters)));
+    String value = parameters[0].toString();
+    if (localReplica) {
+      Optional<Boolean> local = SpringContext.getBean(BloomFilterReplicas.class).mightContain(bloomFilter, value);
+      if (local.isPresent()) {
+        return local.get();
+      }
+    }
     BloomOperations<String> ops = modulesOperations.opsForBloom();
-    return ops.exists(bloomFilter, parameters[0].toString());
+    return ops.exists(bloomFilter, value);
   }
 }
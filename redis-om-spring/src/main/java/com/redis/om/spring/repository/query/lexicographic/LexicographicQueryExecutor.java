@@ -9,19 +9,32 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.connection.Limit;
 import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 
+import com.google.common.collect.Lists;
+import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.annotations.Indexed;
 import com.redis.om.spring.annotations.Searchable;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.repository.query.RediSearchQuery;
 import com.redis.om.spring.repository.query.clause.QueryClause;
+import com.redis.om.spring.serialization.DocumentSerializers;
+import com.redis.om.spring.serialization.gson.ReferencePrefetch;
 
 /**
  * Executes lexicographic queries for repository methods.
  * This executor handles GreaterThan, LessThan, Between operations on fields
  * that have been marked with lexicographic=true.
+ * <p>
+ * Queries made of a single lexicographic condition are read straight from the sorted set
+ * of the field with {@link #findRange}: one {@code ZRANGE ... BYLEX LIMIT offset count}
+ * per page, continuing from the last member read for keyset scrolling, followed by a
+ * {@code JSON.MGET} of the entities of the page. Other queries are turned into an ID
+ * filter for RediSearch by {@link #processLexicographicQuery}.
+ * </p>
  */
 public class LexicographicQueryExecutor {
   private static final Log logger = LogFactory.getLog(LexicographicQueryExecutor.class);
@@ -34,9 +47,15 @@ public class LexicographicQueryExecutor {
       QueryClause.TEXT_BETWEEN, QueryClause.TAG_GREATER_THAN, QueryClause.TAG_LESS_THAN,
       QueryClause.TAG_GREATER_THAN_EQUAL, QueryClause.TAG_LESS_THAN_EQUAL, QueryClause.TAG_BETWEEN);
 
+  /**
+   * The key of the sorted set member in the keyset scroll positions of range queries.
+   */
+  public static final String MEMBER_POSITION_KEY = "member";
+
   private final RediSearchQuery rediSearchQuery;
   private final RedisModulesOperations<String> modulesOperations;
   private final RediSearchIndexer indexer;
+  private final int mgetBatchSize;
 
   /**
    * Creates a new LexicographicQueryExecutor with the specified dependencies.
@@ -47,9 +66,127 @@ public class LexicographicQueryExecutor {
    */
   public LexicographicQueryExecutor(RediSearchQuery rediSearchQuery, RedisModulesOperations<String> modulesOperations,
       RediSearchIndexer indexer) {
+    this(rediSearchQuery, modulesOperations, indexer, new RedisOMProperties());
+  }
+
+  /**
+   * Creates a new LexicographicQueryExecutor with the specified dependencies.
+   *
+   * @param rediSearchQuery   the RediSearch query being executed
+   * @param modulesOperations the Redis modules operations for executing commands
+   * @param indexer           the RediSearch indexer for accessing field metadata
+   * @param properties        the Redis OM properties, for the size of the {@code JSON.MGET} batches
+   */
+  public LexicographicQueryExecutor(RediSearchQuery rediSearchQuery, RedisModulesOperations<String> modulesOperations,
+      RediSearchIndexer indexer, RedisOMProperties properties) {
     this.rediSearchQuery = rediSearchQuery;
     this.modulesOperations = modulesOperations;
     this.indexer = indexer;
+    this.mgetBatchSize = properties.getRepository().getMgetBatchSize();
+  }
+
+  /**
+   * A page of the entities matching a lexicographic range, in the order of the field.
+   *
+   * @param content the entities of the page; entities deleted since their member was
+   *                written are left out
+   * @param members the sorted set member of each entity of the content
+   * @param hasNext whether more members follow the page
+   * @param <T>     the type of the entities
+   */
+  public record RangePage<T>(List<T> content, List<String> members, boolean hasNext) {
+  }
+
+  /**
+   * Returns whether a query is made of a single lexicographic condition, and can
+   * therefore be read page by page from the sorted set of its field.
+   *
+   * @param queryOrParts the query parts
+   * @return true if the query can be executed with {@link #findRange}
+   */
+  public boolean isRangeQuery(List<List<Pair<String, QueryClause>>> queryOrParts) {
+    return queryOrParts.size() == 1 && queryOrParts.get(0).size() == 1 && isLexicographicQuery(queryOrParts.get(0)
+        .get(0).getSecond());
+  }
+
+  /**
+   * Reads a page of the entities matching a {@link #isRangeQuery single lexicographic
+   * condition}, in the order of the field, with one {@code ZRANGE ... BYLEX LIMIT} and
+   * {@code JSON.MGET}s of at most {@code mgetBatchSize} keys.
+   *
+   * @param queryOrParts the query parts
+   * @param parameters   the method parameters
+   * @param domainType   the entity type
+   * @param afterMember  the member the page starts after, for keyset scrolling, or
+   *                     {@code null} to start at the beginning of the range
+   * @param offset       the number of members to skip
+   * @param count        the maximum number of members of the page
+   * @param <T>          the type of the entities
+   * @return the page of entities
+   */
+  public <T> RangePage<T> findRange(List<List<Pair<String, QueryClause>>> queryOrParts, Object[] parameters,
+      Class<T> domainType, @Nullable String afterMember, long offset, int count) {
+    Pair<String, QueryClause> condition = queryOrParts.get(0).get(0);
+    String sortedSetKey = getSortedSetKey(condition.getFirst(), domainType);
+    Range<String> range = getRange(condition.getSecond(), parameters);
+    if (sortedSetKey == null || range == null || count <= 0) {
+      return new RangePage<>(List.of(), List.of(), false);
+    }
+    if (afterMember != null) {
+      range = Range.of(Range.Bound.exclusive(afterMember), range.getUpperBound());
+    }
+
+    // Read one more member than needed to know whether another page follows
+    List<String> members = new ArrayList<>(modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, range,
+        Limit.limit().offset(Math.toIntExact(offset)).count(count + 1)));
+    boolean hasNext = members.size() > count;
+    if (hasNext) {
+      members = members.subList(0, count);
+    }
+    logger.debug(String.format("ZRANGE %s BYLEX %s LIMIT %d %d returned %d members", sortedSetKey, range, offset,
+        count + 1, members.size()));
+
+    String entityPrefix = indexer.getKeyspaceForEntityClass(domainType);
+    JSONOperations<String> json = modulesOperations.opsForJSON();
+    DocumentSerializers serializers = DocumentSerializers.of(modulesOperations.gsonBuilder());
+    List<T> content = new ArrayList<>(members.size());
+    List<String> found = new ArrayList<>(members.size());
+    for (List<String> chunk : Lists.partition(members, mgetBatchSize)) {
+      List<String> documents = json.mgetAligned(chunk.stream().map(member -> entityPrefix + idOf(member)).toArray(
+          String[]::new));
+      List<String> present = new ArrayList<>(chunk.size());
+      for (int i = 0; i < chunk.size(); i++) {
+        if (documents.get(i) != null) {
+          found.add(chunk.get(i));
+          present.add(documents.get(i));
+        }
+      }
+      content.addAll(ReferencePrefetch.resolving(domainType, present.stream(), json::mgetAligned,
+          serializers::isReferenceCached, () -> present.stream().map(document -> serializers.fromJson(document,
+              domainType)).toList()));
+    }
+    return new RangePage<>(content, found, hasNext);
+  }
+
+  /**
+   * Counts the members matching a {@link #isRangeQuery single lexicographic condition}
+   * with a {@code ZLEXCOUNT}.
+   *
+   * @param queryOrParts the query parts
+   * @param parameters   the method parameters
+   * @param domainType   the entity type
+   * @return the number of entities in the range
+   */
+  public long countRange(List<List<Pair<String, QueryClause>>> queryOrParts, Object[] parameters,
+      Class<?> domainType) {
+    Pair<String, QueryClause> condition = queryOrParts.get(0).get(0);
+    String sortedSetKey = getSortedSetKey(condition.getFirst(), domainType);
+    Range<String> range = getRange(condition.getSecond(), parameters);
+    if (sortedSetKey == null || range == null) {
+      return 0;
+    }
+    Long count = modulesOperations.template().opsForZSet().lexCount(sortedSetKey, range);
+    return count != null ? count : 0;
   }
 
   /**
@@ -135,11 +272,36 @@ public class LexicographicQueryExecutor {
       Class<?> domainType) {
     logger.debug(String.format("Executing lexicographic query for field: %s, queryClause: %s", fieldName, queryClause));
 
+    String sortedSetKey = getSortedSetKey(fieldName, domainType);
+    Range<String> range = getRange(queryClause, params);
+    if (sortedSetKey == null || range == null) {
+      return Collections.emptySet();
+    }
+
+    // Execute the range query
+    Set<String> matches = modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, range, Limit
+        .unlimited());
+    logger.debug(String.format("ZRANGEBYLEX %s %s returned %d matches", sortedSetKey, range, matches.size()));
+
+    // Extract entity IDs from matches
+    Set<String> result = matches.stream().map(LexicographicQueryExecutor::idOf).filter(Objects::nonNull).collect(
+        Collectors.toSet());
+
+    logger.debug(String.format("Extracted %d entity IDs: %s", result.size(), result));
+    return result;
+  }
+
+  /**
+   * Returns the key of the sorted set of a lexicographic field, or {@code null} if the
+   * field is unknown or not lexicographic.
+   */
+  @Nullable
+  private String getSortedSetKey(String fieldName, Class<?> domainType) {
     // Get the entity prefix
     String entityPrefix = indexer.getKeyspaceForEntityClass(domainType);
     if (entityPrefix == null) {
       logger.debug("Entity prefix is null");
-      return Collections.emptySet();
+      return null;
     }
     logger.debug("Entity prefix: " + entityPrefix);
 
@@ -147,37 +309,29 @@ public class LexicographicQueryExecutor {
     String actualFieldName = getActualFieldName(domainType, fieldName);
     if (actualFieldName == null) {
       logger.debug(String.format("Could not find actual field name for alias: %s", fieldName));
-      return Collections.emptySet();
+      return null;
     }
     logger.debug(String.format("Actual field name: %s", actualFieldName));
 
     // Check if the field has lexicographic=true
     if (!isFieldLexicographic(domainType, actualFieldName)) {
       logger.debug(String.format("Field %s is not lexicographic", actualFieldName));
-      return Collections.emptySet();
+      return null;
     }
 
     // Construct the sorted set key
     String sortedSetKey = entityPrefix + actualFieldName + ":lex";
     logger.debug(String.format("Sorted set key: %s", sortedSetKey));
-
-    // Execute the appropriate range query
-    Set<String> matches = executeRangeQuery(sortedSetKey, queryClause, params);
-    logger.debug(String.format("Range query returned %d matches", matches.size()));
-
-    // Extract entity IDs from matches
-    Set<String> result = matches.stream().map(match -> {
-      int hashIndex = match.lastIndexOf('#');
-      return hashIndex >= 0 ? match.substring(hashIndex + 1) : null;
-    }).filter(Objects::nonNull).collect(Collectors.toSet());
-
-    logger.debug(String.format("Extracted %d entity IDs: %s", result.size(), result));
-    return result;
+    return sortedSetKey;
   }
 
-  private Set<String> executeRangeQuery(String sortedSetKey, QueryClause queryClause, Object[] params) {
-    logger.debug(String.format("Executing range query on %s with clause %s and param: %s", sortedSetKey, queryClause,
-        params[0]));
+  /**
+   * Returns the range of sorted set members matching a lexicographic clause, or
+   * {@code null} for other clauses. Members are stored as {@code value#id}.
+   */
+  @Nullable
+  private Range<String> getRange(QueryClause queryClause, Object[] params) {
+    logger.debug(String.format("Building range for clause %s and param: %s", queryClause, params[0]));
 
     switch (queryClause) {
       case TEXT_GREATER_THAN:
@@ -185,34 +339,28 @@ public class LexicographicQueryExecutor {
         // When doing greater than, we need to exclude exact matches with the same prefix
         // Since our format is "value#id", we append a high character to ensure we skip all entries with this prefix
         String gtParam = params[0].toString() + "\uffff"; // Unicode max character
-        Set<String> results = modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.rightUnbounded(
-            Range.Bound.exclusive(gtParam)), Limit.unlimited());
-        logger.debug(String.format("ZRANGEBYLEX %s (%s +inf returned: %s", sortedSetKey, gtParam, results));
-        return results;
+        return Range.rightUnbounded(Range.Bound.exclusive(gtParam));
 
       case TEXT_LESS_THAN:
       case TAG_LESS_THAN:
         // For less than, we need to ensure we don't include the value itself
         // Since format is "value#id", we need to get everything before "value#" (excluded)
         String ltParam = params[0].toString() + "#"; // Exclude exact matches with this prefix
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.leftUnbounded(Range.Bound
-            .exclusive(ltParam)), Limit.unlimited());
+        return Range.leftUnbounded(Range.Bound.exclusive(ltParam));
 
       case TEXT_GREATER_THAN_EQUAL:
       case TAG_GREATER_THAN_EQUAL:
         // For greater than or equal, we include the value itself
         // Since format is "value#id", we start from exactly "value#"
         String gteParam = params[0].toString() + "#"; // Include exact matches with this prefix
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.rightUnbounded(Range.Bound
-            .inclusive(gteParam)), Limit.unlimited());
+        return Range.rightUnbounded(Range.Bound.inclusive(gteParam));
 
       case TEXT_LESS_THAN_EQUAL:
       case TAG_LESS_THAN_EQUAL:
         // For less than or equal, we include all values with this prefix
         // Since format is "value#id", we use high unicode char to include all IDs with this value
         String lteParam = params[0].toString() + "\uffff"; // Include all exact matches with this prefix
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.leftUnbounded(Range.Bound
-            .inclusive(lteParam)), Limit.unlimited());
+        return Range.leftUnbounded(Range.Bound.inclusive(lteParam));
 
       case TEXT_BETWEEN:
       case TAG_BETWEEN:
@@ -220,14 +368,19 @@ public class LexicographicQueryExecutor {
         // Start from exactly "minValue#" (inclusive) to "maxValue\uffff" (inclusive of all with maxValue)
         String minParam = params[0].toString() + "#";
         String maxParam = params[1].toString() + "\uffff";
-        return modulesOperations.template().opsForZSet().rangeByLex(sortedSetKey, Range.closed(minParam, maxParam),
-            Limit.unlimited());
+        return Range.closed(minParam, maxParam);
 
       default:
-        return Collections.emptySet();
+        return null;
     }
   }
 
+  @Nullable
+  private static String idOf(String member) {
+    int hashIndex = member.lastIndexOf('#');
+    return hashIndex >= 0 ? member.substring(hashIndex + 1) : null;
+  }
+
   private String getActualFieldName(Class<?> domainType, String fieldAlias) {
     // Try to find the field by alias or name
     for (Field field : domainType.getDeclaredFields()) {
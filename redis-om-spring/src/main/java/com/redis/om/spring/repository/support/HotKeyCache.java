@@ -0,0 +1,274 @@
+package com.redis.om.spring.repository.support;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.redis.om.spring.ops.pds.TopKOperations;
+
+/**
+ * Local cache of the most read entities of a keyspace, as measured across all application
+ * instances.
+ * <p>
+ * Reads are sampled into local counters and sent to a Redis {@code TOPK} structure with
+ * one {@code TOPK.INCRBY} per refresh. Each refresh then pulls the current top-k with
+ * {@code TOPK.LIST}; entities whose keys are in the top-k are cached the next time they
+ * are read. A refresh also empties the cache, so a cached entity is never older than the
+ * refresh interval, whatever instance modified it.
+ * </p>
+ * <p>
+ * The cache holds its own copy of each entity and hands out a new copy on every hit, so
+ * callers may modify what they read. A read that started before an invalidation does not
+ * cache what it loaded, as that may predate the write that caused the invalidation.
+ * </p>
+ *
+ * @param <T> the type of the cached entities
+ * @see com.redis.om.spring.RedisOMProperties.Repository.HotKeys
+ * @since 2.0.7
+ */
+public class HotKeyCache<T> implements AutoCloseable {
+
+  private static final Log logger = LogFactory.getLog(HotKeyCache.class);
+
+  /** The maximum number of distinct keys counted locally between two refreshes. */
+  static final int MAX_SAMPLED_KEYS = 10_000;
+
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "redis-om-hot-keys-" + threadCount.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final TopKOperations<String> ops;
+  private final String topKKey;
+  private final int topK;
+  private final double sampleRate;
+  private final UnaryOperator<T> copier;
+  private final AtomicLong invalidations = new AtomicLong();
+  private final ScheduledFuture<?> refreshTask;
+  private final Map<String, LongAdder> samples = new ConcurrentHashMap<>();
+  private volatile Set<String> hotKeys = Set.of();
+  private volatile Map<String, T> entries = new ConcurrentHashMap<>();
+  private boolean created;
+
+  /**
+   * Creates a new hot-key cache and starts its periodic refresh.
+   *
+   * @param ops             the TopK operations used to share the read counts
+   * @param topKKey         the key of the Redis {@code TOPK} structure
+   * @param topK            the number of hot keys to track and cache
+   * @param refreshInterval the interval, in milliseconds, between two refreshes
+   * @param sampleRate      the fraction of reads that are counted, between 0 and 1
+   * @param copier          returns an independent copy of an entity
+   */
+  public HotKeyCache(TopKOperations<String> ops, String topKKey, int topK, long refreshInterval, double sampleRate,
+      UnaryOperator<T> copier) {
+    Assert.notNull(ops, "TopK operations must not be null");
+    Assert.notNull(copier, "Copier must not be null");
+    Assert.isTrue(topK > 0, "Hot-key top-k must be positive");
+    Assert.isTrue(refreshInterval > 0, "Hot-key refresh interval must be positive");
+    this.ops = ops;
+    this.topKKey = topKKey;
+    this.topK = topK;
+    this.sampleRate = sampleRate;
+    this.copier = copier;
+    this.refreshTask = scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshInterval, refreshInterval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the key of the Redis {@code TOPK} structure tracking the reads of a keyspace.
+   *
+   * @param keyspace the keyspace of the entities, such as {@code company:}
+   * @return the key, {@code topk:<keyspace>hot}
+   */
+  public static String topKKeyFor(String keyspace) {
+    return "topk:" + (keyspace.endsWith(":") ? keyspace : keyspace + ":") + "hot";
+  }
+
+  /**
+   * Returns the entity stored under the given key, from the cache if it is there, or
+   * from the loader otherwise. The read is sampled, and a loaded entity is cached if its
+   * key is currently hot.
+   *
+   * @param key    the Redis key of the entity
+   * @param loader reads the entity from Redis
+   * @return the entity, or empty if it does not exist
+   */
+  public Optional<T> get(String key, Supplier<Optional<T>> loader) {
+    record(key);
+    Map<String, T> current = entries;
+    T cached = current.get(key);
+    if (cached != null) {
+      return Optional.of(copier.apply(cached));
+    }
+    long version = version();
+    Optional<T> loaded = loader.get();
+    loaded.ifPresent(entity -> cache(current, key, entity, version));
+    return loaded;
+  }
+
+  /**
+   * Samples a read of the given key.
+   *
+   * @param key the Redis key of the entity that was read
+   */
+  public void record(String key) {
+    if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+      return;
+    }
+    LongAdder counter = samples.get(key);
+    if (counter == null) {
+      if (samples.size() >= MAX_SAMPLED_KEYS) {
+        return;
+      }
+      counter = samples.computeIfAbsent(key, k -> new LongAdder());
+    }
+    counter.increment();
+  }
+
+  /**
+   * Returns the cached entity stored under the given key, without sampling the read.
+   *
+   * @param key the Redis key of the entity
+   * @return a copy of the cached entity, or {@code null} if it is not cached
+   */
+  @Nullable
+  public T peek(String key) {
+    T cached = entries.get(key);
+    return cached != null ? copier.apply(cached) : null;
+  }
+
+  /**
+   * Returns the current invalidation version, to be read before loading entities that
+   * are then passed to {@link #cache(String, Object, long)}.
+   *
+   * @return the number of invalidations so far
+   */
+  public long version() {
+    return invalidations.get();
+  }
+
+  /**
+   * Caches a copy of an entity that was just read, if its key is currently hot and no
+   * entity was invalidated since the read started.
+   *
+   * @param key     the Redis key of the entity
+   * @param entity  the entity read from Redis
+   * @param version the {@link #version()} read before the entity was
+   */
+  public void cache(String key, T entity, long version) {
+    cache(entries, key, entity, version);
+  }
+
+  /**
+   * Evicts the entity stored under the given key, after it was written or deleted.
+   *
+   * @param key the Redis key of the entity
+   */
+  public void invalidate(String key) {
+    invalidations.incrementAndGet();
+    entries.remove(key);
+  }
+
+  /**
+   * Evicts all cached entities.
+   */
+  public void clear() {
+    invalidations.incrementAndGet();
+    entries.clear();
+  }
+
+  /**
+   * Returns the keys that were hot at the last refresh.
+   *
+   * @return the hot keys
+   */
+  public Set<String> getHotKeys() {
+    return hotKeys;
+  }
+
+  /**
+   * Sends the sampled reads to Redis, pulls the current hot keys and empties the cache.
+   */
+  public void refresh() {
+    Map<String, Long> increments = new HashMap<>();
+    for (String key : samples.keySet()) {
+      LongAdder counter = samples.remove(key);
+      if (counter != null && counter.sum() > 0) {
+        increments.put(key, counter.sum());
+      }
+    }
+
+    if (!created) {
+      try {
+        ops.createFilter(topKKey, topK);
+      } catch (RuntimeException e) {
+        // TOPK.RESERVE fails when the structure already exists
+        logger.debug(String.format("TopK %s already exists", topKKey), e);
+      }
+      created = true;
+    }
+    if (!increments.isEmpty()) {
+      ops.incrementBy(topKKey, increments);
+    }
+
+    Set<String> hot = new HashSet<>();
+    for (String key : ops.list(topKKey)) {
+      if (key != null) {
+        hot.add(key);
+      }
+    }
+    hotKeys = Set.copyOf(hot);
+    entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Stops the periodic refresh and empties the cache.
+   */
+  @Override
+  public void close() {
+    refreshTask.cancel(false);
+    entries.clear();
+  }
+
+  private void cache(Map<String, T> target, String key, T entity, long version) {
+    if (!hotKeys.contains(key) || invalidations.get() != version) {
+      return;
+    }
+    T copy = copier.apply(entity);
+    target.put(key, copy);
+    // an invalidation between the check and the put may have missed the copy
+    if (invalidations.get() != version) {
+      target.remove(key, copy);
+    }
+  }
+
+  private void refreshQuietly() {
+    try {
+      refresh();
+    } catch (RuntimeException e) {
+      logger.warn(String.format("Hot-key refresh of %s failed", topKKey), e);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.redis.om.spring.repository.support;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.redis.om.spring.client.RedisModulesClient;
+
+import redis.clients.jedis.ConnectionPool;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisCluster;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+/**
+ * Iterates over the keys of a keyspace with {@code SCAN MATCH <keyspace>* COUNT n TYPE t},
+ * one page of keys at a time.
+ * <p>
+ * In cluster mode, every primary node is scanned with its own cursor: each page merges the
+ * next page of all the nodes whose scan is not finished, read in parallel. Each page is read
+ * on connections borrowed for that page only, so an abandoned iteration holds no connection.
+ * As with {@code SCAN}, keys present for the whole iteration are returned at least once, and
+ * keys written or deleted meanwhile may or may not be. The primaries are those of the
+ * cluster topology when the scan is created: a failover during the scan fails it.
+ * </p>
+ */
+final class KeyspaceScan implements Iterator<List<String>> {
+  private final List<NodeScan> nodes;
+  private final ScanParams params;
+  private final String type;
+
+  /**
+   * @param client   the client to borrow connections from
+   * @param keyspace the keyspace, i.e. the prefix of the keys to iterate over
+   * @param type     the Redis type of the keys, such as {@code hash} or {@code ReJSON-RL}
+   * @param count    the {@code COUNT} hint of each {@code SCAN}
+   */
+  KeyspaceScan(RedisModulesClient client, String keyspace, String type, int count) {
+    this(client.isCluster() ? primaries(client) : List.of(() -> client.getJedis().orElseThrow(
+        () -> new UnsupportedOperationException("Scanning a keyspace requires a Jedis connection"))), keyspace, type,
+        count);
+  }
+
+  /**
+   * @param nodes    supplies a connection to each node to scan, closed after each page
+   * @param keyspace the keyspace, i.e. the prefix of the keys to iterate over
+   * @param type     the Redis type of the keys
+   * @param count    the {@code COUNT} hint of each {@code SCAN}
+   */
+  KeyspaceScan(List<Supplier<Jedis>> nodes, String keyspace, String type, int count) {
+    this.nodes = nodes.stream().map(NodeScan::new).collect(Collectors.toCollection(ArrayList::new));
+    this.params = new ScanParams().match(escapeGlob(keyspace) + "*").count(count);
+    this.type = type;
+  }
+
+  /**
+   * Returns a lazy stream of the values read from each page of keys. The pages are scanned
+   * as the stream is consumed.
+   *
+   * @param reader reads the values stored at a page of keys
+   * @param <T>    the type of the values
+   * @return the values of all the keys of the keyspace
+   */
+  <T> Stream<T> stream(Function<List<String>, List<T>> reader) {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+        false).filter(keys -> !keys.isEmpty()).flatMap(keys -> reader.apply(keys).stream());
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !nodes.isEmpty();
+  }
+
+  @Override
+  public List<String> next() {
+    if (nodes.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    List<String> keys = ParallelChunks.read(nodes, 1, nodes.size(), node -> node.get(0).scan());
+    nodes.removeIf(NodeScan::isDone);
+    return keys;
+  }
+
+  /**
+   * Finds the primary nodes of the cluster, asking each known node for its role.
+   */
+  private static List<Supplier<Jedis>> primaries(RedisModulesClient client) {
+    JedisCluster cluster = client.getJedisCluster().orElseThrow(() -> new UnsupportedOperationException(
+        "Scanning a keyspace requires a JedisCluster connection in cluster mode"));
+    List<Supplier<Jedis>> primaries = new ArrayList<>();
+    for (ConnectionPool pool : cluster.getClusterNodes().values()) {
+      try (Jedis jedis = new Jedis(pool.getResource())) {
+        if ("master".equals(jedis.role().get(0))) {
+          primaries.add(() -> new Jedis(pool.getResource()));
+        }
+      }
+    }
+    return primaries;
+  }
+
+  private static String escapeGlob(String pattern) {
+    return pattern.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+  }
+
+  /**
+   * The cursor of the scan of one node.
+   */
+  private final class NodeScan {
+    private final Supplier<Jedis> connection;
+    private String cursor = ScanParams.SCAN_POINTER_START;
+    private boolean done;
+
+    NodeScan(Supplier<Jedis> connection) {
+      this.connection = connection;
+    }
+
+    List<String> scan() {
+      ScanResult<String> page;
+      try (Jedis jedis = connection.get()) {
+        page = jedis.scan(cursor, params, type);
+      }
+      cursor = page.getCursor();
+      done = ScanParams.SCAN_POINTER_START.equals(cursor);
+      return page.getResult();
+    }
+
+    boolean isDone() {
+      return done;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.redis.om.spring.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Reads large batches of keys in chunks, several chunks at a time.
+ * <p>
+ * Chunks are claimed in order by up to {@code parallelism} workers, the calling thread
+ * being one of them, so a batch never occupies more than {@code parallelism} connections
+ * and a single chunk runs entirely on the calling thread. The other workers run on a shared
+ * pool of at most {@value #MAX_HELPER_THREADS} daemon threads that are discarded after a
+ * minute of inactivity. When the pool is busy, the calling thread reads the chunks the
+ * missing workers would have read, so concurrent batches never queue behind each other.
+ * </p>
+ */
+final class ParallelChunks {
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  /**
+   * The maximum number of threads reading chunks for the calling threads.
+   */
+  static final int MAX_HELPER_THREADS = 32;
+
+  private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, MAX_HELPER_THREADS, 60,
+      TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+        Thread thread = new Thread(r, "redis-om-chunked-read-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private ParallelChunks() {
+  }
+
+  /**
+   * Splits items into chunks, reads them with up to {@code parallelism} concurrent calls
+   * to the reader, and concatenates the results in the order of the chunks.
+   *
+   * @param items       the items to read
+   * @param chunkSize   the maximum number of items per chunk, all items in one chunk if not positive
+   * @param parallelism the maximum number of chunks read at the same time
+   * @param reader      reads a chunk of items, returning one result per item
+   * @param <K>         the type of the items
+   * @param <V>         the type of the results
+   * @return the results of all the chunks, in order
+   */
+  static <K, V> List<V> read(List<K> items, int chunkSize, int parallelism, Function<List<K>, List<V>> reader) {
+    return read(items, chunkSize, parallelism, reader, EXECUTOR);
+  }
+
+  /**
+   * Same as {@link #read(List, int, int, Function)}, running the helper workers on the given
+   * executor.
+   */
+  static <K, V> List<V> read(List<K> items, int chunkSize, int parallelism, Function<List<K>, List<V>> reader,
+      ExecutorService executor) {
+    if (items.isEmpty()) {
+      return List.of();
+    }
+    List<List<K>> chunks = chunkSize > 0 ? Lists.partition(items, chunkSize) : List.of(items);
+    List<List<V>> results = new ArrayList<>(chunks.size());
+    for (int i = 0; i < chunks.size(); i++) {
+      results.add(null);
+    }
+
+    AtomicInteger next = new AtomicInteger();
+    Runnable worker = () -> {
+      for (int i = next.getAndIncrement(); i < chunks.size(); i = next.getAndIncrement()) {
+        try {
+          List<V> result = reader.apply(chunks.get(i));
+          synchronized (results) {
+            results.set(i, result);
+          }
+        } catch (RuntimeException e) {
+          // stop the other workers from claiming further chunks
+          next.set(chunks.size());
+          throw e;
+        }
+      }
+    };
+
+    int workers = Math.min(Math.max(parallelism, 1), chunks.size());
+    List<CompletableFuture<Void>> helpers = new ArrayList<>(workers - 1);
+    for (int i = 1; i < workers; i++) {
+      try {
+        helpers.add(CompletableFuture.runAsync(worker, executor));
+      } catch (RejectedExecutionException e) {
+        // no idle helper thread: the workers already started read the remaining chunks
+        break;
+      }
+    }
+    worker.run();
+    try {
+      CompletableFuture.allOf(helpers.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+
+    List<V> all = new ArrayList<>(items.size());
+    synchronized (results) {
+      results.forEach(all::addAll);
+    }
+    return all;
+  }
+}
@@ -1,5 +1,7 @@
 package com.redis.om.spring.repository.support;
 
+import org.springframework.aop.target.SingletonTargetSource;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactoryBean;
@@ -18,6 +20,8 @@ import com.google.gson.GsonBuilder;
 import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
+import com.redis.om.spring.metrics.LatencyRecorder;
+import com.redis.om.spring.metrics.RepositoryLatencyInterceptor;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.vectorize.Embedder;
 
@@ -47,7 +51,7 @@ import com.redis.om.spring.vectorize.Embedder;
  * @since 0.1.0
  */
 public class RedisDocumentRepositoryFactoryBean<T extends Repository<S, ID>, S, ID> extends
-    KeyValueRepositoryFactoryBean<T, S, ID> {
+    KeyValueRepositoryFactoryBean<T, S, ID> implements DisposableBean {
 
   @Autowired
   private @Nullable RedisModulesOperations<String> rmo;
@@ -61,6 +65,10 @@ public class RedisDocumentRepositoryFactoryBean<T extends Repository<S, ID>, S,
   private @Nullable Embedder embedder;
   @Autowired
   private RedisOMProperties properties;
+  @Autowired
+  private @Nullable LatencyRecorder latencyRecorder;
+
+  private @Nullable SimpleRedisDocumentRepository<?, ?> repository;
 
   /**
    * Creates a new {@link RedisDocumentRepositoryFactoryBean} for the given
@@ -79,8 +87,19 @@ public class RedisDocumentRepositoryFactoryBean<T extends Repository<S, ID>, S,
       Class<? extends AbstractQueryCreator<?, ?>> queryCreator, //
       Class<? extends RepositoryQuery> repositoryQueryType //
   ) {
-    return new RedisDocumentRepositoryFactory(operations, rmo, indexer, queryCreator, repositoryQueryType,
-        this.mappingContext, this.gsonBuilder, this.embedder, this.properties);
+    RedisDocumentRepositoryFactory factory = new RedisDocumentRepositoryFactory(operations, rmo, indexer, queryCreator,
+        repositoryQueryType, this.mappingContext, this.gsonBuilder, this.embedder, this.properties);
+    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+      if (proxyFactory.getTargetSource() instanceof SingletonTargetSource targetSource && targetSource
+          .getTarget() instanceof SimpleRedisDocumentRepository<?, ?> target) {
+        repository = target;
+      }
+    });
+    if (latencyRecorder != null) {
+      factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+          new RepositoryLatencyInterceptor(latencyRecorder, repositoryInformation.getRepositoryInterface())));
+    }
+    return factory;
   }
 
   /* (non-Javadoc)
@@ -108,4 +127,15 @@ public class RedisDocumentRepositoryFactoryBean<T extends Repository<S, ID>, S,
 
     super.afterPropertiesSet();
   }
-}
\ No newline at end of file
+
+  /**
+   * Writes any entities still held in the repository's write-behind buffer and stops its
+   * background tasks before the application context shuts down.
+   */
+  @Override
+  public void destroy() {
+    if (repository != null) {
+      repository.close();
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.redis.om.spring.repository.support;
 
+import org.springframework.aop.target.SingletonTargetSource;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.config.QueryCreatorType;
@@ -20,6 +22,8 @@ import org.springframework.util.Assert;
 import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.mapping.RedisEnhancedMappingContext;
+import com.redis.om.spring.metrics.LatencyRecorder;
+import com.redis.om.spring.metrics.RepositoryLatencyInterceptor;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.repository.query.RedisEnhancedQuery;
 import com.redis.om.spring.vectorize.Embedder;
@@ -55,7 +59,7 @@ import com.redis.om.spring.vectorize.Embedder;
  * @since 0.1.0
  */
 public class RedisEnhancedRepositoryFactoryBean<T extends Repository<S, ID>, S, ID> extends
-    RepositoryFactoryBeanSupport<T, S, ID> {
+    RepositoryFactoryBeanSupport<T, S, ID> implements DisposableBean {
 
   @Autowired
   private @Nullable RedisModulesOperations<String> rmo;
@@ -67,6 +71,10 @@ public class RedisEnhancedRepositoryFactoryBean<T extends Repository<S, ID>, S,
   private @Nullable Embedder embedder;
   @Autowired
   private RedisOMProperties properties;
+  @Autowired
+  private @Nullable LatencyRecorder latencyRecorder;
+
+  private @Nullable SimpleRedisEnhancedRepository<?, ?> repository;
 
   private @Nullable KeyValueOperations operations;
   private @Nullable Class<? extends AbstractQueryCreator<?, ?>> queryCreator;
@@ -211,8 +219,19 @@ public class RedisEnhancedRepositoryFactoryBean<T extends Repository<S, ID>, S,
       Class<? extends AbstractQueryCreator<?, ?>> queryCreator, //
       Class<? extends RepositoryQuery> repositoryQueryType //
   ) {
-    return new RedisEnhancedRepositoryFactory(operations, redisOperations, rmo, indexer, embedder, queryCreator,
-        RedisEnhancedQuery.class, properties);
+    RedisEnhancedRepositoryFactory factory = new RedisEnhancedRepositoryFactory(operations, redisOperations, rmo,
+        indexer, embedder, queryCreator, RedisEnhancedQuery.class, properties);
+    factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+      if (proxyFactory.getTargetSource() instanceof SingletonTargetSource targetSource && targetSource
+          .getTarget() instanceof SimpleRedisEnhancedRepository<?, ?> target) {
+        repository = target;
+      }
+    });
+    if (latencyRecorder != null) {
+      factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+          new RepositoryLatencyInterceptor(latencyRecorder, repositoryInformation.getRepositoryInterface())));
+    }
+    return factory;
   }
 
   /* (non-Javadoc)
@@ -233,4 +252,14 @@ public class RedisEnhancedRepositoryFactoryBean<T extends Repository<S, ID>, S,
     super.afterPropertiesSet();
   }
 
+  /**
+   * Writes any entities still held in the repository's write-behind buffer and stops its
+   * background tasks before the application context shuts down.
+   */
+  @Override
+  public void destroy() {
+    if (repository != null) {
+      repository.close();
+    }
+  }
 }
@@ -0,0 +1,240 @@
+package com.redis.om.spring.repository.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+import com.redis.om.spring.client.RedisModulesClient;
+
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.PipeliningBase;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Unit-of-work scope that batches repository writes into a single Redis round trip.
+ * <p>
+ * While a batch is active on the current thread, {@code save}, {@code saveAll},
+ * {@code delete}, {@code deleteById} and {@code updateField} calls on Redis OM document
+ * and hash repositories do not talk to Redis. Identifiers and audit fields are assigned
+ * right away, but the commands themselves are collected and sent together when the scope
+ * exits, either as one pipeline or, with {@link #runInTransaction(Runnable)}, as one
+ * {@code MULTI}/{@code EXEC} transaction. Stream actions passed to {@code forEach} that
+ * modify documents without returning a result, such as {@code incrBy} or {@code add}, are
+ * batched as well; actions that return a result, such as {@code pop}, run immediately.
+ * </p>
+ * <p>
+ * The Bloom, Cuckoo, Count-Min and auto-complete side effects of batched saves and deletes
+ * are applied once the batched commands have been sent successfully.
+ * </p>
+ * <p>
+ * If the scope throws, the collected commands and side effects are discarded and nothing
+ * is written.
+ * Reads issued inside the scope do not see the pending writes. Nested scopes join the
+ * outermost one.
+ * </p>
+ * <p>
+ * In cluster mode, batches are sent as a cluster pipeline, which reaches each node once.
+ * Transactions need a standalone or Sentinel connection.
+ * </p>
+ * <pre>{@code
+ * RedisOmBatch.run(() -> {
+ *   orders.save(order);
+ *   customers.updateField(customer, Customer$.LAST_ORDER, order.getId());
+ *   carts.deleteById(cartId);
+ * });
+ * }</pre>
+ *
+ * @see SimpleRedisDocumentRepository
+ * @see SimpleRedisEnhancedRepository
+ * @since 2.0.7
+ */
+public final class RedisOmBatch {
+
+  private static final Log logger = LogFactory.getLog(RedisOmBatch.class);
+
+  private static final ThreadLocal<RedisOmBatch> current = new ThreadLocal<>();
+
+  private final boolean transactional;
+  private final Map<RedisModulesClient, List<Consumer<PipeliningBase>>> commands = new LinkedHashMap<>();
+  private final List<Runnable> afterFlush = new ArrayList<>();
+
+  private RedisOmBatch(boolean transactional) {
+    this.transactional = transactional;
+  }
+
+  /**
+   * Runs the given work and sends the repository writes it issues as one pipeline.
+   *
+   * @param work the work to run
+   * @throws RuntimeException if any of the batched commands fails
+   */
+  public static void run(Runnable work) {
+    Assert.notNull(work, "Work must not be null");
+    execute(false, () -> {
+      work.run();
+      return null;
+    });
+  }
+
+  /**
+   * Runs the given work and sends the repository writes it issues as one
+   * {@code MULTI}/{@code EXEC} transaction.
+   *
+   * @param work the work to run
+   * @throws RuntimeException if any of the batched commands fails
+   */
+  public static void runInTransaction(Runnable work) {
+    Assert.notNull(work, "Work must not be null");
+    execute(true, () -> {
+      work.run();
+      return null;
+    });
+  }
+
+  /**
+   * Runs the given work, sends the repository writes it issues as one pipeline, and
+   * returns the work's result.
+   *
+   * @param work the work to run
+   * @param <R>  the type of the result
+   * @return the result of the work
+   * @throws RuntimeException if any of the batched commands fails
+   */
+  public static <R> R call(Supplier<R> work) {
+    Assert.notNull(work, "Work must not be null");
+    return execute(false, work);
+  }
+
+  /**
+   * Runs the given work, sends the repository writes it issues as one
+   * {@code MULTI}/{@code EXEC} transaction, and returns the work's result.
+   *
+   * @param work the work to run
+   * @param <R>  the type of the result
+   * @return the result of the work
+   * @throws RuntimeException if any of the batched commands fails
+   */
+  public static <R> R callInTransaction(Supplier<R> work) {
+    Assert.notNull(work, "Work must not be null");
+    return execute(true, work);
+  }
+
+  /**
+   * Returns the batch active on the current thread, if any.
+   *
+   * @return the active batch, or empty when writes should go to Redis immediately
+   */
+  public static Optional<RedisOmBatch> current() {
+    return Optional.ofNullable(current.get());
+  }
+
+  /**
+   * Adds commands to the batch. They are applied to the shared pipeline or transaction
+   * of the given client when the scope exits, in the order they were added.
+   *
+   * @param client  the client whose connection the commands must be sent on
+   * @param command writes the commands to the pipeline or transaction
+   */
+  public void add(RedisModulesClient client, Consumer<PipeliningBase> command) {
+    commands.computeIfAbsent(client, c -> new ArrayList<>()).add(command);
+  }
+
+  /**
+   * Registers work to run once the batched commands have been sent successfully, in the
+   * order it was registered. Used for the side effects of batched writes, so that they are
+   * dropped along with the commands when the scope throws or the batch fails.
+   *
+   * @param action the work to run after the batch is flushed
+   */
+  public void afterFlush(Runnable action) {
+    afterFlush.add(action);
+  }
+
+  /**
+   * Returns whether the batch is sent as a {@code MULTI}/{@code EXEC} transaction.
+   *
+   * @return {@code true} for a transaction, {@code false} for a plain pipeline
+   */
+  public boolean isTransactional() {
+    return transactional;
+  }
+
+  private static <R> R execute(boolean transactional, Supplier<R> work) {
+    if (current.get() != null) {
+      return work.get();
+    }
+
+    RedisOmBatch batch = new RedisOmBatch(transactional);
+    current.set(batch);
+    R result;
+    try {
+      result = work.get();
+    } finally {
+      current.remove();
+    }
+    batch.flush();
+    batch.afterFlush.forEach(Runnable::run);
+    return result;
+  }
+
+  private void flush() {
+    for (Map.Entry<RedisModulesClient, List<Consumer<PipeliningBase>>> entry : commands.entrySet()) {
+      checkResponses(transactional ?
+          exec(entry.getKey(), entry.getValue()) :
+          sync(entry.getKey(), entry.getValue()));
+    }
+  }
+
+  private static List<Object> exec(RedisModulesClient client, List<Consumer<PipeliningBase>> commands) {
+    try (Jedis jedis = client.getJedis().orElseThrow(() -> new IllegalStateException(
+        "Transactional batches require a standalone or sentinel Redis connection"))) {
+      Transaction transaction = jedis.multi();
+      try {
+        commands.forEach(command -> command.accept(transaction));
+      } catch (RuntimeException e) {
+        transaction.discard();
+        throw e;
+      }
+      return transaction.exec();
+    }
+  }
+
+  /**
+   * Sends the commands as one pipeline. A cluster pipeline does not return the replies of
+   * its commands, so in cluster mode failed commands are not reported.
+   */
+  private static List<Object> sync(RedisModulesClient client, List<Consumer<PipeliningBase>> commands) {
+    try (AbstractPipeline pipeline = client.pipelined()) {
+      commands.forEach(command -> command.accept(pipeline));
+      if (pipeline instanceof Pipeline single) {
+        return single.syncAndReturnAll();
+      }
+      pipeline.sync();
+      return List.of();
+    }
+  }
+
+  private void checkResponses(List<Object> responses) {
+    if (responses == null) {
+      throw new RuntimeException("Batched transaction was aborted");
+    }
+    List<String> errors = responses.stream().filter(JedisDataException.class::isInstance).map(
+        r -> ((JedisDataException) r).getMessage()).toList();
+    if (!errors.isEmpty()) {
+      errors.forEach(error -> logger.warn("Failed batched command: " + error));
+      throw new RuntimeException(String.format("Failed %d of %d batched commands: %s", errors.size(), responses
+          .size(), errors.get(0)));
+    }
+  }
+}
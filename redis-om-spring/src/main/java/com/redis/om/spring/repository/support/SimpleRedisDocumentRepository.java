@@ -3,18 +3,29 @@ package com.redis.om.spring.repository.support;
 import static com.redis.om.spring.util.ObjectUtils.*;
 import static redis.clients.jedis.json.JsonProtocol.JsonCommand;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.lang.reflect.Field;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
 
+import org.json.JSONArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanWrapper;
@@ -35,7 +46,6 @@ import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.TimeToLive;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
-import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.convert.ReferenceResolverImpl;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
 import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
@@ -43,18 +53,20 @@ import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.ReflectionUtils;
 
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.RedisOMProperties;
 import com.redis.om.spring.annotations.Dialect;
 import com.redis.om.spring.audit.EntityAuditor;
+import com.redis.om.spring.client.RedisModulesClient;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.id.IdentifierFilter;
 import com.redis.om.spring.id.ULIDIdentifierGenerator;
@@ -66,20 +78,33 @@ import com.redis.om.spring.metamodel.MetamodelUtils;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.repository.FoundEntities;
 import com.redis.om.spring.repository.RedisDocumentRepository;
 import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
 import com.redis.om.spring.search.stream.RedisFluentQueryByExample;
 import com.redis.om.spring.search.stream.SearchStream;
+import com.redis.om.spring.serialization.DocumentSerializer;
+import com.redis.om.spring.serialization.DocumentSerializers;
 import com.redis.om.spring.serialization.gson.GsonListOfType;
+import com.redis.om.spring.serialization.gson.LazyLoadingProxy;
+import com.redis.om.spring.serialization.gson.ReferencePrefetch;
+import com.redis.om.spring.util.CompactKeyNames;
+import com.redis.om.spring.util.EntityMetadata;
+import com.redis.om.spring.util.FieldAccessor;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.vectorize.Embedder;
 
 import jakarta.persistence.IdClass;
-import redis.clients.jedis.Jedis;
-import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.PipeliningBase;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.json.commands.RedisJsonCommands;
+import redis.clients.jedis.search.Document;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
 import redis.clients.jedis.util.SafeEncoder;
@@ -112,10 +137,15 @@ import redis.clients.jedis.util.SafeEncoder;
  * @since 1.0.0
  */
 public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueRepository<T, ID> implements
-    RedisDocumentRepository<T, ID> {
+    RedisDocumentRepository<T, ID>, AutoCloseable {
 
   private final static Logger logger = LoggerFactory.getLogger(SimpleRedisDocumentRepository.class);
 
+  private static final ProtocolCommand JSON_MSET = () -> SafeEncoder.encode("JSON.MSET");
+  private static final byte[] ROOT_PATH = SafeEncoder.encode(Path2.ROOT_PATH.toString());
+  private static final String JSON_KEY_TYPE = "ReJSON-RL";
+  private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
   /** Redis operations handler for JSON and search modules */
   protected final RedisModulesOperations<String> modulesOperations;
   /** Entity metadata containing type information and ID handling */
@@ -137,6 +167,8 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
   private final EntityStream entityStream;
   private final LexicographicIndexer lexicographicIndexer;
   private final String repositoryIndexName;
+  private final WriteBehindBuffer<T> writeBehindBuffer;
+  private final HotKeyCache<T> hotKeyCache;
 
   /**
    * Constructs a new {@code SimpleRedisDocumentRepository} with the required dependencies.
@@ -208,11 +240,23 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     this.entityStream = new EntityStreamImpl(modulesOperations, modulesOperations.gsonBuilder(), indexer);
     this.lexicographicIndexer = new LexicographicIndexer(modulesOperations.template(), indexer);
     this.repositoryIndexName = indexer.resolveRepositoryIndexName(repositoryInterface);
+
+    RedisOMProperties.Repository.WriteBehind writeBehind = properties.getRepository().getWriteBehind();
+    this.writeBehindBuffer = writeBehind.isEnabledFor(metadata.getJavaType()) ?
+        new WriteBehindBuffer<>(entities -> writeAll(entities, false), writeBehind.getBatchSize(), writeBehind.getFlushInterval()) :
+        null;
+
+    RedisOMProperties.Repository.HotKeys hotKeys = properties.getRepository().getHotKeys();
+    this.hotKeyCache = hotKeys.isEnabledFor(metadata.getJavaType()) ?
+        new HotKeyCache<>(modulesOperations.opsForTopK(), HotKeyCache.topKKeyFor(indexer.getKeyspaceForEntityClass(
+            metadata.getJavaType())), hotKeys.getTopK(), hotKeys.getRefreshInterval(), hotKeys.getSampleRate(),
+            this::copyOf) :
+        null;
   }
 
   @Override
   public Iterable<ID> getIds() {
-    Gson gson = gsonBuilder.create();
+    Gson gson = DocumentSerializers.of(gsonBuilder).getGson();
     Optional<Field> maybeIdField = ObjectUtils.getIdFieldForEntityClass(metadata.getJavaType());
     String idField = maybeIdField.map(Field::getName).orElse("id");
 
@@ -237,13 +281,28 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
   @Override
   public void deleteById(ID id, Path2 path) {
-    modulesOperations.opsForJSON().del(getKey(id), path);
+    String key = getKey(id);
+    flushBuffered(key);
+    evictCached(key);
+    modulesOperations.opsForJSON().del(key, path);
   }
 
   @Override
   public void updateField(T entity, MetamodelField<T, ?> field, Object value) {
-    modulesOperations.opsForJSON().set(getKey(Objects.requireNonNull(metadata.getId(entity))), value, Path2.of(field
-        .getJSONPath()));
+    String key = getKey(Objects.requireNonNull(metadata.getId(entity)));
+    flushBuffered(key);
+    evictCached(key);
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      byte[] path = SafeEncoder.encode(Path2.of(field.getJSONPath()).toString());
+      byte[] json = DocumentSerializers.of(gsonBuilder).toJsonBytes(value);
+      batch.get().add(modulesOperations.client(), pipeline -> {
+        jsonSet(pipeline, SafeEncoder.encode(key), path, json);
+        evictCached(key);
+      });
+      return;
+    }
+    modulesOperations.opsForJSON().set(key, value, Path2.of(field.getJSONPath()));
   }
 
   @SuppressWarnings(
@@ -268,9 +327,59 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     return Boolean.TRUE.equals(template.expire(getKey(id), expiration, timeUnit));
   }
 
+  @Override
+  public Map<ID, Boolean> existsAllById(Iterable<ID> ids) {
+    Map<ID, Boolean> exists = pipelineByKey(ids, this::getKeyForId, (pipeline, key) -> pipeline.exists(key));
+    if (writeBehindBuffer != null) {
+      exists.replaceAll((id, found) -> found || writeBehindBuffer.get(getKeyForId(id)) != null);
+    }
+    return exists;
+  }
+
+  @Override
+  public Map<ID, Long> getExpirationAll(Iterable<ID> ids) {
+    return pipelineByKey(ids, this::getKey, (pipeline, key) -> pipeline.ttl(key));
+  }
+
+  @Override
+  public long setExpirationAll(Iterable<ID> ids, Long expiration, TimeUnit timeUnit) {
+    long expirationInMillis = timeUnit.toMillis(expiration);
+    return pipelineByKey(ids, this::getKey, (pipeline, key) -> pipeline.pexpire(key, expirationInMillis)).values()
+        .stream().filter(updated -> updated == 1L).count();
+  }
+
+  /**
+   * Runs a single-key command for each of the given entities, pipelining the commands in
+   * chunks of {@link RedisOMProperties.Repository#getBulkKeyBatchSize()} keys.
+   *
+   * @param ids         the identifiers of the entities
+   * @param keyFunction maps an identifier to the key of its entity, as the single-key
+   *                    counterpart of the bulk operation does
+   * @param command     queues the command for one key on the pipeline
+   * @param <R>         the type of the command's reply
+   * @return a map from each identifier to the command's reply, in iteration order
+   */
+  private <R> Map<ID, R> pipelineByKey(Iterable<ID> ids, Function<ID, String> keyFunction,
+      BiFunction<PipeliningBase, String, Response<R>> command) {
+    Assert.notNull(ids, "The given Iterable of ids must not be null!");
+    return modulesOperations.client().pipelineByKey(ids, keyFunction, properties.getRepository()
+        .getBulkKeyBatchSize(), command);
+  }
+
   @Override
   public <S extends T> S save(S entity) {
     Assert.notNull(entity, "Entity must not be null");
+    // a lazily loaded reference is saved as the entity it stands in for
+    entity = LazyLoadingProxy.unwrap(entity);
+
+    if (writeBehindBuffer != null) {
+      return saveBehind(entity);
+    }
+
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      return saveInBatch(entity, batch.get());
+    }
 
     // Check if this entity class has lexicographic fields
     Set<String> lexicographicFields = indexer.getLexicographicFields(entity.getClass());
@@ -279,115 +388,462 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       List<S> result = saveAll(Collections.singletonList(entity));
       return result.isEmpty() ? null : result.get(0);
     } else {
-      // No lexicographic fields, just call parent save method
-      return super.save(entity);
+      // No lexicographic fields, just call parent save method. The adapter evicts the
+      // reference cache and refreshes the change tracking snapshot itself.
+      S saved = super.save(entity);
+      if (hotKeyCache != null) {
+        hotKeyCache.invalidate(getKeyFor(saved));
+      }
+      return saved;
     }
   }
 
+  /**
+   * Buffers a copy of an entity in the write-behind buffer instead of writing it to Redis,
+   * so changes made to the entity after the call are not written by the flush.
+   * <p>
+   * The write itself, including TTL, references and lexicographic indexing, happens
+   * when the buffer is flushed. The {@code @Version} of the entity is checked and
+   * incremented right away.
+   *
+   * @param entity the entity to save
+   * @param <S>    the type of the entity
+   * @return the entity, with its identifier assigned
+   */
+  private <S extends T> S saveBehind(S entity) {
+    prepareDeferredSave(entity);
+    String key = getKeyFor(entity);
+    synchronized (writeBehindBuffer) {
+      processVersionBehind(key, entity);
+      writeBehindBuffer.put(key, copyOf(entity));
+    }
+    evictCached(key);
+    return entity;
+  }
+
+  /**
+   * Applies optimistic locking to an entity about to be buffered, as the adapter does when
+   * saving directly: its version must match the latest saved one, still buffered or in
+   * Redis, and is then incremented.
+   *
+   * @param key    the key of the entity
+   * @param entity the entity to buffer
+   * @throws OptimisticLockingFailureException if the version of the entity is outdated
+   */
+  private void processVersionBehind(String key, T entity) {
+    List<Field> fields = EntityMetadata.of(entity.getClass()).getVersionFields();
+    if (fields.size() != 1) {
+      return;
+    }
+    Field versionField = fields.get(0);
+    boolean isInteger = versionField.getType() == Integer.class || isPrimitiveOfType(versionField.getType(),
+        Integer.class);
+    if (!isInteger && versionField.getType() != Long.class && !isPrimitiveOfType(versionField.getType(),
+        Long.class)) {
+      return;
+    }
+    FieldAccessor accessor = FieldAccessor.of(versionField);
+    Number version = (Number) accessor.get(entity);
+    T buffered = writeBehindBuffer.get(key);
+    Number savedVersion = buffered != null ?
+        (Number) accessor.get(buffered) :
+        getEntityVersion(key, versionField.getName());
+
+    if (savedVersion != null && version != null && savedVersion.longValue() != version.longValue()) {
+      throw new OptimisticLockingFailureException(String.format(
+          "Cannot insert/update entity %s with version %s as it already exists", entity, version));
+    }
+    long nextVersion = version == null ? 0 : version.longValue() + 1;
+    accessor.set(entity, isInteger ? (Object) Math.toIntExact(nextVersion) : (Object) nextVersion);
+  }
+
+  /**
+   * Adds the commands saving an entity to the active {@link RedisOmBatch}.
+   *
+   * @param entity the entity to save
+   * @param batch  the batch active on the current thread
+   * @param <S>    the type of the entity
+   * @return the entity, with its identifier assigned
+   */
+  private <S extends T> S saveInBatch(S entity, RedisOmBatch batch) {
+    prepareDeferredSave(entity);
+    batch.add(modulesOperations.client(), pipeline -> {
+      embedder.processEntity(entity);
+      writeEntity(entity, pipeline, DocumentSerializers.of(gsonBuilder), false);
+    });
+    return entity;
+  }
+
+  /**
+   * Prepares an entity whose write to Redis is deferred.
+   * <p>
+   * New entities get their identifier and creation audit fields assigned right away, so
+   * the entity can be used as if it had been saved. Auditing happens here only: once it
+   * has an identifier, the entity no longer looks new when it is eventually written.
+   *
+   * @param entity the entity to prepare
+   */
+  private void prepareDeferredSave(T entity) {
+    boolean isNew = metadata.isNew(entity);
+    if (isNew) {
+      KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
+          .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
+      var idProperty = Objects.requireNonNull(keyValueEntity.getIdProperty());
+      keyValueEntity.getPropertyAccessor(entity).setProperty(idProperty, generator.generateIdentifierOfType(idProperty
+          .getTypeInformation()));
+    }
+    auditor.processEntity(entity, isNew);
+  }
+
+  @Override
+  public void flush() {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.flush();
+    }
+  }
+
+  /**
+   * Writes the entities still held in the write-behind buffer and stops its background
+   * flushes, as well as the hot-key cache refresh. Called when the repository bean is
+   * destroyed.
+   */
+  @Override
+  public void close() {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.close();
+    }
+    if (hotKeyCache != null) {
+      hotKeyCache.close();
+    }
+  }
+
+  @Override
+  public void addFlushListener(WriteBehindBuffer.FlushListener<T> listener) {
+    if (writeBehindBuffer == null) {
+      throw new IllegalStateException("Write-behind saves are not enabled for " + metadata.getJavaType().getName());
+    }
+    writeBehindBuffer.addFlushListener(listener);
+  }
+
+  @Override
+  public Optional<T> findById(ID id) {
+    if (writeBehindBuffer != null) {
+      Assert.notNull(id, "The given id must not be null");
+      T buffered = writeBehindBuffer.get(getKeyForId(id));
+      if (buffered != null) {
+        return Optional.of(copyOf(buffered));
+      }
+    }
+    if (hotKeyCache != null) {
+      Assert.notNull(id, "The given id must not be null");
+      return hotKeyCache.get(getKeyForId(id), () -> super.findById(id));
+    }
+    return super.findById(id);
+  }
+
   @Override
   public <S extends T> List<S> saveAll(Iterable<S> entities) {
     Assert.notNull(entities, "The given Iterable of entities must not be null!");
+    entities = StreamSupport.stream(entities.spliterator(), false).map(LazyLoadingProxy::unwrap).toList();
+
+    // like save, go through the buffer so a flush cannot overwrite these writes with older versions
+    if (writeBehindBuffer != null) {
+      List<S> saved = new ArrayList<>();
+      entities.forEach(entity -> saved.add(saveBehind(entity)));
+      return saved;
+    }
+
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      List<S> saved = new ArrayList<>();
+      entities.forEach(entity -> saved.add(saveInBatch(entity, batch.get())));
+      return saved;
+    }
+
+    return writeAll(entities, true);
+  }
+
+  /**
+   * Writes entities to Redis in a single pipeline, which in cluster mode sends each command
+   * to the node owning its keys.
+   *
+   * @param entities the entities to write
+   * @param audit    whether to apply auditing, {@code false} for deferred saves that were
+   *                 already audited when they were made
+   * @param <S>      the type of the entities
+   * @return the written entities
+   */
+  private <S extends T> List<S> writeAll(Iterable<S> entities, boolean audit) {
     List<S> saved = new ArrayList<>();
-    List<Object> entityIds = new ArrayList<>();
 
     embedder.processEntities(entities);
 
-    try (Jedis jedis = modulesOperations.client().getJedis().get()) {
-      Pipeline pipeline = jedis.pipelined();
-      Gson gson = gsonBuilder.create();
+    try (AbstractPipeline pipeline = modulesOperations.client().pipelined()) {
+      DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+      List<PendingWrite> writes = new ArrayList<>();
       for (S entity : entities) {
-        boolean isNew = metadata.isNew(entity);
+        writes.add(prepareWrite(entity, serializers, audit));
+        saved.add(entity);
+      }
 
-        KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
-            .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
-        Object id = isNew ?
-            generator.generateIdentifierOfType(Objects.requireNonNull(keyValueEntity.getIdProperty())
-                .getTypeInformation()) :
-            keyValueEntity.getPropertyAccessor(entity).getProperty(Objects.requireNonNull(keyValueEntity
-                .getIdProperty()));
-        keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
+      Map<Response<Object>, List<String>> replies = sendDocuments(writes, pipeline);
+      writes.forEach(write -> completeWrite(write, pipeline));
 
-        String idAsString = validateKeyForWriting(id, entity);
+      pipeline.sync();
+
+      List<String> failedIds = new ArrayList<>();
+      replies.forEach((reply, ids) -> {
+        try {
+          reply.get();
+        } catch (JedisDataException e) {
+          failedIds.addAll(ids);
+          logger.warn("Failed JSON.SET command for entities with ids: {} Error: {}", ids, e.getMessage());
+        }
+      });
 
-        entityIds.add(idAsString);
+      if (!failedIds.isEmpty()) {
+        String errorMsg = String.format("Failed to save %d entities with IDs: %s", failedIds.size(), failedIds);
+        if (properties.getRepository().isThrowOnSaveAllFailure()) {
+          throw new RuntimeException(errorMsg);
+        } else {
+          logger.warn("Total failed JSON.SET commands: {}", failedIds.size());
+        }
+      }
+    }
 
-        String keyspace = keyValueEntity.getKeySpace();
-        byte[] objectKey = createKey(keyspace, idAsString);
+    return saved;
+  }
 
-        // process entity pre-save mutation
-        auditor.processEntity(entity, isNew);
+  /**
+   * Writes the commands saving an entity to a pipeline or transaction.
+   * <p>
+   * Assigns an identifier to new entities, applies auditing, and queues the
+   * {@code JSON.SET} of the document along with its references, lexicographic index
+   * entries and expiration.
+   *
+   * @param entity     the entity to save
+   * @param pipeline   the pipeline or transaction to write the commands to
+   * @param serializer the serializer encoding the entity
+   * @param audit      whether to apply auditing
+   * @return the identifier of the entity as a string
+   */
+  private String writeEntity(T entity, PipeliningBase pipeline, DocumentSerializer serializer, boolean audit) {
+    PendingWrite write = prepareWrite(entity, serializer, audit);
+    jsonSet(pipeline, write.objectKey(), ROOT_PATH, write.document());
+    completeWrite(write, pipeline);
+    return write.id();
+  }
 
-        Optional<Long> maybeTtl = getTTLForEntity(entity);
+  /**
+   * Prepares the write of an entity: assigns an identifier to new entities, applies
+   * auditing and serializes the document.
+   *
+   * @param entity     the entity to save
+   * @param serializer the serializer encoding the entity
+   * @param audit      whether to apply auditing
+   * @return the pending write of the entity
+   */
+  private PendingWrite prepareWrite(T entity, DocumentSerializer serializer, boolean audit) {
+    boolean isNew = metadata.isNew(entity);
+
+    KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
+        .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
+    Object id = isNew ?
+        generator.generateIdentifierOfType(Objects.requireNonNull(keyValueEntity.getIdProperty())
+            .getTypeInformation()) :
+        keyValueEntity.getPropertyAccessor(entity).getProperty(Objects.requireNonNull(keyValueEntity
+            .getIdProperty()));
+    keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
+
+    String idAsString = validateKeyForWriting(id, entity);
+
+    String keyspace = keyValueEntity.getKeySpace();
+    byte[] objectKey = createKey(keyspace, idAsString);
+
+    // process entity pre-save mutation
+    if (audit) {
+      auditor.processEntity(entity, isNew);
+    }
 
-        RedisData rdo = new RedisData();
-        mappingConverter.write(entity, rdo);
-        rdo.setId(idAsString);
+    Optional<Long> maybeTtl = getTTLForEntity(entity);
 
-        List<byte[]> args = new ArrayList<>(4);
-        args.add(objectKey);
-        args.add(SafeEncoder.encode(Path2.ROOT_PATH.toString()));
-        args.add(SafeEncoder.encode(gson.toJson(entity)));
-        pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
+    return new PendingWrite(entity, idAsString, isNew, keyspace, objectKey, serializer.toJsonBytes(entity),
+        maybeTtl);
+  }
 
-        processReferenceAnnotations(objectKey, entity, pipeline);
+  /**
+   * Queues the commands following the write of a document: its references, lexicographic
+   * index entries and expiration.
+   *
+   * @param write    the write of the document
+   * @param pipeline the pipeline or transaction the document was written to
+   */
+  private void completeWrite(PendingWrite write, PipeliningBase pipeline) {
+    processReferenceAnnotations(write.objectKey(), write.entity(), pipeline);
 
-        // Process lexicographic indexing
-        String keyspaceWithColon = keyspace.endsWith(":") ? keyspace : keyspace + ":";
-        lexicographicIndexer.processEntity(entity, idAsString, isNew, keyspaceWithColon);
+    // Process lexicographic indexing
+    String keyspace = write.keyspace();
+    String keyspaceWithColon = keyspace.endsWith(":") ? keyspace : keyspace + ":";
+    lexicographicIndexer.processEntity(write.entity(), write.id(), keyspaceWithColon, pipeline);
 
-        maybeTtl.ifPresent(ttl -> {
-          if (ttl > 0)
-            pipeline.expire(objectKey, ttl);
-        });
+    write.ttl().ifPresent(ttl -> {
+      if (ttl > 0)
+        pipeline.expire(write.objectKey(), ttl);
+    });
 
-        saved.add(entity);
-      }
+    evictCached(SafeEncoder.encode(write.objectKey()));
+  }
 
-      List<Object> responses = pipeline.syncAndReturnAll();
-
-      // Process responses using streams to avoid iterator issues
-      if (responses != null && !responses.isEmpty()) {
-        List<String> failedIds = new ArrayList<>();
-        long failedCount = IntStream.range(0, Math.min(responses.size(), entityIds.size())).filter(i -> responses.get(
-            i) instanceof JedisDataException).peek(i -> {
-              failedIds.add(entityIds.get(i).toString());
-              logger.warn("Failed JSON.SET command for entity with id: {} Error: {}", entityIds.get(i),
-                  ((JedisDataException) responses.get(i)).getMessage());
-            }).count();
-
-        if (failedCount > 0) {
-          String errorMsg = String.format("Failed to save %d entities with IDs: %s", failedCount, failedIds);
-          if (properties.getRepository().isThrowOnSaveAllFailure()) {
-            throw new RuntimeException(errorMsg);
-          } else {
-            logger.warn("Total failed JSON.SET commands: {}", failedCount);
-          }
-        }
+  /**
+   * Queues the documents of prepared writes, with one {@code JSON.MSET} per chunk of
+   * {@code msetBatchSize} documents when the server supports it, or one {@code JSON.SET}
+   * per document otherwise. In cluster mode, the documents are first grouped by hash slot,
+   * as all the keys of a {@code JSON.MSET} must belong to the same slot.
+   *
+   * @param writes   the prepared writes
+   * @param pipeline the pipeline to write the commands to
+   * @return the reply of each command, with the ids of the documents it wrote
+   */
+  private Map<Response<Object>, List<String>> sendDocuments(List<PendingWrite> writes, PipeliningBase pipeline) {
+    RedisModulesClient client = modulesOperations.client();
+    int msetBatchSize = properties.getRepository().getMsetBatchSize();
+    boolean useMset = msetBatchSize > 1 && writes.size() > 1 && client.supportsCommand("JSON.MSET");
+    Map<Response<Object>, List<String>> replies = new LinkedHashMap<>();
+    for (List<PendingWrite> slotWrites : client.groupBySlot(writes, write -> SafeEncoder.encode(write.objectKey()))) {
+      for (List<PendingWrite> chunk : Iterables.partition(slotWrites, useMset ? msetBatchSize : 1)) {
+        CommandArguments args = client.commandArguments(chunk.size() > 1 ? JSON_MSET : JsonCommand.SET);
+        chunk.forEach(write -> args.key(write.objectKey()).add(ROOT_PATH).add(write.document()));
+        replies.put(pipeline.sendCommand(args), chunk.stream().map(PendingWrite::id).toList());
       }
     }
+    return replies;
+  }
 
-    return saved;
+  /**
+   * Queues a {@code JSON.SET} on a pipeline or transaction, with its key marked as such so
+   * that a cluster pipeline sends it to the node owning the key.
+   *
+   * @param pipeline the pipeline or transaction to write the command to
+   * @param key      the key of the document
+   * @param args     the path, the value and the options of the command
+   * @return the reply of the command
+   */
+  private Response<Object> jsonSet(PipeliningBase pipeline, byte[] key, byte[]... args) {
+    return pipeline.sendCommand(modulesOperations.client().commandArguments(JsonCommand.SET).key(key).addObjects(
+        (Object[]) args));
   }
 
   @Override
   public Iterable<T> bulkLoad(String file) throws IOException {
     try (Reader reader = Files.newBufferedReader(Paths.get(file))) {
-      Gson gson = gsonBuilder.create();
+      Gson gson = DocumentSerializers.of(gsonBuilder).getGson();
       List<T> entities = gson.fromJson(reader, new GsonListOfType<>(metadata.getJavaType()));
       return saveAll(entities);
     }
   }
 
+  @Override
+  public long exportTo(Path file) throws IOException {
+    OutputStream out = new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(file,
+        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)),
+        EXPORT_BUFFER_SIZE);
+    if (file.getFileName().toString().endsWith(".gz")) {
+      out = new GZIPOutputStream(out, EXPORT_BUFFER_SIZE);
+    }
+    try (OutputStream export = out) {
+      return exportTo(export);
+    }
+  }
+
+  @Override
+  public long exportTo(OutputStream out) throws IOException {
+    Assert.notNull(out, "The given OutputStream must not be null!");
+    flush();
+    KeyspaceScan scan = new KeyspaceScan(modulesOperations.client(), getKeyspace(), JSON_KEY_TYPE, properties
+        .getRepository().getBulkKeyBatchSize());
+    long exported = 0;
+    while (scan.hasNext()) {
+      List<String> keys = scan.next();
+      if (!keys.isEmpty()) {
+        exported += writeDocuments(keys, out);
+      }
+    }
+    out.flush();
+    return exported;
+  }
+
+  @Override
+  public Stream<T> streamAll() {
+    flush();
+    return new KeyspaceScan(modulesOperations.client(), getKeyspace(), JSON_KEY_TYPE, properties.getRepository()
+        .getBulkKeyBatchSize()).stream(keys -> fromDocuments(mget(keys)));
+  }
+
+  /**
+   * Reads the documents stored at the given keys with one pipelined {@code JSON.MGET}, or
+   * one per slot in cluster mode, and writes each of them on its own line. Keys deleted
+   * since they were scanned are skipped.
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  private long writeDocuments(List<String> keys, OutputStream out) throws IOException {
+    RedisModulesClient client = modulesOperations.client();
+    List<Response<Object>> replies = new ArrayList<>();
+    try (AbstractPipeline pipeline = client.pipelined()) {
+      for (List<String> slotKeys : client.groupBySlot(keys, Function.identity())) {
+        CommandArguments args = client.commandArguments(JsonCommand.MGET);
+        slotKeys.forEach(args::key);
+        replies.add(pipeline.sendCommand(args.add(ROOT_PATH)));
+      }
+      pipeline.sync();
+    }
+    long written = 0;
+    for (Response<Object> reply : replies) {
+      for (byte[] matches : (List<byte[]>) reply.get()) {
+        // a root path reply is the array of its single match: [<document>]
+        if (matches != null && matches.length > 2) {
+          out.write(matches, 1, matches.length - 2);
+          out.write('\n');
+          written++;
+        }
+      }
+    }
+    return written;
+  }
+
   @Override
   public <S extends T> S update(S entity) {
+    flushBuffered(getKeyFor(entity));
+    evictCached(getKeyFor(entity));
     return this.operations.update(this.metadata.getRequiredId(entity), entity);
   }
 
   @Override
   public void delete(T entity) {
     Assert.notNull(entity, "The given entity must not be null");
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.remove(getKeyFor(entity));
+    }
+    evictCached(getKeyFor(entity));
     checkVersion(entity);
 
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      String key = getKeyFor(entity);
+      batch.get().add(modulesOperations.client(), pipeline -> {
+        processLexicographicDeletion(entity, pipeline);
+        pipeline.del(key);
+        evictCached(key);
+      });
+      return;
+    }
+
+    processLexicographicDeletion(entity, null);
+    this.operations.delete(entity);
+  }
+
+  private void processLexicographicDeletion(T entity, @Nullable PipeliningBase pipeline) {
     // Check if this entity class has lexicographic fields
     Set<String> lexicographicFields = indexer.getLexicographicFields(entity.getClass());
     if (lexicographicFields != null && !lexicographicFields.isEmpty()) {
@@ -398,15 +854,17 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
           ClassUtils.getUserClass(entity));
       String keyspace = keyValueEntity.getKeySpace();
       String keyspaceWithColon = keyspace.endsWith(":") ? keyspace : keyspace + ":";
-      lexicographicIndexer.processEntityDeletion(entity, idAsString, keyspaceWithColon);
+      lexicographicIndexer.processEntityDeletion(entity, idAsString, keyspaceWithColon, pipeline);
     }
-
-    this.operations.delete(entity);
   }
 
   @Override
   public void deleteById(ID id) {
     Assert.notNull(id, "The given id must not be null");
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.remove(getKeyForId(id));
+    }
+    evictCached(getKeyForId(id));
 
     // Check if this entity class has lexicographic fields
     Set<String> lexicographicFields = indexer.getLexicographicFields(metadata.getJavaType());
@@ -419,10 +877,60 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       }
     }
 
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      String key = getKeyForId(id);
+      batch.get().add(modulesOperations.client(), pipeline -> {
+        pipeline.del(key);
+        evictCached(key);
+      });
+      return;
+    }
+
     // For entities without lexicographic fields or when entity not found, just call parent
     super.deleteById(id);
   }
 
+  @Override
+  public void deleteAll() {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.clear();
+    }
+    if (hotKeyCache != null) {
+      hotKeyCache.clear();
+    }
+    DocumentSerializers.of(gsonBuilder).getChangeTracker().clear();
+    super.deleteAll();
+  }
+
+  /**
+   * Writes the buffered version of an entity, if any, before the entity is changed in Redis
+   * directly, so that the write-behind buffer neither overwrites nor hides the change.
+   *
+   * @param key the key of the entity about to be changed
+   */
+  private void flushBuffered(String key) {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.flush(key);
+    }
+  }
+
+  /**
+   * Evicts the entity stored under a key from the hot-key cache, if enabled, and from the
+   * reference cache, and invalidates the change tracking snapshots of its document, as
+   * the document is written or deleted.
+   *
+   * @param key the key of the written or deleted document
+   */
+  private void evictCached(String key) {
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(key);
+    }
+    DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+    serializers.evictReference(key);
+    serializers.getChangeTracker().written(key);
+  }
+
   @Override
   public void deleteAll(Iterable<? extends T> entities) {
     Assert.notNull(entities, "The given Iterable of entities not be null!");
@@ -431,9 +939,164 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
 
   @Override
   public List<T> findAllById(Iterable<ID> ids) {
-    String[] keys = StreamSupport.stream(ids.spliterator(), false).map(this::getKey).toArray(String[]::new);
+    return findAllByIdReporting(ids).entities();
+  }
+
+  @Override
+  public FoundEntities<T, ID> findAllByIdReporting(Iterable<ID> ids) {
+    List<ID> requested = Lists.newArrayList(ids);
+    List<String> keys = requested.stream().map(this::getKey).toList();
+
+    List<T> entities;
+    IntPredicate found;
+    if (hotKeyCache != null) {
+      Map<String, T> cached = findAllByKeyThroughHotKeyCache(keys);
+      entities = keys.stream().map(cached::get).filter(Objects::nonNull).toList();
+      found = i -> cached.containsKey(keys.get(i));
+    } else {
+      List<JSONArray> replies = mget(keys);
+      entities = fromDocuments(replies);
+      found = i -> replies.get(i) != null;
+    }
+    List<ID> missingIds = IntStream.range(0, keys.size()).filter(i -> !found.test(i)).mapToObj(requested::get)
+        .toList();
+    logAbsent(missingIds, keys.size());
+    return new FoundEntities<>(entities, missingIds);
+  }
+
+  /**
+   * Deserializes the documents read by {@link #mget}, reading their references in bulk.
+   *
+   * @param replies the documents, with {@code null} for missing keys
+   * @return the entities of the documents that exist, in order
+   */
+  private List<T> fromDocuments(List<JSONArray> replies) {
+    DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+    List<String> documents = replies.stream().filter(Objects::nonNull).map(document -> document.get(0).toString())
+        .toList();
+    return ReferencePrefetch.resolving(metadata.getJavaType(), documents.stream(), modulesOperations
+        .opsForJSON()::mgetAligned, serializers::isReferenceCached, () -> documents.stream().map(
+            document -> serializers.fromJson(document, metadata.getJavaType())).toList());
+  }
+
+  /**
+   * Reads entities by key, serving the hot ones from the {@link HotKeyCache} and reading
+   * the others with {@link #mget}.
+   *
+   * @param keys the keys of the entities to read
+   * @return the entities that exist, by key
+   */
+  private Map<String, T> findAllByKeyThroughHotKeyCache(List<String> keys) {
+    Map<String, T> found = new HashMap<>();
+    List<String> misses = new ArrayList<>();
+    for (String key : keys) {
+      hotKeyCache.record(key);
+      T cached = hotKeyCache.peek(key);
+      if (cached != null) {
+        found.put(key, cached);
+      } else {
+        misses.add(key);
+      }
+    }
+    if (!misses.isEmpty()) {
+      DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+      long version = hotKeyCache.version();
+      List<String> documents = mget(misses).stream().map(document -> document != null ?
+          document.get(0).toString() :
+          null).toList();
+      ReferencePrefetch.resolving(metadata.getJavaType(), documents.stream(), modulesOperations
+          .opsForJSON()::mgetAligned, serializers::isReferenceCached, () -> {
+            for (int i = 0; i < misses.size(); i++) {
+              String document = documents.get(i);
+              if (document != null) {
+                T entity = serializers.fromJson(document, metadata.getJavaType());
+                found.put(misses.get(i), entity);
+                hotKeyCache.cache(misses.get(i), entity, version);
+              }
+            }
+            return found;
+          });
+    }
+    return found;
+  }
+
+  /**
+   * Returns an independent copy of an entity, by serializing it and reading it back, so
+   * that the {@link HotKeyCache} and the write-behind buffer never share an instance with
+   * their callers. Referenced entities are documents of their own: the copy points to the
+   * same instances rather than reading them again.
+   *
+   * @param entity the entity to copy
+   * @return the copy
+   */
+  private T copyOf(T entity) {
+    DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+    List<Field> references = EntityMetadata.of(entity.getClass()).getReferenceFields();
+    JsonElement document = serializers.toJsonTree(entity);
+    if (document.isJsonObject()) {
+      references.forEach(field -> document.getAsJsonObject().remove(CompactKeyNames.storedName(field)));
+    }
+    T copy = serializers.fromJson(document.toString(), metadata.getJavaType());
+    for (Field field : references) {
+      FieldAccessor accessor = FieldAccessor.of(field);
+      accessor.set(copy, accessor.get(entity));
+    }
+    return copy;
+  }
 
-    return modulesOperations.opsForJSON().mget(metadata.getJavaType(), keys).stream().toList();
+  /**
+   * Reads documents with {@code JSON.MGET}, in chunks of at most {@code mgetBatchSize} keys
+   * of which up to {@code mgetParallelism} are read at the same time, so that a large batch
+   * neither blocks the server with one huge command nor waits for one chunk after another.
+   * In cluster mode, where {@code JSON.MGET} only takes keys of one slot, each chunk is read
+   * with one pipelined {@code JSON.MGET} per slot.
+   *
+   * @param keys the keys of the documents to read
+   * @return the documents, in the order of their keys, with {@code null} for missing keys
+   */
+  private List<JSONArray> mget(List<String> keys) {
+    RedisOMProperties.Repository repository = properties.getRepository();
+    RedisModulesClient client = modulesOperations.client();
+    if (client.isCluster()) {
+      return ParallelChunks.read(keys, repository.getMgetBatchSize(), repository.getMgetParallelism(),
+          this::mgetBySlot);
+    }
+    RedisJsonCommands json = client.clientForJSON();
+    return ParallelChunks.read(keys, repository.getMgetBatchSize(), repository.getMgetParallelism(), chunk -> json
+        .jsonMGet(chunk.toArray(String[]::new)));
+  }
+
+  private List<JSONArray> mgetBySlot(List<String> keys) {
+    RedisModulesClient client = modulesOperations.client();
+    Map<List<String>, Response<List<JSONArray>>> replies = new LinkedHashMap<>();
+    try (AbstractPipeline pipeline = client.pipelined()) {
+      for (List<String> slotKeys : client.groupBySlot(keys, Function.identity())) {
+        replies.put(slotKeys, pipeline.jsonMGet(Path2.ROOT_PATH, slotKeys.toArray(String[]::new)));
+      }
+      pipeline.sync();
+    }
+    Map<String, JSONArray> documents = new HashMap<>();
+    replies.forEach((slotKeys, reply) -> {
+      List<JSONArray> slotDocuments = reply.get();
+      for (int i = 0; i < slotKeys.size(); i++) {
+        documents.put(slotKeys.get(i), slotDocuments.get(i));
+      }
+    });
+    return keys.stream().map(documents::get).toList();
+  }
+
+  /**
+   * Logs the identifiers requested from {@code findAllById} that have no entity, as
+   * {@code findAllById} only returns the entities that were found.
+   *
+   * @param missingIds the requested identifiers that have no entity
+   * @param requested  the number of requested identifiers
+   */
+  private void logAbsent(List<ID> missingIds, int requested) {
+    if (!missingIds.isEmpty() && logger.isDebugEnabled()) {
+      logger.debug("findAllById found no {} entity for {} of {} requested ids: {}", metadata.getJavaType()
+          .getSimpleName(), missingIds.size(), requested, missingIds);
+    }
   }
 
   @Override
@@ -492,14 +1155,22 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
    * @param entity    the entity containing reference fields
    * @param pipeline  the Jedis pipeline for batched operations
    */
-  private void processReferenceAnnotations(byte[] objectKey, Object entity, Pipeline pipeline) {
-    List<Field> fields = getFieldsWithAnnotation(entity.getClass(), Reference.class);
+  private void processReferenceAnnotations(byte[] objectKey, Object entity, PipeliningBase pipeline) {
+    List<Field> fields = EntityMetadata.of(entity.getClass()).getReferenceFields();
     if (!fields.isEmpty()) {
       PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(entity);
       fields.forEach(f -> {
         var referencedValue = accessor.getPropertyValue(f.getName());
+        if (referencedValue instanceof LazyLoadingProxy proxy && !proxy.loaded()) {
+          // the references of an unused proxy are unchanged
+          Object keys = ObjectUtils.isCollection(f) ? proxy.referenceKeys() : proxy.referenceKeys().get(0);
+          jsonSet(pipeline, objectKey, SafeEncoder.encode(Path2.of("$." + CompactKeyNames.storedName(f))
+              .toString()), SafeEncoder.encode(DocumentSerializers.of(gsonBuilder).getGson().toJson(keys)));
+          return;
+        }
+        referencedValue = LazyLoadingProxy.unwrap(referencedValue);
         if (referencedValue != null) {
-          Gson gson = gsonBuilder.create();
+          Gson gson = DocumentSerializers.of(gsonBuilder).getGson();
           if (referencedValue instanceof Collection<?> referenceValues) {
             List<String> referenceKeys = new ArrayList<>();
             referenceValues.forEach(r -> {
@@ -510,22 +1181,16 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
               }
             });
 
-            List<byte[]> args = new ArrayList<>(4);
-            args.add(objectKey);
-            args.add(SafeEncoder.encode(Path2.of("$." + f.getName()).toString()));
-            args.add(SafeEncoder.encode(gson.toJson(referenceKeys)));
-            pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
+            jsonSet(pipeline, objectKey, SafeEncoder.encode(Path2.of("$." + CompactKeyNames.storedName(f))
+                .toString()), SafeEncoder.encode(gson.toJson(referenceKeys)));
 
           } else {
             Object id = ObjectUtils.getIdFieldForEntity(referencedValue);
             if (id != null) {
               String referenceKey = indexer.getKeyspaceForEntityClass(f.getType()) + id;
 
-              List<byte[]> args = new ArrayList<>(4);
-              args.add(objectKey);
-              args.add(SafeEncoder.encode(Path2.of("$." + f.getName()).toString()));
-              args.add(SafeEncoder.encode(gson.toJson(referenceKey)));
-              pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[args.size()][]));
+              jsonSet(pipeline, objectKey, SafeEncoder.encode(Path2.of("$." + CompactKeyNames.storedName(f))
+                  .toString()), SafeEncoder.encode(gson.toJson(referenceKey)));
             }
           }
         }
@@ -568,7 +1233,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     if (settings != null) {
       if (org.springframework.util.StringUtils.hasText(settings.getTimeToLivePropertyName())) {
         try {
-          Field fld = ReflectionUtils.findField(entityClass, settings.getTimeToLivePropertyName());
+          Field fld = EntityMetadata.of(entityClass).getField(settings.getTimeToLivePropertyName());
           if (fld != null) {
             long ttlPropertyValue = getTtlFieldValue(entityClass, fld, entity);
 
@@ -610,7 +1275,7 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
    * @throws OptimisticLockingFailureException if version mismatch is detected
    */
   private void checkVersion(T entity) {
-    List<Field> fields = ObjectUtils.getFieldsWithAnnotation(entity.getClass(), Version.class);
+    List<Field> fields = EntityMetadata.of(entity.getClass()).getVersionFields();
     if (fields.size() == 1) {
       BeanWrapper wrapper = new BeanWrapperImpl(entity);
       Field versionField = fields.get(0);
@@ -710,13 +1375,16 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       }
 
       SearchResult searchResult = searchOps.search(query);
-      Gson gson = gsonBuilder.create();
+      Gson gson = DocumentSerializers.of(gsonBuilder).getGson();
 
       if (searchResult.getTotalResults() > 0) {
-        List<T> content = searchResult.getDocuments().stream().map(d -> {
-          T entity = gson.fromJson(SafeEncoder.encode((byte[]) d.get("$")), metadata.getJavaType());
-          return ObjectUtils.populateRedisKey(entity, d.getId());
-        }).toList();
+        List<Document> documents = searchResult.getDocuments();
+        List<T> content = ReferencePrefetch.resolving(metadata.getJavaType(), ReferencePrefetch.rootDocuments(
+            documents), modulesOperations.opsForJSON()::mgetAligned, DocumentSerializers.of(
+                gsonBuilder)::isReferenceCached, () -> documents.stream().map(d -> {
+              T entity = gson.fromJson(SafeEncoder.encode((byte[]) d.get("$")), metadata.getJavaType());
+              return ObjectUtils.populateRedisKey(entity, d.getId());
+            }).toList());
 
         return new PageImpl<>(content, pageable, searchResult.getTotalResults());
       } else {
@@ -781,6 +1449,10 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     // Construct key properly for composite IDs
     String fullKey = getKeyForId(id);
 
+    if (writeBehindBuffer != null && writeBehindBuffer.get(fullKey) != null) {
+      return true;
+    }
+
     return Boolean.TRUE.equals(modulesOperations.template().execute((RedisCallback<Boolean>) connection -> connection
         .keyCommands().exists(fullKey.getBytes())));
   }
@@ -857,6 +1529,8 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     }
 
     String key = getKey(id);
+    flushBuffered(key);
+    evictCached(key);
 
     Class<?> entityType = metadata.getJavaType();
     List<UpdateOperation> updateOperations = new ArrayList<>();
@@ -918,6 +1592,8 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
       }
 
       String key = getKey(id);
+      flushBuffered(key);
+      evictCached(key);
 
       for (MetamodelField<?, ?> metamodelField : metamodelFields) {
         String propertyName = metamodelField.getSearchAlias();
@@ -1013,17 +1689,11 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
    * @param updateOperations the list of update operations to execute
    */
   private void executePipelinedUpdates(List<UpdateOperation> updateOperations) {
-    try (Jedis jedis = modulesOperations.client().getJedis().get()) {
-      Pipeline pipeline = jedis.pipelined();
-
+    DocumentSerializers serializers = DocumentSerializers.of(gsonBuilder);
+    try (AbstractPipeline pipeline = modulesOperations.client().pipelined()) {
       for (UpdateOperation op : updateOperations) {
-        List<byte[]> args = new ArrayList<>(4);
-        args.add(SafeEncoder.encode(op.key));
-        args.add(SafeEncoder.encode(Path2.of(op.field.getJSONPath()).toString()));
-        args.add(SafeEncoder.encode(new Gson().toJson(op.value)));
-        args.add(SafeEncoder.encode("XX"));
-
-        pipeline.sendCommand(JsonCommand.SET, args.toArray(new byte[0][]));
+        jsonSet(pipeline, SafeEncoder.encode(op.key), SafeEncoder.encode(Path2.of(op.field.getJSONPath()).toString()),
+            serializers.toJsonBytes(op.value), SafeEncoder.encode("XX"));
       }
 
       pipeline.sync();
@@ -1128,4 +1798,19 @@ public class SimpleRedisDocumentRepository<T, ID> extends SimpleKeyValueReposito
     return mappingConverter.getConversionService().convert(value, String.class);
   }
 
+
+  /**
+   * A document prepared for writing by {@code saveAll}.
+   *
+   * @param entity    the entity
+   * @param id        the identifier of the entity
+   * @param isNew     whether the entity is new
+   * @param keyspace  the keyspace of the entity
+   * @param objectKey the key of the document
+   * @param document  the serialized document
+   * @param ttl       the expiration of the document
+   */
+  private record PendingWrite(Object entity, String id, boolean isNew, String keyspace, byte[] objectKey,
+      byte[] document, Optional<Long> ttl) {
+  }
 }
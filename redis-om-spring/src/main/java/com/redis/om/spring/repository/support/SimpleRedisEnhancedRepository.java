@@ -5,9 +5,11 @@ import static com.redis.om.spring.util.ObjectUtils.*;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
@@ -30,6 +32,7 @@ import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -52,11 +55,15 @@ import com.redis.om.spring.search.stream.EntityStream;
 import com.redis.om.spring.search.stream.EntityStreamImpl;
 import com.redis.om.spring.search.stream.RedisFluentQueryByExample;
 import com.redis.om.spring.search.stream.SearchStream;
+import com.redis.om.spring.util.EntityMetadata;
+import com.redis.om.spring.util.FieldAccessor;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.vectorize.Embedder;
 
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.PipeliningBase;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
@@ -75,9 +82,10 @@ import redis.clients.jedis.util.SafeEncoder;
  * @param <ID> the type of the id of the entity the repository manages
  */
 public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueRepository<T, ID> implements
-    RedisEnhancedRepository<T, ID> {
+    RedisEnhancedRepository<T, ID>, AutoCloseable {
 
   private static final Logger logger = LoggerFactory.getLogger(SimpleRedisEnhancedRepository.class);
+  private static final String HASH_KEY_TYPE = "hash";
 
   /** Operations for Redis modules (Search, JSON, etc.) */
   protected final RedisModulesOperations<String> modulesOperations;
@@ -105,6 +113,8 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
   private final EntityStream entityStream;
   private final String repositoryIndexName;
+  private final WriteBehindBuffer<T> writeBehindBuffer;
+  private final HotKeyCache<T> hotKeyCache;
 
   /**
    * Constructs a new {@code SimpleRedisEnhancedRepository} with the specified dependencies.
@@ -166,6 +176,18 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     this.lexicographicIndexer = new LexicographicIndexer(modulesOperations.template(), indexer);
     this.entityStream = new EntityStreamImpl(modulesOperations, modulesOperations.gsonBuilder(), indexer);
     this.repositoryIndexName = indexer.resolveRepositoryIndexName(repositoryInterface);
+
+    RedisOMProperties.Repository.WriteBehind writeBehind = properties.getRepository().getWriteBehind();
+    this.writeBehindBuffer = writeBehind.isEnabledFor(metadata.getJavaType()) ?
+        new WriteBehindBuffer<>(entities -> writeAll(entities, false), writeBehind.getBatchSize(), writeBehind.getFlushInterval()) :
+        null;
+
+    RedisOMProperties.Repository.HotKeys hotKeys = properties.getRepository().getHotKeys();
+    this.hotKeyCache = hotKeys.isEnabledFor(metadata.getJavaType()) ?
+        new HotKeyCache<>(modulesOperations.opsForTopK(), HotKeyCache.topKKeyFor(indexer.getKeyspaceForEntityClass(
+            metadata.getJavaType())), hotKeys.getTopK(), hotKeys.getRefreshInterval(), hotKeys.getSampleRate(),
+            this::copyOf) :
+        null;
   }
 
   @SuppressWarnings(
@@ -199,9 +221,26 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
 
   @Override
   public void updateField(T entity, MetamodelField<T, ?> field, Object value) {
+    flushBuffered(getKeyFor(entity));
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(getKeyFor(entity));
+    }
     PartialUpdate<?> update = new PartialUpdate<>(metadata.getId(entity).toString(), metadata.getJavaType()).set(field
         .getSearchAlias(), value);
 
+    // Only plain values can be batched: collections, maps and nested objects require
+    // reading the hash to clear their previous entries
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent() && value != null && mappingConverter.getConversionService().canConvert(value.getClass(),
+        byte[].class) && !(value instanceof Collection) && !(value instanceof Map) && !value.getClass().isArray()) {
+      RedisData rdo = new RedisData();
+      mappingConverter.write(update, rdo);
+      Map<byte[], byte[]> fields = rdo.getBucket().rawMap();
+      byte[] key = createKey(getKeyspace(), metadata.getId(entity).toString());
+      batch.get().add(modulesOperations.client(), pipeline -> pipeline.hmset(key, fields));
+      return;
+    }
+
     enhancedKeyValueAdapter.update(update);
   }
 
@@ -231,6 +270,45 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     return Boolean.TRUE.equals(template.expire(getKey(id), expiration, timeUnit));
   }
 
+  @Override
+  public Map<ID, Boolean> existsAllById(Iterable<ID> ids) {
+    Map<ID, Boolean> exists = pipelineByKey(ids, this::getKeyForId, (pipeline, key) -> pipeline.exists(key));
+    if (writeBehindBuffer != null) {
+      exists.replaceAll((id, found) -> found || writeBehindBuffer.get(getKeyForId(id)) != null);
+    }
+    return exists;
+  }
+
+  @Override
+  public Map<ID, Long> getExpirationAll(Iterable<ID> ids) {
+    return pipelineByKey(ids, this::getKey, (pipeline, key) -> pipeline.ttl(key));
+  }
+
+  @Override
+  public long setExpirationAll(Iterable<ID> ids, Long expiration, TimeUnit timeUnit) {
+    long expirationInMillis = timeUnit.toMillis(expiration);
+    return pipelineByKey(ids, this::getKey, (pipeline, key) -> pipeline.pexpire(key, expirationInMillis)).values()
+        .stream().filter(updated -> updated == 1L).count();
+  }
+
+  /**
+   * Runs a single-key command for each of the given entities, pipelining the commands in
+   * chunks of {@link RedisOMProperties.Repository#getBulkKeyBatchSize()} keys.
+   *
+   * @param ids         the identifiers of the entities
+   * @param keyFunction maps an identifier to the key of its entity, as the single-key
+   *                    counterpart of the bulk operation does
+   * @param command     queues the command for one key on the pipeline
+   * @param <R>         the type of the command's reply
+   * @return a map from each identifier to the command's reply, in iteration order
+   */
+  private <R> Map<ID, R> pipelineByKey(Iterable<ID> ids, Function<ID, String> keyFunction,
+      BiFunction<PipeliningBase, String, Response<R>> command) {
+    Assert.notNull(ids, "The given Iterable of ids must not be null!");
+    return modulesOperations.client().pipelineByKey(ids, keyFunction, properties.getRepository()
+        .getBulkKeyBatchSize(), command);
+  }
+
   /* (non-Javadoc)
    *
    * @see org.springframework.data.repository.CrudRepository#findAll() */
@@ -326,6 +404,64 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     return indexer.getKeyspaceForEntityClass(metadata.getJavaType());
   }
 
+  @Override
+  public Stream<T> streamAll() {
+    flush();
+    String keyspace = getKeyspace();
+    return new KeyspaceScan(modulesOperations.client(), keyspace, HASH_KEY_TYPE, properties.getRepository()
+        .getBulkKeyBatchSize()).stream(keys -> readHashes(keyspace, keys).stream().filter(Objects::nonNull).toList());
+  }
+
+  /**
+   * Reads the entities stored at the given keys of a keyspace with pipelined
+   * {@code HGETALL}s.
+   *
+   * @return the entities, in the order of their keys, with {@code null} for missing keys
+   */
+  private List<T> readHashes(String keyspace, List<String> keys) {
+    Map<String, Map<byte[], byte[]>> replies = modulesOperations.client().pipelineByKey(keys, Function.identity(),
+        keys.size(), (pipeline, key) -> pipeline.hgetAll(SafeEncoder.encode(key)));
+    String keyspaceName = keyspace.endsWith(":") ? keyspace.substring(0, keyspace.length() - 1) : keyspace;
+    List<T> entities = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      Map<byte[], byte[]> raw = replies.get(keys.get(i));
+      if (raw == null || raw.isEmpty()) {
+        entities.add(null);
+        continue;
+      }
+      RedisData data = new RedisData(raw);
+      data.setId(keys.get(i).substring(keyspace.length()));
+      data.setKeyspace(keyspaceName);
+      T entity = mappingConverter.read(metadata.getJavaType(), data);
+      entities.add(entity != null ? ObjectUtils.populateRedisKey(entity, keys.get(i)) : null);
+    }
+    return entities;
+  }
+
+  /**
+   * Returns an independent copy of an entity, by mapping it to a hash and reading it
+   * back, so that the {@link HotKeyCache} and the write-behind buffer never share an
+   * instance with their callers. Referenced entities are hashes of their own: the copy
+   * points to the same instances rather than reading them again.
+   *
+   * @param entity the entity to copy
+   * @return the copy
+   */
+  private T copyOf(T entity) {
+    RedisData data = new RedisData();
+    mappingConverter.write(entity, data);
+    List<Field> references = EntityMetadata.of(entity.getClass()).getReferenceFields();
+    for (Field field : references) {
+      data.getBucket().extractAllKeysFor(field.getName()).forEach(data.getBucket()::remove);
+    }
+    T copy = mappingConverter.read(metadata.getJavaType(), data);
+    for (Field field : references) {
+      FieldAccessor accessor = FieldAccessor.of(field);
+      accessor.set(copy, accessor.get(entity));
+    }
+    return ObjectUtils.populateRedisKey(copy, getKeyFor(entity));
+  }
+
   @Override
   public <S extends T> S update(Example<S> example) {
     S probe = example.getProbe();
@@ -337,6 +473,10 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     }
 
     String key = getKey(id);
+    flushBuffered(key);
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(key);
+    }
 
     // Serialize the full probe entity — handles all types correctly
     RedisData redisData = new RedisData();
@@ -388,6 +528,10 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
         }
 
         String key = getKey(id);
+        flushBuffered(key);
+        if (hotKeyCache != null) {
+          hotKeyCache.invalidate(key);
+        }
 
         RedisData redisData = new RedisData();
         mappingConverter.write(probe, redisData);
@@ -462,48 +606,225 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
   }
 
   @Override
-  public <S extends T> List<S> saveAll(Iterable<S> entities) {
-    Assert.notNull(entities, "The given Iterable of entities must not be null!");
-    List<S> saved = new ArrayList<>();
-    List<String> entityIds = new ArrayList<>();
+  public <S extends T> S save(S entity) {
+    Assert.notNull(entity, "Entity must not be null");
 
-    embedder.processEntities(entities);
+    if (writeBehindBuffer != null) {
+      return saveBehind(entity);
+    }
 
-    try (Jedis jedis = modulesOperations.client().getJedis().get()) {
-      Pipeline pipeline = jedis.pipelined();
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      return saveInBatch(entity, batch.get());
+    }
+    S saved = super.save(entity);
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(getKeyFor(saved));
+    }
+    return saved;
+  }
 
-      for (S entity : entities) {
-        boolean isNew = metadata.isNew(entity);
+  /**
+   * Buffers an entity in the write-behind buffer instead of writing it to Redis.
+   * <p>
+   * The write itself, including TTL and lexicographic indexing, happens when the buffer
+   * is flushed.
+   *
+   * @param entity the entity to save
+   * @param <S>    the type of the entity
+   * @return the entity, with its identifier assigned
+   */
+  private <S extends T> S saveBehind(S entity) {
+    prepareDeferredSave(entity);
+    String key = getKeyFor(entity);
+    writeBehindBuffer.put(key, copyOf(entity));
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(key);
+    }
+    return entity;
+  }
 
-        KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
-            .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
-        Object id = isNew ?
-            generator.generateIdentifierOfType(keyValueEntity.getIdProperty().getTypeInformation()) :
-            keyValueEntity.getPropertyAccessor(entity).getProperty(keyValueEntity.getIdProperty());
-        keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
+  /**
+   * Writes the buffered version of an entity, if any, before the entity is changed in Redis
+   * directly, so that the write-behind buffer neither overwrites nor hides the change.
+   *
+   * @param key the key of the entity about to be changed
+   */
+  private void flushBuffered(String key) {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.flush(key);
+    }
+  }
 
-        String idAsString = validateKeyForWriting(id, entity);
-        entityIds.add(idAsString);
+  /**
+   * Adds the commands saving an entity to the active {@link RedisOmBatch}. As with a
+   * regular save, the existing hash is replaced rather than merged.
+   *
+   * @param entity the entity to save
+   * @param batch  the batch active on the current thread
+   * @param <S>    the type of the entity
+   * @return the entity, with its identifier assigned
+   */
+  private <S extends T> S saveInBatch(S entity, RedisOmBatch batch) {
+    prepareDeferredSave(entity);
+    batch.add(modulesOperations.client(), pipeline -> {
+      embedder.processEntity(entity);
+      pipeline.del(getKeyFor(entity));
+      writeEntity(entity, pipeline, false);
+    });
+    return entity;
+  }
 
-        String keyspace = keyValueEntity.getKeySpace();
-        byte[] objectKey = createKey(keyspace, idAsString);
+  /**
+   * Prepares an entity whose write to Redis is deferred.
+   * <p>
+   * New entities get their identifier and creation audit fields assigned right away, so
+   * the entity can be used as if it had been saved. Auditing happens here only: once it
+   * has an identifier, the entity no longer looks new when it is eventually written.
+   *
+   * @param entity the entity to prepare
+   */
+  private void prepareDeferredSave(T entity) {
+    boolean isNew = metadata.isNew(entity);
+    if (isNew) {
+      KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
+          .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
+      keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), generator
+          .generateIdentifierOfType(keyValueEntity.getIdProperty().getTypeInformation()));
+    }
+    auditor.processEntity(entity, isNew);
+  }
 
-        // process entity pre-save mutation
-        auditor.processEntity(entity, isNew);
+  @Override
+  public void flush() {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.flush();
+    }
+  }
 
-        // Process lexicographic indexing
-        String keyspaceWithColon = keyspace.endsWith(":") ? keyspace : keyspace + ":";
-        lexicographicIndexer.processEntity(entity, idAsString, isNew, keyspaceWithColon);
+  @Override
+  public void addFlushListener(WriteBehindBuffer.FlushListener<T> listener) {
+    if (writeBehindBuffer == null) {
+      throw new IllegalStateException("Write-behind saves are not enabled for " + metadata.getJavaType().getName());
+    }
+    writeBehindBuffer.addFlushListener(listener);
+  }
 
-        RedisData rdo = new RedisData();
-        mappingConverter.write(entity, rdo);
+  @Override
+  public Optional<T> findById(ID id) {
+    if (writeBehindBuffer != null) {
+      Assert.notNull(id, "The given id must not be null");
+      T buffered = writeBehindBuffer.get(getKeyForId(id));
+      if (buffered != null) {
+        return Optional.of(copyOf(buffered));
+      }
+    }
+    if (hotKeyCache != null) {
+      Assert.notNull(id, "The given id must not be null");
+      return hotKeyCache.get(getKeyForId(id), () -> super.findById(id));
+    }
+    return super.findById(id);
+  }
+
+  /**
+   * Writes the entities still held in the write-behind buffer and stops its background
+   * flushes, as well as the hot-key cache refresh. Called when the repository bean is
+   * destroyed.
+   */
+  @Override
+  public void close() {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.close();
+    }
+    if (hotKeyCache != null) {
+      hotKeyCache.close();
+    }
+  }
 
-        pipeline.hmset(objectKey, rdo.getBucket().rawMap());
+  @Override
+  public List<T> findAllById(Iterable<ID> ids) {
+    if (hotKeyCache == null) {
+      return super.findAllById(ids);
+    }
+    Assert.notNull(ids, "The given Iterable of Id's must not be null!");
+    List<String> keys = StreamSupport.stream(ids.spliterator(), false).map(this::getKeyForId).toList();
+    return findAllByKeyThroughHotKeyCache(keys);
+  }
 
-        if (expires(rdo)) {
-          pipeline.expire(objectKey, rdo.getTimeToLive());
+  /**
+   * Reads entities by key, serving the hot ones from the {@link HotKeyCache} and reading
+   * the others with pipelined {@code HGETALL}s.
+   *
+   * @param keys the keys of the entities to read
+   * @return the entities that exist, in the order of their keys
+   */
+  private List<T> findAllByKeyThroughHotKeyCache(List<String> keys) {
+    Map<String, T> found = new HashMap<>();
+    List<String> misses = new ArrayList<>();
+    for (String key : keys) {
+      hotKeyCache.record(key);
+      T cached = hotKeyCache.peek(key);
+      if (cached != null) {
+        found.put(key, cached);
+      } else {
+        misses.add(key);
+      }
+    }
+    if (!misses.isEmpty()) {
+      long version = hotKeyCache.version();
+      List<T> loaded = readHashes(getKeyspace(), misses);
+      for (int i = 0; i < misses.size(); i++) {
+        T entity = loaded.get(i);
+        if (entity != null) {
+          found.put(misses.get(i), entity);
+          hotKeyCache.cache(misses.get(i), entity, version);
         }
+      }
+    }
+    return keys.stream().map(found::get).filter(Objects::nonNull).toList();
+  }
+
+  @Override
+  public <S extends T> List<S> saveAll(Iterable<S> entities) {
+    Assert.notNull(entities, "The given Iterable of entities must not be null!");
+
+    // like save, go through the buffer so a flush cannot overwrite these writes with older versions
+    if (writeBehindBuffer != null) {
+      List<S> saved = new ArrayList<>();
+      entities.forEach(entity -> saved.add(saveBehind(entity)));
+      return saved;
+    }
+
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      List<S> saved = new ArrayList<>();
+      entities.forEach(entity -> saved.add(saveInBatch(entity, batch.get())));
+      return saved;
+    }
+
+    return writeAll(entities, true);
+  }
+
+  /**
+   * Writes entities to Redis in a single pipeline.
+   *
+   * @param entities the entities to write
+   * @param audit    whether to apply auditing, {@code false} for deferred saves that were
+   *                 already audited when they were made
+   * @param <S>      the type of the entities
+   * @return the written entities
+   */
+  private <S extends T> List<S> writeAll(Iterable<S> entities, boolean audit) {
+    List<S> saved = new ArrayList<>();
+    List<String> entityIds = new ArrayList<>();
+
+    embedder.processEntities(entities);
+
+    try (Jedis jedis = modulesOperations.client().getJedis().get()) {
+      Pipeline pipeline = jedis.pipelined();
 
+      for (S entity : entities) {
+        entityIds.add(writeEntity(entity, pipeline, audit));
         saved.add(entity);
       }
 
@@ -533,10 +854,82 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     return saved;
   }
 
+  /**
+   * Writes the commands saving an entity to a pipeline or transaction.
+   * <p>
+   * Assigns an identifier to new entities, applies auditing and lexicographic indexing,
+   * and queues the {@code HMSET} of the entity's hash along with its expiration.
+   *
+   * @param entity   the entity to save
+   * @param pipeline the pipeline or transaction to write the commands to
+   * @param audit    whether to apply auditing
+   * @return the identifier of the entity as a string
+   */
+  private String writeEntity(T entity, PipeliningBase pipeline, boolean audit) {
+    boolean isNew = metadata.isNew(entity);
+
+    KeyValuePersistentEntity<?, ?> keyValueEntity = mappingConverter.getMappingContext()
+        .getRequiredPersistentEntity(ClassUtils.getUserClass(entity));
+    Object id = isNew ?
+        generator.generateIdentifierOfType(keyValueEntity.getIdProperty().getTypeInformation()) :
+        keyValueEntity.getPropertyAccessor(entity).getProperty(keyValueEntity.getIdProperty());
+    keyValueEntity.getPropertyAccessor(entity).setProperty(keyValueEntity.getIdProperty(), id);
+
+    String idAsString = validateKeyForWriting(id, entity);
+
+    String keyspace = keyValueEntity.getKeySpace();
+    byte[] objectKey = createKey(keyspace, idAsString);
+
+    // process entity pre-save mutation
+    if (audit) {
+      auditor.processEntity(entity, isNew);
+    }
+
+    // Process lexicographic indexing
+    String keyspaceWithColon = keyspace.endsWith(":") ? keyspace : keyspace + ":";
+    lexicographicIndexer.processEntity(entity, idAsString, keyspaceWithColon, pipeline);
+
+    RedisData rdo = new RedisData();
+    mappingConverter.write(entity, rdo);
+
+    pipeline.hmset(objectKey, rdo.getBucket().rawMap());
+
+    if (expires(rdo)) {
+      pipeline.expire(objectKey, rdo.getTimeToLive());
+    }
+
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(SafeEncoder.encode(objectKey));
+    }
+
+    return idAsString;
+  }
+
   @Override
   public void delete(T entity) {
     Assert.notNull(entity, "The given entity must not be null");
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.remove(getKeyFor(entity));
+    }
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(getKeyFor(entity));
+    }
+
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      String key = getKeyFor(entity);
+      batch.get().add(modulesOperations.client(), pipeline -> {
+        processLexicographicDeletion(entity, pipeline);
+        pipeline.unlink(key);
+      });
+      return;
+    }
+
+    processLexicographicDeletion(entity, null);
+    super.delete(entity);
+  }
 
+  private void processLexicographicDeletion(T entity, @Nullable PipeliningBase pipeline) {
     // Check if this entity class has lexicographic fields
     Set<String> lexicographicFields = indexer.getLexicographicFields(entity.getClass());
     if (lexicographicFields != null && !lexicographicFields.isEmpty()) {
@@ -547,15 +940,19 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
           ClassUtils.getUserClass(entity));
       String keyspace = keyValueEntity.getKeySpace();
       String keyspaceWithColon = keyspace.endsWith(":") ? keyspace : keyspace + ":";
-      lexicographicIndexer.processEntityDeletion(entity, idAsString, keyspaceWithColon);
+      lexicographicIndexer.processEntityDeletion(entity, idAsString, keyspaceWithColon, pipeline);
     }
-
-    super.delete(entity);
   }
 
   @Override
   public void deleteById(ID id) {
     Assert.notNull(id, "The given id must not be null");
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.remove(getKeyForId(id));
+    }
+    if (hotKeyCache != null) {
+      hotKeyCache.invalidate(getKeyForId(id));
+    }
 
     // Check if this entity class has lexicographic fields
     Set<String> lexicographicFields = indexer.getLexicographicFields(metadata.getJavaType());
@@ -568,10 +965,28 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
       }
     }
 
+    Optional<RedisOmBatch> batch = RedisOmBatch.current();
+    if (batch.isPresent()) {
+      String key = getKeyForId(id);
+      batch.get().add(modulesOperations.client(), pipeline -> pipeline.unlink(key));
+      return;
+    }
+
     // For entities without lexicographic fields or when entity not found, just call parent
     super.deleteById(id);
   }
 
+  @Override
+  public void deleteAll() {
+    if (writeBehindBuffer != null) {
+      writeBehindBuffer.clear();
+    }
+    if (hotKeyCache != null) {
+      hotKeyCache.clear();
+    }
+    super.deleteAll();
+  }
+
   @Override
   public void deleteAll(Iterable<? extends T> entities) {
     Assert.notNull(entities, "The given Iterable of entities not be null!");
@@ -654,6 +1069,10 @@ public class SimpleRedisEnhancedRepository<T, ID> extends SimpleKeyValueReposito
     // Construct key properly for composite IDs
     String fullKey = getKeyForId(id);
 
+    if (writeBehindBuffer != null && writeBehindBuffer.get(fullKey) != null) {
+      return true;
+    }
+
     return Boolean.TRUE.equals(modulesOperations.template().execute((RedisCallback<Boolean>) connection -> connection
         .keyCommands().exists(fullKey.getBytes())));
   }
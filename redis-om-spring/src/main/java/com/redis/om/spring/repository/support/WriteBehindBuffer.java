@@ -0,0 +1,293 @@
+package com.redis.om.spring.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Per-key coalescing buffer backing the write-behind mode of the Redis OM repositories.
+ * <p>
+ * Entities are buffered under their Redis key, so when the same entity is saved many times
+ * between two flushes only the latest state is written ("last write wins"). Buffered writes
+ * are handed to a writer function in chunks of at most {@code batchSize} entities, typically
+ * the repository's pipelined {@code saveAll}. A flush happens when:
+ * <ul>
+ * <li>{@code batchSize} entities are pending,</li>
+ * <li>the flush interval elapses, or</li>
+ * <li>{@link #flush()} is called explicitly.</li>
+ * </ul>
+ * <p>
+ * Background flushes run on a single daemon scheduler shared by all buffers. Entities
+ * that are being written remain visible through {@link #get(String)} until the write
+ * completes, so reads issued through the repository always see the latest saved state.
+ * If a chunk fails to be written, its entities are put back in the buffer unless a newer
+ * version of the same entity has been saved in the meantime.
+ * </p>
+ *
+ * @param <T> the type of the buffered entities
+ * @see com.redis.om.spring.RedisOMProperties.Repository.WriteBehind
+ * @since 2.0.7
+ */
+public class WriteBehindBuffer<T> implements AutoCloseable {
+
+  private static final Log logger = LogFactory.getLog(WriteBehindBuffer.class);
+
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+    Thread thread = new Thread(r, "redis-om-write-behind-" + threadCount.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final Map<String, T> pending = new ConcurrentHashMap<>();
+  private final Map<String, T> inFlight = new ConcurrentHashMap<>();
+  private final List<FlushListener<T>> listeners = new CopyOnWriteArrayList<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private volatile boolean closed;
+  private final Consumer<List<T>> writer;
+  private final int batchSize;
+  private final ScheduledFuture<?> flushTask;
+
+  /**
+   * Creates a new write-behind buffer and starts its periodic flush.
+   *
+   * @param writer        writes a chunk of buffered entities to Redis
+   * @param batchSize     the number of pending entities that triggers a flush, and the
+   *                      maximum number of entities passed to the writer at once
+   * @param flushInterval the maximum time, in milliseconds, an entity stays buffered
+   */
+  public WriteBehindBuffer(Consumer<List<T>> writer, int batchSize, long flushInterval) {
+    Assert.notNull(writer, "Writer must not be null");
+    Assert.isTrue(batchSize > 0, "Write-behind batch size must be positive");
+    Assert.isTrue(flushInterval > 0, "Write-behind flush interval must be positive");
+    this.writer = writer;
+    this.batchSize = batchSize;
+    this.flushTask = scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Buffers an entity under its Redis key, replacing any pending write for the same key.
+   * Once the buffer is {@link #close() closed}, the entity is written right away.
+   *
+   * @param key    the Redis key of the entity
+   * @param entity the entity to write
+   */
+  public void put(String key, T entity) {
+    pending.put(key, entity);
+    if (closed) {
+      flush();
+      return;
+    }
+    if (pending.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+      scheduler.execute(() -> {
+        flushRequested.set(false);
+        flushQuietly();
+      });
+    }
+  }
+
+  /**
+   * Returns the buffered or in-flight entity stored under the given key.
+   *
+   * @param key the Redis key of the entity
+   * @return the latest unpersisted version of the entity, or {@code null} if there is none
+   */
+  @Nullable
+  public T get(String key) {
+    T entity = pending.get(key);
+    return entity != null ? entity : inFlight.get(key);
+  }
+
+  /**
+   * Discards the pending write for the given key.
+   * <p>
+   * Waits for an in-progress flush to complete, so that a subsequent delete in Redis
+   * cannot be overwritten by a write that was already on its way.
+   * </p>
+   *
+   * @param key the Redis key of the entity
+   */
+  public void remove(String key) {
+    flushLock.lock();
+    try {
+      pending.remove(key);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Discards all pending writes, waiting for an in-progress flush to complete.
+   */
+  public void clear() {
+    flushLock.lock();
+    try {
+      pending.clear();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of entities waiting to be written.
+   *
+   * @return the number of pending writes
+   */
+  public int size() {
+    return pending.size();
+  }
+
+  /**
+   * Registers a listener notified after each chunk of entities has been written, or has
+   * failed to be written.
+   *
+   * @param listener the listener to register
+   */
+  public void addFlushListener(FlushListener<T> listener) {
+    Assert.notNull(listener, "Flush listener must not be null");
+    listeners.add(listener);
+  }
+
+  /**
+   * Writes all pending entities to Redis and waits for the writes to complete.
+   * <p>
+   * Acts as a barrier: every entity buffered before this call has been written when this
+   * method returns normally. Entities saved concurrently with the flush are left for the
+   * next one.
+   * </p>
+   *
+   * @throws RuntimeException if writing a chunk fails; the failed chunk and the entities
+   *                          not yet written stay in the buffer
+   */
+  public void flush() {
+    flushLock.lock();
+    try {
+      List<String> keys = new ArrayList<>(batchSize);
+      List<T> chunk = new ArrayList<>(batchSize);
+      for (String key : new ArrayList<>(pending.keySet())) {
+        T entity = pending.remove(key);
+        if (entity != null) {
+          inFlight.put(key, entity);
+          keys.add(key);
+          chunk.add(entity);
+        }
+        if (chunk.size() == batchSize) {
+          writeChunk(keys, chunk);
+          keys = new ArrayList<>(batchSize);
+          chunk = new ArrayList<>(batchSize);
+        }
+      }
+      if (!chunk.isEmpty()) {
+        writeChunk(keys, chunk);
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Writes the pending entity stored under the given key, if any, and waits for the write
+   * to complete.
+   * <p>
+   * Called before an entity is changed in Redis directly, such as by a partial update, so
+   * that a flush cannot later overwrite the change with an older buffered version and reads
+   * stop returning the buffered version.
+   * </p>
+   *
+   * @param key the Redis key of the entity
+   * @throws RuntimeException if writing the entity fails; it then stays in the buffer
+   */
+  public void flush(String key) {
+    flushLock.lock();
+    try {
+      T entity = pending.remove(key);
+      if (entity != null) {
+        inFlight.put(key, entity);
+        writeChunk(List.of(key), List.of(entity));
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * Stops the periodic flush and writes all pending entities to Redis. Entities buffered
+   * afterwards are written as soon as they are put.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    flushTask.cancel(false);
+    flush();
+  }
+
+  private void writeChunk(List<String> keys, List<T> chunk) {
+    RuntimeException error = null;
+    try {
+      writer.accept(chunk);
+    } catch (RuntimeException e) {
+      error = e;
+      for (int i = 0; i < keys.size(); i++) {
+        pending.putIfAbsent(keys.get(i), chunk.get(i));
+      }
+    } finally {
+      for (int i = 0; i < keys.size(); i++) {
+        inFlight.remove(keys.get(i), chunk.get(i));
+      }
+    }
+
+    for (FlushListener<T> listener : listeners) {
+      try {
+        listener.onFlush(chunk, error);
+      } catch (RuntimeException e) {
+        logger.warn("Write-behind flush listener failed", e);
+      }
+    }
+
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      logger.warn(String.format("Write-behind flush failed, %d entities will be retried", pending.size()), e);
+    }
+  }
+
+  /**
+   * Callback notified after the write-behind buffer has written a chunk of entities.
+   *
+   * @param <T> the type of the buffered entities
+   */
+  @FunctionalInterface
+  public interface FlushListener<T> {
+    /**
+     * Called after a chunk of entities has been written to Redis.
+     *
+     * @param entities the entities in the chunk
+     * @param error    the failure raised while writing the chunk, or {@code null} on success
+     */
+    void onFlush(List<T> entities, @Nullable Throwable error);
+  }
+}
@@ -1,5 +1,6 @@
 package com.redis.om.spring.search.stream;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
@@ -17,12 +18,14 @@ import org.springframework.data.domain.Sort;
 import com.google.gson.Gson;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.metamodel.MetamodelField;
+import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.metamodel.indexed.NumericField;
 import com.redis.om.spring.ops.search.SearchOperations;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Tuple;
 import com.redis.om.spring.tuple.Tuples;
+import com.redis.om.spring.util.CompactKeyNames;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.util.SearchResultRawResponseToObjectConverter;
 
@@ -399,6 +402,10 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
                     "$." + foi.getSearchAlias() :
                     foi.getSearchAlias()).toArray(String[]::new) :
             new String[] {};
+        // collections of @CompactKeys classes are returned from their stored path
+        String[] queryFields = !returningFullEntity ?
+            returning.stream().map(SearchStreamQueryExecutor::returnField).toArray(String[]::new) :
+            new String[] {};
 
         boolean resultSetHasNonIndexedFields = returning.stream().anyMatch(foi -> !foi.isIndexed());
 
@@ -418,7 +425,7 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
           results = toResultTuple(entities, returnFields);
 
         } else {
-          query.returnFields(returnFields);
+          query.returnFields(queryFields);
           results = toResultTuple(entitySearchStream.getOps().search(query), returnFields);
         }
         resolvedStream = results.stream();
@@ -447,7 +454,7 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
           }
         } else {
           Class<?> targetClass = foi.getTargetClass();
-          var rawValue = props.get(ObjectUtils.isCollection(targetClass) ? "$." + field : field);
+          var rawValue = props.get(SearchStreamQueryExecutor.returnField(foi));
           mappedResults.add(SearchResultRawResponseToObjectConverter.process(rawValue, targetClass, gson));
         }
       });
@@ -470,7 +477,7 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
 
     entities.forEach(entity -> {
       List<Object> mappedResults = new ArrayList<>();
-      returning.forEach(foi -> mappedResults.add(ObjectUtils.getValueByPath(entity, foi.getJSONPath())));
+      returning.forEach(foi -> mappedResults.add(valueOf(entity, foi)));
 
       if (returning.size() > 1) {
         results.add((T) Tuples.ofArray(returnFields, mappedResults.toArray()));
@@ -482,6 +489,17 @@ public class ReturnFieldsSearchStreamImpl<E, T> implements SearchStream<T> {
     return results;
   }
 
+  private static Object valueOf(Object entity, MetamodelField<?, ?> foi) {
+    SearchFieldAccessor accessor = foi.getSearchFieldAccessor();
+    Field field = accessor != null ? accessor.getField() : null;
+    // JSON paths of @CompactKeys classes hold the stored names, not the Java names
+    if (field != null && CompactKeyNames.isCompact(field.getDeclaringClass()) && field.getDeclaringClass()
+        .isInstance(entity)) {
+      return accessor.getValue(entity);
+    }
+    return ObjectUtils.getValueByPath(entity, foi.getJSONPath());
+  }
+
   @Override
   public Stream<Long> map(ToLongFunction<? super T> mapper) {
     return resolveStream().mapToLong(mapper).boxed();
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -12,6 +13,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.serialization.DocumentSerializers;
+import com.redis.om.spring.serialization.gson.ReferencePrefetch;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.Tuples;
 import com.redis.om.spring.util.ObjectUtils;
@@ -36,9 +39,6 @@ class SearchStreamDocumentMapper<E> {
   private final GsonBuilder gsonBuilder;
   private final MappingRedisOMConverter mappingConverter;
 
-  // Lazily initialised Gson (mirrors SearchStreamImpl.getGson())
-  private Gson gson;
-
   SearchStreamDocumentMapper(boolean isDocument, Class<E> entityClass, JSONOperations<String> json,
       GsonBuilder gsonBuilder, MappingRedisOMConverter mappingConverter) {
     this.isDocument = isDocument;
@@ -85,17 +85,18 @@ class SearchStreamDocumentMapper<E> {
    * Converts a list of documents to entities, filtering out nulls.
    */
   List<E> documentsToEntities(List<redis.clients.jedis.search.Document> documents) {
-    return documents.stream().map(this::documentToEntity).filter(Objects::nonNull).toList();
+    return withReferences(documents, () -> documents.stream().map(this::documentToEntity).filter(Objects::nonNull)
+        .toList());
   }
 
   /**
    * Converts a list of documents to entity-score pairs, filtering out nulls.
    */
   List<Pair<E, Double>> documentsToEntityScorePairs(List<redis.clients.jedis.search.Document> documents) {
-    return documents.stream().map(d -> {
+    return withReferences(documents, () -> documents.stream().map(d -> {
       E entity = documentToEntity(d);
       return entity != null ? Tuples.of(entity, d.getScore()) : null;
-    }).filter(Objects::nonNull).toList();
+    }).filter(Objects::nonNull).toList());
   }
 
   /**
@@ -108,7 +109,7 @@ class SearchStreamDocumentMapper<E> {
   )
   List<E> hybridDocumentsToEntities(List<redis.clients.jedis.search.Document> documents) {
     if (isDocument) {
-      return documents.stream().map(this::documentToEntity).filter(Objects::nonNull).toList();
+      return documentsToEntities(documents);
     } else {
       return (List<E>) documents.stream().map(d -> {
         Map<String, Object> props = new HashMap<>();
@@ -123,10 +124,18 @@ class SearchStreamDocumentMapper<E> {
     }
   }
 
+  /**
+   * Maps a page of JSON documents with their references read in bulk, see
+   * {@link ReferencePrefetch}.
+   */
+  private <R> R withReferences(List<redis.clients.jedis.search.Document> documents, Supplier<R> mapping) {
+    return isDocument ?
+        ReferencePrefetch.resolving(entityClass, ReferencePrefetch.rootDocuments(documents), json::mgetAligned,
+            DocumentSerializers.of(gsonBuilder)::isReferenceCached, mapping) :
+        mapping.get();
+  }
+
   Gson getGson() {
-    if (gson == null) {
-      gson = gsonBuilder.create();
-    }
-    return gson;
+    return DocumentSerializers.of(gsonBuilder).getGson();
   }
 }
@@ -25,9 +25,14 @@ import com.redis.om.spring.metamodel.indexed.NumericField;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.ops.json.JSONOperations;
 import com.redis.om.spring.ops.search.SearchOperations;
+import com.redis.om.spring.repository.support.RedisOmBatch;
+import com.redis.om.spring.search.stream.actions.BaseAbstractAction;
+import com.redis.om.spring.search.stream.actions.PipelinedAction;
 import com.redis.om.spring.search.stream.actions.TakesJSONOperations;
 import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.search.stream.predicates.vector.KNNPredicate;
+import com.redis.om.spring.serialization.DocumentChangeTracker;
+import com.redis.om.spring.serialization.DocumentSerializers;
 import com.redis.om.spring.tuple.AbstractTupleMapper;
 import com.redis.om.spring.tuple.Pair;
 import com.redis.om.spring.tuple.TupleMapper;
@@ -73,7 +78,6 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   private final SearchStreamQueryExecutor<E> queryExecutor;
 
   private Node rootNode = QueryBuilders.union();
-  private Gson gson;
   private Long limit;
   private Long skip;
   private SortedField sortBy;
@@ -387,6 +391,30 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
       TakesJSONOperations tjo = (TakesJSONOperations) action;
       tjo.setJSONOperations(json);
     }
+    if (action instanceof BaseAbstractAction jsonAction) {
+      // the action modifies documents in place, so their change tracking snapshots are stale
+      DocumentChangeTracker changeTracker = DocumentSerializers.of(gsonBuilder).getChangeTracker();
+      Optional<RedisOmBatch> batch = RedisOmBatch.current();
+      if (batch.isPresent() && action instanceof PipelinedAction<?> pipelinedAction) {
+        @SuppressWarnings(
+          "unchecked"
+        )
+        PipelinedAction<E> pipelined = (PipelinedAction<E>) pipelinedAction;
+        resolveStream().forEach(entity -> {
+          String key = jsonAction.getKey(entity);
+          batch.get().add(modulesOperations.client(), pipeline -> {
+            pipelined.accept(entity, pipeline);
+            changeTracker.written(key);
+          });
+        });
+        return;
+      }
+      resolveStream().forEach(entity -> {
+        action.accept(entity);
+        changeTracker.written(jsonAction.getKey(entity));
+      });
+      return;
+    }
 
     resolveStream().forEach(action);
   }
@@ -810,9 +838,6 @@ public class SearchStreamImpl<E> implements SearchStream<E> {
   }
 
   Gson getGson() {
-    if (gson == null) {
-      gson = gsonBuilder.create();
-    }
-    return gson;
+    return DocumentSerializers.of(gsonBuilder).getGson();
   }
 }
@@ -26,6 +26,7 @@ import com.redis.om.spring.search.stream.predicates.SearchFieldPredicate;
 import com.redis.om.spring.search.stream.predicates.lexicographic.*;
 import com.redis.om.spring.search.stream.predicates.vector.KNNPredicate;
 import com.redis.om.spring.tuple.Pair;
+import com.redis.om.spring.util.CompactKeyNames;
 import com.redis.om.spring.util.ObjectUtils;
 import com.redis.om.spring.util.SearchResultRawResponseToObjectConverter;
 import com.redis.vl.query.AggregateHybridQuery;
@@ -168,9 +169,8 @@ class SearchStreamQueryExecutor<E> {
     }
 
     if (!summaryFields.isEmpty()) {
-      var fields = summaryFields.stream().map(foi -> ObjectUtils.isCollection(foi.getTargetClass()) ?
-          "$." + foi.getSearchAlias() :
-          foi.getSearchAlias()).collect(toCollection(ArrayList::new));
+      var fields = summaryFields.stream().map(SearchStreamQueryExecutor::returnField).collect(toCollection(
+          ArrayList::new));
 
       if (summarizeParams == null) {
         query.summarizeFields(fields.toArray(String[]::new));
@@ -181,9 +181,8 @@ class SearchStreamQueryExecutor<E> {
     }
 
     if (!highlightFields.isEmpty()) {
-      var fields = highlightFields.stream().map(foi -> ObjectUtils.isCollection(foi.getTargetClass()) ?
-          "$." + foi.getSearchAlias() :
-          foi.getSearchAlias()).collect(toCollection(ArrayList::new));
+      var fields = highlightFields.stream().map(SearchStreamQueryExecutor::returnField).collect(toCollection(
+          ArrayList::new));
 
       if (highlightTags == null) {
         query.highlightFields(fields.toArray(String[]::new));
@@ -196,9 +195,8 @@ class SearchStreamQueryExecutor<E> {
     if (onlyIds) {
       query.returnFields(idField.getName());
     } else if (!projections.isEmpty()) {
-      var returnFields = projections.stream().map(foi -> ObjectUtils.isCollection(foi.getTargetClass()) ?
-          "$." + foi.getSearchAlias() :
-          foi.getSearchAlias()).collect(toCollection(ArrayList::new));
+      var returnFields = projections.stream().map(SearchStreamQueryExecutor::returnField).collect(toCollection(
+          ArrayList::new));
       returnFields.add(idField.getName());
       query.returnFields(returnFields.toArray(String[]::new));
     } else if (isDocument) {
@@ -209,6 +207,26 @@ class SearchStreamQueryExecutor<E> {
     return query;
   }
 
+  /**
+   * Returns the identifier a field is returned, summarized or highlighted under: its search
+   * alias, or for collections the JSON path of the field. In {@code @CompactKeys} classes the
+   * path points to the short name the collection is stored under.
+   *
+   * @param foi the metamodel field
+   * @return the identifier to pass to {@code RETURN}, {@code SUMMARIZE} or {@code HIGHLIGHT}
+   */
+  static String returnField(MetamodelField<?, ?> foi) {
+    if (!ObjectUtils.isCollection(foi.getTargetClass())) {
+      return foi.getSearchAlias();
+    }
+    SearchFieldAccessor accessor = foi.getSearchFieldAccessor();
+    Field field = accessor != null ? accessor.getField() : null;
+    if (field != null && accessor.getJsonPath() != null && CompactKeyNames.isCompact(field.getDeclaringClass())) {
+      return accessor.getJsonPath();
+    }
+    return "$." + foi.getSearchAlias();
+  }
+
   // ---------------------------------------------------------------------------
   // Query execution
   // ---------------------------------------------------------------------------
@@ -367,13 +385,13 @@ class SearchStreamQueryExecutor<E> {
           String field = foi.getSearchAlias();
           Class<?> targetClass = foi.getTargetClass();
 
-          var rawValue = props.get(ObjectUtils.isCollection(targetClass) ? "$." + field : field);
+          var rawValue = props.get(returnField(foi));
           Object processValue = SearchResultRawResponseToObjectConverter.process(rawValue, targetClass, gson);
 
           if (processValue != null) {
             try {
-              foi.getSearchFieldAccessor().getField().set(entity, processValue);
-            } catch (IllegalAccessException e) {
+              foi.getSearchFieldAccessor().setValue(entity, processValue);
+            } catch (RuntimeException e) {
               logger.debug("🧨 couldn't set value on " + field, e);
             }
           }
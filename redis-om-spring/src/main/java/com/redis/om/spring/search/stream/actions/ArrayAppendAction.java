@@ -4,7 +4,7 @@ import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.PipeliningBase;
 
 /**
  * Action class that appends a value to the end of a JSON array field within a Redis JSON document.
@@ -30,7 +30,7 @@ import redis.clients.jedis.json.Path2;
  * @see Consumer
  * @see SearchFieldAccessor
  */
-public class ArrayAppendAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ArrayAppendAction<E> extends BaseAbstractAction implements Consumer<E>, PipelinedAction<E> {
 
   private final Object value;
 
@@ -55,7 +55,12 @@ public class ArrayAppendAction<E> extends BaseAbstractAction implements Consumer
 
   @Override
   public void accept(E entity) {
-    json.arrAppend(getKey(entity), Path2.of("." + field.getSearchAlias()), value);
+    json.arrAppend(getKey(entity), getPath(), value);
+  }
+
+  @Override
+  public void accept(E entity, PipeliningBase pipeline) {
+    pipeline.jsonArrAppendWithEscape(getKey(entity), getPath(), value);
   }
 
 }
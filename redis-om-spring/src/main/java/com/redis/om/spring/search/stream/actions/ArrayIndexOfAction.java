@@ -4,8 +4,6 @@ import java.util.function.ToLongFunction;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
-
 /**
  * Action class that finds the index of a specific element within a JSON array field in a Redis JSON document.
  * This class implements the {@link ToLongFunction} interface to return the zero-based index position
@@ -53,7 +51,7 @@ public class ArrayIndexOfAction<E> extends BaseAbstractAction implements ToLongF
 
   @Override
   public long applyAsLong(E value) {
-    var result = json.arrIndex(getKey(value), Path2.of("." + field.getSearchAlias()), element);
+    var result = json.arrIndex(getKey(value), getPath(), element);
     return result != null && !result.isEmpty() ? result.get(0) : 0;
   }
 }
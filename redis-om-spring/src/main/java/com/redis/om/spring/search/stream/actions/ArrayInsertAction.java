@@ -4,7 +4,7 @@ import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.PipeliningBase;
 
 /**
  * Action class that inserts a value at a specific index within a JSON array field in a Redis JSON document.
@@ -28,7 +28,7 @@ import redis.clients.jedis.json.Path2;
  * @see Consumer
  * @see SearchFieldAccessor
  */
-public class ArrayInsertAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ArrayInsertAction<E> extends BaseAbstractAction implements Consumer<E>, PipelinedAction<E> {
 
   private final Object value;
   private final Integer index;
@@ -56,7 +56,12 @@ public class ArrayInsertAction<E> extends BaseAbstractAction implements Consumer
 
   @Override
   public void accept(E entity) {
-    json.arrInsert(getKey(entity), Path2.of("." + field.getSearchAlias()), index, value);
+    json.arrInsert(getKey(entity), getPath(), index, value);
+  }
+
+  @Override
+  public void accept(E entity, PipeliningBase pipeline) {
+    pipeline.jsonArrInsertWithEscape(getKey(entity), getPath(), index, value);
   }
 
 }
@@ -4,8 +4,6 @@ import java.util.function.ToLongFunction;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
-
 /**
  * Action class that retrieves the length (number of elements) of a JSON array field within a Redis JSON document.
  * This class implements the {@link ToLongFunction} interface to return the count of elements in the specified
@@ -49,7 +47,7 @@ public class ArrayLengthAction<E> extends BaseAbstractAction implements ToLongFu
 
   @Override
   public long applyAsLong(E value) {
-    var result = json.arrLen(getKey(value), Path2.of("." + field.getSearchAlias()));
+    var result = json.arrLen(getKey(value), getPath());
     return result != null && !result.isEmpty() ? result.get(0) : 0;
   }
 
@@ -7,8 +7,6 @@ import java.util.function.Function;
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.util.ObjectUtils;
 
-import redis.clients.jedis.json.Path2;
-
 /**
  * Action class that removes and returns an element at a specific index from a JSON array field within a Redis JSON
  * document.
@@ -37,6 +35,7 @@ import redis.clients.jedis.json.Path2;
 public class ArrayPopAction<E, R> extends BaseAbstractAction implements Function<E, R> {
 
   private final Integer index;
+  private final Optional<Class<?>> elementClass;
 
   /**
    * Constructs a new ArrayPopAction for removing an element at a specific position from the specified JSON array field.
@@ -55,6 +54,7 @@ public class ArrayPopAction<E, R> extends BaseAbstractAction implements Function
   public ArrayPopAction(SearchFieldAccessor field, Integer index) {
     super(field);
     this.index = index;
+    this.elementClass = ObjectUtils.getCollectionElementClass(field.getField());
   }
 
   @SuppressWarnings(
@@ -63,9 +63,8 @@ public class ArrayPopAction<E, R> extends BaseAbstractAction implements Function
   @Override
   public R apply(E entity) {
     Field f = field.getField();
-    Optional<Class<?>> maybeClass = ObjectUtils.getCollectionElementClass(f);
-    if (maybeClass.isPresent()) {
-      var popResult = json.arrPop(getKey(entity), maybeClass.get(), Path2.of("." + f.getName()), index);
+    if (elementClass.isPresent()) {
+      var popResult = json.arrPop(getKey(entity), elementClass.get(), getPath(), index);
       return popResult != null && !popResult.isEmpty() ? (R) popResult.get(0) : null;
     } else {
       throw new RuntimeException("Cannot determine contained element type for collection " + f.getName());
@@ -4,7 +4,7 @@ import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.PipeliningBase;
 
 /**
  * Action class that trims a JSON array field to retain only elements within a specified range of indices.
@@ -28,7 +28,7 @@ import redis.clients.jedis.json.Path2;
  * @see Consumer
  * @see SearchFieldAccessor
  */
-public class ArrayTrimAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ArrayTrimAction<E> extends BaseAbstractAction implements Consumer<E>, PipelinedAction<E> {
 
   private final Integer begin;
   private final Integer end;
@@ -56,6 +56,11 @@ public class ArrayTrimAction<E> extends BaseAbstractAction implements Consumer<E
 
   @Override
   public void accept(E entity) {
-    json.arrTrim(getKey(entity), Path2.of("." + field.getSearchAlias()), begin, end);
+    json.arrTrim(getKey(entity), getPath(), begin, end);
+  }
+
+  @Override
+  public void accept(E entity, PipeliningBase pipeline) {
+    pipeline.jsonArrTrim(getKey(entity), getPath(), begin, end);
   }
 }
@@ -5,8 +5,12 @@ import java.util.Optional;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.util.CompactKeyNames;
+import com.redis.om.spring.util.FieldAccessor;
 import com.redis.om.spring.util.ObjectUtils;
 
+import redis.clients.jedis.json.Path2;
+
 /**
  * Abstract base class for all Redis JSON action implementations.
  * This class provides common functionality for actions that operate on JSON documents
@@ -66,8 +70,18 @@ public abstract class BaseAbstractAction implements TakesJSONOperations {
    * @param entity the entity to generate a key for
    * @return the Redis key for the entity
    */
-  protected String getKey(Object entity) {
-    String id = ObjectUtils.getIdFieldForEntity(idField, entity).toString();
+  public String getKey(Object entity) {
+    String id = FieldAccessor.of(idField).get(entity).toString();
     return field.getDeclaringClass().getName() + ":" + id;
   }
+
+  /**
+   * Returns the JSON path of the target field, built from the name the field is stored
+   * under, which differs from its Java name in {@code @CompactKeys} documents.
+   *
+   * @return the JSON path of the target field
+   */
+  protected Path2 getPath() {
+    return Path2.of("." + CompactKeyNames.storedName(field.getField()));
+  }
 }
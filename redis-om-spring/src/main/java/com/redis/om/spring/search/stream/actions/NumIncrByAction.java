@@ -4,7 +4,7 @@ import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.PipeliningBase;
 
 /**
  * Action that increments a numeric field in a Redis JSON document by a specified value.
@@ -26,7 +26,7 @@ import redis.clients.jedis.json.Path2;
  * @see BaseAbstractAction
  * @see redis.clients.jedis.json.JsonProtocol.JsonCommand#NUMINCRBY
  */
-public class NumIncrByAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class NumIncrByAction<E> extends BaseAbstractAction implements Consumer<E>, PipelinedAction<E> {
   /** The value to increment the numeric field by */
   private final Long value;
 
@@ -50,7 +50,12 @@ public class NumIncrByAction<E> extends BaseAbstractAction implements Consumer<E
    */
   @Override
   public void accept(E entity) {
-    json.numIncrBy(getKey(entity), Path2.of("." + field.getSearchAlias()), value);
+    json.numIncrBy(getKey(entity), getPath(), value);
+  }
+
+  @Override
+  public void accept(E entity, PipeliningBase pipeline) {
+    pipeline.jsonNumIncrBy(getKey(entity), getPath(), value);
   }
 
 }
@@ -0,0 +1,26 @@
+package com.redis.om.spring.search.stream.actions;
+
+import redis.clients.jedis.PipeliningBase;
+
+/**
+ * Action that can write its Redis command to a pipeline instead of sending it right away.
+ * <p>
+ * When such an action is passed to {@code forEach} inside a
+ * {@link com.redis.om.spring.repository.support.RedisOmBatch}, its commands join the batch
+ * and are sent when the scope exits. Actions that return a result, such as
+ * {@link ArrayPopAction}, always run immediately.
+ * </p>
+ *
+ * @param <E> the entity type that this action operates on
+ * @since 2.0.7
+ * @see com.redis.om.spring.repository.support.RedisOmBatch
+ */
+public interface PipelinedAction<E> {
+  /**
+   * Writes the command of this action for the given entity to a pipeline or transaction.
+   *
+   * @param entity   the entity to apply the action to
+   * @param pipeline the pipeline or transaction to write the command to
+   */
+  void accept(E entity, PipeliningBase pipeline);
+}
@@ -4,8 +4,6 @@ import java.util.function.ToLongFunction;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
-
 /**
  * Action that retrieves the length of a string field in a Redis JSON document.
  * This action is used within the Entity Streams API to obtain string lengths
@@ -50,7 +48,7 @@ public class StrLengthAction<E> extends BaseAbstractAction implements ToLongFunc
    */
   @Override
   public long applyAsLong(E value) {
-    var result = json.strLen(getKey(value), Path2.of("." + field.getSearchAlias()));
+    var result = json.strLen(getKey(value), getPath());
     return result != null && !result.isEmpty() ? result.get(0) : 0;
   }
 
@@ -4,7 +4,7 @@ import java.util.function.Consumer;
 
 import com.redis.om.spring.metamodel.SearchFieldAccessor;
 
-import redis.clients.jedis.json.Path2;
+import redis.clients.jedis.PipeliningBase;
 
 /**
  * Action that toggles a boolean field in a Redis JSON document.
@@ -26,7 +26,7 @@ import redis.clients.jedis.json.Path2;
  * @see BaseAbstractAction
  * @see redis.clients.jedis.json.JsonProtocol.JsonCommand#TOGGLE
  */
-public class ToggleAction<E> extends BaseAbstractAction implements Consumer<E> {
+public class ToggleAction<E> extends BaseAbstractAction implements Consumer<E>, PipelinedAction<E> {
 
   /**
    * Constructs a new ToggleAction that will toggle the specified boolean field.
@@ -46,6 +46,11 @@ public class ToggleAction<E> extends BaseAbstractAction implements Consumer<E> {
    */
   @Override
   public void accept(E entity) {
-    json.toggle(getKey(entity), Path2.of("." + field.getSearchAlias()));
+    json.toggle(getKey(entity), getPath());
+  }
+
+  @Override
+  public void accept(E entity, PipeliningBase pipeline) {
+    pipeline.jsonToggle(getKey(entity), getPath());
   }
 }
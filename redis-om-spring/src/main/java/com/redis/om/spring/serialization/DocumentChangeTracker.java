@@ -0,0 +1,219 @@
+package com.redis.om.spring.serialization;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.lang.Nullable;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Remembers a fingerprint of each top-level field of the JSON documents loaded or saved
+ * for entity instances, so that a later save can write only the fields that changed.
+ * <p>
+ * Snapshots are keyed by entity identity and only weakly reference the entity: they are
+ * dropped once the application releases the instance. A snapshot records the Redis key
+ * it was taken for, so an instance whose id or keyspace changed is written in full.
+ * </p>
+ * <p>
+ * Every write or delete of a document, whichever path it takes, must be reported with
+ * {@link #written(String)}. A snapshot also records the write generation of its key, and
+ * is ignored once another write of the key was reported, so a document written by a
+ * batch, a pipeline or another instance of the entity is not mistaken for the snapshot.
+ * Generations are counted per stripe of keys: a write of another key of the same stripe
+ * only causes a full write.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class DocumentChangeTracker {
+  private static final int STRIPES = 4096;
+
+  private final Map<IdentityKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> released = new ReferenceQueue<>();
+  private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+  /**
+   * Returns the current write generation of a key, to be read before the document is
+   * read and passed to {@link #snapshot(String, Object, JsonObject, long)}.
+   *
+   * @param key the Redis key of the document
+   * @return the write generation of the key
+   */
+  public long generation(String key) {
+    return generations.get(stripe(key));
+  }
+
+  /**
+   * Reports a write or delete of the document stored under a key, invalidating the
+   * snapshots taken of it before.
+   *
+   * @param key the Redis key of the document
+   * @return the write generation of the key after this write
+   */
+  public long written(String key) {
+    return generations.incrementAndGet(stripe(key));
+  }
+
+  /**
+   * Records the document of an entity as it is stored under a key, assuming no write of
+   * the key happened since the document was read or written.
+   *
+   * @param key      the Redis key of the document
+   * @param entity   the entity instance
+   * @param document the serialized entity
+   */
+  public void snapshot(String key, Object entity, JsonObject document) {
+    snapshot(key, entity, document, generation(key));
+  }
+
+  /**
+   * Records the document of an entity as it is stored under a key.
+   *
+   * @param key        the Redis key of the document
+   * @param entity     the entity instance
+   * @param document   the serialized entity
+   * @param generation the write generation of the key when the document was read, or the
+   *                   one returned by {@link #written(String)} for the write of the document
+   */
+  public void snapshot(String key, Object entity, JsonObject document, long generation) {
+    expungeReleased();
+    Map<String, Fingerprint> fields = new HashMap<>(document.size() * 4 / 3 + 1);
+    document.entrySet().forEach(e -> fields.put(e.getKey(), Fingerprint.of(e.getValue())));
+    snapshots.put(new IdentityKey(entity, released), new Snapshot(key, generation, fields));
+  }
+
+  /**
+   * Compares the document of an entity with its snapshot.
+   *
+   * @param key      the Redis key the entity is being saved under
+   * @param entity   the entity instance
+   * @param document the serialized entity
+   * @return the changes since the snapshot, or {@code null} if there is no snapshot of the
+   *         instance for this key, or if the key was written since the snapshot was taken
+   */
+  @Nullable
+  public Changes changes(String key, Object entity, JsonObject document) {
+    expungeReleased();
+    Snapshot snapshot = snapshots.get(new IdentityKey(entity, null));
+    if (snapshot == null || !snapshot.key().equals(key) || snapshot.generation() != generation(key)) {
+      return null;
+    }
+    Map<String, JsonElement> changed = new LinkedHashMap<>();
+    for (Map.Entry<String, JsonElement> field : document.entrySet()) {
+      Fingerprint previous = snapshot.fields().get(field.getKey());
+      if (previous == null || !previous.equals(Fingerprint.of(field.getValue()))) {
+        changed.put(field.getKey(), field.getValue());
+      }
+    }
+    List<String> removed = snapshot.fields().keySet().stream().filter(name -> !document.has(name)).toList();
+    return new Changes(changed, removed);
+  }
+
+  /**
+   * Drops the snapshot of an entity instance.
+   *
+   * @param entity the entity instance
+   */
+  public void forget(Object entity) {
+    snapshots.remove(new IdentityKey(entity, null));
+  }
+
+  /**
+   * Drops all snapshots, after all documents of a keyspace were deleted.
+   */
+  public void clear() {
+    snapshots.clear();
+  }
+
+  /**
+   * Returns the number of entity instances with a snapshot.
+   *
+   * @return the number of snapshots
+   */
+  public int size() {
+    expungeReleased();
+    return snapshots.size();
+  }
+
+  private static int stripe(String key) {
+    int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+  }
+
+  private void expungeReleased() {
+    for (Object ref; (ref = released.poll()) != null; ) {
+      snapshots.remove(ref);
+    }
+  }
+
+  /**
+   * The top-level fields of a document that differ from its snapshot.
+   *
+   * @param changed the fields whose value changed or that were added, with their new value
+   * @param removed the names of the fields that are no longer in the document
+   */
+  public record Changes(Map<String, JsonElement> changed, List<String> removed) {
+
+    /**
+     * Checks if the document is the same as its snapshot.
+     *
+     * @return {@code true} if no field changed
+     */
+    public boolean isEmpty() {
+      return changed.isEmpty() && removed.isEmpty();
+    }
+  }
+
+  private record Snapshot(String key, long generation, Map<String, Fingerprint> fields) {
+  }
+
+  /**
+   * Fingerprint of the JSON of a field: the JSON itself when it is short, so that small
+   * fields are compared exactly, or its 128-bit Murmur3 hash otherwise.
+   */
+  private record Fingerprint(Object value) {
+    private static final int MAX_INLINE_LENGTH = 64;
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    static Fingerprint of(JsonElement element) {
+      String json = element.toString();
+      return new Fingerprint(json.length() <= MAX_INLINE_LENGTH ?
+          json :
+          HASH.hashString(json, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static final class IdentityKey extends WeakReference<Object> {
+    private final int hash;
+
+    IdentityKey(Object referent, @Nullable ReferenceQueue<Object> queue) {
+      super(referent, queue);
+      this.hash = System.identityHashCode(referent);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof IdentityKey that)) {
+        return false;
+      }
+      Object referent = get();
+      return referent != null && referent == that.get();
+    }
+  }
+}
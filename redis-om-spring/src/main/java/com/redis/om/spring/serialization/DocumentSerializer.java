@@ -0,0 +1,62 @@
+package com.redis.om.spring.serialization;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes entities to and from the JSON stored in Redis JSON documents.
+ * <p>
+ * Redis OM Spring serializes documents with Gson by default. Implementations of this
+ * interface can be registered per entity type with {@link DocumentSerializers}, so the
+ * fastest serializer can be picked for each type.
+ * </p>
+ *
+ * @see DocumentSerializers
+ * @since 2.0.7
+ */
+public interface DocumentSerializer {
+
+  /**
+   * Serializes a value to JSON.
+   *
+   * @param value the value to serialize
+   * @return the JSON representation of the value
+   */
+  String toJson(Object value);
+
+  /**
+   * Serializes a value to UTF-8 encoded JSON, as sent to Redis.
+   * <p>
+   * The default implementation encodes {@link #toJson(Object)}; implementations able to
+   * write bytes directly should override it to avoid the intermediate {@code String}.
+   * </p>
+   *
+   * @param value the value to serialize
+   * @return the UTF-8 encoded JSON representation of the value
+   */
+  default byte[] toJsonBytes(Object value) {
+    return toJson(value).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Deserializes JSON to a value of the given type.
+   *
+   * @param json the JSON to deserialize
+   * @param type the type of the value
+   * @param <T>  the type of the value
+   * @return the deserialized value
+   */
+  <T> T fromJson(String json, Type type);
+
+  /**
+   * Deserializes JSON to a value of the given class.
+   *
+   * @param json the JSON to deserialize
+   * @param type the class of the value
+   * @param <T>  the type of the value
+   * @return the deserialized value
+   */
+  default <T> T fromJson(String json, Class<T> type) {
+    return fromJson(json, (Type) type);
+  }
+}
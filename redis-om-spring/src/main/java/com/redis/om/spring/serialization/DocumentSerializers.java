@@ -0,0 +1,282 @@
+package com.redis.om.spring.serialization;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.redis.om.spring.serialization.gson.ReferenceCache;
+
+/**
+ * The {@link DocumentSerializer} of a Gson configuration: serializes with a single
+ * {@link Gson} instance shared by all operations and routes the entity types that have a
+ * serializer {@link #register(Class, DocumentSerializer) registered} to it.
+ * <p>
+ * {@link Gson} instances are expensive to create and thread-safe, but the shared
+ * {@link GsonBuilder} is still customized after startup as entities are indexed. Type
+ * adapters must therefore be registered through {@link #registerTypeAdapter(Type, Object)},
+ * which invalidates the cached instance. Registered serializers are also bridged into the
+ * builder, so registered types nested in other documents, or read by search and
+ * aggregation results, are serialized the same way.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class DocumentSerializers implements DocumentSerializer {
+  private static final Map<GsonBuilder, WeakReference<DocumentSerializers>> REGISTRIES = new WeakHashMap<>();
+
+  private final GsonBuilder builder;
+  private final Map<Class<?>, DocumentSerializer> serializers = new ConcurrentHashMap<>();
+  private final DocumentChangeTracker changeTracker = new DocumentChangeTracker();
+  private volatile Gson gson;
+  private volatile Cache referenceCache;
+
+  private DocumentSerializers(GsonBuilder builder) {
+    this.builder = builder;
+  }
+
+  /**
+   * Returns the serializers of a Gson configuration.
+   *
+   * @param builder the builder of the configuration
+   * @return the serializers, shared by all callers using the same builder
+   */
+  public static DocumentSerializers of(GsonBuilder builder) {
+    synchronized (REGISTRIES) {
+      WeakReference<DocumentSerializers> reference = REGISTRIES.get(builder);
+      DocumentSerializers serializers = reference != null ? reference.get() : null;
+      if (serializers == null) {
+        serializers = new DocumentSerializers(builder);
+        REGISTRIES.put(builder, new WeakReference<>(serializers));
+      }
+      return serializers;
+    }
+  }
+
+  /**
+   * Returns the shared {@link Gson} instance, created from the builder on first use and
+   * after each type adapter registration.
+   *
+   * @return the Gson instance
+   */
+  public Gson getGson() {
+    Gson current = gson;
+    if (current == null) {
+      synchronized (builder) {
+        current = gson;
+        if (current == null) {
+          current = builder.create();
+          gson = current;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Registers a Gson type adapter, serializer or deserializer with the builder.
+   *
+   * @param type        the type the adapter handles
+   * @param typeAdapter the adapter
+   * @see GsonBuilder#registerTypeAdapter(Type, Object)
+   */
+  public void registerTypeAdapter(Type type, Object typeAdapter) {
+    synchronized (builder) {
+      builder.registerTypeAdapter(type, typeAdapter);
+      gson = null;
+    }
+  }
+
+  /**
+   * Registers a Gson type adapter factory with the builder.
+   *
+   * @param factory the factory
+   * @see GsonBuilder#registerTypeAdapterFactory(TypeAdapterFactory)
+   */
+  public void registerTypeAdapterFactory(TypeAdapterFactory factory) {
+    synchronized (builder) {
+      builder.registerTypeAdapterFactory(factory);
+      gson = null;
+    }
+  }
+
+  /**
+   * Serializes the documents of an entity type with the given serializer instead of Gson.
+   *
+   * @param type       the entity type
+   * @param serializer the serializer of the type
+   */
+  public void register(Class<?> type, DocumentSerializer serializer) {
+    serializers.put(type, serializer);
+    synchronized (builder) {
+      builder.registerTypeAdapterFactory(new BridgingTypeAdapterFactory(type, serializer));
+      gson = null;
+    }
+  }
+
+  /**
+   * Sets the cache holding the entities deserialized from references by this
+   * configuration, so that they can be {@link #evictReference(String) evicted} when their
+   * documents are rewritten.
+   *
+   * @param referenceCache the reference cache, or {@code null} if references are not cached
+   */
+  public void setReferenceCache(@Nullable Cache referenceCache) {
+    this.referenceCache = referenceCache;
+  }
+
+  /**
+   * Returns whether the entity stored at a reference key is in the reference cache, so
+   * that reads of references in bulk can skip it.
+   *
+   * @param key the key of the referenced document
+   * @return true if its entity is cached
+   */
+  public boolean isReferenceCached(String key) {
+    Cache cache = referenceCache;
+    if (cache instanceof ReferenceCache references) {
+      return references.contains(key);
+    }
+    return cache != null && cache.get(key) != null;
+  }
+
+  /**
+   * Evicts the entity cached for a reference key, after its document has been written or
+   * deleted. Does nothing when references are not cached.
+   *
+   * @param key the key of the written or deleted document
+   */
+  public void evictReference(String key) {
+    Cache cache = referenceCache;
+    if (cache != null) {
+      cache.evict(key);
+    }
+  }
+
+  /**
+   * Empties the reference cache, after all documents of a keyspace have been deleted. Does
+   * nothing when references are not cached.
+   */
+  public void clearReferences() {
+    Cache cache = referenceCache;
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  /**
+   * Returns the change tracker of this configuration, shared by the adapters and
+   * repositories writing documents so that each of them can report its writes.
+   *
+   * @return the change tracker
+   */
+  public DocumentChangeTracker getChangeTracker() {
+    return changeTracker;
+  }
+
+  /**
+   * Returns the serializer registered for an entity type.
+   *
+   * @param type the entity type
+   * @return the registered serializer, or {@code null} if the type is serialized with Gson
+   */
+  @Nullable
+  public DocumentSerializer forType(Class<?> type) {
+    return serializers.isEmpty() ? null : serializers.get(type);
+  }
+
+  @Override
+  public String toJson(Object value) {
+    DocumentSerializer serializer = value != null ? forType(value.getClass()) : null;
+    return serializer != null ? serializer.toJson(value) : getGson().toJson(value);
+  }
+
+  /**
+   * Serializes a value to UTF-8 encoded JSON. Values serialized with Gson are encoded while
+   * they are written, into a buffer reused by the calling thread, so the only allocation is
+   * the returned array.
+   *
+   * @param value the value to serialize
+   * @return the UTF-8 encoded JSON representation of the value
+   */
+  @Override
+  public byte[] toJsonBytes(Object value) {
+    DocumentSerializer serializer = value != null ? forType(value.getClass()) : null;
+    if (serializer != null) {
+      return serializer.toJsonBytes(value);
+    }
+    Utf8ByteWriter writer = Utf8ByteWriter.acquire();
+    try {
+      getGson().toJson(value, writer);
+      return writer.toByteArray();
+    } finally {
+      writer.release();
+    }
+  }
+
+  /**
+   * Serializes a value to a tree of JSON elements.
+   *
+   * @param value the value to serialize
+   * @return the JSON tree of the value
+   */
+  public JsonElement toJsonTree(Object value) {
+    DocumentSerializer serializer = value != null ? forType(value.getClass()) : null;
+    return serializer != null ? JsonParser.parseString(serializer.toJson(value)) : getGson().toJsonTree(value);
+  }
+
+  @Override
+  public <T> T fromJson(String json, Type type) {
+    DocumentSerializer serializer = forType(TypeToken.get(type).getRawType());
+    return serializer != null ? serializer.fromJson(json, type) : getGson().fromJson(json, type);
+  }
+
+  private record BridgingTypeAdapterFactory(Class<?> type, DocumentSerializer serializer) implements
+      TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings(
+      "unchecked"
+    )
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+      if (typeToken.getRawType() != type) {
+        return null;
+      }
+      Type documentType = typeToken.getType();
+      return (TypeAdapter<T>) new TypeAdapter<Object>() {
+        @Override
+        public void write(JsonWriter out, Object value) throws IOException {
+          if (value == null) {
+            out.nullValue();
+          } else {
+            out.jsonValue(serializer.toJson(value));
+          }
+        }
+
+        @Override
+        public Object read(JsonReader in) throws IOException {
+          if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+          }
+          return serializer.fromJson(JsonParser.parseReader(in).toString(), documentType);
+        }
+      };
+    }
+  }
+}
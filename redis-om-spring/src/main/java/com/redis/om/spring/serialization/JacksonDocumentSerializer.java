@@ -0,0 +1,80 @@
+package com.redis.om.spring.serialization;
+
+import java.lang.reflect.Type;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * {@link DocumentSerializer} backed by a Jackson {@link ObjectMapper}.
+ * <p>
+ * The {@link #JacksonDocumentSerializer() default} mapper is configured to produce the
+ * same JSON shape as the default Gson serialization for plain entities: fields are
+ * serialized whatever their visibility, getters are ignored, {@code transient} fields and
+ * {@code null} values are skipped and unknown properties are ignored. Types Redis OM
+ * Spring serializes with dedicated Gson adapters (dates, points, references...) are
+ * written differently by Jackson, so entities using them should keep the Gson default.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public class JacksonDocumentSerializer implements DocumentSerializer {
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Creates a serializer with a mapper matching the default Gson serialization.
+   */
+  public JacksonDocumentSerializer() {
+    this(JsonMapper.builder() //
+        .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE) //
+        .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY) //
+        .serializationInclusion(JsonInclude.Include.NON_NULL) //
+        .configure(MapperFeature.PROPAGATE_TRANSIENT_MARKER, true) //
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false) //
+        .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false) //
+        .build());
+  }
+
+  /**
+   * Creates a serializer with the given mapper.
+   *
+   * @param objectMapper the mapper to serialize with
+   */
+  public JacksonDocumentSerializer(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Could not serialize " + value.getClass().getName(), e);
+    }
+  }
+
+  @Override
+  public byte[] toJsonBytes(Object value) {
+    try {
+      return objectMapper.writeValueAsBytes(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Could not serialize " + value.getClass().getName(), e);
+    }
+  }
+
+  @Override
+  public <T> T fromJson(String json, Type type) {
+    try {
+      return objectMapper.readValue(json, objectMapper.getTypeFactory().constructType(type));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Could not deserialize JSON to " + type.getTypeName(), e);
+    }
+  }
+}
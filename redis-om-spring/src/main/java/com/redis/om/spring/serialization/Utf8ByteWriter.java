@@ -0,0 +1,146 @@
+package com.redis.om.spring.serialization;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A {@link Writer} encoding characters to UTF-8 straight into a growable byte array.
+ * <p>
+ * Serializing through it skips the intermediate {@code String} and its re-encoding: the
+ * only allocation per document is the exact-size array returned by {@link #toByteArray()}.
+ * Instances are reused by a thread through {@link #acquire()} and {@link #release()};
+ * buffers grown beyond {@link #MAX_RETAINED_CAPACITY} are dropped on release so that a
+ * single large document does not stay pinned to the thread.
+ * </p>
+ */
+final class Utf8ByteWriter extends Writer {
+  static final int INITIAL_CAPACITY = 1024;
+  static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+  private static final ThreadLocal<Utf8ByteWriter> WRITERS = ThreadLocal.withInitial(Utf8ByteWriter::new);
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private int count;
+  private int pendingHighSurrogate = -1;
+  private boolean inUse;
+
+  /**
+   * Returns the writer of the current thread, or a new writer if the thread's writer is
+   * already in use higher up the stack. Must be {@link #release() released} after use.
+   *
+   * @return an empty writer
+   */
+  static Utf8ByteWriter acquire() {
+    Utf8ByteWriter writer = WRITERS.get();
+    if (writer.inUse) {
+      writer = new Utf8ByteWriter();
+    }
+    writer.inUse = true;
+    return writer;
+  }
+
+  /**
+   * Empties the writer and makes it available to the next {@link #acquire()}.
+   */
+  void release() {
+    count = 0;
+    pendingHighSurrogate = -1;
+    inUse = false;
+    if (buffer.length > MAX_RETAINED_CAPACITY) {
+      buffer = new byte[INITIAL_CAPACITY];
+    }
+  }
+
+  /**
+   * Returns a copy of the bytes written.
+   *
+   * @return the UTF-8 bytes written
+   */
+  byte[] toByteArray() {
+    if (pendingHighSurrogate >= 0) {
+      pendingHighSurrogate = -1;
+      writeByte('?');
+    }
+    return Arrays.copyOf(buffer, count);
+  }
+
+  @Override
+  public void write(int c) {
+    writeChar((char) c);
+  }
+
+  @Override
+  public void write(char[] chars, int offset, int length) {
+    for (int i = offset; i < offset + length; i++) {
+      writeChar(chars[i]);
+    }
+  }
+
+  @Override
+  public void write(String str, int offset, int length) {
+    for (int i = offset; i < offset + length; i++) {
+      writeChar(str.charAt(i));
+    }
+  }
+
+  @Override
+  public Writer append(CharSequence csq) {
+    String str = String.valueOf(csq);
+    write(str, 0, str.length());
+    return this;
+  }
+
+  private void writeChar(char c) {
+    if (pendingHighSurrogate >= 0) {
+      int high = pendingHighSurrogate;
+      pendingHighSurrogate = -1;
+      if (Character.isLowSurrogate(c)) {
+        int codePoint = Character.toCodePoint((char) high, c);
+        ensureCapacity(4);
+        buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+        return;
+      }
+      writeByte('?');
+    }
+    if (c < 0x80) {
+      writeByte(c);
+    } else if (c < 0x800) {
+      ensureCapacity(2);
+      buffer[count++] = (byte) (0xC0 | (c >> 6));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      pendingHighSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      writeByte('?');
+    } else {
+      ensureCapacity(3);
+      buffer[count++] = (byte) (0xE0 | (c >> 12));
+      buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    }
+  }
+
+  private void writeByte(int b) {
+    ensureCapacity(1);
+    buffer[count++] = (byte) b;
+  }
+
+  private void ensureCapacity(int extra) {
+    if (count + extra > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, count + extra));
+    }
+  }
+
+  @Override
+  public void flush() {
+    // nothing to flush, bytes are kept in memory
+  }
+
+  @Override
+  public void close() {
+    // nothing to release, the buffer is reused by the thread
+  }
+}
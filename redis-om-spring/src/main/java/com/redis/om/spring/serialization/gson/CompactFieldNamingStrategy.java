@@ -0,0 +1,48 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.FieldNamingStrategy;
+import com.redis.om.spring.annotations.CompactKeys;
+import com.redis.om.spring.util.CompactKeyNames;
+
+/**
+ * FieldNamingStrategy writing the fields of {@link CompactKeys @CompactKeys} classes under
+ * their short names, and all other fields as the wrapped strategy does.
+ * <p>
+ * The names the wrapped strategy gives to compacted fields are kept as alternate names,
+ * so documents written before a class was annotated are still read.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public class CompactFieldNamingStrategy implements FieldNamingStrategy {
+  private final FieldNamingStrategy delegate;
+
+  /**
+   * Creates a strategy falling back to the given one for fields of other classes.
+   *
+   * @param delegate the strategy naming the fields of classes without {@code @CompactKeys}
+   */
+  public CompactFieldNamingStrategy(FieldNamingStrategy delegate) {
+    this.delegate = delegate != null ? delegate : FieldNamingPolicy.IDENTITY;
+  }
+
+  @Override
+  public String translateName(Field f) {
+    return CompactKeyNames.isCompact(f.getDeclaringClass()) ?
+        CompactKeyNames.storedName(f) :
+        delegate.translateName(f);
+  }
+
+  @Override
+  public List<String> alternateNames(Field f) {
+    if (!CompactKeyNames.isCompact(f.getDeclaringClass())) {
+      return delegate.alternateNames(f);
+    }
+    String fullName = delegate.translateName(f);
+    return fullName.equals(CompactKeyNames.storedName(f)) ? List.of() : List.of(fullName);
+  }
+}
@@ -0,0 +1,134 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.*;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.redis.om.spring.annotations.CompactKeys;
+import com.redis.om.spring.util.ObjectUtils;
+
+/**
+ * TypeAdapterFactory leaving null and default values out of the documents of
+ * {@link CompactKeys#omitDefaults() @CompactKeys(omitDefaults = true)} classes.
+ * <p>
+ * A {@code null} field, or a primitive field holding {@code 0} or {@code false}, is not
+ * written, unless the field is indexed: indexed fields are always written so that queries
+ * on their default values keep matching. On read, missing primitive fields are set back to their default value, so
+ * primitive fields with initializers read back as they were saved; missing object fields
+ * are left as the class initializes them.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public class CompactKeysTypeAdapterFactory implements TypeAdapterFactory {
+  private static final CompactKeysTypeAdapterFactory INSTANCE = new CompactKeysTypeAdapterFactory();
+
+  private CompactKeysTypeAdapterFactory() {
+    // Private constructor for singleton
+  }
+
+  /**
+   * Returns the singleton instance of CompactKeysTypeAdapterFactory.
+   *
+   * @return the singleton CompactKeysTypeAdapterFactory instance
+   */
+  public static CompactKeysTypeAdapterFactory getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<?> rawType = type.getRawType();
+    if (rawType.isPrimitive() || rawType.isArray() || rawType.isInterface() || rawType.isEnum() || rawType
+        .getName().startsWith("java.")) {
+      return null;
+    }
+    List<OmittedField> omitted = new ArrayList<>();
+    for (Class<?> current = rawType; current != null && current != Object.class; current = current
+        .getSuperclass()) {
+      CompactKeys compactKeys = current.getAnnotation(CompactKeys.class);
+      if (compactKeys == null || !compactKeys.omitDefaults()) {
+        continue;
+      }
+      for (Field field : current.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        // indexed fields are always written, so queries on their default values still match
+        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic() && field
+            .getType() != char.class && !ObjectUtils.isIndexed(field)) {
+          omitted.add(OmittedField.of(gson, field));
+        }
+      }
+    }
+    if (omitted.isEmpty()) {
+      return null;
+    }
+
+    TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    TypeAdapter<JsonElement> elements = gson.getAdapter(JsonElement.class);
+
+    return new TypeAdapter<T>() {
+      @Override
+      public void write(JsonWriter out, T value) throws IOException {
+        JsonElement tree = delegate.toJsonTree(value);
+        if (tree.isJsonObject()) {
+          JsonObject object = tree.getAsJsonObject();
+          for (OmittedField field : omitted) {
+            JsonElement element = object.get(field.name());
+            if (element != null && (element.isJsonNull() || element.equals(field.defaultValue()))) {
+              object.remove(field.name());
+            }
+          }
+        }
+        elements.write(out, tree);
+      }
+
+      @Override
+      public T read(JsonReader in) throws IOException {
+        JsonElement tree = elements.read(in);
+        if (tree != null && tree.isJsonObject()) {
+          JsonObject object = tree.getAsJsonObject();
+          for (OmittedField field : omitted) {
+            if (!field.defaultValue().isJsonNull() && field.isMissingFrom(object)) {
+              object.add(field.name(), field.defaultValue());
+            }
+          }
+        }
+        return delegate.fromJsonTree(tree);
+      }
+    }.nullSafe();
+  }
+
+  private record OmittedField(String name, List<String> alternateNames, JsonElement defaultValue) {
+    static OmittedField of(Gson gson, Field field) {
+      String name;
+      List<String> alternateNames;
+      SerializedName serializedName = field.getAnnotation(SerializedName.class);
+      if (serializedName != null) {
+        name = serializedName.value();
+        alternateNames = List.of(serializedName.alternate());
+      } else {
+        name = gson.fieldNamingStrategy().translateName(field);
+        alternateNames = gson.fieldNamingStrategy().alternateNames(field);
+      }
+      return new OmittedField(name, alternateNames, defaultValue(field.getType()));
+    }
+
+    boolean isMissingFrom(JsonObject object) {
+      return !object.has(name) && alternateNames.stream().noneMatch(object::has);
+    }
+
+    private static JsonElement defaultValue(Class<?> type) {
+      if (type == boolean.class) {
+        return new JsonPrimitive(false);
+      }
+      return type.isPrimitive() ? new JsonPrimitive(0) : JsonNull.INSTANCE;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.*;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.redis.om.spring.annotations.Compressed;
+import com.redis.om.spring.convert.FieldCompression;
+import com.redis.om.spring.util.EntityMetadata;
+import com.redis.om.spring.util.ObjectUtils;
+
+/**
+ * TypeAdapterFactory compressing the {@link Compressed @Compressed} fields of the classes
+ * it serializes.
+ * <p>
+ * A compressed field is stored as {@code {"deflate": "<base64>"}}. As plain {@code String}
+ * and {@code byte[]} fields are serialized as JSON strings and arrays, the object form is
+ * unambiguous: values stored before the field was annotated, or stored uncompressed
+ * because compression would not make them smaller, are read as they are.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public class CompressedFieldsTypeAdapterFactory implements TypeAdapterFactory {
+  /**
+   * Member of the JSON object holding the compressed value.
+   */
+  public static final String DEFLATE = "deflate";
+
+  private static final CompressedFieldsTypeAdapterFactory INSTANCE = new CompressedFieldsTypeAdapterFactory();
+
+  private CompressedFieldsTypeAdapterFactory() {
+    // Private constructor for singleton
+  }
+
+  /**
+   * Returns the singleton instance of CompressedFieldsTypeAdapterFactory.
+   *
+   * @return the singleton CompressedFieldsTypeAdapterFactory instance
+   */
+  public static CompressedFieldsTypeAdapterFactory getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<?> rawType = type.getRawType();
+    if (rawType.isPrimitive() || rawType.isArray() || rawType.isInterface() || rawType.isEnum() || rawType
+        .getName().startsWith("java.")) {
+      return null;
+    }
+    List<Field> fields = EntityMetadata.of(rawType).getFieldsWithAnnotation(Compressed.class);
+    if (fields.isEmpty()) {
+      return null;
+    }
+
+    Map<String, Boolean> compressedFields = new LinkedHashMap<>();
+    for (Field field : fields) {
+      if (field.getType() != String.class && field.getType() != byte[].class) {
+        throw new IllegalArgumentException(String.format(
+            "@Compressed field %s.%s must be a String or a byte[]", rawType.getName(), field.getName()));
+      }
+      if (ObjectUtils.isIndexed(field)) {
+        throw new IllegalArgumentException(String.format("@Compressed field %s.%s cannot be indexed", rawType
+            .getName(), field.getName()));
+      }
+      SerializedName serializedName = field.getAnnotation(SerializedName.class);
+      String name = serializedName != null ? serializedName.value() : gson.fieldNamingStrategy().translateName(field);
+      compressedFields.put(name, field.getType() == byte[].class);
+    }
+
+    TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    TypeAdapter<JsonElement> elements = gson.getAdapter(JsonElement.class);
+
+    return new TypeAdapter<T>() {
+      @Override
+      public void write(JsonWriter out, T value) throws IOException {
+        JsonElement tree = delegate.toJsonTree(value);
+        if (tree.isJsonObject()) {
+          JsonObject object = tree.getAsJsonObject();
+          compressedFields.forEach((name, isBytes) -> {
+            JsonElement element = object.get(name);
+            if (element != null && !element.isJsonNull()) {
+              compress(gson, object, name, element, isBytes);
+            }
+          });
+        }
+        elements.write(out, tree);
+      }
+
+      @Override
+      public T read(JsonReader in) throws IOException {
+        JsonElement tree = elements.read(in);
+        if (tree != null && tree.isJsonObject()) {
+          JsonObject object = tree.getAsJsonObject();
+          compressedFields.forEach((name, isBytes) -> {
+            JsonElement element = object.get(name);
+            if (element != null && element.isJsonObject() && element.getAsJsonObject().has(DEFLATE)) {
+              byte[] raw = FieldCompression.inflate(Base64.getDecoder().decode(element.getAsJsonObject().get(
+                  DEFLATE).getAsString()));
+              object.add(name, isBytes ? gson.toJsonTree(raw) : new JsonPrimitive(new String(raw,
+                  StandardCharsets.UTF_8)));
+            }
+          });
+        }
+        return delegate.fromJsonTree(tree);
+      }
+    }.nullSafe();
+  }
+
+  private static void compress(Gson gson, JsonObject object, String name, JsonElement element, boolean isBytes) {
+    byte[] raw = isBytes ?
+        gson.fromJson(element, byte[].class) :
+        element.getAsString().getBytes(StandardCharsets.UTF_8);
+    String compressed = Base64.getEncoder().encodeToString(FieldCompression.deflate(raw));
+    int storedLength = isBytes ? element.toString().length() : raw.length;
+    if (compressed.length() + DEFLATE.length() + 6 < storedLength) {
+      JsonObject wrapper = new JsonObject();
+      wrapper.addProperty(DEFLATE, compressed);
+      object.add(name, wrapper);
+    }
+  }
+}
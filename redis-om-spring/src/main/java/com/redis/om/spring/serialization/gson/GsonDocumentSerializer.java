@@ -0,0 +1,35 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.redis.om.spring.serialization.DocumentSerializer;
+
+/**
+ * {@link DocumentSerializer} backed by a dedicated {@link Gson} instance, for entity types
+ * that need a Gson configuration of their own.
+ *
+ * @since 2.0.7
+ */
+public class GsonDocumentSerializer implements DocumentSerializer {
+  private final Gson gson;
+
+  /**
+   * Creates a serializer with the given Gson instance.
+   *
+   * @param gson the Gson instance to serialize with
+   */
+  public GsonDocumentSerializer(Gson gson) {
+    this.gson = gson;
+  }
+
+  @Override
+  public String toJson(Object value) {
+    return gson.toJson(value);
+  }
+
+  @Override
+  public <T> T fromJson(String json, Type type) {
+    return gson.fromJson(json, type);
+  }
+}
@@ -18,7 +18,9 @@ import org.springframework.stereotype.Component;
 import com.google.gson.GsonBuilder;
 import com.google.gson.reflect.TypeToken;
 import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.annotations.LazyReference;
 import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.serialization.DocumentSerializers;
 
 /**
  * A Spring component responsible for registering Gson type adapters for fields annotated with @Reference.
@@ -32,6 +34,7 @@ public class GsonReferenceSerializerRegistrar {
   private final GsonBuilder builder;
   private final ApplicationContext ac;
   private JSONOperations<?> ops;
+  private boolean lazyReferencesRegistered;
 
   /**
    * Constructs a new GsonReferenceSerializerRegistrar.
@@ -73,6 +76,11 @@ public class GsonReferenceSerializerRegistrar {
     ops = ac.getBean("redisJSONOperations", JSONOperations.class);
     final List<java.lang.reflect.Field> allClassFields = getDeclaredFieldsTransitively(clazz);
     for (java.lang.reflect.Field field : allClassFields) {
+      if (field.isAnnotationPresent(Reference.class) && field.isAnnotationPresent(LazyReference.class)
+          && !lazyReferencesRegistered) {
+        DocumentSerializers.of(builder).registerTypeAdapterFactory(new LazyReferenceTypeAdapterFactory(ops));
+        lazyReferencesRegistered = true;
+      }
       if (field.isAnnotationPresent(Reference.class)) {
         logger.info(String.format("🪧Registering reference type adapter for %s", field.getType().getName()));
         processField(field);
@@ -98,8 +106,14 @@ public class GsonReferenceSerializerRegistrar {
       typeToken = TypeToken.get(field.getType());
     }
 
-    builder.registerTypeAdapter(typeToken.getType(), new ReferenceDeserializer(field, ops, ac.getBean(
-        RedisOMProperties.class), ac.getBean("redisOMCacheManager", CacheManager.class)));
+    RedisOMProperties properties = ac.getBean(RedisOMProperties.class);
+    CacheManager cacheManager = ac.getBean("redisOMCacheManager", CacheManager.class);
+    DocumentSerializers serializers = DocumentSerializers.of(builder);
+    serializers.registerTypeAdapter(typeToken.getType(), new ReferenceDeserializer(field, ops, properties,
+        cacheManager));
+    if (!properties.getReferences().getCachedReferenceClasses().isEmpty()) {
+      serializers.setReferenceCache(cacheManager.getCache(properties.getReferences().getCacheName()));
+    }
     processEntity(field.getType());
   }
 
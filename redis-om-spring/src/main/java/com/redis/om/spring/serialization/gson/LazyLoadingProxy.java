@@ -0,0 +1,54 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.util.List;
+
+import com.redis.om.spring.annotations.LazyReference;
+
+/**
+ * Implemented by the proxies standing in for the entities of
+ * {@link LazyReference @LazyReference} fields until they are used.
+ * <p>
+ * The methods are deliberately not named like bean properties, so that serializing a proxy
+ * with a bean-based serializer, such as Jackson, does not pick them up.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public interface LazyLoadingProxy {
+  /**
+   * Returns the keys of the referenced entities, a single key for a reference to one
+   * entity. Reading the keys does not load the entities.
+   *
+   * @return the keys of the referenced entities
+   */
+  List<String> referenceKeys();
+
+  /**
+   * Returns whether the referenced entities have been loaded.
+   *
+   * @return true once the proxy has been used
+   */
+  boolean loaded();
+
+  /**
+   * Returns the referenced entity, or the collection of referenced entities, loading it if
+   * needed.
+   *
+   * @return the object the proxy stands in for
+   */
+  Object target();
+
+  /**
+   * Returns the object a value stands in for: the target of a proxy, or the value itself.
+   *
+   * @param value a value, possibly a proxy
+   * @param <T>   the type of the value
+   * @return the value without proxy
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  static <T> T unwrap(T value) {
+    return value instanceof LazyLoadingProxy proxy ? (T) proxy.target() : value;
+  }
+}
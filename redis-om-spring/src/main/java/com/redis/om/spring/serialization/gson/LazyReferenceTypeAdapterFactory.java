@@ -0,0 +1,243 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.target.EmptyTargetSource;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.annotation.Reference;
+
+import com.google.gson.*;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.redis.om.spring.annotations.LazyReference;
+import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.util.CompactKeyNames;
+import com.redis.om.spring.util.EntityMetadata;
+import com.redis.om.spring.util.FieldAccessor;
+import com.redis.om.spring.util.ObjectUtils;
+
+/**
+ * TypeAdapterFactory filling the {@link LazyReference @LazyReference} fields of the
+ * documents it reads with {@link LazyLoadingProxy proxies}.
+ * <p>
+ * The reference keys of the lazy fields are taken out of the document before it is read,
+ * so the referenced entities are neither fetched nor deserialized, and each field is then
+ * set to a proxy that reads its entities with a {@code JSON.GET}, or a single
+ * {@code JSON.MGET} for collections, the first time one of its methods is called. Writing
+ * is unaffected: references are stored as keys by the repositories.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public class LazyReferenceTypeAdapterFactory implements TypeAdapterFactory {
+  private final JSONOperations<String> ops;
+
+  /**
+   * Creates a factory reading the referenced entities with the given operations.
+   *
+   * @param ops the JSON operations used to load the referenced entities
+   */
+  @SuppressWarnings(
+    "unchecked"
+  )
+  public LazyReferenceTypeAdapterFactory(JSONOperations<?> ops) {
+    this.ops = (JSONOperations<String>) ops;
+  }
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<?> rawType = type.getRawType();
+    if (rawType.isPrimitive() || rawType.isArray() || rawType.isInterface() || rawType.isEnum() || rawType
+        .getName().startsWith("java.")) {
+      return null;
+    }
+    Map<String, Field> lazyFields = new LinkedHashMap<>();
+    for (Field field : EntityMetadata.of(rawType).getFieldsWithAnnotation(LazyReference.class)) {
+      if (field.isAnnotationPresent(Reference.class) && isProxyable(field.getType())) {
+        lazyFields.put(memberName(field), field);
+      }
+    }
+    if (lazyFields.isEmpty()) {
+      return null;
+    }
+
+    TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    TypeAdapter<JsonElement> elements = gson.getAdapter(JsonElement.class);
+
+    return new TypeAdapter<T>() {
+      @Override
+      public void write(JsonWriter out, T value) throws IOException {
+        delegate.write(out, value);
+      }
+
+      @Override
+      public T read(JsonReader in) throws IOException {
+        JsonElement tree = elements.read(in);
+        Map<Field, List<String>> references = new LinkedHashMap<>();
+        if (tree != null && tree.isJsonObject()) {
+          JsonObject object = tree.getAsJsonObject();
+          lazyFields.forEach((name, field) -> {
+            List<String> keys = referenceKeys(object.get(name), ObjectUtils.isCollection(field));
+            if (keys != null) {
+              object.remove(name);
+              references.put(field, keys);
+            }
+          });
+        }
+        T value = delegate.fromJsonTree(tree);
+        if (value != null) {
+          references.forEach((field, keys) -> FieldAccessor.of(field).set(value, proxyFor(gson, field, keys)));
+        }
+        return value;
+      }
+    }.nullSafe();
+  }
+
+  /**
+   * Returns the keys of a stored reference, or {@code null} when it is absent or not made
+   * of keys only, in which case it is read eagerly.
+   */
+  private static List<String> referenceKeys(JsonElement reference, boolean isCollection) {
+    if (reference == null || reference.isJsonNull()) {
+      return null;
+    }
+    if (!isCollection) {
+      return reference.isJsonPrimitive() ? List.of(reference.getAsString()) : null;
+    }
+    if (!reference.isJsonArray()) {
+      return null;
+    }
+    List<String> keys = new ArrayList<>();
+    for (JsonElement element : reference.getAsJsonArray()) {
+      if (!element.isJsonPrimitive()) {
+        return null;
+      }
+      keys.add(element.getAsString());
+    }
+    return keys;
+  }
+
+  private Object proxyFor(Gson gson, Field field, List<String> keys) {
+    Supplier<Object> loader;
+    if (ObjectUtils.isCollection(field)) {
+      Class<?> elementType = ObjectUtils.getCollectionElementClass(field).orElse(Object.class);
+      loader = () -> {
+        Collection<Object> entities = instantiateCollection(field.getType());
+        List<String> documents = ops.mget(keys.toArray(String[]::new));
+        for (String document : documents) {
+          if (document != null) {
+            entities.add(gson.fromJson(document, elementType));
+          }
+        }
+        return entities;
+      };
+    } else {
+      String key = keys.get(0);
+      loader = () -> {
+        String document = ops.get(key);
+        if (document == null) {
+          throw new DataRetrievalFailureException(String.format(
+              "Referenced entity with key '%s' not found for type %s", key, field.getType().getName()));
+        }
+        return gson.fromJson(document, field.getType());
+      };
+    }
+
+    Class<?> proxiedType = field.getType();
+    ProxyFactory factory = new ProxyFactory();
+    factory.setTargetSource(EmptyTargetSource.forClass(proxiedType));
+    if (proxiedType.isInterface()) {
+      factory.addInterface(proxiedType);
+    } else {
+      factory.setProxyTargetClass(true);
+    }
+    factory.addInterface(LazyLoadingProxy.class);
+    factory.addAdvice(new LazyLoadingInterceptor(keys, loader));
+    factory.setOpaque(true);
+    return factory.getProxy(proxiedType.getClassLoader());
+  }
+
+  private static boolean isProxyable(Class<?> type) {
+    return type.isInterface() || !(Modifier.isFinal(type.getModifiers()) || type.isRecord() || type.isPrimitive() || type
+        .isArray());
+  }
+
+  @SuppressWarnings(
+    "unchecked"
+  )
+  private static Collection<Object> instantiateCollection(Class<?> type) {
+    if (!type.isInterface()) {
+      try {
+        return (Collection<Object>) type.getDeclaredConstructor().newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException("Type not instantiatable: " + type, e);
+      }
+    } else if (SortedSet.class.isAssignableFrom(type)) {
+      return new TreeSet<>();
+    } else if (Set.class.isAssignableFrom(type)) {
+      return new LinkedHashSet<>();
+    } else if (Queue.class.isAssignableFrom(type)) {
+      return new LinkedList<>();
+    }
+    return new ArrayList<>();
+  }
+
+  private static String memberName(Field field) {
+    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+    return serializedName != null ? serializedName.value() : CompactKeyNames.storedName(field);
+  }
+
+  /**
+   * Loads the target of a proxy on first use and forwards every call to it, except for the
+   * {@link LazyLoadingProxy} methods, which are answered without loading it.
+   */
+  private static final class LazyLoadingInterceptor implements MethodInterceptor {
+    private final List<String> keys;
+    private Supplier<Object> loader;
+    private volatile Object target;
+
+    LazyLoadingInterceptor(List<String> keys, Supplier<Object> loader) {
+      this.keys = List.copyOf(keys);
+      this.loader = loader;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      Method method = invocation.getMethod();
+      if (method.getDeclaringClass() == LazyLoadingProxy.class) {
+        return switch (method.getName()) {
+          case "referenceKeys" -> keys;
+          case "loaded" -> target != null;
+          default -> target();
+        };
+      }
+      return AopUtils.invokeJoinpointUsingReflection(target(), method, invocation.getArguments());
+    }
+
+    private Object target() {
+      Object current = target;
+      if (current == null) {
+        synchronized (this) {
+          current = target;
+          if (current == null) {
+            current = loader.get();
+            target = current;
+            loader = null;
+          }
+        }
+      }
+      return current;
+    }
+  }
+}
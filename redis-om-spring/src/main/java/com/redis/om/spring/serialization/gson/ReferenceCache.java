@@ -0,0 +1,132 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Size-bounded, expiring cache of the entities deserialized from references.
+ * <p>
+ * Entries are held in a Guava cache, a segmented LRU: once the maximum size is reached the
+ * least recently used entries of a segment are evicted, and entries expire a fixed time
+ * after they were written, so an entity modified by another application instance is not
+ * served for longer than that. Entities written or deleted through the repositories and
+ * adapters of this instance are evicted straight away.
+ * </p>
+ * <p>
+ * Hits, misses and evictions are counted and available from {@link #stats()}. Cached
+ * entities are shared between callers and must not be modified in place.
+ * </p>
+ *
+ * @see ReferenceCacheManager
+ * @since 2.0.7
+ */
+public class ReferenceCache extends AbstractValueAdaptingCache {
+  private final String name;
+  private final com.google.common.cache.Cache<Object, Object> entries;
+
+  /**
+   * Creates a new reference cache.
+   *
+   * @param name        the name of the cache
+   * @param maximumSize the maximum number of cached entities
+   * @param timeToLive  the time, in milliseconds, an entity stays cached after it was put;
+   *                    {@code 0} or less to keep entities until they are evicted
+   */
+  public ReferenceCache(String name, long maximumSize, long timeToLive) {
+    super(false);
+    Assert.notNull(name, "Name must not be null");
+    Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+    this.name = name;
+    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+    if (timeToLive > 0) {
+      builder.expireAfterWrite(timeToLive, TimeUnit.MILLISECONDS);
+    }
+    this.entries = builder.build();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return entries;
+  }
+
+  @Override
+  @Nullable
+  protected Object lookup(Object key) {
+    return entries.getIfPresent(key);
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings(
+    "unchecked"
+  )
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    try {
+      return (T) fromStoreValue(entries.get(key, () -> toStoreValue(valueLoader.call())));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new ValueRetrievalException(key, valueLoader, e.getCause());
+    }
+  }
+
+  @Override
+  public void put(Object key, @Nullable Object value) {
+    if (value == null) {
+      entries.invalidate(key);
+    } else {
+      entries.put(key, toStoreValue(value));
+    }
+  }
+
+  @Override
+  public void evict(Object key) {
+    entries.invalidate(key);
+  }
+
+  @Override
+  public void clear() {
+    entries.invalidateAll();
+  }
+
+  /**
+   * Returns whether an entity is cached under the given key, without counting a hit or a
+   * miss.
+   *
+   * @param key the reference key
+   * @return true if an entity is cached under the key
+   */
+  public boolean contains(Object key) {
+    return entries.asMap().containsKey(key);
+  }
+
+  /**
+   * Returns the number of cached entities.
+   *
+   * @return the approximate number of entries
+   */
+  public long size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the hit, miss and eviction counts of the cache since it was created.
+   *
+   * @return a snapshot of the cache statistics
+   */
+  public CacheStats stats() {
+    return entries.stats();
+  }
+}
@@ -0,0 +1,42 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import com.redis.om.spring.RedisOMProperties;
+
+/**
+ * Cache manager creating a {@link ReferenceCache} for each requested cache name, bounded
+ * and expiring as configured by {@link RedisOMProperties.References}.
+ *
+ * @since 2.0.7
+ */
+public class ReferenceCacheManager extends AbstractCacheManager {
+  private final RedisOMProperties.References references;
+
+  /**
+   * Creates a cache manager configured by the given reference properties.
+   *
+   * @param references the reference properties
+   */
+  public ReferenceCacheManager(RedisOMProperties.References references) {
+    this.references = references;
+  }
+
+  @Override
+  protected Collection<? extends Cache> loadCaches() {
+    return List.of(createCache(references.getCacheName()));
+  }
+
+  @Override
+  protected Cache getMissingCache(String name) {
+    return createCache(name);
+  }
+
+  private ReferenceCache createCache(String name) {
+    return new ReferenceCache(name, references.getCacheMaximumSize(), references.getCacheTimeToLive());
+  }
+}
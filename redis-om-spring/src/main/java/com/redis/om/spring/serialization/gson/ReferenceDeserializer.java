@@ -5,7 +5,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,7 +35,10 @@ import com.redis.om.spring.util.ObjectUtils;
  * </ul>
  * <p>
  * Caching is configurable per entity type through {@link RedisOMProperties.References}
- * configuration, allowing selective caching of frequently accessed reference types.
+ * configuration, allowing selective caching of frequently accessed reference types. The
+ * deserialized entities are cached, so cached references are neither fetched nor parsed
+ * again; they are shared between the entities referencing them and must not be modified
+ * in place.
  * 
  * @see JsonDeserializer
  * @see RedisOMProperties.References
@@ -100,26 +102,14 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
     JsonObject jsonObject;
     if (json.isJsonPrimitive()) {
       String referenceKey = ObjectUtils.unQuote(json.toString());
-      String referenceJSON = null;
-      if (shouldCache(type)) {
-        referenceJSON = referenceCache.get(referenceKey, String.class);
-      }
-      if (referenceJSON == null) {
-        referenceJSON = ops.get(referenceKey);
-        if (referenceJSON != null && referenceCache != null && shouldCache(type)) {
-          referenceCache.put(referenceKey, referenceJSON);
-        }
-      }
+      reference = resolve(List.of(referenceKey), context).get(referenceKey);
 
       // Handle missing reference gracefully
-      if (referenceJSON == null) {
+      if (reference == null) {
         logger.warn(String.format("Referenced entity with key '%s' not found for type %s", referenceKey, type
             .getName()));
         return null;
       }
-
-      jsonObject = gson.fromJson(referenceJSON, JsonObject.class);
-      reference = deserializeEntity(jsonObject, context);
     } else if (json.isJsonObject()) {
       jsonObject = json.getAsJsonObject();
       reference = deserializeEntity(jsonObject, context);
@@ -127,35 +117,19 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
       JsonArray jsonArray = json.getAsJsonArray();
       reference = instantiateCollection(typeOfT);
 
-      String[] keys = jsonArray.asList().stream().filter(JsonElement::isJsonPrimitive).map(jsonElement -> ObjectUtils
-          .unQuote(jsonElement.toString())).toArray(String[]::new);
-
-      List<String> values;
-      if (keys.length > 0) {
-        if (shouldCache(type)) {
-          values = Arrays.stream(keys).map(key -> referenceCache.get(key, String.class)).filter(Objects::nonNull)
-              .collect(Collectors.toList());
-          if (values.size() < keys.length) {
-            String[] missingKeys = Arrays.stream(keys).filter(key -> referenceCache.get(key, String.class) == null)
-                .toArray(String[]::new);
-            List<String> fetchedValues = ops.mget(missingKeys);
-            for (int i = 0; i < missingKeys.length; i++) {
-              referenceCache.put(missingKeys[i], fetchedValues.get(i));
-            }
-            values.addAll(fetchedValues);
-          }
-        } else {
-          values = ops.mget(keys);
-        }
+      List<String> keys = jsonArray.asList().stream().filter(JsonElement::isJsonPrimitive).map(
+          jsonElement -> ObjectUtils.unQuote(jsonElement.toString())).toList();
+
+      if (!keys.isEmpty()) {
+        Map<String, Object> values = resolve(keys, context);
         // Filter out null values (missing references) and log warnings
         List<Object> deserializedReferences = new ArrayList<>();
-        for (int i = 0; i < values.size(); i++) {
-          String raw = values.get(i);
-          if (raw != null) {
-            JsonObject jo = gson.fromJson(raw, JsonObject.class);
-            deserializedReferences.add(deserializeEntity(jo, context));
+        for (String key : keys) {
+          Object entity = values.get(key);
+          if (entity != null) {
+            deserializedReferences.add(entity);
           } else {
-            logger.warn(String.format("Referenced entity with key '%s' not found for type %s", keys[i], type
+            logger.warn(String.format("Referenced entity with key '%s' not found for type %s", key, type
                 .getName()));
           }
         }
@@ -230,6 +204,53 @@ public class ReferenceDeserializer implements JsonDeserializer<Object> {
     return reference;
   }
 
+  /**
+   * Reads the entities of references, from the reference cache, then from the documents
+   * prefetched by {@link ReferencePrefetch} for the page being mapped, then from Redis with
+   * a single {@code JSON.GET} or {@code JSON.MGET}. Entities read from documents are added
+   * to the reference cache when their type is cached.
+   *
+   * @param keys    the keys of the referenced entities
+   * @param context the context deserializing the fields of the entities
+   * @return the entity of each key, {@code null} for missing entities
+   */
+  private Map<String, Object> resolve(List<String> keys, JsonDeserializationContext context) {
+    Map<String, String> prefetched = ReferencePrefetch.prefetched();
+    boolean cached = referenceCache != null && shouldCache(type);
+    Map<String, Object> resolved = new HashMap<>();
+    Map<String, String> documents = new HashMap<>();
+    List<String> missingKeys = new ArrayList<>();
+    for (String key : keys) {
+      if (resolved.containsKey(key) || documents.containsKey(key) || missingKeys.contains(key)) {
+        continue;
+      }
+      Cache.ValueWrapper entity = cached ? referenceCache.get(key) : null;
+      if (entity != null) {
+        resolved.put(key, entity.get());
+      } else if (prefetched.containsKey(key)) {
+        documents.put(key, prefetched.get(key));
+      } else {
+        missingKeys.add(key);
+      }
+    }
+    if (!missingKeys.isEmpty()) {
+      List<String> fetchedValues = missingKeys.size() == 1 ?
+          Collections.singletonList(ops.get(missingKeys.get(0))) :
+          ops.mgetAligned(missingKeys.toArray(String[]::new));
+      for (int i = 0; i < missingKeys.size(); i++) {
+        documents.put(missingKeys.get(i), fetchedValues.get(i));
+      }
+    }
+    documents.forEach((key, document) -> {
+      Object entity = document != null ? deserializeEntity(gson.fromJson(document, JsonObject.class), context) : null;
+      resolved.put(key, entity);
+      if (entity != null && cached) {
+        referenceCache.put(key, entity);
+      }
+    });
+    return resolved;
+  }
+
   private boolean shouldCache(Class<?> referenceClass) {
     return cachedReferenceClasses.contains(referenceClass.getName());
   }
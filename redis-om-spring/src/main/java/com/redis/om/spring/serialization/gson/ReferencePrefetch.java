@@ -0,0 +1,187 @@
+package com.redis.om.spring.serialization.gson;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.data.annotation.Reference;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.annotations.LazyReference;
+import com.redis.om.spring.util.CompactKeyNames;
+import com.redis.om.spring.util.EntityMetadata;
+import com.redis.om.spring.util.ObjectUtils;
+
+import redis.clients.jedis.search.Document;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Resolves the {@link Reference @Reference} fields of a page of documents in bulk.
+ * <p>
+ * Mapping a page of documents one by one makes {@link ReferenceDeserializer} fetch the
+ * referenced entities of every document separately, one round trip per reference.
+ * {@link #resolving} maps a page in two phases instead: it first collects the reference
+ * keys of all the documents and reads them with a single deduplicated {@code JSON.MGET}
+ * per level of nesting, then maps the documents while {@link ReferenceDeserializer}
+ * stitches the prefetched entities in without further round trips.
+ * {@link LazyReference @LazyReference} fields are left to their proxies.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class ReferencePrefetch {
+  /**
+   * The maximum depth of nested references prefetched; deeper references are read one by
+   * one as they are deserialized.
+   */
+  static final int MAX_DEPTH = 8;
+
+  private static final ThreadLocal<Map<String, String>> PREFETCHED = new ThreadLocal<>();
+
+  private static final ClassValue<Map<String, Class<?>>> REFERENCES = new ClassValue<>() {
+    @Override
+    protected Map<String, Class<?>> computeValue(Class<?> type) {
+      Map<String, Class<?>> references = new LinkedHashMap<>();
+      if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+        return references;
+      }
+      for (Field field : EntityMetadata.of(type).getReferenceFields()) {
+        if (field.isAnnotationPresent(LazyReference.class)) {
+          continue;
+        }
+        Class<?> referencedType = ObjectUtils.isCollection(field) ?
+            ObjectUtils.getCollectionElementClass(field).orElse(Object.class) :
+            field.getType();
+        references.put(memberName(field), referencedType);
+      }
+      return Collections.unmodifiableMap(references);
+    }
+  };
+
+  private ReferencePrefetch() {
+  }
+
+  /**
+   * Maps a page of documents with their references prefetched.
+   * <p>
+   * When the type has no reference fields, the documents are not looked at and the mapping
+   * runs as is.
+   * </p>
+   *
+   * @param type      the type of the documents
+   * @param documents the JSON documents of the page, consumed only if the type has references
+   * @param fetch     reads the JSON documents stored at keys, with {@code null} for missing keys
+   * @param cached    tells whether the entity stored at a key is in the reference cache;
+   *                  cached entities are neither fetched nor followed to their own references
+   * @param mapping   maps the page
+   * @param <R>       the type of the mapped page
+   * @return the mapped page
+   */
+  public static <R> R resolving(Class<?> type, Stream<String> documents, Function<String[], List<String>> fetch,
+      Predicate<String> cached, Supplier<R> mapping) {
+    if (REFERENCES.get(type).isEmpty()) {
+      return mapping.get();
+    }
+    Map<String, String> previous = PREFETCHED.get();
+    Map<String, String> prefetched = previous != null ? new HashMap<>(previous) : new HashMap<>();
+    prefetch(type, documents.filter(Objects::nonNull).map(JsonParser::parseString).toList(), fetch, cached,
+        prefetched);
+    PREFETCHED.set(prefetched);
+    try {
+      return mapping.get();
+    } finally {
+      if (previous != null) {
+        PREFETCHED.set(previous);
+      } else {
+        PREFETCHED.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns the root JSON documents ({@code $}) of search results, for {@link #resolving}.
+   *
+   * @param documents the documents returned by a search
+   * @return the JSON of the documents that include their root
+   */
+  public static Stream<String> rootDocuments(List<Document> documents) {
+    return documents.stream().map(d -> d.get("$")).filter(Objects::nonNull).map(json -> json instanceof byte[] bytes ?
+        SafeEncoder.encode(bytes) :
+        json.toString());
+  }
+
+  /**
+   * Returns the referenced documents prefetched for the page being mapped on the current
+   * thread, by key. Keys that were looked up but do not exist map to {@code null}.
+   *
+   * @return the prefetched documents, empty outside of {@link #resolving}
+   */
+  static Map<String, String> prefetched() {
+    Map<String, String> prefetched = PREFETCHED.get();
+    return prefetched != null ? prefetched : Map.of();
+  }
+
+  private static void prefetch(Class<?> type, List<JsonElement> documents, Function<String[], List<String>> fetch,
+      Predicate<String> cached, Map<String, String> prefetched) {
+    Map<Class<?>, List<JsonElement>> level = Map.of(type, documents);
+    for (int depth = 0; depth < MAX_DEPTH && !level.isEmpty(); depth++) {
+      Map<String, Class<?>> keys = new LinkedHashMap<>();
+      level.forEach((levelType, elements) -> elements.forEach(element -> collectKeys(levelType, element, keys)));
+      keys.keySet().removeIf(key -> prefetched.containsKey(key) || cached.test(key));
+      if (keys.isEmpty()) {
+        return;
+      }
+
+      String[] keyArray = keys.keySet().toArray(String[]::new);
+      List<String> values = fetch.apply(keyArray);
+      Map<Class<?>, List<JsonElement>> next = new LinkedHashMap<>();
+      for (int i = 0; i < keyArray.length; i++) {
+        String value = i < values.size() ? values.get(i) : null;
+        prefetched.put(keyArray[i], value);
+        Class<?> referencedType = keys.get(keyArray[i]);
+        if (value != null && !REFERENCES.get(referencedType).isEmpty()) {
+          next.computeIfAbsent(referencedType, t -> new ArrayList<>()).add(JsonParser.parseString(value));
+        }
+      }
+      level = next;
+    }
+  }
+
+  private static void collectKeys(Class<?> type, JsonElement element, Map<String, Class<?>> keys) {
+    if (element.isJsonArray()) {
+      // documents read with a JSONPath come wrapped in an array
+      element.getAsJsonArray().forEach(e -> collectKeys(type, e, keys));
+      return;
+    }
+    if (!element.isJsonObject()) {
+      return;
+    }
+    JsonObject object = element.getAsJsonObject();
+    REFERENCES.get(type).forEach((member, referencedType) -> {
+      JsonElement reference = object.get(member);
+      if (reference == null) {
+        return;
+      }
+      if (reference.isJsonPrimitive()) {
+        keys.putIfAbsent(reference.getAsString(), referencedType);
+      } else if (reference.isJsonArray()) {
+        reference.getAsJsonArray().forEach(e -> {
+          if (e.isJsonPrimitive()) {
+            keys.putIfAbsent(e.getAsString(), referencedType);
+          }
+        });
+      }
+    });
+  }
+
+  private static String memberName(Field field) {
+    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+    return serializedName != null ? serializedName.value() : CompactKeyNames.storedName(field);
+  }
+}
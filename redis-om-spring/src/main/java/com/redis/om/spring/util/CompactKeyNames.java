@@ -0,0 +1,165 @@
+package com.redis.om.spring.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.annotations.CompactKeys;
+
+/**
+ * Assigns the short stored names of the fields of {@link CompactKeys @CompactKeys} classes.
+ * <p>
+ * The names are computed from the field names alone, by {@link #shortNames} here at runtime
+ * and by the metamodel annotation processor at compile time, so the serializer, the search
+ * index and the generated JSON paths agree on them. Clashing names are rejected rather than
+ * disambiguated, as a disambiguation would depend on the other fields of the class.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class CompactKeyNames {
+  private static final ClassValue<Map<String, String>> NAMES = new ClassValue<>() {
+    @Override
+    protected Map<String, String> computeValue(Class<?> type) {
+      return type.isAnnotationPresent(CompactKeys.class) ? compute(type) : Map.of();
+    }
+  };
+
+  private CompactKeyNames() {
+  }
+
+  /**
+   * Returns the name a field is stored under in JSON documents: its short name when its
+   * declaring class is annotated with {@link CompactKeys @CompactKeys}, its
+   * {@code @SerializedName} or {@code @JsonProperty} name in such a class, and its Java
+   * name otherwise.
+   *
+   * @param field the field
+   * @return the stored name of the field
+   * @throws IllegalStateException if the short names of the fields of its class clash
+   */
+  public static String storedName(Field field) {
+    Map<String, String> names = NAMES.get(field.getDeclaringClass());
+    if (names.isEmpty()) {
+      return field.getName();
+    }
+    String pinned = pinnedName(field);
+    return pinned != null ? pinned : names.getOrDefault(field.getName(), field.getName());
+  }
+
+  /**
+   * Returns whether the fields declared in a class are stored under short names.
+   *
+   * @param type the class
+   * @return true if the class is annotated with {@link CompactKeys @CompactKeys}
+   */
+  public static boolean isCompact(Class<?> type) {
+    return !NAMES.get(type).isEmpty();
+  }
+
+  /**
+   * Assigns short names to fields. Each name becomes its initials (the first character,
+   * the upper-case characters, the digits, and the characters following an underscore,
+   * all lower-cased), or stays as it is when its initials would not be shorter. The short
+   * name of a field depends on its own name only, so adding or removing other fields never
+   * renames stored keys. A short name that is reserved, that is the name of another field,
+   * or that is the short name of another field is rejected.
+   *
+   * @param fieldNames the names of the fields to compact
+   * @param reserved   names that are in use and must not be assigned
+   * @return the short name of each field, by field name
+   * @throws IllegalArgumentException if the short names of fields clash
+   */
+  public static Map<String, String> shortNames(Collection<String> fieldNames, Collection<String> reserved) {
+    Map<String, String> names = new LinkedHashMap<>();
+    Map<String, String> owners = new HashMap<>();
+    for (String name : new TreeSet<>(fieldNames)) {
+      String initials = initials(name);
+      String shortName = initials.length() < name.length() ? initials : name;
+      String clash = reserved.contains(shortName) ? "a reserved name" : null;
+      if (clash == null && !shortName.equals(name) && fieldNames.contains(shortName)) {
+        clash = "the name of field '" + shortName + "'";
+      }
+      if (clash == null && owners.containsKey(shortName)) {
+        clash = "the stored name of field '" + owners.get(shortName) + "'";
+      }
+      if (clash != null) {
+        throw new IllegalArgumentException(String.format(
+            "Stored name '%s' of field '%s' clashes with %s; set the stored name of one of them with @SerializedName",
+            shortName, name, clash));
+      }
+      owners.put(shortName, name);
+      names.put(name, shortName);
+    }
+    return names;
+  }
+
+  static String initials(String name) {
+    StringBuilder initials = new StringBuilder();
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      boolean afterUnderscore = i > 0 && name.charAt(i - 1) == '_';
+      if (c != '_' && (i == 0 || afterUnderscore || Character.isUpperCase(c) || Character.isDigit(c))) {
+        initials.append(Character.toLowerCase(c));
+      }
+    }
+    return initials.isEmpty() ? name : initials.toString();
+  }
+
+  private static Map<String, String> compute(Class<?> type) {
+    List<String> compacted = new ArrayList<>();
+    Set<String> reserved = new HashSet<>();
+    for (Class<?> parent = type.getSuperclass(); parent != null && parent != Object.class; parent = parent
+        .getSuperclass()) {
+      for (Field field : parent.getDeclaredFields()) {
+        if (isStored(field)) {
+          reserved.add(storedName(field));
+        }
+      }
+    }
+    for (Field field : type.getDeclaredFields()) {
+      if (!isStored(field)) {
+        continue;
+      }
+      String pinned = pinnedName(field);
+      if (pinned != null) {
+        reserved.add(pinned);
+      } else if (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(Version.class)) {
+        reserved.add(field.getName());
+      } else {
+        compacted.add(field.getName());
+      }
+    }
+    Map<String, String> names;
+    try {
+      names = new HashMap<>(shortNames(compacted, reserved));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("Cannot compact the keys of " + type.getName() + ": " + e.getMessage(), e);
+    }
+    // an annotated class without compactable fields still counts as compact
+    names.putIfAbsent("", "");
+    return Collections.unmodifiableMap(names);
+  }
+
+  private static boolean isStored(Field field) {
+    return !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field
+        .isSynthetic();
+  }
+
+  private static String pinnedName(Field field) {
+    SerializedName serializedName = field.getAnnotation(SerializedName.class);
+    if (serializedName != null && !serializedName.value().isEmpty()) {
+      return serializedName.value();
+    }
+    JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+    if (jsonProperty != null && !jsonProperty.value().isEmpty()) {
+      return jsonProperty.value();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,198 @@
+package com.redis.om.spring.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.redis.core.TimeToLive;
+import org.springframework.lang.Nullable;
+
+import com.redis.om.spring.annotations.RedisKey;
+
+/**
+ * Reflective metadata of a class, computed once per class and shared by the mapping,
+ * auditing, versioning, TTL and indexing code.
+ * <p>
+ * Saving an entity used to walk its class hierarchy several times: once per lookup of its
+ * id, version, TTL, audit, reference or {@link RedisKey} fields. The metadata is held in
+ * a {@link ClassValue}, so it is computed on first use and released with the class.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class EntityMetadata {
+  private static final ClassValue<EntityMetadata> METADATA = new ClassValue<>() {
+    @Override
+    protected EntityMetadata computeValue(Class<?> type) {
+      return new EntityMetadata(type);
+    }
+  };
+
+  private final List<Field> fields;
+  private final Map<String, Field> fieldsByName;
+  private final Map<Class<? extends Annotation>, List<Field>> fieldsByAnnotation = new ConcurrentHashMap<>();
+  private final List<Field> idFields;
+  private final List<Field> versionFields;
+  private final List<Field> timeToLiveFields;
+  private final List<Field> createdDateFields;
+  private final List<Field> lastModifiedDateFields;
+  private final List<Field> referenceFields;
+  private final List<Field> redisKeyFields;
+  private final Map<Field, FieldAccessor> accessors = new ConcurrentHashMap<>();
+
+  private EntityMetadata(Class<?> type) {
+    List<Field> all = new ArrayList<>();
+    Map<String, Field> byName = new LinkedHashMap<>();
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        all.add(field);
+        // like ReflectionUtils.findField, a field hides the fields of the same name above it
+        byName.putIfAbsent(field.getName(), field);
+      }
+    }
+    this.fields = Collections.unmodifiableList(all);
+    this.fieldsByName = Collections.unmodifiableMap(byName);
+    this.idFields = getFieldsWithAnnotation(Id.class);
+    this.versionFields = getFieldsWithAnnotation(Version.class);
+    this.timeToLiveFields = getFieldsWithAnnotation(TimeToLive.class);
+    this.createdDateFields = getFieldsWithAnnotation(CreatedDate.class);
+    this.lastModifiedDateFields = getFieldsWithAnnotation(LastModifiedDate.class);
+    this.referenceFields = getFieldsWithAnnotation(Reference.class);
+    this.redisKeyFields = getFieldsWithAnnotation(RedisKey.class);
+  }
+
+  /**
+   * Returns the metadata of a class.
+   *
+   * @param type the class
+   * @return the metadata of the class, computed on first use
+   */
+  public static EntityMetadata of(Class<?> type) {
+    return METADATA.get(type);
+  }
+
+  /**
+   * Returns the fields declared by the class and its superclasses, most derived first.
+   *
+   * @return the unmodifiable list of fields
+   */
+  public List<Field> getFields() {
+    return fields;
+  }
+
+  /**
+   * Returns the field with the given name, as {@code ReflectionUtils.findField} would.
+   *
+   * @param name the name of the field
+   * @return the field, or {@code null} if the class hierarchy declares no such field
+   */
+  @Nullable
+  public Field getField(String name) {
+    return fieldsByName.get(name);
+  }
+
+  /**
+   * Returns the fields annotated with the given annotation.
+   *
+   * @param annotationClass the annotation to look for
+   * @return the unmodifiable list of annotated fields
+   */
+  public List<Field> getFieldsWithAnnotation(Class<? extends Annotation> annotationClass) {
+    return fieldsByAnnotation.computeIfAbsent(annotationClass, a -> fields.stream().filter(f -> f
+        .isAnnotationPresent(a)).toList());
+  }
+
+  /**
+   * Returns the accessor of a field declared by the class, creating it on first use.
+   *
+   * @param field a field declared by the class
+   * @return the accessor of the field
+   * @see FieldAccessor#of(Field)
+   */
+  FieldAccessor getAccessor(Field field) {
+    return accessors.computeIfAbsent(field, FieldAccessor::new);
+  }
+
+  /**
+   * Returns the first field annotated with {@link Id}.
+   *
+   * @return the id field, if any
+   */
+  public Optional<Field> getIdField() {
+    return idFields.isEmpty() ? Optional.empty() : Optional.of(idFields.get(0));
+  }
+
+  /**
+   * Returns the fields annotated with {@link Id}; composite ids have several.
+   *
+   * @return the id fields
+   */
+  public List<Field> getIdFields() {
+    return idFields;
+  }
+
+  /**
+   * Returns the fields annotated with {@link Version}.
+   *
+   * @return the version fields
+   */
+  public List<Field> getVersionFields() {
+    return versionFields;
+  }
+
+  /**
+   * Returns the fields annotated with {@link TimeToLive}.
+   *
+   * @return the TTL fields
+   */
+  public List<Field> getTimeToLiveFields() {
+    return timeToLiveFields;
+  }
+
+  /**
+   * Returns the fields annotated with {@link CreatedDate}.
+   *
+   * @return the creation audit fields
+   */
+  public List<Field> getCreatedDateFields() {
+    return createdDateFields;
+  }
+
+  /**
+   * Returns the fields annotated with {@link LastModifiedDate}.
+   *
+   * @return the modification audit fields
+   */
+  public List<Field> getLastModifiedDateFields() {
+    return lastModifiedDateFields;
+  }
+
+  /**
+   * Returns the fields annotated with {@link Reference}.
+   *
+   * @return the reference fields
+   */
+  public List<Field> getReferenceFields() {
+    return referenceFields;
+  }
+
+  /**
+   * Returns the fields annotated with {@link RedisKey}.
+   *
+   * @return the Redis key fields
+   */
+  public List<Field> getRedisKeyFields() {
+    return redisKeyFields;
+  }
+}
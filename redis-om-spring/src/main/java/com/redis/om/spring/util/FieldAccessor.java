@@ -0,0 +1,126 @@
+package com.redis.om.spring.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Reads and writes one field of an entity class through method handles bound once per
+ * field.
+ * <p>
+ * Values are read through the field's JavaBean getter when the class declares one, like
+ * the rest of the mapping code does, and directly from the field otherwise. Values are
+ * always written directly to the field. Accessors are cached per field in the
+ * {@link EntityMetadata} of the declaring class, so the getter lookup and the access checks
+ * happen once rather than on every call, and the accessors are released with the class.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class FieldAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Field field;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  FieldAccessor(Field field) {
+    this.field = field;
+    this.getter = getterFor(field);
+    this.setter = setterFor(field);
+  }
+
+  /**
+   * Returns the accessor of the given field.
+   *
+   * @param field the field to access
+   * @return the cached accessor of the field
+   */
+  public static FieldAccessor of(Field field) {
+    return EntityMetadata.of(field.getDeclaringClass()).getAccessor(field);
+  }
+
+  /**
+   * Returns the accessed field.
+   *
+   * @return the field
+   */
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * Reads the value of the field from an entity.
+   *
+   * @param entity the entity to read from
+   * @return the value of the field
+   */
+  public Object get(Object entity) {
+    if (getter == null) {
+      ReflectionUtils.makeAccessible(field);
+      return ReflectionUtils.getField(field, entity);
+    }
+    try {
+      return (Object) getter.invokeExact(entity);
+    } catch (Throwable t) {
+      ReflectionUtils.rethrowRuntimeException(t);
+      return null;
+    }
+  }
+
+  /**
+   * Writes a value to the field of an entity.
+   *
+   * @param entity the entity to write to
+   * @param value  the value to write
+   */
+  public void set(Object entity, Object value) {
+    if (setter == null) {
+      ReflectionUtils.makeAccessible(field);
+      ReflectionUtils.setField(field, entity, value);
+      return;
+    }
+    try {
+      setter.invokeExact(entity, value);
+    } catch (Throwable t) {
+      ReflectionUtils.rethrowRuntimeException(t);
+    }
+  }
+
+  private static MethodHandle getterFor(Field field) {
+    try {
+      Method method = ObjectUtils.getGetterForField(field.getDeclaringClass(), field);
+      if (method == null && (field.getType() == boolean.class || field.getType() == Boolean.class)) {
+        method = ReflectionUtils.findMethod(field.getDeclaringClass(), "is" + ObjectUtils.ucfirst(field.getName()));
+      }
+      if (method != null && !Modifier.isStatic(method.getModifiers())) {
+        ReflectionUtils.makeAccessible(method);
+        return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+      }
+      ReflectionUtils.makeAccessible(field);
+      return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      // fall back to reflective access, which reports the problem on use
+      return null;
+    }
+  }
+
+  private static MethodHandle setterFor(Field field) {
+    if (Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+      return null;
+    }
+    try {
+      ReflectionUtils.makeAccessible(field);
+      return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      // fall back to reflective access, which reports the problem on use
+      return null;
+    }
+  }
+}
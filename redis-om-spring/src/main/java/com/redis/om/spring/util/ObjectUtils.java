@@ -29,7 +29,6 @@ import org.springframework.context.annotation.ClassPathScanningCandidateComponen
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
-import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.geo.Distance;
 import org.springframework.data.redis.connection.RedisGeoCommands.DistanceUnit;
@@ -38,12 +37,21 @@ import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.util.Pair;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
 import com.redis.om.spring.annotations.EnableRedisDocumentRepositories;
 import com.redis.om.spring.annotations.EnableRedisEnhancedRepositories;
+import com.redis.om.spring.annotations.GeoIndexed;
+import com.redis.om.spring.annotations.Indexed;
 import com.redis.om.spring.annotations.IndexingOptions;
+import com.redis.om.spring.annotations.NumericIndexed;
+import com.redis.om.spring.annotations.Searchable;
+import com.redis.om.spring.annotations.TagIndexed;
+import com.redis.om.spring.annotations.TextIndexed;
+import com.redis.om.spring.annotations.VectorIndexed;
 import com.redis.om.spring.convert.MappingRedisOMConverter;
 import com.redis.om.spring.tuple.Tuples;
 
@@ -62,7 +70,6 @@ public class ObjectUtils {
    */
   public static final Character REPLACEMENT_CHARACTER = '_';
   static final Set<String> JAVA_LITERAL_WORDS = Set.of("true", "false", "null");
-  private static final ConcurrentHashMap<Class<?>, Boolean> HAS_REDIS_KEY_CACHE = new ConcurrentHashMap<>();
   // Java reserved keywords
   static final Set<String> JAVA_RESERVED_WORDS = Collections.unmodifiableSet(Stream.of(
       // Unused
@@ -77,7 +84,13 @@ public class ObjectUtils {
       Float.class, Integer.class, Long.class, Object.class, Short.class, String.class, BigDecimal.class,
       BigInteger.class, boolean.class, byte.class, char.class, double.class, float.class, int.class, long.class,
       short.class);
-  private static final ExpressionParser SPEL_EXPRESSION_PARSER = new SpelExpressionParser();
+  // compiled path accessors, per target class and JSONPath-like path
+  private static final ClassValue<Map<String, PathAccessor>> PATH_ACCESSORS = new ClassValue<>() {
+    @Override
+    protected Map<String, PathAccessor> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
   private static final Set<String> JAVA_BUILT_IN_CLASS_WORDS = Collections.unmodifiableSet(JAVA_BUILT_IN_CLASSES
       .stream().map(Class::getSimpleName).collect(Collectors.toSet()));
   private static final Set<String> JAVA_USED_WORDS = Collections.unmodifiableSet(Stream.of(JAVA_LITERAL_WORDS,
@@ -106,10 +119,7 @@ public class ObjectUtils {
    * @return a list of fields that have the specified annotation
    */
   public static List<Field> getFieldsWithAnnotation(Class<?> clazz, Class<? extends Annotation> annotationClass) {
-    return getDeclaredFieldsTransitively(clazz) //
-        .stream() //
-        .filter(f -> f.isAnnotationPresent(annotationClass)) //
-        .toList();
+    return EntityMetadata.of(clazz).getFieldsWithAnnotation(annotationClass);
   }
 
   /**
@@ -261,6 +271,20 @@ public class ObjectUtils {
     return Collection.class.isAssignableFrom(cls) || Iterable.class.isAssignableFrom(cls);
   }
 
+  /**
+   * Determines whether a field is annotated to be part of a search index, with
+   * {@code @Indexed}, {@code @Searchable} or one of the type-specific index annotations.
+   *
+   * @param field the field to examine
+   * @return true if the field carries an index annotation, false otherwise
+   */
+  public static boolean isIndexed(Field field) {
+    return field.isAnnotationPresent(Indexed.class) || field.isAnnotationPresent(Searchable.class) || field
+        .isAnnotationPresent(TagIndexed.class) || field.isAnnotationPresent(TextIndexed.class) || field
+            .isAnnotationPresent(NumericIndexed.class) || field.isAnnotationPresent(GeoIndexed.class) || field
+                .isAnnotationPresent(VectorIndexed.class);
+  }
+
   /**
    * Finds the first field annotated with @Id in an entity class hierarchy.
    *
@@ -268,7 +292,7 @@ public class ObjectUtils {
    * @return an Optional containing the ID field if found, empty otherwise
    */
   public static Optional<Field> getIdFieldForEntityClass(Class<?> cl) {
-    return getDeclaredFieldsTransitively(cl).stream().filter(f -> f.isAnnotationPresent(Id.class)).findFirst();
+    return EntityMetadata.of(cl).getIdField();
   }
 
   /**
@@ -278,25 +302,22 @@ public class ObjectUtils {
    * @return a list of all ID fields found in the class hierarchy
    */
   public static List<Field> getIdFieldsForEntityClass(Class<?> cl) {
-    return getDeclaredFieldsTransitively(cl).stream().filter(f -> f.isAnnotationPresent(Id.class)).toList();
+    return EntityMetadata.of(cl).getIdFields();
   }
 
   /**
-   * Extracts the ID field value from an entity instance using reflection.
+   * Extracts the ID field value from an entity instance through the cached
+   * {@link FieldAccessor} of its ID field.
    *
    * @param entity the entity instance to extract the ID from
-   * @return the ID field value, or null if no ID field is found or accessible
+   * @return the ID field value, or null if no ID field is found
    */
   public static Object getIdFieldForEntity(Object entity) {
     Optional<Field> maybeIdField = getIdFieldForEntityClass(entity.getClass());
     if (maybeIdField.isEmpty())
       return null;
 
-    Field idField = maybeIdField.get();
-
-    String getterName = "get" + ObjectUtils.ucfirst(idField.getName());
-    Method getter = ReflectionUtils.findMethod(entity.getClass(), getterName);
-    return getter != null ? ReflectionUtils.invokeMethod(getter, entity) : null;
+    return FieldAccessor.of(maybeIdField.get()).get(entity);
   }
 
   /**
@@ -304,13 +325,10 @@ public class ObjectUtils {
    *
    * @param idField the ID field to extract the value from
    * @param entity  the entity instance containing the ID value
-   * @return the ID field value
-   * @throws NullPointerException if the getter method is not found
+   * @return the ID field value, read through its getter when there is one
    */
   public static Object getIdFieldForEntity(Field idField, Object entity) {
-    String getterName = "get" + ObjectUtils.ucfirst(idField.getName());
-    Method getter = ReflectionUtils.findMethod(entity.getClass(), getterName);
-    return ReflectionUtils.invokeMethod(requireNonNull(getter), entity);
+    return FieldAccessor.of(idField).get(entity);
   }
 
   /**
@@ -338,16 +356,8 @@ public class ObjectUtils {
    * @return the field value as a {@code long}, or {@code 0L} if the value is null or non-numeric
    */
   public static long getNumericFieldValue(Class<?> entityClass, Field fld, Object entity) {
-    Object value;
-    Method getter = getGetterForField(entityClass, fld);
-    if (getter != null) {
-      value = ReflectionUtils.invokeMethod(getter, entity);
-    } else {
-      // Fall back to direct field access when no getter exists (e.g. Groovy classes,
-      // records, or non-standard property naming)
-      ReflectionUtils.makeAccessible(fld);
-      value = ReflectionUtils.getField(fld, entity);
-    }
+    // the accessor reads through the getter and falls back to the field when there is none
+    Object value = FieldAccessor.of(fld).get(entity);
     if (value instanceof Number number) {
       return number.longValue();
     }
@@ -777,12 +787,7 @@ public class ObjectUtils {
    * @return a list of all declared fields including those from superclasses
    */
   public static List<Field> getDeclaredFieldsTransitively(Class<?> clazz) {
-    List<Field> fields = new ArrayList<>();
-    while (clazz != null) {
-      fields.addAll(Arrays.stream(clazz.getDeclaredFields()).toList());
-      clazz = clazz.getSuperclass();
-    }
-    return fields;
+    return clazz != null ? new ArrayList<>(EntityMetadata.of(clazz).getFields()) : new ArrayList<>();
   }
 
   /**
@@ -883,41 +888,19 @@ public class ObjectUtils {
   /**
    * Extracts a value from an object using a JSONPath-like expression converted to SpEL.
    * Supports nested object navigation and array handling with flattening.
+   * <p>
+   * The expressions are parsed once per target class and path, and compiled to bytecode
+   * once they are hot, so repeated lookups don't pay for parsing.
+   * </p>
    *
    * @param target the target object to extract the value from
    * @param path   the JSONPath-like expression (e.g., "$.property.nestedProperty")
    * @return the extracted value, or null if the path cannot be resolved
    */
   public static Object getValueByPath(Object target, String path) {
-    // Remove JSONPath prefix
-    String safeSpelPath = path.replace("$.", "");
-    // does the expression have any arrays
-    boolean hasNestedObject = path.contains("[0:]");
-
-    Object value = null;
-
-    if (!hasNestedObject) {
-      safeSpelPath = safeSpelPath //
-          .replace("[*]", "") //
-          .replace(".", "?.");
-
-      value = SPEL_EXPRESSION_PARSER.parseExpression(safeSpelPath).getValue(target);
-    } else {
-      String[] tempParts = safeSpelPath.split("\\[0:]", 2);
-      String[] parts = tempParts[1].split("\\.", 2);
-      String leftPath = tempParts[0].replace(".", "?.");
-      String rightPath = parts[1].replace(".", "?.") //
-          .replace("[*]", "");
-
-      Expression leftExp = SPEL_EXPRESSION_PARSER.parseExpression(leftPath);
-      Expression rightExp = SPEL_EXPRESSION_PARSER.parseExpression(rightPath);
-      Collection<?> left = (Collection<?>) leftExp.getValue(target);
-      if (left != null && !left.isEmpty()) {
-        value = flattenCollection(left.stream().map(rightExp::getValue).toList());
-      }
-    }
-
-    return value;
+    Class<?> targetClass = target != null ? target.getClass() : Object.class;
+    return PATH_ACCESSORS.get(targetClass).computeIfAbsent(path, p -> PathAccessor.compile(targetClass, p)).getValue(
+        target);
   }
 
   /**
@@ -1205,32 +1188,59 @@ public class ObjectUtils {
       return entity;
     }
 
-    Class<?> clazz = entity.getClass();
-
-    // Quick check: if this class doesn't have @RedisKey fields, return early
-    Boolean hasRedisKey = HAS_REDIS_KEY_CACHE.computeIfAbsent(clazz, cls -> {
-      List<Field> fields = getDeclaredFieldsTransitively(cls);
-      return fields.stream().anyMatch(f -> f.isAnnotationPresent(com.redis.om.spring.annotations.RedisKey.class));
-    });
-
-    if (!hasRedisKey) {
-      return entity;
+    for (Field field : EntityMetadata.of(entity.getClass()).getRedisKeyFields()) {
+      FieldAccessor.of(field).set(entity, redisKey);
     }
 
-    // If we get here, we know there's at least one @RedisKey field
-    List<Field> fields = getDeclaredFieldsTransitively(clazz);
+    return entity;
+  }
 
-    for (Field field : fields) {
-      if (field.isAnnotationPresent(com.redis.om.spring.annotations.RedisKey.class)) {
-        try {
-          field.setAccessible(true);
-          field.set(entity, redisKey);
-        } catch (IllegalAccessException e) {
-          throw new RuntimeException("Failed to set @RedisKey field", e);
-        }
+  /**
+   * A JSONPath-like path converted to SpEL expressions, parsed once.
+   * <p>
+   * Paths over nested arrays ({@code [0:]}) are split into an expression selecting the
+   * array and one applied to each of its elements, whose results are flattened. The
+   * expressions are compiled in {@link SpelCompilerMode#MIXED} mode, which falls back to
+   * interpretation when a compiled expression meets a value of an unexpected type, such as
+   * a subclass in a polymorphic field.
+   * </p>
+   */
+  private record PathAccessor(Expression expression, Expression elementExpression) {
+    static PathAccessor compile(Class<?> targetClass, String path) {
+      ExpressionParser parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED,
+          targetClass.getClassLoader()));
+      // Remove JSONPath prefix
+      String safeSpelPath = path.replace("$.", "");
+      // does the expression have any arrays
+      boolean hasNestedObject = path.contains("[0:]");
+
+      if (!hasNestedObject) {
+        safeSpelPath = safeSpelPath //
+            .replace("[*]", "") //
+            .replace(".", "?.");
+
+        return new PathAccessor(parser.parseExpression(safeSpelPath), null);
+      } else {
+        String[] tempParts = safeSpelPath.split("\\[0:]", 2);
+        String[] parts = tempParts[1].split("\\.", 2);
+        String leftPath = tempParts[0].replace(".", "?.");
+        String rightPath = parts[1].replace(".", "?.") //
+            .replace("[*]", "");
+
+        return new PathAccessor(parser.parseExpression(leftPath), parser.parseExpression(rightPath));
       }
     }
 
-    return entity;
+    Object getValue(Object target) {
+      if (elementExpression == null) {
+        return expression.getValue(target);
+      }
+      Object value = null;
+      Collection<?> left = (Collection<?>) expression.getValue(target);
+      if (left != null && !left.isEmpty()) {
+        value = flattenCollection(left.stream().map(elementExpression::getValue).toList());
+      }
+      return value;
+    }
   }
 }
@@ -0,0 +1,228 @@
+package com.redis.om.spring.util;
+
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeanUtils;
+
+import com.redis.om.spring.annotations.AutoComplete;
+import com.redis.om.spring.annotations.AutoCompletePayload;
+import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.annotations.CountMin;
+import com.redis.om.spring.annotations.Cuckoo;
+import com.redis.om.spring.autocomplete.Suggestion;
+
+/**
+ * Precomputed description of the side effects applied when an entity of a given class is
+ * saved: the Bloom filters, Cuckoo filters, Count-Min Sketches and autocomplete dictionaries
+ * its {@link Bloom}, {@link Cuckoo}, {@link CountMin} and {@link AutoComplete} fields feed.
+ * <p>
+ * The plan is built once per entity class and held in a {@link ClassValue}, so it is
+ * released with the class. It resolves the annotated fields, the target key names and the
+ * property read methods up front, so the save aspects only invoke getters instead of
+ * scanning fields and building {@link PropertyDescriptor}s for every entity.
+ * </p>
+ *
+ * @since 2.0.7
+ */
+public final class SideEffectPlan {
+
+  private static final Log logger = LogFactory.getLog(SideEffectPlan.class);
+
+  private static final ClassValue<SideEffectPlan> PLANS = new ClassValue<>() {
+    @Override
+    protected SideEffectPlan computeValue(Class<?> type) {
+      return new SideEffectPlan(type);
+    }
+  };
+
+  private final List<Target<Bloom>> bloomTargets = new ArrayList<>();
+  private final List<Target<Cuckoo>> cuckooTargets = new ArrayList<>();
+  private final List<Target<CountMin>> countMinTargets = new ArrayList<>();
+  private final List<SuggestionTarget> suggestionTargets = new ArrayList<>();
+
+  private SideEffectPlan(Class<?> entityClass) {
+    List<Field> fields = ObjectUtils.getDeclaredFieldsTransitively(entityClass);
+    String simpleName = entityClass.getSimpleName();
+    for (Field field : fields) {
+      Bloom bloom = field.getAnnotation(Bloom.class);
+      if (bloom != null) {
+        String name = !bloom.name().isEmpty() ? bloom.name() : String.format("bf:%s:%s", simpleName, field.getName());
+        addTarget(bloomTargets, entityClass, field, name, bloom);
+      }
+      Cuckoo cuckoo = field.getAnnotation(Cuckoo.class);
+      if (cuckoo != null) {
+        String name = !cuckoo.name().isEmpty() ? cuckoo.name() : String.format("cf:%s:%s", simpleName, field.getName());
+        addTarget(cuckooTargets, entityClass, field, name, cuckoo);
+      }
+      CountMin countMin = field.getAnnotation(CountMin.class);
+      if (countMin != null) {
+        String name = !countMin.name().isEmpty() ?
+            countMin.name() :
+            String.format("cms:%s:%s", simpleName, field.getName());
+        addTarget(countMinTargets, entityClass, field, name, countMin);
+      }
+      AutoComplete autoComplete = field.getAnnotation(AutoComplete.class);
+      if (autoComplete != null) {
+        addSuggestionTarget(entityClass, fields, field, autoComplete);
+      }
+    }
+  }
+
+  /**
+   * Returns the side-effect plan for the given entity class, building it on first use.
+   *
+   * @param entityClass the entity class
+   * @return the plan for the entity class
+   */
+  public static SideEffectPlan of(Class<?> entityClass) {
+    return PLANS.get(entityClass);
+  }
+
+  /**
+   * Returns the targets of the entity's {@link Bloom} fields.
+   *
+   * @return the Bloom filter targets
+   */
+  public List<Target<Bloom>> getBloomTargets() {
+    return Collections.unmodifiableList(bloomTargets);
+  }
+
+  /**
+   * Returns the targets of the entity's {@link Cuckoo} fields.
+   *
+   * @return the Cuckoo filter targets
+   */
+  public List<Target<Cuckoo>> getCuckooTargets() {
+    return Collections.unmodifiableList(cuckooTargets);
+  }
+
+  /**
+   * Returns the targets of the entity's {@link CountMin} fields.
+   *
+   * @return the Count-Min Sketch targets
+   */
+  public List<Target<CountMin>> getCountMinTargets() {
+    return Collections.unmodifiableList(countMinTargets);
+  }
+
+  /**
+   * Returns the targets of the entity's {@link AutoComplete} fields.
+   *
+   * @return the autocomplete dictionary targets
+   */
+  public List<SuggestionTarget> getSuggestionTargets() {
+    return Collections.unmodifiableList(suggestionTargets);
+  }
+
+  private static <A extends Annotation> void addTarget(List<Target<A>> targets, Class<?> entityClass, Field field,
+      String name, A annotation) {
+    Method readMethod = readMethodFor(entityClass, field);
+    if (readMethod != null) {
+      targets.add(new Target<>(name, annotation, field, readMethod));
+    }
+  }
+
+  private void addSuggestionTarget(Class<?> entityClass, List<Field> fields, Field field, AutoComplete autoComplete) {
+    Method readMethod = readMethodFor(entityClass, field);
+    if (readMethod == null) {
+      return;
+    }
+
+    Map<String, Method> payloadReadMethods = new LinkedHashMap<>();
+    for (Field payloadField : fields) {
+      AutoCompletePayload payload = payloadField.getAnnotation(AutoCompletePayload.class);
+      if (payload != null) {
+        boolean inPayload = (!payload.value().isBlank() && payload.value().equalsIgnoreCase(field.getName())) || Arrays
+            .asList(payload.fields()).contains(field.getName());
+        Method payloadReadMethod = inPayload ? readMethodFor(entityClass, payloadField) : null;
+        if (payloadReadMethod != null) {
+          payloadReadMethods.put(payloadField.getName(), payloadReadMethod);
+        }
+      }
+    }
+
+    String simpleName = entityClass.getSimpleName();
+    String key = !autoComplete.name().isEmpty() ?
+        autoComplete.name() :
+        String.format(Suggestion.KEY_FORMAT_STRING, simpleName, field.getName());
+    String payloadKey = !autoComplete.name().isEmpty() ?
+        autoComplete.name() :
+        String.format(Suggestion.PAYLOAD_KEY_FORMAT_STRING, simpleName, field.getName());
+    suggestionTargets.add(new SuggestionTarget(new Target<>(key, autoComplete, field, readMethod), payloadKey,
+        payloadReadMethods));
+  }
+
+  private static Method readMethodFor(Class<?> entityClass, Field field) {
+    PropertyDescriptor pd = BeanUtils.getPropertyDescriptor(entityClass, field.getName());
+    Method readMethod = pd != null ? pd.getReadMethod() : null;
+    if (readMethod == null) {
+      logger.error(String.format("Could not resolve the getter of %s.%s, its values will not be indexed", entityClass
+          .getName(), field.getName()));
+    }
+    return readMethod;
+  }
+
+
+  /**
+   * A data structure fed by one entity field.
+   *
+   * @param name       the key of the filter, sketch or suggestion dictionary
+   * @param annotation the field's annotation
+   * @param field      the annotated field
+   * @param readMethod the getter of the field
+   * @param <A>        the type of the annotation
+   */
+  public record Target<A extends Annotation>(String name, A annotation, Field field, Method readMethod) {
+    /**
+     * Reads the field's value from an entity.
+     *
+     * @param entity the entity to read from
+     * @return the field's value, possibly {@code null}
+     * @throws ReflectiveOperationException if the getter cannot be invoked
+     */
+    public Object read(Object entity) throws ReflectiveOperationException {
+      return readMethod.invoke(entity);
+    }
+  }
+
+  /**
+   * An autocomplete dictionary fed by one entity field, with the fields stored as the
+   * suggestion's payload.
+   *
+   * @param target             the dictionary and the field feeding it
+   * @param payloadKey         the key of the hash holding the suggestion payloads
+   * @param payloadReadMethods the getters of the payload fields, by field name
+   */
+  public record SuggestionTarget(Target<AutoComplete> target, String payloadKey,
+                                 Map<String, Method> payloadReadMethods) {
+    /**
+     * Reads the payload of a suggestion from an entity.
+     *
+     * @param entity the entity to read from
+     * @return the payload, or {@code null} if the field has no payload fields
+     * @throws ReflectiveOperationException if a getter cannot be invoked
+     */
+    public Map<String, Object> readPayload(Object entity) throws ReflectiveOperationException {
+      if (payloadReadMethods.isEmpty()) {
+        return null;
+      }
+      Map<String, Object> payload = new HashMap<>();
+      for (Map.Entry<String, Method> entry : payloadReadMethods.entrySet()) {
+        payload.put(entry.getKey(), entry.getValue().invoke(entity));
+      }
+      return payload;
+    }
+  }
+}
@@ -4,6 +4,7 @@ import com.redis.om.spring.AbstractBaseDocumentTest;
 import com.redis.om.spring.fixtures.document.model.LexicographicDoc;
 import com.redis.om.spring.fixtures.document.model.LexicographicDoc$;
 import com.redis.om.spring.fixtures.document.repository.LexicographicDocRepository;
+import com.redis.om.spring.indexing.LexicographicIndexer;
 import com.redis.om.spring.indexing.RediSearchIndexer;
 import com.redis.om.spring.ops.RedisModulesOperations;
 import com.redis.om.spring.search.stream.EntityStream;
@@ -12,6 +13,12 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.redis.core.RedisTemplate;
 import redis.clients.jedis.search.Schema;
 
@@ -165,6 +172,36 @@ class LexicographicIndexTest extends AbstractBaseDocumentTest {
       .containsExactlyInAnyOrder("product002", "product003", "product004");
   }
 
+  @Test
+  void testRepositoryMethodFindBySkuGreaterThanEqualPaged() {
+    Page<LexicographicDoc> page = repository.findBySkuGreaterThanEqual("product002", PageRequest.of(1, 2));
+
+    assertThat(page.getTotalElements()).isEqualTo(4);
+    assertThat(page.getTotalPages()).isEqualTo(2);
+    assertThat(page.getContent()).extracting(LexicographicDoc::getSku).containsExactly("product004", "product005");
+
+    Slice<LexicographicDoc> slice = repository.findSliceBySkuGreaterThanEqual("product002", PageRequest.of(0, 3));
+
+    assertThat(slice.getContent()).extracting(LexicographicDoc::getSku).containsExactly("product002", "product003",
+        "product004");
+    assertThat(slice.hasNext()).isTrue();
+  }
+
+  @Test
+  void testRepositoryMethodFindBySkuGreaterThanEqualScrolled() {
+    List<String> skus = new ArrayList<>();
+    Window<LexicographicDoc> window = repository.findBySkuGreaterThanEqual("product002", ScrollPosition.keyset(),
+        Limit.of(3));
+    window.forEach(doc -> skus.add(doc.getSku()));
+    assertThat(window.hasNext()).isTrue();
+
+    window = repository.findBySkuGreaterThanEqual("product002", window.positionAt(window.size() - 1), Limit.of(3));
+    window.forEach(doc -> skus.add(doc.getSku()));
+
+    assertThat(window.hasNext()).isFalse();
+    assertThat(skus).containsExactly("product002", "product003", "product004", "product005");
+  }
+
   @Test
   void testEntityStreamGtMethodOnTextTagField() {
     var stream = entityStream.of(LexicographicDoc.class);
@@ -243,6 +280,48 @@ class LexicographicIndexTest extends AbstractBaseDocumentTest {
     assertEquals(5, afterMembers.size(), "Should still have 5 entries after update");
   }
 
+  @Test
+  void testUpdateKeepsReverseMappingInSync() {
+    String skuLexKey = entityPrefix + "sku:lex";
+    String mappingKey = LexicographicIndexer.reverseMappingKey(skuLexKey);
+
+    LexicographicDoc doc = repository.findById("2").orElseThrow();
+    doc.setSku("product999");
+    repository.save(doc);
+
+    assertEquals("product999#2", redisTemplate.opsForHash().get(mappingKey, "2"));
+    assertEquals(Boolean.TRUE, redisTemplate.hasKey(LexicographicIndexer.migrationMarkerKey(skuLexKey)));
+
+    repository.deleteById("2");
+
+    assertNull(redisTemplate.opsForHash().get(mappingKey, "2"));
+    Set<String> members = redisTemplate.opsForZSet().range(skuLexKey, 0, -1);
+    assertEquals(4, members.size());
+    assertFalse(members.stream().anyMatch(m -> m.endsWith("#2")));
+  }
+
+  @Test
+  void testInterruptedReverseMappingMigrationIsResumed() {
+    String skuLexKey = entityPrefix + "sku:lex";
+    String mappingKey = LexicographicIndexer.reverseMappingKey(skuLexKey);
+
+    // Simulate a migration that stopped after mapping some of the members
+    redisTemplate.delete(LexicographicIndexer.migrationMarkerKey(skuLexKey));
+    redisTemplate.opsForHash().delete(mappingKey, "4");
+    assertEquals(Boolean.TRUE, redisTemplate.hasKey(mappingKey));
+
+    LexicographicIndexer freshIndexer = new LexicographicIndexer(redisTemplate, indexer);
+    LexicographicDoc doc = repository.findById("4").orElseThrow();
+    doc.setSku("product444");
+    freshIndexer.processEntity(doc, "4", entityPrefix, null);
+
+    Set<String> members = redisTemplate.opsForZSet().range(skuLexKey, 0, -1);
+    assertEquals(5, members.size());
+    assertFalse(members.contains("product004#4"), "Member of the unmapped entity should be replaced");
+    assertTrue(members.contains("product444#4"));
+    assertEquals(Boolean.TRUE, redisTemplate.hasKey(LexicographicIndexer.migrationMarkerKey(skuLexKey)));
+  }
+
   @Test
   void testDeleteRemovesFromSortedSet() {
     // First, check what's in the sorted set before deleting
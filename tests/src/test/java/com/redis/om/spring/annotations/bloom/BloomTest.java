@@ -1,5 +1,6 @@
 package com.redis.om.spring.annotations.bloom;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,8 +11,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.bloom.LocalBloomFilter;
 import com.redis.om.spring.fixtures.hash.model.Person;
 import com.redis.om.spring.fixtures.hash.repository.PersonRepository;
+import com.redis.om.spring.ops.pds.BloomOperations;
 
 @SuppressWarnings(
   "SpellCheckingInspection"
@@ -21,6 +24,9 @@ class BloomTest extends AbstractBaseEnhancedRedisTest {
   @Autowired
   PersonRepository repository;
 
+  @Autowired
+  BloomOperations<String> bloomOperations;
+
   @BeforeEach
   void loadPersons() {
     Person guyr = Person.of("Guy Royse", "guy.royse@redis.com", "guy");
@@ -59,4 +65,13 @@ class BloomTest extends AbstractBaseEnhancedRedisTest {
     assertTrue(repository.existsByNickname("floridaman"));
     assertFalse(repository.existsByNickname("bsb"));
   }
+
+  @Test
+  void testLocalReplicaAgreesWithRedisFilter() {
+    LocalBloomFilter local = LocalBloomFilter.load(bloomOperations, "bf_person_email");
+    for (String email : List.of("kyle.owen@redis.com", "guy.royse@redis.com", "josefin.sjoeberg@redis.com",
+        "bsb@redis.com", "nobody@example.com")) {
+      assertEquals(bloomOperations.exists("bf_person_email", email), local.mightContain(email));
+    }
+  }
 }
@@ -0,0 +1,49 @@
+package com.redis.om.spring.annotations.bloom;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.testcontainers.shaded.org.awaitility.Awaitility.with;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.redis.om.spring.AbstractBaseEnhancedRedisTest;
+import com.redis.om.spring.bloom.BloomFilterReplicas;
+import com.redis.om.spring.fixtures.hash.model.Subscriber;
+import com.redis.om.spring.fixtures.hash.repository.SubscriberRepository;
+import com.redis.om.spring.ops.pds.BloomOperations;
+
+class LocalBloomReplicaTest extends AbstractBaseEnhancedRedisTest {
+  private static final String FILTER = "bf_subscriber_email";
+
+  @Autowired
+  SubscriberRepository repository;
+
+  @Autowired
+  BloomOperations<String> bloomOperations;
+
+  @Autowired
+  BloomFilterReplicas replicas;
+
+  @Test
+  void existsByIsAnsweredByTheLocalReplica() {
+    assertThat(replicas.isReplicated(FILTER)).isTrue();
+    with() //
+        .pollInterval(Duration.ofMillis(50)).and() //
+        .with().pollDelay(0, MILLISECONDS) //
+        .await("replica loaded").until(() -> replicas.mightContain(FILTER, "probe").isPresent());
+
+    String saved = UUID.randomUUID() + "@redis.com";
+    repository.save(Subscriber.of(saved));
+    assertThat(repository.existsByEmail(saved)).isTrue();
+
+    // added behind the application's back: Redis knows it, the replica does not until its next refresh
+    String outsider = UUID.randomUUID() + "@redis.com";
+    bloomOperations.add(FILTER, outsider);
+    assertThat(bloomOperations.exists(FILTER, outsider)).isTrue();
+    assertThat(repository.existsByEmail(outsider)).isFalse();
+  }
+}
@@ -29,6 +29,7 @@ import com.redis.om.spring.AbstractBaseDocumentTest;
 import com.redis.om.spring.fixtures.document.model.*;
 import com.redis.om.spring.fixtures.document.model.NotNullAnnotated$;
 import com.redis.om.spring.fixtures.document.repository.*;
+import com.redis.om.spring.repository.FoundEntities;
 import com.redis.om.spring.search.stream.EntityStream;
 
 import redis.clients.jedis.JedisPooled;
@@ -215,6 +216,19 @@ class BasicRedisDocumentMappingTest extends AbstractBaseDocumentTest {
     );
   }
 
+  @Test
+  void testFindAllByIdReportingReportsTheMissingIds() {
+    Company redis = repository.save(Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540,
+        37.377690), "stack@redis.com"));
+
+    FoundEntities<Company, String> found = repository.findAllByIdReporting(List.of("8675309", redis.getId(), "42"));
+
+    assertAll( //
+        () -> assertThat(found.entities()).containsExactly(redis), //
+        () -> assertThat(found.missingIds()).containsExactly("8675309", "42") //
+    );
+  }
+
   @Test
   void testUpdateSingleField() {
     Company redisInc = repository.save(Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540,
@@ -0,0 +1,99 @@
+package com.redis.om.spring.annotations.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.geo.Point;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.Company;
+import com.redis.om.spring.fixtures.document.model.Company$;
+import com.redis.om.spring.fixtures.document.repository.CompanyRepository;
+import com.redis.om.spring.repository.support.RedisOmBatch;
+import com.redis.om.spring.search.stream.EntityStream;
+
+class BatchedSaveTest extends AbstractBaseDocumentTest {
+  @Autowired
+  CompanyRepository repository;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @AfterEach
+  void cleanUp() {
+    repository.deleteAll();
+  }
+
+  @Test
+  void savesAreDeferredUntilTheBatchIsFlushed() {
+    Company redis = Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "stack@redis.com");
+    Company microsoft = Company.of("Microsoft", 1975, LocalDate.of(2022, 8, 15), new Point(-122.124500, 47.640160),
+        "research@microsoft.com");
+
+    RedisOmBatch.run(() -> {
+      repository.save(redis);
+      repository.saveAll(List.of(microsoft));
+
+      // identifiers are assigned right away, the documents are only written when the scope exits
+      assertThat(redis.getId()).isNotNull();
+      assertThat(microsoft.getId()).isNotNull();
+      assertThat(repository.existsById(redis.getId())).isFalse();
+      assertThat(repository.existsById(microsoft.getId())).isFalse();
+    });
+
+    assertThat(repository.findAllById(List.of(redis.getId(), microsoft.getId()))).hasSize(2);
+  }
+
+  @Test
+  void batchedSavesOfNewEntitiesAreAuditedAsCreations() {
+    Company redis = Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "stack@redis.com");
+
+    RedisOmBatch.run(() -> repository.save(redis));
+
+    assertThat(redis.getCreatedDate()).isNotNull();
+    assertThat(redis.getLastModifiedDate()).isNull();
+    Company saved = repository.findById(redis.getId()).orElseThrow();
+    assertThat(saved.getCreatedDate()).isNotNull();
+    assertThat(saved.getLastModifiedDate()).isNull();
+
+    RedisOmBatch.run(() -> repository.save(saved));
+
+    assertThat(repository.findById(redis.getId()).orElseThrow().getLastModifiedDate()).isNotNull();
+  }
+
+  @Test
+  void streamActionsAreSentWithTheBatch() {
+    Company redis = repository.save(Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540,
+        37.377690), "stack@redis.com"));
+
+    RedisOmBatch.run(() -> {
+      entityStream.of(Company.class) //
+          .filter(Company$.NAME.eq("RedisInc")) //
+          .forEach(Company$.YEAR_FOUNDED.incrBy(5L));
+      assertThat(repository.findById(redis.getId()).orElseThrow().getYearFounded()).isEqualTo(2011);
+    });
+
+    assertThat(repository.findById(redis.getId()).orElseThrow().getYearFounded()).isEqualTo(2016);
+  }
+
+  @Test
+  void bloomFiltersOfADiscardedBatchAreLeftUntouched() {
+    Company redis = Company.of("RedisInc", 2011, LocalDate.of(2021, 5, 1), new Point(-122.066540, 37.377690),
+        "discarded@redis.com");
+
+    assertThatThrownBy(() -> RedisOmBatch.run(() -> {
+      repository.save(redis);
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(repository.existsByEmail("discarded@redis.com")).isFalse();
+  }
+}
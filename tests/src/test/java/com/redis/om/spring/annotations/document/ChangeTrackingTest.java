@@ -0,0 +1,109 @@
+package com.redis.om.spring.annotations.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.TrackedTicket;
+import com.redis.om.spring.fixtures.document.model.TrackedTicket$;
+import com.redis.om.spring.fixtures.document.repository.TrackedTicketRepository;
+import com.redis.om.spring.repository.support.RedisOmBatch;
+
+@TestPropertySource(
+    properties = { "spring.config.location=classpath:vss_on.yaml", "redis.om.spring.repository.change-tracking.enabled=true" }
+)
+class ChangeTrackingTest extends AbstractBaseDocumentTest {
+  @Autowired
+  TrackedTicketRepository repository;
+
+  @BeforeEach
+  void createTicket() {
+    repository.deleteAll();
+    TrackedTicket ticket = TrackedTicket.of("OPEN", "Printer jam");
+    ticket.setId("t1");
+    repository.save(ticket);
+  }
+
+  @Test
+  void changedFieldsAreWritten() {
+    TrackedTicket ticket = repository.findById("t1").orElseThrow();
+    ticket.setStatus("CLOSED");
+    repository.save(ticket);
+
+    assertThat(statusInRedis()).isEqualTo("CLOSED");
+    assertThat(repository.findById("t1").orElseThrow().getTitle()).isEqualTo("Printer jam");
+  }
+
+  @Test
+  void saveAfterSaveAllWritesTheRevertedField() {
+    TrackedTicket ticket = repository.findById("t1").orElseThrow();
+    ticket.setStatus("CLOSED");
+    repository.saveAll(List.of(ticket));
+    ticket.setStatus("OPEN");
+    repository.save(ticket);
+
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+  }
+
+  @Test
+  void saveAfterUpdateFieldWritesTheLoadedValue() {
+    TrackedTicket ticket = repository.findById("t1").orElseThrow();
+    repository.updateField(ticket, TrackedTicket$.STATUS, "CLOSED");
+    repository.save(ticket);
+
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+  }
+
+  @Test
+  void saveAfterBatchWritesTheRevertedField() {
+    TrackedTicket ticket = repository.findById("t1").orElseThrow();
+    RedisOmBatch.run(() -> {
+      ticket.setStatus("CLOSED");
+      repository.save(ticket);
+    });
+    assertThat(statusInRedis()).isEqualTo("CLOSED");
+
+    ticket.setStatus("OPEN");
+    repository.save(ticket);
+
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+  }
+
+  @Test
+  void saveAfterDiscardedTransactionWritesTheChangedField() {
+    TrackedTicket ticket = repository.findById("t1").orElseThrow();
+    assertThatThrownBy(() -> RedisOmBatch.runInTransaction(() -> {
+      ticket.setStatus("CLOSED");
+      repository.save(ticket);
+      throw new IllegalStateException("rollback");
+    })).isInstanceOf(IllegalStateException.class);
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+
+    repository.save(ticket);
+
+    assertThat(statusInRedis()).isEqualTo("CLOSED");
+  }
+
+  @Test
+  void saveOfAnotherInstanceAfterAWriteWritesTheWholeDocument() {
+    TrackedTicket first = repository.findById("t1").orElseThrow();
+    TrackedTicket second = repository.findById("t1").orElseThrow();
+    first.setStatus("CLOSED");
+    repository.save(first);
+
+    repository.save(second);
+
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+  }
+
+  private String statusInRedis() {
+    return repository.getFieldsByIds(List.of("t1"), TrackedTicket$.STATUS).iterator().next();
+  }
+}
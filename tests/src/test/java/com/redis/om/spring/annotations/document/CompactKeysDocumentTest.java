@@ -0,0 +1,111 @@
+package com.redis.om.spring.annotations.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.CompactOrder;
+import com.redis.om.spring.fixtures.document.model.CompactOrder$;
+import com.redis.om.spring.fixtures.document.repository.CompactOrderRepository;
+import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.search.stream.EntityStream;
+
+class CompactKeysDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  CompactOrderRepository repository;
+
+  @Autowired
+  EntityStream entityStream;
+
+  @Autowired
+  JSONOperations<String> jsonOperations;
+
+  @Autowired
+  RediSearchIndexer indexer;
+
+  @BeforeEach
+  void loadOrders() {
+    repository.deleteAll();
+    CompactOrder empty = CompactOrder.of("1 Main Street", List.of("backorder"));
+    empty.setId("o1");
+    CompactOrder shipped = CompactOrder.of("22 High Street", List.of("games", "gift"));
+    shipped.setId("o2");
+    shipped.setQuantity(3);
+    repository.saveAll(List.of(empty, shipped));
+  }
+
+  @Test
+  void documentsAreStoredUnderShortNames() {
+    String json = jsonOperations.get(keyOf("o2"));
+
+    assertThat(json).contains("\"csal1\":\"22 High Street\"").contains("\"q\":3").contains("\"pt\":[");
+    assertThat(json).doesNotContain("customerShippingAddressLine1").doesNotContain("\"n\"");
+  }
+
+  @Test
+  void indexedDefaultValuesAreStoredAndQueried() {
+    assertThat(jsonOperations.get(keyOf("o1"))).contains("\"q\":0");
+    assertThat(repository.findByQuantity(0)).extracting(CompactOrder::getId).containsExactly("o1");
+    assertThat(repository.findByQuantity(3)).extracting(CompactOrder::getId).containsExactly("o2");
+  }
+
+  @Test
+  void mappedCollectionsAreReturnedFromTheirStoredPath() {
+    List<List<String>> tags = entityStream.of(CompactOrder.class) //
+        .filter(CompactOrder$.QUANTITY.eq(3)) //
+        .map(CompactOrder$.PRODUCT_TAGS) //
+        .collect(Collectors.toList());
+
+    assertThat(tags).containsExactly(List.of("games", "gift"));
+  }
+
+  @Test
+  void projectedCollectionsAreReturnedFromTheirStoredPath() {
+    List<CompactOrder> orders = entityStream.of(CompactOrder.class) //
+        .filter(CompactOrder$.QUANTITY.eq(3)) //
+        .project(CompactOrder$.PRODUCT_TAGS, CompactOrder$.CUSTOMER_SHIPPING_ADDRESS_LINE1) //
+        .collect(Collectors.toList());
+
+    assertThat(orders).hasSize(1);
+    assertThat(orders.get(0).getProductTags()).containsExactly("games", "gift");
+    assertThat(orders.get(0).getCustomerShippingAddressLine1()).isEqualTo("22 High Street");
+  }
+
+  @Test
+  void summarizedAndHighlightedFieldsUseTheStoredNames() {
+    List<CompactOrder> orders = entityStream.of(CompactOrder.class) //
+        .filter(CompactOrder$.CUSTOMER_SHIPPING_ADDRESS_LINE1.containing("High")) //
+        .summarize(CompactOrder$.CUSTOMER_SHIPPING_ADDRESS_LINE1) //
+        .highlight(CompactOrder$.CUSTOMER_SHIPPING_ADDRESS_LINE1) //
+        .collect(Collectors.toList());
+
+    assertThat(orders).hasSize(1);
+    assertThat(orders.get(0).getCustomerShippingAddressLine1()).contains("<b>High</b>");
+  }
+
+  @Test
+  void streamActionsTargetTheStoredPaths() {
+    entityStream.of(CompactOrder.class) //
+        .filter(CompactOrder$.QUANTITY.eq(3)) //
+        .forEach(CompactOrder$.QUANTITY.incrBy(2L));
+    entityStream.of(CompactOrder.class) //
+        .filter(CompactOrder$.QUANTITY.eq(5)) //
+        .forEach(CompactOrder$.PRODUCT_TAGS.add("sale"));
+
+    String json = jsonOperations.get(keyOf("o2"));
+    assertThat(json).contains("\"q\":5").doesNotContain("quantity").doesNotContain("productTags");
+    assertThat(repository.findById("o2")).hasValueSatisfying(order -> assertThat(order.getProductTags())
+        .containsExactly("games", "gift", "sale"));
+  }
+
+  private String keyOf(String id) {
+    return indexer.getKeyspaceForEntityClass(CompactOrder.class) + id;
+  }
+}
@@ -2,10 +2,19 @@ package com.redis.om.spring.annotations.document;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.redis.om.spring.AbstractBaseDocumentTest;
@@ -61,4 +70,29 @@ public class DocRepositoryAdvancedTest extends AbstractBaseDocumentTest {
     assertThat(result.get(0)).extracting(Doc4::getFirst).isEqualTo("doc4");
   }
 
+  @Test
+  public void testExportTo(@TempDir Path dir) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long exported = doc4Repository.exportTo(out);
+
+    List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+    assertThat(exported).isEqualTo(4);
+    assertThat(lines).hasSize(4).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+    assertThat(lines).anySatisfy(line -> assertThat(line).contains("\"doc4.2 third\""));
+
+    Path file = dir.resolve("doc4.ndjson.gz");
+    assertThat(doc4Repository.exportTo(file)).isEqualTo(4);
+    try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()).hasSize(4);
+    }
+  }
+
+  @Test
+  public void testStreamAll() {
+    try (Stream<Doc4> docs = doc4Repository.streamAll()) {
+      assertThat(docs.map(Doc4::getThird)).containsExactlyInAnyOrder("doc4.1 third", "doc4.2 third", "doc4.3 third",
+          "doc4.4 third");
+    }
+  }
+
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -156,6 +157,35 @@ class DocumentWithIdFilterTest extends AbstractBaseDocumentTest {
     assertThat(repository.getExpiration(dwht1.getId())).isEqualTo(10L * 60);
   }
 
+  @Test
+  void testBulkExpirationGetSet() {
+    DocWithHashTagId dwht1 = DocWithHashTagId.of("dwht1");
+    DocWithHashTagId dwht2 = DocWithHashTagId.of("dwht2");
+    DocWithHashTagId dwht3 = DocWithHashTagId.of("dwht3");
+    repository.saveAll(Set.of(dwht1, dwht2, dwht3));
+
+    long updated = repository.setExpirationAll(List.of(dwht1.getId(), dwht2.getId(), "missing"), 10L,
+        TimeUnit.MINUTES);
+    Map<String, Long> ttls = repository.getExpirationAll(List.of(dwht1.getId(), dwht2.getId(), dwht3.getId(),
+        "missing"));
+
+    assertThat(updated).isEqualTo(2);
+    assertThat(ttls).containsEntry(dwht1.getId(), 10L * 60).containsEntry(dwht2.getId(), 10L * 60).containsEntry(dwht3
+        .getId(), -1L).containsEntry("missing", -2L);
+  }
+
+  @Test
+  void testExistsAllById() {
+    DocWithHashTagId dwht1 = DocWithHashTagId.of("dwht1");
+    DocWithHashTagId dwht2 = DocWithHashTagId.of("dwht2");
+    repository.saveAll(Set.of(dwht1, dwht2));
+
+    Map<String, Boolean> exists = repository.existsAllById(List.of(dwht1.getId(), "missing", dwht2.getId()));
+
+    assertThat(exists).containsExactly(Map.entry(dwht1.getId(), true), Map.entry("missing", false), Map.entry(dwht2
+        .getId(), true));
+  }
+
   @Test
   void testUpdateField() {
     DocWithHashTagId dwht1 = DocWithHashTagId.of("dwht1");
@@ -0,0 +1,146 @@
+package com.redis.om.spring.annotations.document;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import com.redis.om.spring.AbstractBaseDocumentTest;
+import com.redis.om.spring.fixtures.document.model.TrackedTicket;
+import com.redis.om.spring.fixtures.document.model.TrackedTicket$;
+import com.redis.om.spring.fixtures.document.model.VersionedEntity;
+import com.redis.om.spring.fixtures.document.repository.TrackedTicketRepository;
+import com.redis.om.spring.fixtures.document.repository.VersionedEntityRepository;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.repository.support.RedisDocumentRepositoryFactoryBean;
+
+@TestPropertySource(
+    properties = {
+        "spring.config.location=classpath:vss_on.yaml",
+        "redis.om.spring.repository.write-behind.enabled=true",
+        "redis.om.spring.repository.write-behind.flush-interval=600000",
+        "redis.om.spring.repository.write-behind.entity-classes="
+            + "com.redis.om.spring.fixtures.document.model.TrackedTicket,"
+            + "com.redis.om.spring.fixtures.document.model.VersionedEntity" }
+)
+class WriteBehindDocumentTest extends AbstractBaseDocumentTest {
+  @Autowired
+  TrackedTicketRepository ticketRepository;
+
+  @Autowired
+  VersionedEntityRepository versionedRepository;
+
+  @Autowired
+  RedisModulesOperations<String> modulesOperations;
+
+  @Autowired
+  ApplicationContext context;
+
+  @BeforeEach
+  void cleanUp() {
+    ticketRepository.deleteAll();
+    versionedRepository.deleteAll();
+  }
+
+  @Test
+  void savesAreWrittenOnFlush() {
+    TrackedTicket ticket = TrackedTicket.of("OPEN", "Printer jam");
+    ticket.setId("t1");
+    ticketRepository.save(ticket);
+
+    assertThat(ticketRepository.existsById("t1")).isTrue();
+    assertThat(statusInRedis()).isNull();
+
+    ticketRepository.flush();
+
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+  }
+
+  @Test
+  void changesMadeAfterSaveAreNotWritten() {
+    TrackedTicket ticket = TrackedTicket.of("OPEN", "Printer jam");
+    ticket.setId("t1");
+    ticketRepository.save(ticket);
+    ticket.setStatus("CLOSED");
+
+    assertThat(ticketRepository.findById("t1")).hasValueSatisfying(found -> assertThat(found.getStatus()).isEqualTo(
+        "OPEN"));
+    ticketRepository.findById("t1").orElseThrow().setStatus("CLOSED");
+    ticketRepository.flush();
+
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+  }
+
+  @Test
+  void saveAllAfterSaveIsNotOverwrittenByTheFlush() {
+    TrackedTicket ticket = TrackedTicket.of("OPEN", "Printer jam");
+    ticket.setId("t1");
+    ticketRepository.save(ticket);
+    TrackedTicket closed = TrackedTicket.of("CLOSED", "Printer jam");
+    closed.setId("t1");
+    ticketRepository.saveAll(List.of(closed));
+
+    assertThat(ticketRepository.findById("t1")).hasValueSatisfying(found -> assertThat(found.getStatus()).isEqualTo(
+        "CLOSED"));
+    ticketRepository.flush();
+
+    assertThat(statusInRedis()).isEqualTo("CLOSED");
+  }
+
+  @Test
+  void updateFieldAfterSaveIsNotOverwrittenByTheFlush() {
+    TrackedTicket ticket = TrackedTicket.of("OPEN", "Printer jam");
+    ticket.setId("t1");
+    ticketRepository.save(ticket);
+    ticketRepository.updateField(ticket, TrackedTicket$.STATUS, "CLOSED");
+
+    assertThat(ticketRepository.findById("t1")).hasValueSatisfying(found -> {
+      assertThat(found.getStatus()).isEqualTo("CLOSED");
+      assertThat(found.getTitle()).isEqualTo("Printer jam");
+    });
+    ticketRepository.flush();
+
+    assertThat(statusInRedis()).isEqualTo("CLOSED");
+  }
+
+  @Test
+  void outdatedVersionsAreRejected() {
+    VersionedEntity saved = versionedRepository.save(new VersionedEntity(1));
+    assertThat(saved.getVersion()).isEqualTo(1);
+
+    assertThatThrownBy(() -> versionedRepository.save(new VersionedEntity(1, 0, "stale"))).isInstanceOf(
+        OptimisticLockingFailureException.class);
+
+    versionedRepository.flush();
+    assertThatThrownBy(() -> versionedRepository.save(new VersionedEntity(1, 0, "stale"))).isInstanceOf(
+        OptimisticLockingFailureException.class);
+    assertThat(versionedRepository.save(saved.withName("current")).getVersion()).isEqualTo(2);
+  }
+
+  @Test
+  @DirtiesContext
+  void destroyingTheRepositoryWritesPendingSaves() throws Exception {
+    TrackedTicket ticket = TrackedTicket.of("OPEN", "Printer jam");
+    ticket.setId("t1");
+    ticketRepository.save(ticket);
+    assertThat(statusInRedis()).isNull();
+
+    context.getBean("&trackedTicketRepository", RedisDocumentRepositoryFactoryBean.class).destroy();
+
+    assertThat(statusInRedis()).isEqualTo("OPEN");
+  }
+
+  private String statusInRedis() {
+    TrackedTicket stored = modulesOperations.opsForJSON().get(ticketRepository.getKeyspace() + "t1",
+        TrackedTicket.class);
+    return stored != null ? stored.getStatus() : null;
+  }
+}
@@ -1,12 +1,15 @@
 package com.redis.om.spring.annotations.hash;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -156,6 +159,47 @@ class RedisHashWithIdFilterTest extends AbstractBaseEnhancedRedisTest {
     assertThat(repository.getExpiration(hwht1.getId())).isEqualTo(10L * 60);
   }
 
+  @Test
+  void testBulkExpirationGetSet() {
+    HashWithHashTagId hwht1 = HashWithHashTagId.of("hwht1");
+    HashWithHashTagId hwht2 = HashWithHashTagId.of("hwht2");
+    HashWithHashTagId hwht3 = HashWithHashTagId.of("hwht3");
+    repository.saveAll(Set.of(hwht1, hwht2, hwht3));
+
+    long updated = repository.setExpirationAll(List.of(hwht1.getId(), hwht2.getId(), "missing"), 10L,
+        TimeUnit.MINUTES);
+    Map<String, Long> ttls = repository.getExpirationAll(List.of(hwht1.getId(), hwht2.getId(), hwht3.getId(),
+        "missing"));
+
+    assertThat(updated).isEqualTo(2);
+    assertThat(ttls).containsEntry(hwht1.getId(), 10L * 60).containsEntry(hwht2.getId(), 10L * 60).containsEntry(hwht3
+        .getId(), -1L).containsEntry("missing", -2L);
+  }
+
+  @Test
+  void testExistsAllById() {
+    HashWithHashTagId hwht1 = HashWithHashTagId.of("hwht1");
+    HashWithHashTagId hwht2 = HashWithHashTagId.of("hwht2");
+    repository.saveAll(Set.of(hwht1, hwht2));
+
+    Map<String, Boolean> exists = repository.existsAllById(List.of(hwht1.getId(), "missing", hwht2.getId()));
+
+    assertThat(exists).containsExactly(Map.entry(hwht1.getId(), true), Map.entry("missing", false), Map.entry(hwht2
+        .getId(), true));
+  }
+
+  @Test
+  void testStreamAll() {
+    HashWithHashTagId hwht1 = HashWithHashTagId.of("hwht1");
+    HashWithHashTagId hwht2 = HashWithHashTagId.of("hwht2");
+    repository.saveAll(Set.of(hwht1, hwht2));
+
+    try (Stream<HashWithHashTagId> hashes = repository.streamAll()) {
+      assertThat(hashes.toList()).extracting(HashWithHashTagId::getId, HashWithHashTagId::getName)
+          .containsExactlyInAnyOrder(tuple(hwht1.getId(), "hwht1"), tuple(hwht2.getId(), "hwht2"));
+    }
+  }
+
   @Test
   void testUpdateField() {
     HashWithHashTagId hwht1 = HashWithHashTagId.of("hwht1");
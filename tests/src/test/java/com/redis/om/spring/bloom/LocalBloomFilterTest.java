@@ -0,0 +1,92 @@
+package com.redis.om.spring.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.redis.om.spring.ops.pds.BloomOperations;
+
+@ExtendWith(
+  MockitoExtension.class
+)
+class LocalBloomFilterTest {
+  @Mock
+  BloomOperations<String> ops;
+
+  @Test
+  void hashesMatchTheRedisBloomMurmurVariants() {
+    byte[] data = "kyle.owen@redis.com".getBytes(StandardCharsets.UTF_8);
+    long a = LocalBloomFilter.murmurHash64A(data, 0xc6a4a7935bd1e995L);
+    assertThat(a).isEqualTo(-8836851131626346621L);
+    assertThat(LocalBloomFilter.murmurHash64A(data, a)).isEqualTo(1233874875246642113L);
+    assertThat(LocalBloomFilter.murmurHash64A("été!".getBytes(StandardCharsets.UTF_8), 0xc6a4a7935bd1e995L))
+        .isEqualTo(844721527947705644L);
+
+    assertThat(LocalBloomFilter.murmurHash2(data, 0x9747b28c)).isEqualTo(714728558);
+    assertThat(LocalBloomFilter.murmurHash2("a".getBytes(StandardCharsets.UTF_8), 0x9747b28c)).isEqualTo(-1563381124);
+  }
+
+  @Test
+  void emptyFilterContainsNothingUntilValuesAreAdded() {
+    LocalBloomFilter filter = LocalBloomFilter.decode(header(4, 1024, 7, 0), new byte[128]);
+
+    assertThat(filter.mightContain("guy.royse@redis.com")).isFalse();
+
+    filter.add("guy.royse@redis.com");
+
+    assertThat(filter.mightContain("guy.royse@redis.com")).isTrue();
+    assertThat(filter.mightContain("bsb@redis.com")).isFalse();
+  }
+
+  @Test
+  void filterWithAllBitsSetContainsEverything() {
+    byte[] bits = new byte[128];
+    Arrays.fill(bits, (byte) 0xff);
+    LocalBloomFilter filter = LocalBloomFilter.decode(header(0, 1024, 7, 10), bits);
+
+    assertThat(filter.mightContain("anything")).isTrue();
+  }
+
+  @Test
+  void loadConcatenatesScanDumpChunks() {
+    byte[] bits = new byte[128];
+    when(ops.scanDump("bf", 0)).thenReturn(new SimpleEntry<>(1L, header(4, 1024, 7, 0)));
+    when(ops.scanDump("bf", 1)).thenReturn(new SimpleEntry<>(65L, Arrays.copyOfRange(bits, 0, 64)));
+    when(ops.scanDump("bf", 65)).thenReturn(new SimpleEntry<>(129L, Arrays.copyOfRange(bits, 64, 128)));
+    when(ops.scanDump("bf", 129)).thenReturn(new SimpleEntry<>(0L, new byte[0]));
+
+    LocalBloomFilter filter = LocalBloomFilter.load(ops, "bf");
+
+    assertThat(filter.mightContain("x")).isFalse();
+  }
+
+  @Test
+  void dumpWithMismatchedDataIsRejected() {
+    assertThatThrownBy(() -> LocalBloomFilter.decode(header(4, 1024, 7, 0), new byte[64])).isInstanceOf(
+        IllegalStateException.class);
+    assertThatThrownBy(() -> LocalBloomFilter.decode(new byte[3], new byte[0])).isInstanceOf(
+        IllegalStateException.class);
+  }
+
+  /**
+   * Builds a BF.SCANDUMP header for a single-link filter of {@code bits} bits.
+   */
+  private static byte[] header(int options, long bits, int hashes, int n2) {
+    ByteBuffer buffer = ByteBuffer.allocate(20 + 53).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(0).putInt(1).putInt(options).putInt(2);
+    buffer.putLong(bits / 8).putLong(bits).putLong(0).putDouble(0.01).putDouble(9.6).putInt(hashes).putLong(100).put(
+        (byte) n2);
+    return buffer.array();
+  }
+}
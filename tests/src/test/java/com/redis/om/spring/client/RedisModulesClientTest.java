@@ -3,6 +3,9 @@ package com.redis.om.spring.client;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -42,6 +45,17 @@ class RedisModulesClientTest extends AbstractBaseDocumentTest {
     assertNotNull(bloomClient);
   }
 
+  @Test
+  void testPipelineByKeyKeepsTheOrderOfItemsAcrossChunks() {
+    client.clientForJSON().jsonSetWithEscape("pipelined:2", new IRLObject());
+
+    Map<Integer, Boolean> exists = client.pipelineByKey(List.of(3, 2, 1), i -> "pipelined:" + i, 2, (pipeline,
+        key) -> pipeline.exists(key));
+
+    assertEquals(List.of(3, 2, 1), List.copyOf(exists.keySet()));
+    assertEquals(List.of(false, true, false), List.copyOf(exists.values()));
+  }
+
   /* A simple class that represents an object in real life */
   @SuppressWarnings(
     "unused"
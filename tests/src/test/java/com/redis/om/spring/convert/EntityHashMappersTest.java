@@ -0,0 +1,162 @@
+package com.redis.om.spring.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import com.redis.om.spring.metamodel.MetamodelGenerator;
+
+class EntityHashMappersTest {
+  @TempDir
+  static Path classes;
+
+  private static URLClassLoader loader;
+  private static Class<? extends Product> mappedProduct;
+  private static Class<? extends Product> plainProduct;
+
+  private final MappingRedisOMConverter converter = new MappingRedisOMConverter();
+
+  // compiles the fixtures with the metamodel generator, so the tests run against the mapper it really emits
+  @BeforeAll
+  static void compileFixtures() throws IOException, ReflectiveOperationException, URISyntaxException {
+    JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+    StringWriter diagnostics = new StringWriter();
+    try (StandardJavaFileManager files = javac.getStandardFileManager(null, null, null)) {
+      boolean compiled = javac.getTask(diagnostics, files, null, List.of( //
+          "-processor", MetamodelGenerator.class.getName(), //
+          "-Aredis.om.generateHashMappers=true", //
+          "-classpath", System.getProperty("java.class.path"), //
+          "-d", classes.toString(), //
+          "-s", classes.toString() //
+      ), null, files.getJavaFileObjects(fixture("MappedProduct.java"), fixture("PlainProduct.java"))).call();
+      assertThat(compiled).as(diagnostics.toString()).isTrue();
+    }
+    loader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, EntityHashMappersTest.class
+        .getClassLoader());
+    mappedProduct = loader.loadClass("mapped.MappedProduct").asSubclass(Product.class);
+    plainProduct = loader.loadClass("mapped.PlainProduct").asSubclass(Product.class);
+  }
+
+  @AfterAll
+  static void closeLoader() throws IOException {
+    loader.close();
+  }
+
+  @Test
+  void generatedMappersAreFoundByName() {
+    assertThat(EntityHashMappers.forType(mappedProduct)).isNotNull();
+    assertThat(EntityHashMappers.forType(mappedProduct).getClass().getName()).isEqualTo(
+        "mapped.MappedProduct$HashMapper");
+    assertThat(EntityHashMappers.forType(mappedProduct)).isSameAs(EntityHashMappers.forType(mappedProduct));
+    assertThat(EntityHashMappers.forType(plainProduct)).isNull();
+  }
+
+  @Test
+  void theConverterWritesThroughTheMapperLikeItsReflectivePath() throws ReflectiveOperationException {
+    RedisData mapped = new RedisData();
+    RedisData reflective = new RedisData();
+    Product product = fill(mappedProduct);
+    Product plain = fill(plainProduct);
+
+    converter.write(product, mapped);
+    converter.write(plain, reflective);
+
+    // the mapper reads every property through its getter, the converter through the fields
+    assertThat(product.getterCalls()).isPositive();
+    assertThat(plain.getterCalls()).isZero();
+    assertThat(mapped.getId()).isEqualTo("p1");
+    assertThat(withoutTypeHint(mapped)).isEqualTo(withoutTypeHint(reflective));
+  }
+
+  @Test
+  void theConverterReadsThroughTheMapper() throws ReflectiveOperationException {
+    RedisData data = new RedisData();
+    converter.write(fill(plainProduct), data);
+    data.getBucket().remove("_class");
+
+    Product product = converter.read(mappedProduct, data);
+
+    assertThat(product.getClass()).isEqualTo(mappedProduct);
+    assertThat(product.getId()).isEqualTo("p1");
+    assertThat(product.getName()).isEqualTo("Catan");
+    assertThat(product.getStock()).isEqualTo(3);
+    assertThat(product.getPrice()).isEqualTo(39.5);
+    assertThat(product.isAvailable()).isTrue();
+    assertThat(product.getCategory()).isEqualTo(Product.Category.GAMES);
+  }
+
+  @Test
+  void theMapperTakesTheIdFromTheKeyWhenTheHashHasNone() throws ReflectiveOperationException {
+    RedisData data = new RedisData();
+    converter.write(fill(plainProduct), data);
+    data.getBucket().remove("id");
+    data.setId("p2");
+
+    Product product = EntityHashMappers.forType(mappedProduct).read(data);
+
+    assertThat(product.getId()).isEqualTo("p2");
+    assertThat(product.getName()).isEqualTo("Catan");
+  }
+
+  @Test
+  void subclassesNamedByTheTypeHintAreReadByTheConverter() throws ReflectiveOperationException {
+    RedisData data = new RedisData();
+    converter.write(fill(plainProduct), data);
+    Thread thread = Thread.currentThread();
+    ClassLoader contextLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(loader);
+    try {
+      Product product = converter.read(mappedProduct, data);
+
+      assertThat(product.getClass()).isEqualTo(plainProduct);
+      assertThat(product.getName()).isEqualTo("Catan");
+    } finally {
+      thread.setContextClassLoader(contextLoader);
+    }
+  }
+
+  private static Path fixture(String name) throws URISyntaxException {
+    return Path.of(Objects.requireNonNull(EntityHashMappersTest.class.getResource("/data/hashmapper/" + name))
+        .toURI());
+  }
+
+  private static Product fill(Class<? extends Product> type) throws ReflectiveOperationException {
+    Product product = type.getDeclaredConstructor().newInstance();
+    product.setId("p1");
+    product.setName("Catan");
+    product.setStock(3);
+    product.setPrice(39.5);
+    product.setAvailable(true);
+    product.setCategory(Product.Category.GAMES);
+    return product;
+  }
+
+  private static Map<String, String> withoutTypeHint(RedisData data) {
+    Map<String, String> fields = new TreeMap<>();
+    data.getBucket().asMap().forEach((k, v) -> {
+      if (!k.equals("_class")) {
+        fields.put(k, new String(v));
+      }
+    });
+    return fields;
+  }
+}
@@ -0,0 +1,52 @@
+package com.redis.om.spring.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.convert.RedisData;
+
+import com.redis.om.spring.annotations.Compressed;
+
+class FieldCompressionTest {
+  private final MappingRedisOMConverter converter = new MappingRedisOMConverter();
+
+  static class Article {
+    @Id
+    String id;
+    String title;
+    @Compressed
+    String body;
+  }
+
+  @Test
+  void compressedHashFieldsAreStoredAsMarkedDeflateBytes() {
+    Article article = new Article();
+    article.id = "a1";
+    article.title = "Title";
+    article.body = "lorem ipsum ".repeat(1000);
+    RedisData data = new RedisData();
+
+    converter.write(article, data);
+
+    byte[] stored = data.getBucket().get("body");
+    assertThat(stored.length).isLessThan(article.body.length() / 10);
+    assertThat(new String(data.getBucket().get("title"), StandardCharsets.UTF_8)).isEqualTo("Title");
+
+    Article read = converter.read(Article.class, data);
+    assertThat(read.body).isEqualTo(article.body);
+  }
+
+  @Test
+  void valuesStoredBeforeTheFieldWasCompressedAreReadAsTheyAre() {
+    assertThat(FieldCompression.decompress("plain".getBytes(StandardCharsets.UTF_8), String.class)).isEqualTo(
+        "plain");
+    assertThat(FieldCompression.compress("tiny")).isEqualTo("tiny".getBytes(StandardCharsets.UTF_8));
+
+    byte[] marked = { 0, 'Z', 1, 2 };
+    assertThat((byte[]) FieldCompression.decompress(FieldCompression.compress(marked), byte[].class)).isEqualTo(
+        marked);
+  }
+}
@@ -0,0 +1,35 @@
+package com.redis.om.spring.convert;
+
+// implemented by the entities EntityHashMappersTest compiles with the metamodel generator
+public interface Product {
+  String getId();
+
+  void setId(String id);
+
+  String getName();
+
+  void setName(String name);
+
+  int getStock();
+
+  void setStock(int stock);
+
+  Double getPrice();
+
+  void setPrice(Double price);
+
+  boolean isAvailable();
+
+  void setAvailable(boolean available);
+
+  Category getCategory();
+
+  void setCategory(Category category);
+
+  // getter calls made on this instance
+  int getterCalls();
+
+  enum Category {
+    BOOKS, GAMES
+  }
+}
@@ -0,0 +1,41 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+
+import com.redis.om.spring.annotations.CompactKeys;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.Searchable;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@Document
+@CompactKeys(
+    omitDefaults = true
+)
+public class CompactOrder {
+  @Id
+  private String id;
+
+  @NonNull
+  @Searchable
+  private String customerShippingAddressLine1;
+
+  @Indexed
+  private int quantity;
+
+  @NonNull
+  @Indexed
+  private List<String> productTags;
+
+  private String note;
+}
@@ -0,0 +1,28 @@
+package com.redis.om.spring.fixtures.document.model;
+
+import org.springframework.data.annotation.Id;
+
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+
+import lombok.*;
+
+@Data
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@NoArgsConstructor(
+    force = true
+)
+@Document
+public class TrackedTicket {
+  @Id
+  private String id;
+
+  @NonNull
+  @Indexed
+  private String status;
+
+  @NonNull
+  private String title;
+}
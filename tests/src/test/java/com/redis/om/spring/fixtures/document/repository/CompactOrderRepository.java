@@ -0,0 +1,12 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import java.util.List;
+
+import com.redis.om.spring.fixtures.document.model.CompactOrder;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface CompactOrderRepository extends RedisDocumentRepository<CompactOrder, String> {
+  List<CompactOrder> findByQuantity(int quantity);
+
+  List<CompactOrder> findByCustomerShippingAddressLine1(String customerShippingAddressLine1);
+}
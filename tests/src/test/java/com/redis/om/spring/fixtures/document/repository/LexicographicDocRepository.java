@@ -2,6 +2,12 @@ package com.redis.om.spring.fixtures.document.repository;
 
 import com.redis.om.spring.fixtures.document.model.LexicographicDoc;
 import com.redis.om.spring.repository.RedisDocumentRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -13,6 +19,11 @@ public interface LexicographicDocRepository extends RedisDocumentRepository<Lexi
   List<LexicographicDoc> findBySkuGreaterThanEqual(String sku);
   List<LexicographicDoc> findBySkuLessThanEqual(String sku);
   List<LexicographicDoc> findBySkuBetween(String min, String max);
+
+  // Paginated SKU range queries, read page by page from the sorted set
+  Page<LexicographicDoc> findBySkuGreaterThanEqual(String sku, Pageable pageable);
+  Slice<LexicographicDoc> findSliceBySkuGreaterThanEqual(String sku, Pageable pageable);
+  Window<LexicographicDoc> findBySkuGreaterThanEqual(String sku, ScrollPosition position, Limit limit);
   
   // Name field queries (TEXT field with lexicographic=true)
   List<LexicographicDoc> findByNameGreaterThan(String name);
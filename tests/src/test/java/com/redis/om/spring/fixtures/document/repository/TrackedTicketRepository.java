@@ -0,0 +1,7 @@
+package com.redis.om.spring.fixtures.document.repository;
+
+import com.redis.om.spring.fixtures.document.model.TrackedTicket;
+import com.redis.om.spring.repository.RedisDocumentRepository;
+
+public interface TrackedTicketRepository extends RedisDocumentRepository<TrackedTicket, String> {
+}
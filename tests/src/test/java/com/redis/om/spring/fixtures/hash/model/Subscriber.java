@@ -0,0 +1,31 @@
+package com.redis.om.spring.fixtures.hash.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.annotations.Bloom;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor(
+    force = true
+)
+@RequiredArgsConstructor(
+    staticName = "of"
+)
+@RedisHash(
+  "subscribers"
+)
+public class Subscriber {
+
+  @Id
+  String id;
+
+  @NonNull
+  @Bloom(
+      name = "bf_subscriber_email", capacity = 100000, errorRate = 0.001, localReplica = true,
+      localReplicaRefreshInterval = 600_000
+  )
+  String email;
+}
@@ -0,0 +1,11 @@
+package com.redis.om.spring.fixtures.hash.repository;
+
+import org.springframework.stereotype.Repository;
+
+import com.redis.om.spring.fixtures.hash.model.Subscriber;
+import com.redis.om.spring.repository.RedisEnhancedRepository;
+
+@Repository
+public interface SubscriberRepository extends RedisEnhancedRepository<Subscriber, String> {
+  boolean existsByEmail(String email);
+}
@@ -0,0 +1,105 @@
+package com.redis.om.spring.indexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mapping.MappingException;
+
+import com.google.gson.GsonBuilder;
+import com.redis.om.spring.annotations.CompactKeys;
+import com.redis.om.spring.annotations.Compressed;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.annotations.Searchable;
+import com.redis.om.spring.util.ObjectUtils;
+
+import redis.clients.jedis.search.FieldName;
+
+class CompactKeysIndexingTest {
+  private final IndexDefinitionBuilder builder = new IndexDefinitionBuilder(new SchemaFieldFactory(),
+      new GsonBuilder(), filter -> {
+      }, (type, field) -> {
+      });
+
+  @CompactKeys
+  static class Customer {
+    @Id
+    String id;
+    @Indexed
+    String customerShippingAddressLine1;
+    @Indexed
+    ShippingAddress shippingAddress;
+  }
+
+  @CompactKeys
+  static class ClashingCustomer {
+    @Id
+    String id;
+    @Indexed
+    String customerName;
+    @Indexed
+    String customerNumber;
+  }
+
+  static class Article {
+    @Id
+    String id;
+    @Indexed
+    @Compressed
+    String body;
+  }
+
+  static class Blog {
+    @Id
+    String id;
+    @Indexed
+    Article featured;
+  }
+
+  static class ShippingAddress {
+    @Searchable
+    String cityName;
+  }
+
+  @Test
+  void indexPathsUseStoredNamesAndAliasesKeepFieldNames() {
+    Map<String, String> paths = pathsByAlias(Customer.class, true);
+
+    assertThat(paths).containsEntry("customerShippingAddressLine1", "$.csal1") //
+        .containsEntry("shippingAddress_cityName", "$.sa.cityName") //
+        .containsEntry("id", "$.id");
+  }
+
+  @Test
+  void hashIndexesKeepFieldNames() {
+    assertThat(pathsByAlias(Customer.class, false)).containsEntry("customerShippingAddressLine1",
+        "customerShippingAddressLine1");
+  }
+
+  @Test
+  void clashingStoredNamesFailTheIndexDefinition() {
+    assertThatIllegalStateException().isThrownBy(() -> pathsByAlias(ClashingCustomer.class, true))
+        .withMessageContaining("'cn'");
+  }
+
+  @Test
+  void indexedCompressedFieldsFailTheIndexDefinition() {
+    assertThatExceptionOfType(MappingException.class).isThrownBy(() -> pathsByAlias(Article.class, true))
+        .withMessageContaining("Article.body cannot be indexed");
+    assertThatExceptionOfType(MappingException.class).isThrownBy(() -> pathsByAlias(Blog.class, false))
+        .withMessageContaining("Article.body cannot be indexed");
+  }
+
+  private Map<String, String> pathsByAlias(Class<?> type, boolean isDocument) {
+    List<SearchField> fields = builder.buildSearchFields(type, isDocument, ObjectUtils.getDeclaredFieldsTransitively(
+        type));
+    return fields.stream().map(f -> f.getSchemaField().getFieldName()).collect(Collectors.toMap(
+        FieldName::getAttribute, FieldName::getName));
+  }
+}
@@ -1,13 +1,16 @@
 package com.redis.om.spring.indexing;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,12 +20,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import com.redis.om.spring.annotations.Indexed;
 
+import redis.clients.jedis.PipeliningBase;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
 @ExtendWith(
   MockitoExtension.class
 )
@@ -36,37 +45,86 @@ class LexicographicIndexerTest {
   @Mock
   ZSetOperations<String, String> zSetOperations;
 
+  @Mock
+  ValueOperations<String, String> valueOperations;
+
   @Mock
   Cursor<ZSetOperations.TypedTuple<String>> cursor;
 
   @Mock
   ZSetOperations.TypedTuple<String> tuple;
 
+  @Mock
+  PipeliningBase pipeline;
+
   private LexicographicIndexer lexicographicIndexer;
 
   @BeforeEach
   void setUp() {
-    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
     lexicographicIndexer = new LexicographicIndexer(redisTemplate, rediSearchIndexer);
   }
 
   @Test
   void processEntityRemovesLexicographicIdByExactMemberWithoutFullRangeScan() {
     when(rediSearchIndexer.getLexicographicFields(LexicographicIdEntity.class)).thenReturn(Set.of("id"));
+    when(redisTemplate.hasKey("{sessions:id:lex}:ids:migrated")).thenReturn(true);
 
     LexicographicIdEntity entity = new LexicographicIdEntity("session-42");
 
     lexicographicIndexer.processEntity(entity, "session-42", false, "sessions:");
 
-    verify(zSetOperations).remove("sessions:id:lex", "session-42#session-42");
-    verify(zSetOperations).add("sessions:id:lex", "session-42#session-42", 0.0);
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("sessions:id:lex", "{sessions:id:lex}:ids")),
+        eq("session-42"), eq("session-42#session-42"));
     verify(zSetOperations, never()).range(anyString(), anyLong(), anyLong());
     verify(zSetOperations, never()).scan(anyString(), any(ScanOptions.class));
   }
 
   @Test
-  void processEntityUsesCursorScanForMutableLexicographicFieldWithoutFullRangeScan() {
+  void processEntityQueuesAtomicReplacementOfMutableLexicographicFieldInPipeline() {
+    when(rediSearchIndexer.getLexicographicFields(MutableLexicographicEntity.class)).thenReturn(Set.of("sku"));
+    when(redisTemplate.hasKey("{products:sku:lex}:ids:migrated")).thenReturn(true);
+
+    MutableLexicographicEntity entity = new MutableLexicographicEntity("product-1", "new-sku");
+
+    lexicographicIndexer.processEntity(entity, "product-1", "products:", pipeline);
+    lexicographicIndexer.processEntity(entity, "product-1", "products:", pipeline);
+
+    verify(pipeline, times(2)).eval(LexicographicIndexer.REPLACE_MEMBER_SCRIPT, List.of("products:sku:lex",
+        "{products:sku:lex}:ids"), List.of("product-1", "new-sku#product-1"));
+    verify(redisTemplate).hasKey("{products:sku:lex}:ids:migrated");
+    verify(redisTemplate, never()).opsForHash();
+    verify(zSetOperations, never()).scan(anyString(), any(ScanOptions.class));
+  }
+
+  @Test
+  void processEntityDeletionRemovesMembersThroughReverseMappingInPipeline() {
+    when(rediSearchIndexer.getLexicographicFields(MutableLexicographicEntity.class)).thenReturn(Set.of("sku"));
+    when(redisTemplate.hasKey("{products:sku:lex}:ids:migrated")).thenReturn(true);
+
+    MutableLexicographicEntity entity = new MutableLexicographicEntity("product-1", "new-sku");
+
+    lexicographicIndexer.processEntityDeletion(entity, "product-1", "products:", pipeline);
+
+    verify(pipeline).eval(LexicographicIndexer.REPLACE_MEMBER_SCRIPT, List.of("products:sku:lex",
+        "{products:sku:lex}:ids"), List.of("product-1", ""));
+    verify(zSetOperations, never()).scan(anyString(), any(ScanOptions.class));
+  }
+
+  @Test
+  void reverseMappingsHashToTheSlotOfTheirSortedSet() {
+    assertEquals(JedisClusterCRC16.getSlot("products:sku:lex"), JedisClusterCRC16.getSlot(LexicographicIndexer
+        .reverseMappingKey("products:sku:lex")));
+    assertEquals("{tenant}:products:sku:lex:ids", LexicographicIndexer.reverseMappingKey(
+        "{tenant}:products:sku:lex"));
+  }
+
+  @Test
+  void sortedSetsWithoutMigrationMarkerAreIndexedOnceAndMarked() {
     when(rediSearchIndexer.getLexicographicFields(MutableLexicographicEntity.class)).thenReturn(Set.of("sku"));
+    when(redisTemplate.hasKey("{products:sku:lex}:ids:migrated")).thenReturn(false);
+    when(redisTemplate.hasKey("products:sku:lex")).thenReturn(true);
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     when(zSetOperations.scan(eq("products:sku:lex"), any(ScanOptions.class))).thenReturn(cursor);
     when(cursor.hasNext()).thenReturn(true, false);
     when(cursor.next()).thenReturn(tuple);
@@ -74,26 +132,32 @@ class LexicographicIndexerTest {
 
     MutableLexicographicEntity entity = new MutableLexicographicEntity("product-1", "new-sku");
 
-    lexicographicIndexer.processEntity(entity, "product-1", false, "products:");
+    lexicographicIndexer.processEntity(entity, "product-1", "products:", pipeline);
+    lexicographicIndexer.processEntity(entity, "product-1", "products:", pipeline);
 
     verify(zSetOperations).scan(eq("products:sku:lex"), any(ScanOptions.class));
-    verify(zSetOperations).remove("products:sku:lex", "old-sku#product-1");
-    verify(zSetOperations).add("products:sku:lex", "new-sku#product-1", 0.0);
-    verify(zSetOperations, never()).range(anyString(), anyLong(), anyLong());
+    verify(redisTemplate).executePipelined(any(RedisCallback.class));
     verify(cursor).close();
+    verify(valueOperations).set("{products:sku:lex}:ids:migrated", "1");
   }
 
   @Test
-  void processEntityDeletionRemovesLexicographicIdByExactMemberWithoutFullRangeScan() {
-    when(rediSearchIndexer.getLexicographicFields(LexicographicIdEntity.class)).thenReturn(Set.of("id"));
+  void partiallyBuiltReverseMappingIsCompletedWhenMarkerIsMissing() {
+    when(rediSearchIndexer.getLexicographicFields(MutableLexicographicEntity.class)).thenReturn(Set.of("sku"));
+    when(redisTemplate.hasKey("{products:sku:lex}:ids:migrated")).thenReturn(false);
+    when(redisTemplate.hasKey("products:sku:lex")).thenReturn(true);
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(zSetOperations.scan(eq("products:sku:lex"), any(ScanOptions.class))).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(false);
 
-    LexicographicIdEntity entity = new LexicographicIdEntity("session-42");
+    MutableLexicographicEntity entity = new MutableLexicographicEntity("product-1", "new-sku");
 
-    lexicographicIndexer.processEntityDeletion(entity, "session-42", "sessions:");
+    lexicographicIndexer.processEntity(entity, "product-1", "products:", pipeline);
 
-    verify(zSetOperations).remove("sessions:id:lex", "session-42#session-42");
-    verify(zSetOperations, never()).range(anyString(), anyLong(), anyLong());
-    verify(zSetOperations, never()).scan(anyString(), any(ScanOptions.class));
+    verify(redisTemplate, never()).hasKey("{products:sku:lex}:ids");
+    verify(zSetOperations).scan(eq("products:sku:lex"), any(ScanOptions.class));
+    verify(valueOperations).set("{products:sku:lex}:ids:migrated", "1");
   }
 
   private record LexicographicIdEntity(@Id @Indexed(
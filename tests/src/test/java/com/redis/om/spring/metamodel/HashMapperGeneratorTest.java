@@ -0,0 +1,75 @@
+package com.redis.om.spring.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import javax.tools.JavaFileObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.karuslabs.elementary.Results;
+import com.karuslabs.elementary.junit.JavacExtension;
+import com.karuslabs.elementary.junit.annotations.Classpath;
+import com.karuslabs.elementary.junit.annotations.Options;
+import com.karuslabs.elementary.junit.annotations.Processors;
+
+@ExtendWith(
+  JavacExtension.class
+)
+@Options(
+  "-Werror -Aredis.om.generateHashMappers=true"
+)
+@Processors(
+  { MetamodelGenerator.class }
+)
+class HashMapperGeneratorTest {
+
+  @Test
+  @Classpath(
+    "data.metamodel.ValidHashMapped"
+  )
+  void mappersAreGeneratedForSimpleHashEntities(Results results) throws IOException {
+    assertThat(results.find().errors().list()).isEmpty();
+    assertThat(results.generated).hasSize(2);
+    JavaFileObject mapper = results.generated.stream().filter(f -> f.getName().endsWith("$HashMapper.java"))
+        .findFirst().orElseThrow();
+    assertThat(mapper.getName()).isEqualTo("/SOURCE_OUTPUT/valid/ValidHashMapped$HashMapper.java");
+
+    var fileContents = mapper.getCharContent(true);
+
+    assertAll( //
+        () -> assertThat(fileContents).contains(
+            "public final class ValidHashMapped$HashMapper implements EntityHashMapper<ValidHashMapped>"), //
+        () -> assertThat(fileContents).contains(
+            "bucket.put(\"name\", EntityHashMappers.toBytes(entity.getName()));"), //
+        () -> assertThat(fileContents).contains("bucket.put(\"age\", EntityHashMappers.toBytes(entity.getAge()));"), //
+        () -> assertThat(fileContents).contains(
+            "bucket.put(\"active\", EntityHashMappers.toBytes(entity.isActive()));"), //
+        () -> assertThat(fileContents).contains(
+            "bucket.put(\"status\", EntityHashMappers.toBytes(entity.status));"), //
+        () -> assertThat(fileContents).contains(
+            "Integer number = EntityHashMappers.toNumber(value, Integer.class);"), //
+        () -> assertThat(fileContents).contains(
+            "entity.setVisits(EntityHashMappers.toNumber(value, Long.class));"), //
+        () -> assertThat(fileContents).contains(
+            "entity.status = EntityHashMappers.toEnum(value, ValidHashMapped.Status.class);"), //
+        () -> assertThat(fileContents).contains("value = EntityHashMappers.toBytes(source.getId());"), //
+        () -> assertThat(fileContents).doesNotContain("cached") //
+    );
+  }
+
+  @Test
+  @Classpath(
+    "data.metamodel.UnmappableHash"
+  )
+  void entitiesWithComplexPropertiesKeepUsingTheConverter(Results results) {
+    assertThat(results.find().errors().list()).isEmpty();
+    assertThat(results.generated).hasSize(1);
+    assertThat(results.find().notes().list().stream().map(n -> n.getMessage(Locale.US))).contains(
+        "No hash mapper generated for valid.UnmappableHash because since is of type java.time.LocalDate, which is mapped by the converter");
+  }
+}
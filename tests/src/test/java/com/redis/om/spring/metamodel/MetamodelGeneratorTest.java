@@ -312,6 +312,43 @@ class MetamodelGeneratorTest {
     );
   }
 
+  @Test
+  @Classpath(
+    "data.metamodel.ValidDocumentCompactKeys"
+  )
+  void testValidDocumentCompactKeys(Results results) throws IOException {
+    assertThat(getErrorStrings(results)).isEmpty();
+    assertThat(results.generated).hasSize(1);
+
+    var fileContents = results.generated.get(0).getCharContent(true);
+
+    assertAll( //
+        () -> assertThat(fileContents).contains(
+            "ID = new TextTagField<ValidDocumentCompactKeys, String>(new SearchFieldAccessor(\"id\", \"$.id\", id),true);"),
+        //
+        () -> assertThat(fileContents).contains(
+            "CUSTOMER_SHIPPING_ADDRESS_LINE1 = new TextTagField<ValidDocumentCompactKeys, String>(new SearchFieldAccessor(\"customerShippingAddressLine1\", \"$.csal1\", customerShippingAddressLine1),true);"),
+        //
+        () -> assertThat(fileContents).contains(
+            "NAME = new TextTagField<ValidDocumentCompactKeys, String>(new SearchFieldAccessor(\"name\", \"$.n\", name),true);"),
+        //
+        () -> assertThat(fileContents).contains(
+            "NUMBER = new NumericField<ValidDocumentCompactKeys, Integer>(new SearchFieldAccessor(\"number\", \"$.num\", number),true);"),
+        //
+        () -> assertThat(fileContents).contains(
+            "EMAIL_ADDRESS = new TextTagField<ValidDocumentCompactKeys, String>(new SearchFieldAccessor(\"emailAddress\", \"$.email\", emailAddress),true);") //
+    );
+  }
+
+  @Test
+  @Classpath(
+    "data.metamodel.InvalidDocumentCompactKeysClash"
+  )
+  void testInvalidDocumentCompactKeysClash(Results results) {
+    assertThat(getErrorStrings(results)).anyMatch(error -> error.contains("InvalidDocumentCompactKeysClash") && error
+        .contains("'n'") && error.contains("@SerializedName"));
+  }
+
   @Test
   @Classpath(
     "data.metamodel.ValidDocumentIndexedNested"
@@ -0,0 +1,173 @@
+package com.redis.om.spring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import com.redis.om.spring.ops.pds.TDigestOperations;
+
+import redis.clients.jedis.bloom.TDigestMergeParams;
+
+@ExtendWith(
+  MockitoExtension.class
+)
+class LatencyRecorderTest {
+  @Mock
+  TDigestOperations<String> ops;
+
+  @Mock
+  StringRedisTemplate template;
+
+  @Mock
+  SetOperations<String, String> setOperations;
+
+  @Mock
+  ZSetOperations<String, String> zSetOperations;
+
+  @Mock
+  MethodInvocation invocation;
+
+  private static final long MINUTE = 29_000_000;
+
+  private final Clock clock = Clock.fixed(Instant.ofEpochSecond(MINUTE * 60 + 42), ZoneOffset.UTC);
+
+  private LatencyRecorder recorder;
+
+  @AfterEach
+  void tearDown() {
+    if (recorder != null) {
+      recorder.destroy();
+    }
+  }
+
+  @Test
+  void flushSendsOneAddPerOperationAndCreatesNewDigestsOnce() {
+    String key = "tdigest:latency:{CompanyRepository.findByName}:" + MINUTE;
+    String minutesKey = "tdigest:latency:{CompanyRepository.findByName}:minutes";
+    when(template.opsForSet()).thenReturn(setOperations);
+    when(template.opsForZSet()).thenReturn(zSetOperations);
+    when(template.hasKey(key)).thenReturn(false);
+    recorder = new LatencyRecorder(ops, template, 200, 60_000, 1000, 15, clock);
+
+    recorder.record("CompanyRepository.findByName", 2_000_000);
+    recorder.record("CompanyRepository.findByName", 4_500_000);
+    recorder.flush();
+    recorder.record("CompanyRepository.findByName", 1_000_000);
+    recorder.flush();
+
+    verify(ops).create(key, 200);
+    verify(template).expire(key, Duration.ofMinutes(16));
+    verify(zSetOperations).add(minutesKey, Long.toString(MINUTE), MINUTE);
+    verify(zSetOperations).removeRangeByScore(minutesKey, Double.NEGATIVE_INFINITY, MINUTE - 15);
+    verify(setOperations).add(LatencyRecorder.OPERATIONS_KEY, "CompanyRepository.findByName");
+    verify(ops).add(key, 2.0, 4.5);
+    verify(ops).add(key, 1.0);
+  }
+
+  @Test
+  void eachMinuteHasItsOwnDigest() {
+    Clock ticking = mock(Clock.class);
+    when(ticking.millis()).thenReturn(MINUTE * 60_000, MINUTE * 60_000 + 59_999, (MINUTE + 1) * 60_000);
+    when(template.opsForSet()).thenReturn(setOperations);
+    when(template.opsForZSet()).thenReturn(zSetOperations);
+    recorder = new LatencyRecorder(ops, template, 100, 60_000, 1000, 15, ticking);
+
+    for (int i = 1; i <= 3; i++) {
+      recorder.record("CompanyRepository.findAll", i * 1_000_000L);
+      recorder.flush();
+    }
+
+    verify(ops).create("tdigest:latency:{CompanyRepository.findAll}:" + MINUTE, 100);
+    verify(ops).create("tdigest:latency:{CompanyRepository.findAll}:" + (MINUTE + 1), 100);
+    verify(ops).add("tdigest:latency:{CompanyRepository.findAll}:" + MINUTE, 1.0);
+    verify(ops).add("tdigest:latency:{CompanyRepository.findAll}:" + MINUTE, 2.0);
+    verify(ops).add("tdigest:latency:{CompanyRepository.findAll}:" + (MINUTE + 1), 3.0);
+  }
+
+  @Test
+  void latenciesBeyondThePendingLimitAreDropped() {
+    String key = "tdigest:latency:{CompanyRepository.findAll}:" + MINUTE;
+    when(template.opsForSet()).thenReturn(setOperations);
+    when(template.opsForZSet()).thenReturn(zSetOperations);
+    when(template.hasKey(key)).thenReturn(true);
+    recorder = new LatencyRecorder(ops, template, 100, 60_000, 2, 15, clock);
+
+    for (int i = 1; i <= 5; i++) {
+      recorder.record("CompanyRepository.findAll", i * 1_000_000L);
+    }
+    recorder.flush();
+
+    verify(ops, never()).create(any(), anyInt());
+    ArgumentCaptor<double[]> values = ArgumentCaptor.forClass(double[].class);
+    verify(ops).add(eq(key), values.capture());
+    assertThat(values.getValue()).containsExactly(1.0, 2.0);
+  }
+
+  @Test
+  void percentilesMergeTheDigestsOfTheWindow() {
+    String window = "tdigest:latency:{CompanyRepository.findById}:window";
+    when(template.opsForSet()).thenReturn(setOperations);
+    when(template.opsForZSet()).thenReturn(zSetOperations);
+    when(setOperations.members(LatencyRecorder.OPERATIONS_KEY)).thenReturn(Set.of("CompanyRepository.findById",
+        "CompanyRepository.count"));
+    when(zSetOperations.rangeByScore("tdigest:latency:{CompanyRepository.findById}:minutes", MINUTE - 14, MINUTE))
+        .thenReturn(new LinkedHashSet<>(List.of(Long.toString(MINUTE - 3), Long.toString(MINUTE))));
+    when(zSetOperations.rangeByScore("tdigest:latency:{CompanyRepository.count}:minutes", MINUTE - 14, MINUTE))
+        .thenReturn(Set.of());
+    when(ops.quantile(window, 0.5, 0.95, 0.99)).thenReturn(List.of(1.2, 3.4, 9.8));
+    recorder = new LatencyRecorder(ops, template, 100, 60_000, 1000, 15, clock);
+
+    assertThat(recorder.percentiles()).containsOnlyKeys("CompanyRepository.findById").containsValue(
+        new LatencyPercentiles("CompanyRepository.findById", 1.2, 3.4, 9.8));
+    assertThat(recorder.percentiles("CompanyRepository.count")).isEmpty();
+    verify(ops).merge(any(TDigestMergeParams.class), eq(window), eq("tdigest:latency:{CompanyRepository.findById}:"
+        + (MINUTE - 3)), eq("tdigest:latency:{CompanyRepository.findById}:" + MINUTE));
+  }
+
+  @Test
+  void interceptorRecordsRepositoryCallsEvenWhenTheyFail() throws Throwable {
+    recorder = new LatencyRecorder(ops, template, 100, 60_000, 1000, 15, clock);
+    RepositoryLatencyInterceptor interceptor = new RepositoryLatencyInterceptor(recorder, CompanyRepository.class);
+    when(invocation.getMethod()).thenReturn(CompanyRepository.class.getMethod("findByName", String.class));
+    when(invocation.proceed()).thenThrow(new IllegalStateException("boom"));
+    when(template.opsForSet()).thenReturn(setOperations);
+    when(template.opsForZSet()).thenReturn(zSetOperations);
+
+    try {
+      interceptor.invoke(invocation);
+    } catch (IllegalStateException expected) {
+      // the latency is recorded anyway
+    }
+    recorder.flush();
+
+    verify(ops).add(eq("tdigest:latency:{CompanyRepository.findByName}:" + MINUTE), any(double[].class));
+  }
+
+  interface CompanyRepository {
+    Object findByName(String name);
+  }
+}
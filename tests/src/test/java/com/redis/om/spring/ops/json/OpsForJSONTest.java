@@ -120,6 +120,24 @@ class OpsForJSONTest extends AbstractBaseDocumentTest {
     assertEquals(qux2, testQux2);
   }
 
+  @Test
+  void testMgetDropsMissingKeysAndMgetAlignedKeepsTheirPosition() {
+    JSONOperations<String> ops = modulesOperations.opsForJSON();
+    ops.set("mget1", new IRLObject());
+    ops.set("mget2", new IRLObject());
+    ops.del("mget-missing", Path2.ROOT_PATH);
+
+    List<String> present = ops.mget("mget1", "mget-missing", "mget2");
+    List<String> aligned = ops.mgetAligned("mget1", "mget-missing", "mget2");
+
+    assertEquals(2, present.size());
+    assertTrue(present.stream().allMatch(Objects::nonNull));
+    assertEquals(3, aligned.size());
+    assertNotNull(aligned.get(0));
+    assertNull(aligned.get(1));
+    assertNotNull(aligned.get(2));
+  }
+
   @Test
   void testToggle() {
 
@@ -0,0 +1,119 @@
+package com.redis.om.spring.repository.query.lexicographic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.util.Pair;
+
+import com.google.gson.GsonBuilder;
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.annotations.Indexed;
+import com.redis.om.spring.indexing.RediSearchIndexer;
+import com.redis.om.spring.ops.RedisModulesOperations;
+import com.redis.om.spring.ops.json.JSONOperations;
+import com.redis.om.spring.repository.query.clause.QueryClause;
+
+class LexicographicQueryExecutorTest {
+  private static final List<List<Pair<String, QueryClause>>> SKU_GREATER_THAN = List.of(List.of(Pair.of("sku",
+      QueryClause.TAG_GREATER_THAN)));
+
+  private ZSetOperations<String, String> zSetOperations;
+  private JSONOperations<String> json;
+  private LexicographicQueryExecutor executor;
+
+  static class Product {
+    String id;
+    @Indexed(
+        lexicographic = true
+    )
+    String sku;
+  }
+
+  @BeforeEach
+  @SuppressWarnings(
+    "unchecked"
+  )
+  void setUp() {
+    zSetOperations = mock(ZSetOperations.class);
+    json = mock(JSONOperations.class);
+    StringRedisTemplate template = mock(StringRedisTemplate.class);
+    when(template.opsForZSet()).thenReturn(zSetOperations);
+    RedisModulesOperations<String> modulesOperations = mock(RedisModulesOperations.class);
+    when(modulesOperations.template()).thenReturn(template);
+    when(modulesOperations.opsForJSON()).thenReturn(json);
+    when(modulesOperations.gsonBuilder()).thenReturn(new GsonBuilder());
+    RediSearchIndexer indexer = mock(RediSearchIndexer.class);
+    when(indexer.getKeyspaceForEntityClass(Product.class)).thenReturn("products:");
+
+    RedisOMProperties properties = new RedisOMProperties();
+    properties.getRepository().setMgetBatchSize(2);
+    executor = new LexicographicQueryExecutor(null, modulesOperations, indexer, properties);
+  }
+
+  @Test
+  @SuppressWarnings(
+    "unchecked"
+  )
+  void rangesAreReadOnePageAtATimeAndHydratedInBatches() {
+    when(zSetOperations.rangeByLex(eq("products:sku:lex"), any(Range.class), any(Limit.class))).thenReturn(
+        new LinkedHashSet<>(List.of("B#1", "C#2", "D#3", "E#4")));
+    when(json.mgetAligned("products:1", "products:2")).thenReturn(Arrays.asList("{\"id\":\"1\",\"sku\":\"B\"}", null));
+    when(json.mgetAligned("products:3")).thenReturn(List.of("{\"id\":\"3\",\"sku\":\"D\"}"));
+
+    LexicographicQueryExecutor.RangePage<Product> page = executor.findRange(SKU_GREATER_THAN, new Object[] { "A" },
+        Product.class, null, 6, 3);
+
+    ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+    verify(zSetOperations).rangeByLex(eq("products:sku:lex"), any(Range.class), limit.capture());
+    assertThat(limit.getValue().getOffset()).isEqualTo(6);
+    assertThat(limit.getValue().getCount()).isEqualTo(4);
+    assertThat(page.content()).extracting(product -> product.sku).containsExactly("B", "D");
+    assertThat(page.members()).containsExactly("B#1", "D#3");
+    assertThat(page.hasNext()).isTrue();
+    verify(json, never()).mget("products:1", "products:2", "products:3", "products:4");
+  }
+
+  @Test
+  @SuppressWarnings(
+    "unchecked"
+  )
+  void keysetContinuationStartsAfterTheLastMember() {
+    when(zSetOperations.rangeByLex(eq("products:sku:lex"), any(Range.class), any(Limit.class))).thenReturn(
+        new LinkedHashSet<>());
+
+    LexicographicQueryExecutor.RangePage<Product> page = executor.findRange(SKU_GREATER_THAN, new Object[] { "A" },
+        Product.class, "C#2", 0, 10);
+
+    ArgumentCaptor<Range<String>> range = ArgumentCaptor.forClass(Range.class);
+    verify(zSetOperations).rangeByLex(eq("products:sku:lex"), range.capture(), any(Limit.class));
+    assertThat(range.getValue().getLowerBound()).isEqualTo(Range.Bound.exclusive("C#2"));
+    assertThat(range.getValue().getUpperBound().isBounded()).isFalse();
+    assertThat(page.content()).isEmpty();
+    assertThat(page.hasNext()).isFalse();
+    verifyNoInteractions(json);
+  }
+
+  @Test
+  @SuppressWarnings(
+    "unchecked"
+  )
+  void rangesAreCountedWithZlexcount() {
+    when(zSetOperations.lexCount(eq("products:sku:lex"), any(Range.class))).thenReturn(42L);
+
+    assertThat(executor.isRangeQuery(SKU_GREATER_THAN)).isTrue();
+    assertThat(executor.countRange(SKU_GREATER_THAN, new Object[] { "A" }, Product.class)).isEqualTo(42);
+  }
+}
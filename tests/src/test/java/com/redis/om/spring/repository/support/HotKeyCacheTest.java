@@ -0,0 +1,149 @@
+package com.redis.om.spring.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.redis.om.spring.ops.pds.TopKOperations;
+
+@ExtendWith(
+  MockitoExtension.class
+)
+class HotKeyCacheTest {
+  @Mock
+  TopKOperations<String> ops;
+
+  private HotKeyCache<String> cache;
+
+  @AfterEach
+  void tearDown() {
+    if (cache != null) {
+      cache.close();
+    }
+  }
+
+  @Test
+  void refreshSendsSampledReadsAndPullsHotKeys() {
+    when(ops.list("topk:Company:hot")).thenReturn(List.of("company:1"));
+    cache = new HotKeyCache<>(ops, "topk:Company:hot", 10, 60_000, 1.0, String::new);
+
+    cache.record("company:1");
+    cache.record("company:1");
+    cache.record("company:2");
+    cache.refresh();
+
+    verify(ops).createFilter("topk:Company:hot", 10);
+    verify(ops).incrementBy("topk:Company:hot", Map.of("company:1", 2L, "company:2", 1L));
+    assertThat(cache.getHotKeys()).containsExactly("company:1");
+  }
+
+  @Test
+  void onlyHotKeysAreServedFromTheCache() {
+    when(ops.list("topk:Company:hot")).thenReturn(List.of("company:1"));
+    cache = new HotKeyCache<>(ops, "topk:Company:hot", 10, 60_000, 1.0, String::new);
+    cache.refresh();
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      cache.get("company:1", () -> Optional.of("hot v" + loads.incrementAndGet()));
+      cache.get("company:2", () -> Optional.of("cold v" + loads.incrementAndGet()));
+    }
+
+    assertThat(loads).hasValue(4);
+    assertThat(cache.peek("company:1")).isEqualTo("hot v1");
+    assertThat(cache.peek("company:2")).isNull();
+  }
+
+  @Test
+  void writesAndRefreshesEvictCachedEntities() {
+    when(ops.list("topk:Company:hot")).thenReturn(List.of("company:1"));
+    cache = new HotKeyCache<>(ops, "topk:Company:hot", 10, 60_000, 1.0, String::new);
+    cache.refresh();
+
+    cache.cache("company:1", "v1", cache.version());
+    cache.invalidate("company:1");
+    assertThat(cache.peek("company:1")).isNull();
+
+    cache.cache("company:1", "v2", cache.version());
+    cache.refresh();
+    assertThat(cache.peek("company:1")).isNull();
+  }
+
+  @Test
+  void existingTopKIsReusedAndNoReadsSendNoIncrements() {
+    doThrow(new RuntimeException("ERR TopK: key already exists")).when(ops).createFilter(any(), any(Long.class));
+    when(ops.list("topk:Company:hot")).thenReturn(List.of());
+    cache = new HotKeyCache<>(ops, "topk:Company:hot", 10, 60_000, 0.0, String::new);
+
+    cache.record("company:1");
+    cache.refresh();
+    cache.refresh();
+
+    verify(ops).createFilter("topk:Company:hot", 10);
+    verify(ops, never()).incrementBy(any(), anyMap());
+    assertThat(cache.getHotKeys()).isEmpty();
+  }
+
+  @Test
+  void callersGetTheirOwnCopies() {
+    when(ops.list("topk:Company:hot")).thenReturn(List.of("company:1"));
+    HotKeyCache<StringBuilder> builders = new HotKeyCache<>(ops, "topk:Company:hot", 10, 60_000, 1.0,
+        StringBuilder::new);
+    try {
+      builders.refresh();
+      StringBuilder loaded = builders.get("company:1", () -> Optional.of(new StringBuilder("v1"))).orElseThrow();
+      loaded.append(" modified");
+
+      StringBuilder first = builders.get("company:1", Optional::empty).orElseThrow();
+      first.append(" again");
+
+      assertThat(builders.get("company:1", Optional::empty)).hasValueSatisfying(cached -> assertThat(cached)
+          .hasToString("v1"));
+      assertThat(builders.peek("company:1")).isNotSameAs(builders.peek("company:1"));
+    } finally {
+      builders.close();
+    }
+  }
+
+  @Test
+  void loadsOverlappingAnInvalidationAreNotCached() {
+    when(ops.list("topk:Company:hot")).thenReturn(List.of("company:1"));
+    cache = new HotKeyCache<>(ops, "topk:Company:hot", 10, 60_000, 1.0, String::new);
+    cache.refresh();
+
+    cache.get("company:1", () -> {
+      cache.invalidate("company:1");
+      return Optional.of("stale");
+    });
+    assertThat(cache.peek("company:1")).isNull();
+
+    long version = cache.version();
+    cache.clear();
+    cache.cache("company:1", "stale", version);
+    assertThat(cache.peek("company:1")).isNull();
+
+    cache.get("company:1", () -> Optional.of("fresh"));
+    assertThat(cache.peek("company:1")).isEqualTo("fresh");
+  }
+
+  @Test
+  void topKKeyIsDerivedFromTheKeyspace() {
+    assertThat(HotKeyCache.topKKeyFor("company:")).isEqualTo("topk:company:hot");
+    assertThat(HotKeyCache.topKKeyFor("tenant1:company")).isEqualTo("topk:tenant1:company:hot");
+  }
+}
@@ -0,0 +1,94 @@
+package com.redis.om.spring.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.redis.om.spring.client.RedisModulesClient;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+class KeyspaceScanTest {
+  private RedisModulesClient client;
+  private Jedis jedis;
+
+  @BeforeEach
+  void setUp() {
+    client = mock(RedisModulesClient.class);
+    jedis = mock(Jedis.class);
+    when(client.getJedis()).thenReturn(Optional.of(jedis));
+  }
+
+  @Test
+  void scansUntilTheCursorReturnsToStart() {
+    when(jedis.scan(eq("0"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("7", List.of("p:1",
+        "p:2")));
+    when(jedis.scan(eq("7"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("0", List.of("p:3")));
+
+    Iterator<List<String>> scan = new KeyspaceScan(client, "p:", "hash", 100);
+    List<List<String>> pages = new ArrayList<>();
+    scan.forEachRemaining(pages::add);
+
+    assertThat(pages).containsExactly(List.of("p:1", "p:2"), List.of("p:3"));
+    // every page is read on its own connection
+    verify(jedis, times(2)).close();
+  }
+
+  @Test
+  void mergesThePagesOfEveryNodeUntilAllOfThemAreScanned() {
+    Jedis other = mock(Jedis.class);
+    when(jedis.scan(eq("0"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("4", List.of("p:1")));
+    when(jedis.scan(eq("4"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("0", List.of("p:2")));
+    when(other.scan(eq("0"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("0", List.of("p:3")));
+
+    Iterator<List<String>> scan = new KeyspaceScan(List.of(() -> jedis, () -> other), "p:", "hash", 100);
+    List<List<String>> pages = new ArrayList<>();
+    scan.forEachRemaining(pages::add);
+
+    assertThat(pages).containsExactly(List.of("p:1", "p:3"), List.of("p:2"));
+    // a node whose cursor is back at the start is not scanned again
+    verify(other, times(1)).scan(any(String.class), any(ScanParams.class), eq("hash"));
+  }
+
+  @Test
+  void matchesTheKeyspaceWithGlobCharactersEscaped() {
+    when(jedis.scan(eq("0"), any(ScanParams.class), eq("ReJSON-RL"))).thenReturn(new ScanResult<>("0", List.of()));
+
+    new KeyspaceScan(client, "docs[v2]*:", "ReJSON-RL", 50).next();
+
+    ArgumentCaptor<ScanParams> params = ArgumentCaptor.forClass(ScanParams.class);
+    verify(jedis).scan(eq("0"), params.capture(), eq("ReJSON-RL"));
+    assertThat(params.getValue().match()).isEqualTo("docs\\[v2\\]\\*:*");
+  }
+
+  @Test
+  void streamReadsPagesLazilyAndSkipsEmptyOnes() {
+    when(jedis.scan(eq("0"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("3", List.of()));
+    when(jedis.scan(eq("3"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("5", List.of("p:1")));
+    when(jedis.scan(eq("5"), any(ScanParams.class), eq("hash"))).thenReturn(new ScanResult<>("0", List.of("p:2")));
+    List<List<String>> read = new ArrayList<>();
+
+    Stream<String> values = new KeyspaceScan(client, "p:", "hash", 10).stream(keys -> {
+      read.add(keys);
+      return keys.stream().map(String::toUpperCase).toList();
+    });
+    verifyNoInteractions(jedis);
+
+    assertThat(values.findFirst()).contains("P:1");
+    assertThat(read).containsExactly(List.of("p:1"));
+    verify(jedis, never()).scan(eq("5"), any(ScanParams.class), eq("hash"));
+  }
+}
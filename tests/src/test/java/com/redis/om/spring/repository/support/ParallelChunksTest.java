@@ -0,0 +1,101 @@
+package com.redis.om.spring.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelChunksTest {
+
+  @Test
+  void resultsKeepTheOrderOfTheItems() {
+    List<Integer> items = IntStream.range(0, 1000).boxed().toList();
+    List<List<Integer>> chunks = new CopyOnWriteArrayList<>();
+
+    List<String> results = ParallelChunks.read(items, 64, 4, chunk -> {
+      chunks.add(chunk);
+      return chunk.stream().map(i -> "v" + i).toList();
+    });
+
+    assertThat(results).containsExactlyElementsOf(items.stream().map(i -> "v" + i).toList());
+    assertThat(chunks).hasSize(16).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(64));
+  }
+
+  @Test
+  void chunksAreReadConcurrentlyUpToTheParallelism() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(3);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    List<Integer> results = ParallelChunks.read(IntStream.range(0, 12).boxed().toList(), 2, 3, chunk -> {
+      threads.add(Thread.currentThread().getName());
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      started.countDown();
+      try {
+        started.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+      return chunk;
+    });
+
+    assertThat(results).hasSize(12);
+    assertThat(threads).hasSize(3).contains(Thread.currentThread().getName());
+    assertThat(maxRunning.get()).isEqualTo(3);
+  }
+
+  @Test
+  void singleChunkIsReadOnTheCallingThread() {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    ParallelChunks.read(List.of(1, 2, 3), 10, 4, chunk -> {
+      threads.add(Thread.currentThread().getName());
+      return chunk;
+    });
+
+    assertThat(threads).containsExactly(Thread.currentThread().getName());
+  }
+
+  @Test
+  void callingThreadReadsTheChunksOfHelpersThePoolCannotStart() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS, new SynchronousQueue<>());
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    try {
+      List<Integer> results = ParallelChunks.read(IntStream.range(0, 20).boxed().toList(), 2, 4, chunk -> {
+        threads.add(Thread.currentThread().getName());
+        return chunk;
+      }, executor);
+
+      assertThat(results).containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+      assertThat(threads).hasSizeLessThanOrEqualTo(2).contains(Thread.currentThread().getName());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void failuresAreRethrown() {
+    List<Integer> items = IntStream.range(0, 10).boxed().toList();
+
+    assertThatThrownBy(() -> ParallelChunks.read(items, 1, 4, chunk -> {
+      if (chunk.get(0) == 7) {
+        throw new IllegalStateException("boom");
+      }
+      return chunk;
+    })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+  }
+}
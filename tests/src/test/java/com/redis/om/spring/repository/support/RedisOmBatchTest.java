@@ -0,0 +1,171 @@
+package com.redis.om.spring.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.redis.om.spring.client.RedisModulesClient;
+
+import redis.clients.jedis.ClusterPipeline;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+@ExtendWith(
+  MockitoExtension.class
+)
+class RedisOmBatchTest {
+  @Mock
+  RedisModulesClient client;
+
+  @Mock
+  Jedis jedis;
+
+  @Mock
+  Pipeline pipeline;
+
+  @Mock
+  ClusterPipeline clusterPipeline;
+
+  @Mock
+  Transaction transaction;
+
+  @Test
+  void commandsAreSentAsOnePipelineWhenScopeExits() {
+    when(client.pipelined()).thenReturn(pipeline);
+    when(pipeline.syncAndReturnAll()).thenReturn(List.of("OK", 1L));
+
+    RedisOmBatch.run(() -> {
+      RedisOmBatch batch = RedisOmBatch.current().orElseThrow();
+      batch.add(client, p -> p.set("a", "1"));
+      batch.add(client, p -> p.del("b"));
+      verifyNoInteractions(client);
+    });
+
+    InOrder order = inOrder(pipeline);
+    order.verify(pipeline).set("a", "1");
+    order.verify(pipeline).del("b");
+    order.verify(pipeline).syncAndReturnAll();
+    verify(pipeline).close();
+    assertThat(RedisOmBatch.current()).isEmpty();
+  }
+
+  @Test
+  void transactionalScopeWrapsCommandsInMultiExec() {
+    when(client.getJedis()).thenReturn(Optional.of(jedis));
+    when(jedis.multi()).thenReturn(transaction);
+    when(transaction.exec()).thenReturn(List.of("OK"));
+
+    String result = RedisOmBatch.callInTransaction(() -> {
+      RedisOmBatch.current().orElseThrow().add(client, t -> t.set("a", "1"));
+      return "done";
+    });
+
+    assertThat(result).isEqualTo("done");
+    verify(transaction).set("a", "1");
+    verify(transaction).exec();
+    verify(jedis, never()).pipelined();
+  }
+
+  @Test
+  void commandsAreDiscardedWhenScopeThrows() {
+    assertThatThrownBy(() -> RedisOmBatch.run(() -> {
+      RedisOmBatch.current().orElseThrow().add(client, p -> p.set("a", "1"));
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class);
+
+    verifyNoInteractions(client);
+    assertThat(RedisOmBatch.current()).isEmpty();
+  }
+
+  @Test
+  void sideEffectsRunOnlyAfterASuccessfulFlush() {
+    when(client.pipelined()).thenReturn(pipeline);
+    when(pipeline.syncAndReturnAll()).thenReturn(List.of("OK"));
+    List<String> events = new ArrayList<>();
+
+    RedisOmBatch.run(() -> {
+      RedisOmBatch batch = RedisOmBatch.current().orElseThrow();
+      batch.add(client, p -> events.add("command"));
+      batch.afterFlush(() -> events.add("side effect"));
+      assertThat(events).isEmpty();
+    });
+
+    assertThat(events).containsExactly("command", "side effect");
+  }
+
+  @Test
+  void sideEffectsAreDiscardedWhenScopeThrows() {
+    List<String> events = new ArrayList<>();
+
+    assertThatThrownBy(() -> RedisOmBatch.run(() -> {
+      RedisOmBatch.current().orElseThrow().afterFlush(() -> events.add("side effect"));
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(events).isEmpty();
+  }
+
+  @Test
+  void nestedScopesJoinTheOuterBatch() {
+    when(client.pipelined()).thenReturn(pipeline);
+    when(pipeline.syncAndReturnAll()).thenReturn(List.of("OK", "OK"));
+
+    RedisOmBatch.run(() -> {
+      RedisOmBatch outer = RedisOmBatch.current().orElseThrow();
+      outer.add(client, p -> p.set("a", "1"));
+      RedisOmBatch.run(() -> {
+        assertThat(RedisOmBatch.current()).containsSame(outer);
+        outer.add(client, p -> p.set("b", "2"));
+      });
+      verifyNoInteractions(client);
+    });
+
+    verify(client).pipelined();
+    verify(pipeline).syncAndReturnAll();
+  }
+
+  @Test
+  void failedCommandsRaiseAnException() {
+    when(client.pipelined()).thenReturn(pipeline);
+    when(pipeline.syncAndReturnAll()).thenReturn(List.of("OK", new JedisDataException("WRONGTYPE")));
+
+    assertThatThrownBy(() -> RedisOmBatch.run(() -> {
+      RedisOmBatch batch = RedisOmBatch.current().orElseThrow();
+      batch.add(client, p -> p.set("a", "1"));
+      batch.add(client, p -> p.set("b", "2"));
+    })).hasMessageContaining("Failed 1 of 2 batched commands").hasMessageContaining("WRONGTYPE");
+  }
+
+  @Test
+  void clusterBatchesAreSentAsAClusterPipeline() {
+    when(client.pipelined()).thenReturn(clusterPipeline);
+
+    RedisOmBatch.run(() -> RedisOmBatch.current().orElseThrow().add(client, p -> p.set("a", "1")));
+
+    verify(clusterPipeline).set("a", "1");
+    verify(clusterPipeline).sync();
+    verify(clusterPipeline).close();
+    verify(client, never()).getJedis();
+  }
+
+  @Test
+  void noBatchIsActiveOutsideAScope() {
+    assertThat(RedisOmBatch.current()).isEmpty();
+  }
+}
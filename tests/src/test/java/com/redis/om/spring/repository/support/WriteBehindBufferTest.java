@@ -0,0 +1,156 @@
+package com.redis.om.spring.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindBufferTest {
+  private final List<List<String>> written = new CopyOnWriteArrayList<>();
+
+  private WriteBehindBuffer<String> buffer;
+
+  @AfterEach
+  void tearDown() {
+    if (buffer != null) {
+      buffer.close();
+    }
+  }
+
+  @Test
+  void repeatedPutsOfSameKeyCoalesceToLatestValue() {
+    buffer = new WriteBehindBuffer<>(written::add, 100, 60_000);
+
+    buffer.put("counter:1", "v1");
+    buffer.put("counter:1", "v2");
+    buffer.put("counter:1", "v3");
+
+    assertThat(buffer.size()).isEqualTo(1);
+    assertThat(buffer.get("counter:1")).isEqualTo("v3");
+
+    buffer.flush();
+
+    assertThat(written).containsExactly(List.of("v3"));
+    assertThat(buffer.size()).isZero();
+    assertThat(buffer.get("counter:1")).isNull();
+  }
+
+  @Test
+  void flushWritesInChunksOfBatchSize() {
+    buffer = new WriteBehindBuffer<>(written::add, 2, 60_000);
+
+    for (int i = 0; i < 5; i++) {
+      buffer.put("k:" + i, "v" + i);
+    }
+    buffer.flush();
+
+    List<String> all = new ArrayList<>();
+    written.forEach(all::addAll);
+    assertThat(all).containsExactlyInAnyOrder("v0", "v1", "v2", "v3", "v4");
+    assertThat(written).allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(2));
+  }
+
+  @Test
+  void reachingBatchSizeTriggersBackgroundFlush() throws InterruptedException {
+    CountDownLatch flushed = new CountDownLatch(1);
+    buffer = new WriteBehindBuffer<>(written::add, 3, 60_000);
+    buffer.addFlushListener((entities, error) -> flushed.countDown());
+
+    buffer.put("k:1", "a");
+    buffer.put("k:2", "b");
+    buffer.put("k:3", "c");
+
+    assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(written.get(0)).containsExactlyInAnyOrder("a", "b", "c");
+  }
+
+  @Test
+  void flushIntervalTriggersBackgroundFlush() throws InterruptedException {
+    CountDownLatch flushed = new CountDownLatch(1);
+    buffer = new WriteBehindBuffer<>(written::add, 100, 20);
+    buffer.addFlushListener((entities, error) -> flushed.countDown());
+
+    buffer.put("k:1", "a");
+
+    assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(written).containsExactly(List.of("a"));
+  }
+
+  @Test
+  void failedWriteRequeuesEntitiesAndNotifiesListeners() {
+    AtomicBoolean fail = new AtomicBoolean(true);
+    List<Throwable> errors = new ArrayList<>();
+    buffer = new WriteBehindBuffer<>(chunk -> {
+      if (fail.get()) {
+        throw new IllegalStateException("boom");
+      }
+      written.add(chunk);
+    }, 100, 60_000);
+    buffer.addFlushListener((entities, error) -> errors.add(error));
+
+    buffer.put("k:1", "a");
+
+    assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    assertThat(buffer.get("k:1")).isEqualTo("a");
+    assertThat(errors).hasSize(1).first().isInstanceOf(IllegalStateException.class);
+
+    fail.set(false);
+    buffer.flush();
+
+    assertThat(written).containsExactly(List.of("a"));
+    assertThat(errors).hasSize(2).last().isNull();
+  }
+
+  @Test
+  void removeAndClearDiscardPendingWrites() {
+    buffer = new WriteBehindBuffer<>(written::add, 100, 60_000);
+
+    buffer.put("k:1", "a");
+    buffer.put("k:2", "b");
+    buffer.remove("k:1");
+    assertThat(buffer.get("k:1")).isNull();
+    assertThat(buffer.size()).isEqualTo(1);
+
+    buffer.clear();
+    buffer.flush();
+
+    assertThat(written).isEmpty();
+  }
+
+  @Test
+  void flushingOneKeyWritesOnlyItsPendingEntity() {
+    buffer = new WriteBehindBuffer<>(written::add, 100, 60_000);
+    buffer.put("k:1", "a");
+    buffer.put("k:2", "b");
+
+    buffer.flush("k:1");
+    buffer.flush("k:3");
+
+    assertThat(written).containsExactly(List.of("a"));
+    assertThat(buffer.get("k:1")).isNull();
+    assertThat(buffer.get("k:2")).isEqualTo("b");
+  }
+
+  @Test
+  void closeWritesPendingEntitiesAndLaterPutsAreWrittenRightAway() {
+    buffer = new WriteBehindBuffer<>(written::add, 100, 60_000);
+    buffer.put("k:1", "v1");
+
+    buffer.close();
+
+    assertThat(written).containsExactly(List.of("v1"));
+
+    buffer.put("k:2", "v2");
+
+    assertThat(written).containsExactly(List.of("v1"), List.of("v2"));
+    assertThat(buffer.size()).isZero();
+  }
+}
@@ -0,0 +1,94 @@
+package com.redis.om.spring.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+class DocumentChangeTrackerTest {
+  private final DocumentChangeTracker tracker = new DocumentChangeTracker();
+
+  @Test
+  void onlyChangedFieldsAreReported() {
+    Object entity = new Object();
+    tracker.snapshot("orders:1", entity, json("{\"status\":\"NEW\",\"lines\":[1,2],\"address\":{\"zip\":\"1\"}}"));
+
+    DocumentChangeTracker.Changes changes = tracker.changes("orders:1", entity, json(
+        "{\"status\":\"PAID\",\"lines\":[1,2],\"address\":{\"zip\":\"1\"},\"paidBy\":\"card\"}"));
+
+    assertThat(changes).isNotNull();
+    assertThat(changes.changed()).containsOnlyKeys("status", "paidBy");
+    assertThat(changes.changed().get("status").getAsString()).isEqualTo("PAID");
+    assertThat(changes.removed()).isEmpty();
+  }
+
+  @Test
+  void fieldsMissingFromTheDocumentAreReportedAsRemoved() {
+    Object entity = new Object();
+    tracker.snapshot("orders:1", entity, json("{\"status\":\"NEW\",\"note\":\"gift\"}"));
+
+    DocumentChangeTracker.Changes changes = tracker.changes("orders:1", entity, json("{\"status\":\"NEW\"}"));
+
+    assertThat(changes.changed()).isEmpty();
+    assertThat(changes.removed()).containsExactly("note");
+    assertThat(changes.isEmpty()).isFalse();
+    assertThat(tracker.changes("orders:1", entity, json("{\"status\":\"NEW\",\"note\":\"gift\"}")).isEmpty())
+        .isTrue();
+  }
+
+  @Test
+  void snapshotsAreKeptPerInstanceAndKey() {
+    Object entity = new Object();
+    Object equalButDistinct = new Object() {
+      @Override
+      public boolean equals(Object other) {
+        return true;
+      }
+
+      @Override
+      public int hashCode() {
+        return entity.hashCode();
+      }
+    };
+    tracker.snapshot("orders:1", entity, json("{\"status\":\"NEW\"}"));
+
+    assertThat(tracker.changes("orders:1", equalButDistinct, json("{\"status\":\"NEW\"}"))).isNull();
+    assertThat(tracker.changes("orders:2", entity, json("{\"status\":\"NEW\"}"))).isNull();
+
+    tracker.forget(entity);
+
+    assertThat(tracker.changes("orders:1", entity, json("{\"status\":\"NEW\"}"))).isNull();
+    assertThat(tracker.size()).isZero();
+  }
+
+  @Test
+  void aWriteToTheKeyInvalidatesItsSnapshots() {
+    Object entity = new Object();
+    tracker.snapshot("orders:1", entity, json("{\"status\":\"NEW\"}"));
+
+    tracker.written("orders:1");
+
+    assertThat(tracker.changes("orders:1", entity, json("{\"status\":\"NEW\"}"))).isNull();
+  }
+
+  @Test
+  void aSnapshotOfAnOutdatedReadIsIgnored() {
+    Object entity = new Object();
+    long generation = tracker.generation("orders:1");
+    tracker.written("orders:1");
+
+    tracker.snapshot("orders:1", entity, json("{\"status\":\"NEW\"}"), generation);
+
+    assertThat(tracker.changes("orders:1", entity, json("{\"status\":\"NEW\"}"))).isNull();
+
+    tracker.snapshot("orders:1", entity, json("{\"status\":\"NEW\"}"), tracker.generation("orders:1"));
+
+    assertThat(tracker.changes("orders:1", entity, json("{\"status\":\"NEW\"}")).isEmpty()).isTrue();
+  }
+
+  private static JsonObject json(String json) {
+    return JsonParser.parseString(json).getAsJsonObject();
+  }
+}
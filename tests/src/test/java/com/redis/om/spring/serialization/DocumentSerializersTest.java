@@ -0,0 +1,125 @@
+package com.redis.om.spring.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.google.gson.reflect.TypeToken;
+
+class DocumentSerializersTest {
+
+  static class Owner {
+    String name;
+    transient String session;
+    Pet pet;
+  }
+
+  static class Pet {
+    String name;
+    int age;
+  }
+
+  @Test
+  void theGsonInstanceIsSharedUntilAnAdapterIsRegistered() {
+    GsonBuilder builder = new GsonBuilder();
+    DocumentSerializers serializers = DocumentSerializers.of(builder);
+    Gson gson = serializers.getGson();
+
+    assertThat(DocumentSerializers.of(builder)).isSameAs(serializers);
+    assertThat(serializers.getGson()).isSameAs(gson);
+
+    serializers.registerTypeAdapter(LocalDate.class, (JsonSerializer<LocalDate>) (date, type,
+        context) -> new JsonPrimitive(date.toString()));
+
+    assertThat(serializers.getGson()).isNotSameAs(gson);
+    assertThat(serializers.toJson(LocalDate.of(2024, 1, 31))).isEqualTo("\"2024-01-31\"");
+  }
+
+  @Test
+  void registeredTypesAreRoutedToTheirSerializer() {
+    DocumentSerializers serializers = DocumentSerializers.of(new GsonBuilder());
+    CountingSerializer jackson = new CountingSerializer(new JacksonDocumentSerializer());
+    serializers.register(Owner.class, jackson);
+
+    Owner owner = new Owner();
+    owner.name = "Ana";
+    owner.session = "s1";
+    owner.pet = new Pet();
+    owner.pet.name = "Rex";
+    owner.pet.age = 3;
+
+    String json = serializers.toJson(owner);
+    Owner read = serializers.fromJson(json, Owner.class);
+
+    assertThat(jackson.calls).isEqualTo(2);
+    assertThat(json).isEqualTo(new Gson().toJson(owner));
+    assertThat(read.name).isEqualTo("Ana");
+    assertThat(read.session).isNull();
+    assertThat(read.pet.age).isEqualTo(3);
+    assertThat(serializers.forType(Pet.class)).isNull();
+  }
+
+  @Test
+  void registeredTypesNestedInOtherDocumentsUseTheirSerializer() {
+    DocumentSerializers serializers = DocumentSerializers.of(new GsonBuilder());
+    CountingSerializer jackson = new CountingSerializer(new JacksonDocumentSerializer());
+    serializers.register(Pet.class, jackson);
+
+    Owner owner = new Owner();
+    owner.name = "Ana";
+    owner.pet = new Pet();
+    owner.pet.name = "Rex";
+
+    String json = serializers.getGson().toJson(List.of(owner));
+    List<Owner> read = serializers.fromJson(json, TypeToken.getParameterized(List.class, Owner.class).getType());
+
+    assertThat(json).isEqualTo("[{\"name\":\"Ana\",\"pet\":{\"name\":\"Rex\",\"age\":0}}]");
+    assertThat(read.get(0).pet.name).isEqualTo("Rex");
+    assertThat(jackson.calls).isEqualTo(2);
+  }
+
+  @Test
+  void jsonBytesAreTheUtf8EncodingOfTheJson() {
+    DocumentSerializers serializers = DocumentSerializers.of(new GsonBuilder());
+    Owner owner = new Owner();
+    owner.name = "Zoë \u00e9t\u00e9 \u4e2d\u6587 \ud83d\ude80 \ud83d broken";
+    owner.pet = new Pet();
+    owner.pet.name = "x".repeat(5000);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(serializers.toJsonBytes(owner)).isEqualTo(serializers.toJson(owner).getBytes(
+          StandardCharsets.UTF_8));
+    }
+    assertThat(serializers.toJsonBytes(null)).isEqualTo("null".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class CountingSerializer implements DocumentSerializer {
+    private final DocumentSerializer delegate;
+    private int calls;
+
+    CountingSerializer(DocumentSerializer delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public String toJson(Object value) {
+      calls++;
+      return delegate.toJson(value);
+    }
+
+    @Override
+    public <T> T fromJson(String json, Type type) {
+      calls++;
+      return delegate.fromJson(json, type);
+    }
+  }
+}
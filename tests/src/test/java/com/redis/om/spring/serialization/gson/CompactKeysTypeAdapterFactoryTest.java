@@ -0,0 +1,98 @@
+package com.redis.om.spring.serialization.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.redis.om.spring.annotations.CompactKeys;
+import com.redis.om.spring.annotations.Indexed;
+
+class CompactKeysTypeAdapterFactoryTest {
+  private final Gson gson = new GsonBuilder() //
+      .setFieldNamingStrategy(new CompactFieldNamingStrategy(FieldNamingPolicy.IDENTITY)) //
+      .registerTypeAdapterFactory(CompactKeysTypeAdapterFactory.getInstance()) //
+      .create();
+
+  @CompactKeys
+  static class Order {
+    String customerShippingAddressLine1;
+    int quantity;
+    Line line;
+  }
+
+  @CompactKeys(
+      omitDefaults = true
+  )
+  static class Line {
+    String productName;
+    int quantity = 1;
+    boolean giftWrapped;
+    String note;
+  }
+
+  @CompactKeys(
+      omitDefaults = true
+  )
+  static class Stock {
+    String warehouseName;
+    @Indexed
+    int quantity;
+    @Indexed
+    String location;
+  }
+
+  @Test
+  void fieldsAreWrittenUnderShortNamesAndReadUnderBoth() {
+    Order order = new Order();
+    order.customerShippingAddressLine1 = "1 Main St";
+    order.quantity = 0;
+
+    String json = gson.toJson(order);
+
+    assertThat(json).isEqualTo("{\"csal1\":\"1 Main St\",\"q\":0}");
+    assertThat(gson.fromJson(json, Order.class).customerShippingAddressLine1).isEqualTo("1 Main St");
+    assertThat(gson.fromJson("{\"customerShippingAddressLine1\":\"2 High St\",\"quantity\":3}", Order.class))
+        .satisfies(read -> {
+          assertThat(read.customerShippingAddressLine1).isEqualTo("2 High St");
+          assertThat(read.quantity).isEqualTo(3);
+        });
+  }
+
+  @Test
+  void nullAndDefaultValuesAreOmitted() {
+    Line line = new Line();
+    line.productName = "Catan";
+    line.quantity = 0;
+
+    String json = gson.toJson(line);
+
+    assertThat(json).isEqualTo("{\"pn\":\"Catan\"}");
+    Line read = gson.fromJson(json, Line.class);
+    assertThat(read.productName).isEqualTo("Catan");
+    assertThat(read.quantity).isZero();
+    assertThat(read.giftWrapped).isFalse();
+  }
+
+  @Test
+  void nestedClassesAreCompactedToo() {
+    Order order = new Order();
+    order.line = new Line();
+    order.line.quantity = 2;
+    order.line.giftWrapped = true;
+
+    String json = gson.toJson(order);
+
+    assertThat(json).isEqualTo("{\"q\":0,\"l\":{\"q\":2,\"gw\":true}}");
+    assertThat(gson.fromJson(json, Order.class).line.quantity).isEqualTo(2);
+  }
+
+  @Test
+  void indexedFieldsAreWrittenEvenWithDefaultValues() {
+    Stock stock = new Stock();
+
+    assertThat(gson.toJson(stock)).isEqualTo("{\"q\":0}");
+  }
+}
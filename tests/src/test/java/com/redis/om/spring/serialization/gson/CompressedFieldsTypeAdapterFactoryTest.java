@@ -0,0 +1,93 @@
+package com.redis.om.spring.serialization.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.redis.om.spring.annotations.Compressed;
+import com.redis.om.spring.annotations.Searchable;
+
+class CompressedFieldsTypeAdapterFactoryTest {
+  private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(CompressedFieldsTypeAdapterFactory
+      .getInstance()).create();
+
+  static class Page {
+    String title;
+    @Compressed
+    String html;
+    @Compressed
+    byte[] blob;
+  }
+
+  static class SearchablePage {
+    @Compressed
+    @Searchable
+    String html;
+  }
+
+  static class Site {
+    String name;
+    Page home;
+  }
+
+  @Test
+  void largeValuesAreStoredCompressed() {
+    Page page = page("<p>hello</p>".repeat(500));
+
+    JsonObject json = JsonParser.parseString(gson.toJson(page)).getAsJsonObject();
+
+    assertThat(json.get("title").getAsString()).isEqualTo("Home");
+    assertThat(json.get("html").getAsJsonObject().has(CompressedFieldsTypeAdapterFactory.DEFLATE)).isTrue();
+    assertThat(json.get("blob").getAsJsonObject().has(CompressedFieldsTypeAdapterFactory.DEFLATE)).isTrue();
+    assertThat(json.toString().length()).isLessThan(page.html.length() / 10);
+
+    Page read = gson.fromJson(json, Page.class);
+    assertThat(read.html).isEqualTo(page.html);
+    assertThat(read.blob).isEqualTo(page.blob);
+  }
+
+  @Test
+  void smallAndUncompressedValuesAreReadAsTheyAre() {
+    Page page = page("hi");
+
+    JsonObject json = JsonParser.parseString(gson.toJson(page)).getAsJsonObject();
+
+    assertThat(json.get("html").getAsString()).isEqualTo("hi");
+    assertThat(gson.fromJson("{\"html\":\"plain\",\"blob\":[1,2]}", Page.class).html).isEqualTo("plain");
+    assertThat(gson.fromJson("{\"html\":\"plain\",\"blob\":[1,2]}", Page.class).blob).containsExactly(1, 2);
+  }
+
+  @Test
+  void nestedObjectsAreCompressed() {
+    Site site = new Site();
+    site.name = "docs";
+    site.home = page("x".repeat(10_000));
+
+    String json = gson.toJson(site);
+
+    assertThat(json).contains(CompressedFieldsTypeAdapterFactory.DEFLATE);
+    assertThat(gson.fromJson(json, Site.class).home.html).isEqualTo(site.home.html);
+  }
+
+  @Test
+  void indexedCompressedFieldsAreRejected() {
+    SearchablePage page = new SearchablePage();
+    page.html = "<p>hello</p>";
+
+    assertThatIllegalArgumentException().isThrownBy(() -> gson.toJson(page)).withMessageContaining(
+        "SearchablePage.html cannot be indexed");
+  }
+
+  private static Page page(String html) {
+    Page page = new Page();
+    page.title = "Home";
+    page.html = html;
+    page.blob = html.getBytes();
+    return page;
+  }
+}
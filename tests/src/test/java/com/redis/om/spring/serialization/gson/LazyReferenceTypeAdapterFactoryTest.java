@@ -0,0 +1,103 @@
+package com.redis.om.spring.serialization.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.annotation.Reference;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.redis.om.spring.annotations.LazyReference;
+import com.redis.om.spring.ops.json.JSONOperations;
+
+class LazyReferenceTypeAdapterFactoryTest {
+  private JSONOperations<String> ops;
+  private Gson gson;
+
+  public static class Customer {
+    String id;
+    String name;
+
+    public String getName() {
+      return name;
+    }
+  }
+
+  public static class Store {
+    String id;
+    String city;
+
+    public String getCity() {
+      return city;
+    }
+  }
+
+  public static class Order {
+    String id;
+    @Reference
+    @LazyReference
+    Customer customer;
+    @Reference
+    @LazyReference
+    List<Store> stores;
+  }
+
+  @BeforeEach
+  @SuppressWarnings(
+    "unchecked"
+  )
+  void setUp() {
+    ops = mock(JSONOperations.class);
+    gson = new GsonBuilder().registerTypeAdapterFactory(new LazyReferenceTypeAdapterFactory(ops)).create();
+  }
+
+  @Test
+  void referencesAreLoadedOnFirstUse() {
+    when(ops.get("customer:c1")).thenReturn("{\"id\":\"c1\",\"name\":\"Ada\"}");
+
+    Order order = gson.fromJson("{\"id\":\"o1\",\"customer\":\"customer:c1\"}", Order.class);
+
+    verifyNoInteractions(ops);
+    assertThat(order.customer).isInstanceOf(LazyLoadingProxy.class);
+    LazyLoadingProxy proxy = (LazyLoadingProxy) order.customer;
+    assertThat(proxy.referenceKeys()).containsExactly("customer:c1");
+    assertThat(proxy.loaded()).isFalse();
+
+    assertThat(order.customer.getName()).isEqualTo("Ada");
+    assertThat(order.customer.getName()).isEqualTo("Ada");
+
+    verify(ops, times(1)).get("customer:c1");
+    assertThat(proxy.loaded()).isTrue();
+    assertThat(LazyLoadingProxy.unwrap(order.customer)).isNotInstanceOf(LazyLoadingProxy.class).extracting(
+        customer -> customer.id).isEqualTo("c1");
+  }
+
+  @Test
+  void collectionsAreLoadedWithOneMget() {
+    when(ops.mget("store:s1", "store:gone", "store:s2")).thenReturn(Arrays.asList("{\"id\":\"s1\",\"city\":\"Oslo\"}",
+        null, "{\"id\":\"s2\",\"city\":\"Rome\"}"));
+
+    Order order = gson.fromJson("{\"id\":\"o1\",\"stores\":[\"store:s1\",\"store:gone\",\"store:s2\"]}", Order.class);
+
+    verifyNoInteractions(ops);
+    assertThat(((LazyLoadingProxy) order.stores).referenceKeys()).hasSize(3);
+    assertThat(order.stores).extracting(Store::getCity).containsExactly("Oslo", "Rome");
+    verify(ops, times(1)).mget("store:s1", "store:gone", "store:s2");
+    assertThat(order.customer).isNull();
+  }
+
+  @Test
+  void missingReferencesFailOnFirstUse() {
+    Order order = gson.fromJson("{\"id\":\"o1\",\"customer\":\"customer:gone\"}", Order.class);
+
+    assertThatThrownBy(() -> order.customer.getName()).isInstanceOf(DataRetrievalFailureException.class)
+        .hasMessageContaining("customer:gone");
+  }
+}
@@ -0,0 +1,97 @@
+package com.redis.om.spring.serialization.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Reference;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.ops.json.JSONOperations;
+
+class ReferenceCacheTest {
+
+  static class Store {
+    String id;
+    String name;
+  }
+
+  static class Order {
+    String id;
+    @Reference
+    Store store;
+  }
+
+  @Test
+  void sizeIsBoundedAndStatisticsAreRecorded() {
+    ReferenceCache cache = new ReferenceCache("references", 2, 0);
+
+    cache.put("store:s1", "North");
+    cache.put("store:s2", "South");
+    cache.put("store:s3", "East");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("store:s1")).isNull();
+    assertThat(cache.get("store:s3", String.class)).isEqualTo("East");
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+    assertThat(cache.stats().evictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void containsDoesNotCountHitsOrMisses() {
+    ReferenceCache cache = new ReferenceCache("references", 10, 0);
+    cache.put("store:s1", "North");
+
+    assertThat(cache.contains("store:s1")).isTrue();
+    assertThat(cache.contains("store:s2")).isFalse();
+    assertThat(cache.stats().requestCount()).isZero();
+  }
+
+  @Test
+  void entriesExpireAndCanBeEvicted() throws InterruptedException {
+    ReferenceCache cache = new ReferenceCache("references", 10, 50);
+
+    cache.put("store:s1", "North");
+    cache.put("store:s2", "South");
+    cache.evict("store:s1");
+
+    assertThat(cache.get("store:s1")).isNull();
+    assertThat(cache.get("store:s2", String.class)).isEqualTo("South");
+    Thread.sleep(100);
+    assertThat(cache.get("store:s2")).isNull();
+  }
+
+  @Test
+  @SuppressWarnings(
+    "unchecked"
+  )
+  void deserializedReferencesAreCachedUntilEvicted() throws NoSuchFieldException {
+    JSONOperations<String> ops = mock(JSONOperations.class);
+    when(ops.get("store:s1")).thenReturn("{\"id\":\"s1\",\"name\":\"North\"}");
+    RedisOMProperties properties = new RedisOMProperties();
+    properties.getReferences().setCachedReferenceClasses(List.of(Store.class.getName()));
+    ReferenceCacheManager cacheManager = new ReferenceCacheManager(properties.getReferences());
+    cacheManager.afterPropertiesSet();
+    Gson gson = new GsonBuilder().registerTypeAdapter(Store.class, new ReferenceDeserializer(Order.class
+        .getDeclaredField("store"), ops, properties, cacheManager)).create();
+    ReferenceCache cache = (ReferenceCache) cacheManager.getCache(properties.getReferences().getCacheName());
+
+    Order first = gson.fromJson("{\"id\":\"o1\",\"store\":\"store:s1\"}", Order.class);
+    Order second = gson.fromJson("{\"id\":\"o2\",\"store\":\"store:s1\"}", Order.class);
+
+    verify(ops, times(1)).get("store:s1");
+    assertThat(second.store).isSameAs(first.store);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+
+    cache.evict("store:s1");
+    Order third = gson.fromJson("{\"id\":\"o3\",\"store\":\"store:s1\"}", Order.class);
+
+    verify(ops, times(2)).get("store:s1");
+    assertThat(third.store.name).isEqualTo("North");
+  }
+}
@@ -0,0 +1,138 @@
+package com.redis.om.spring.serialization.gson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.annotation.Reference;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.redis.om.spring.RedisOMProperties;
+import com.redis.om.spring.ops.json.JSONOperations;
+
+class ReferencePrefetchTest {
+  private static final Map<String, String> STORED = Map.of( //
+      "customer:c1", "{\"id\":\"c1\",\"name\":\"Ada\",\"store\":\"store:s1\"}", //
+      "customer:c2", "{\"id\":\"c2\",\"name\":\"Grace\",\"store\":\"store:s3\"}", //
+      "store:s1", "{\"id\":\"s1\",\"name\":\"North\"}", //
+      "store:s2", "{\"id\":\"s2\",\"name\":\"South\"}", //
+      "store:s3", "{\"id\":\"s3\",\"name\":\"East\"}");
+
+  private final List<List<String>> fetched = new ArrayList<>();
+
+  private JSONOperations<String> ops;
+  private Gson gson;
+
+  static class Store {
+    String id;
+    String name;
+  }
+
+  static class Customer {
+    String id;
+    String name;
+    @Reference
+    Store store;
+  }
+
+  static class Order {
+    String id;
+    @Reference
+    Customer customer;
+    @Reference
+    List<Store> stores;
+  }
+
+  @BeforeEach
+  @SuppressWarnings(
+    "unchecked"
+  )
+  void setUp() throws NoSuchFieldException {
+    ops = mock(JSONOperations.class);
+    RedisOMProperties properties = new RedisOMProperties();
+    CacheManager cacheManager = mock(CacheManager.class);
+    gson = new GsonBuilder() //
+        .registerTypeAdapter(Customer.class, new ReferenceDeserializer(Order.class.getDeclaredField("customer"), ops,
+            properties, cacheManager)) //
+        .registerTypeAdapter(TypeToken.getParameterized(List.class, Store.class).getType(), new ReferenceDeserializer(
+            Order.class.getDeclaredField("stores"), ops, properties, cacheManager)) //
+        .registerTypeAdapter(Store.class, new ReferenceDeserializer(Customer.class.getDeclaredField("store"), ops,
+            properties, cacheManager)) //
+        .create();
+  }
+
+  private List<String> fetch(String[] keys) {
+    fetched.add(List.of(keys));
+    return Arrays.stream(keys).map(STORED::get).toList();
+  }
+
+  @Test
+  void referencesOfAPageAreReadWithOneDeduplicatedFetchPerLevel() {
+    List<String> documents = List.of( //
+        "{\"id\":\"o1\",\"customer\":\"customer:c1\",\"stores\":[\"store:s1\",\"store:s2\"]}", //
+        "{\"id\":\"o2\",\"customer\":\"customer:c2\",\"stores\":[\"store:s2\"]}", //
+        "{\"id\":\"o3\",\"customer\":\"customer:c1\"}");
+
+    List<Order> orders = ReferencePrefetch.resolving(Order.class, documents.stream(), this::fetch, key -> false,
+        () -> documents.stream().map(json -> gson.fromJson(json, Order.class)).toList());
+
+    assertThat(fetched).containsExactly( //
+        List.of("customer:c1", "store:s1", "store:s2", "customer:c2"), //
+        List.of("store:s3"));
+    verifyNoInteractions(ops);
+    assertThat(orders.get(0).customer.name).isEqualTo("Ada");
+    assertThat(orders.get(0).customer.store.name).isEqualTo("North");
+    assertThat(orders.get(0).stores).extracting(store -> store.name).containsExactly("North", "South");
+    assertThat(orders.get(1).customer.store.name).isEqualTo("East");
+    assertThat(orders.get(2).customer.id).isEqualTo("c1");
+    assertThat(ReferencePrefetch.prefetched()).isEmpty();
+  }
+
+  @Test
+  void missingReferencesAreNotFetchedAgain() {
+    String document = "{\"id\":\"o1\",\"customer\":\"customer:gone\",\"stores\":[\"store:gone\",\"store:s2\"]}";
+
+    Order order = ReferencePrefetch.resolving(Order.class, Stream.of(document), this::fetch, key -> false,
+        () -> gson.fromJson(document, Order.class));
+
+    assertThat(fetched).hasSize(1);
+    verifyNoInteractions(ops);
+    assertThat(order.customer).isNull();
+    assertThat(order.stores).extracting(store -> store.name).containsExactly("South");
+  }
+
+  @Test
+  void typesWithoutReferencesAreMappedWithoutLookingAtTheDocuments() {
+    Stream<String> documents = Stream.generate(() -> {
+      throw new AssertionError("documents should not be read");
+    });
+
+    String mapped = ReferencePrefetch.resolving(Store.class, documents, this::fetch, key -> false, () -> "mapped");
+
+    assertThat(mapped).isEqualTo("mapped");
+    assertThat(fetched).isEmpty();
+  }
+
+  @Test
+  void cachedReferencesAreNeitherFetchedNorFollowed() {
+    List<String> documents = List.of( //
+        "{\"id\":\"o1\",\"customer\":\"customer:c1\",\"stores\":[\"store:s1\",\"store:s2\"]}", //
+        "{\"id\":\"o2\",\"customer\":\"customer:c2\"}");
+
+    String mapped = ReferencePrefetch.resolving(Order.class, documents.stream(), this::fetch, "customer:c2"::equals,
+        () -> "mapped");
+
+    assertThat(mapped).isEqualTo("mapped");
+    assertThat(fetched).containsExactly(List.of("customer:c1", "store:s1", "store:s2"));
+  }
+}
@@ -0,0 +1,94 @@
+package com.redis.om.spring.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.annotations.CompactKeys;
+
+class CompactKeyNamesTest {
+
+  static class Base {
+    String name;
+  }
+
+  @CompactKeys
+  static class Customer extends Base {
+    @Id
+    String id;
+    @Version
+    Long v;
+    String customerShippingAddressLine1;
+    String nickname;
+    @SerializedName("em")
+    String emailAddress;
+    static String CONSTANT;
+    transient String cached;
+  }
+
+  static class Plain {
+    String customerShippingAddressLine1;
+  }
+
+  @Test
+  void namesAreShortenedToTheirInitials() {
+    assertThat(CompactKeyNames.initials("customerShippingAddressLine1")).isEqualTo("csal1");
+    assertThat(CompactKeyNames.initials("order_total")).isEqualTo("ot");
+    assertThat(CompactKeyNames.initials("x")).isEqualTo("x");
+  }
+
+  @CompactKeys
+  static class Clashing {
+    String customerName;
+    String customerNumber;
+  }
+
+  @Test
+  void shortNamesDoNotDependOnOtherFields() {
+    Map<String, String> names = CompactKeyNames.shortNames(List.of("customerName", "orderTotal"), Set.of());
+    Map<String, String> withNewField = CompactKeyNames.shortNames(List.of("customerName", "orderTotal",
+        "shippingAddress"), Set.of());
+
+    assertThat(names).containsEntry("customerName", "cn").containsEntry("orderTotal", "ot");
+    assertThat(withNewField).containsEntry("customerName", "cn").containsEntry("orderTotal", "ot").containsEntry(
+        "shippingAddress", "sa");
+  }
+
+  @Test
+  void clashingNamesAreRejected() {
+    assertThatIllegalArgumentException().isThrownBy(() -> CompactKeyNames.shortNames(List.of("customerName",
+        "customerNumber"), Set.of())).withMessageContaining("'cn'").withMessageContaining("@SerializedName");
+    assertThatIllegalArgumentException().isThrownBy(() -> CompactKeyNames.shortNames(List.of("name", "n"), Set
+        .of())).withMessageContaining("field 'n'");
+    assertThatIllegalArgumentException().isThrownBy(() -> CompactKeyNames.shortNames(List.of("ab"), Set.of("a")))
+        .withMessageContaining("reserved");
+  }
+
+  @Test
+  void classesWithClashingNamesCannotBeMapped() {
+    assertThatIllegalStateException().isThrownBy(() -> CompactKeyNames.storedName(Clashing.class.getDeclaredField(
+        "customerName"))).withMessageContaining(Clashing.class.getName());
+  }
+
+  @Test
+  void fieldsOfCompactClassesAreStoredUnderTheirShortNames() throws NoSuchFieldException {
+    assertThat(CompactKeyNames.storedName(Customer.class.getDeclaredField("customerShippingAddressLine1")))
+        .isEqualTo("csal1");
+    assertThat(CompactKeyNames.storedName(Customer.class.getDeclaredField("nickname"))).isEqualTo("n");
+    assertThat(CompactKeyNames.storedName(Customer.class.getDeclaredField("emailAddress"))).isEqualTo("em");
+    assertThat(CompactKeyNames.storedName(Customer.class.getDeclaredField("id"))).isEqualTo("id");
+    assertThat(CompactKeyNames.storedName(Customer.class.getDeclaredField("v"))).isEqualTo("v");
+    assertThat(CompactKeyNames.storedName(Base.class.getDeclaredField("name"))).isEqualTo("name");
+    assertThat(CompactKeyNames.storedName(Plain.class.getDeclaredField("customerShippingAddressLine1"))).isEqualTo(
+        "customerShippingAddressLine1");
+  }
+}
@@ -0,0 +1,82 @@
+package com.redis.om.spring.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.redis.core.TimeToLive;
+
+import com.redis.om.spring.annotations.RedisKey;
+
+class EntityMetadataTest {
+
+  @Test
+  void metadataIsComputedOncePerClass() {
+    assertThat(EntityMetadata.of(Order.class)).isSameAs(EntityMetadata.of(Order.class));
+    assertThat(EntityMetadata.of(Order.class).getFieldsWithAnnotation(Id.class)).isSameAs(EntityMetadata.of(
+        Order.class).getFieldsWithAnnotation(Id.class));
+  }
+
+  @Test
+  void annotatedFieldsIncludeInheritedOnes() {
+    EntityMetadata metadata = EntityMetadata.of(Order.class);
+
+    assertThat(metadata.getIdField()).get().extracting("name").isEqualTo("id");
+    assertThat(metadata.getVersionFields()).extracting("name").containsExactly("version");
+    assertThat(metadata.getTimeToLiveFields()).extracting("name").containsExactly("ttl");
+    assertThat(metadata.getCreatedDateFields()).extracting("name").containsExactly("createdAt");
+    assertThat(metadata.getLastModifiedDateFields()).extracting("name").containsExactly("updatedAt");
+    assertThat(metadata.getRedisKeyFields()).extracting("name").containsExactly("key");
+    assertThat(metadata.getReferenceFields()).isEmpty();
+    assertThat(EntityMetadata.of(String.class).getIdField()).isEmpty();
+  }
+
+  @Test
+  void fieldsAreLookedUpByNameLikeReflectionUtils() {
+    EntityMetadata metadata = EntityMetadata.of(Order.class);
+
+    assertThat(metadata.getField("name").getDeclaringClass()).isEqualTo(Order.class);
+    assertThat(metadata.getField("createdAt").getDeclaringClass()).isEqualTo(Audited.class);
+    assertThat(metadata.getField("missing")).isNull();
+  }
+
+  @Test
+  void redisKeysArePopulatedThroughTheRegistry() {
+    Order order = ObjectUtils.populateRedisKey(new Order(), "orders:1");
+
+    assertThat(order.key).isEqualTo("orders:1");
+    assertThat(ObjectUtils.getDeclaredFieldsTransitively(Order.class)).hasSize(EntityMetadata.of(Order.class)
+        .getFields().size());
+  }
+
+  static class Audited {
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    private String name;
+  }
+
+  static class Order extends Audited {
+    @Id
+    private String id;
+
+    @Version
+    private Long version;
+
+    @TimeToLive
+    private Long ttl;
+
+    @RedisKey
+    private String key;
+
+    private String name;
+  }
+}
@@ -0,0 +1,74 @@
+package com.redis.om.spring.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ReflectionUtils;
+
+import com.redis.om.spring.metamodel.SearchFieldAccessor;
+
+class FieldAccessorTest {
+
+  @Test
+  void accessorsAreCachedPerField() {
+    var field = ReflectionUtils.findField(Account.class, "id");
+
+    assertThat(FieldAccessor.of(field)).isSameAs(FieldAccessor.of(field));
+  }
+
+  @Test
+  void valuesAreReadThroughTheGetterWhenThereIsOne() {
+    Account account = new Account("a1", 10, true);
+
+    assertThat(FieldAccessor.of(ReflectionUtils.findField(Account.class, "id")).get(account)).isEqualTo("id:a1");
+    assertThat(FieldAccessor.of(ReflectionUtils.findField(Account.class, "balance")).get(account)).isEqualTo(10);
+    assertThat(FieldAccessor.of(ReflectionUtils.findField(Account.class, "active")).get(account)).isEqualTo(true);
+  }
+
+  @Test
+  void valuesAreWrittenToTheField() {
+    Account account = new Account("a1", 10, false);
+
+    FieldAccessor.of(ReflectionUtils.findField(Account.class, "id")).set(account, "a2");
+    FieldAccessor.of(ReflectionUtils.findField(Account.class, "balance")).set(account, 42);
+
+    assertThat(account.id).isEqualTo("a2");
+    assertThat(account.balance).isEqualTo(42);
+    assertThatThrownBy(() -> FieldAccessor.of(ReflectionUtils.findField(Account.class, "balance")).set(account, null))
+        .isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void searchFieldAccessorsUseTheBoundAccessor() {
+    Account account = new Account("a1", 10, false);
+    SearchFieldAccessor balance = new SearchFieldAccessor("balance", "$.balance", ReflectionUtils.findField(
+        Account.class, "balance"));
+
+    balance.setValue(account, 7);
+
+    assertThat(balance.getValue(account)).isEqualTo(7);
+    assertThatThrownBy(() -> new SearchFieldAccessor("tags", "$.tags[*]", String.class, Account.class).getValue(
+        account)).isInstanceOf(IllegalStateException.class);
+  }
+
+  static class Account {
+    private String id;
+    private int balance;
+    private boolean active;
+
+    Account(String id, int balance, boolean active) {
+      this.id = id;
+      this.balance = balance;
+      this.active = active;
+    }
+
+    public String getId() {
+      return "id:" + id;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+  }
+}
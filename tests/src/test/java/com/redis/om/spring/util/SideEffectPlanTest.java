@@ -0,0 +1,131 @@
+package com.redis.om.spring.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.redis.om.spring.annotations.AutoComplete;
+import com.redis.om.spring.annotations.AutoCompletePayload;
+import com.redis.om.spring.annotations.Bloom;
+import com.redis.om.spring.annotations.CountMin;
+import com.redis.om.spring.bloom.BloomAspect;
+import com.redis.om.spring.bloom.BloomFilterReplicas;
+import com.redis.om.spring.countmin.CountMinAspect;
+import com.redis.om.spring.ops.pds.BloomOperations;
+import com.redis.om.spring.ops.pds.CountMinSketchOperations;
+
+@ExtendWith(
+  MockitoExtension.class
+)
+class SideEffectPlanTest {
+  @Mock
+  BloomOperations<String> bloomOperations;
+
+  @Mock
+  CountMinSketchOperations<String> countMinOperations;
+
+  @Mock
+  StringRedisTemplate template;
+
+  @Mock
+  BloomFilterReplicas replicas;
+
+  @Test
+  void planResolvesTargetNamesOnce() {
+    SideEffectPlan plan = SideEffectPlan.of(Player.class);
+
+    assertThat(plan).isSameAs(SideEffectPlan.of(Player.class));
+    assertThat(plan.getBloomTargets()).extracting(SideEffectPlan.Target::name).containsExactly("bf:Player:email",
+        "players_by_team");
+    assertThat(plan.getCountMinTargets()).extracting(SideEffectPlan.Target::name).containsExactly("cms:Player:team");
+    assertThat(plan.getCuckooTargets()).isEmpty();
+    assertThat(plan.getSuggestionTargets()).singleElement().satisfies(target -> {
+      assertThat(target.target().name()).isEqualTo("sugg:Player:nickname");
+      assertThat(target.payloadKey()).isEqualTo("sugg:payload:Player:nickname");
+      assertThat(target.payloadReadMethods()).containsOnlyKeys("team");
+    });
+  }
+
+  @Test
+  void planReadsValuesAndPayloads() throws ReflectiveOperationException {
+    Player player = new Player("a@b.c", "red", "ace");
+    SideEffectPlan plan = SideEffectPlan.of(Player.class);
+
+    assertThat(plan.getBloomTargets().get(0).read(player)).isEqualTo("a@b.c");
+    assertThat(plan.getSuggestionTargets().get(0).readPayload(player)).isEqualTo(Map.of("team", "red"));
+  }
+
+  @Test
+  void saveAllAddsToEachBloomFilterOnce() {
+    BloomAspect aspect = new BloomAspect(bloomOperations, replicas);
+
+    aspect.addAllToBloom(null, List.of(new Player("a@b.c", "red", "ace"), new Player("d@e.f", "blue", "duke"),
+        new Player(null, "red", "zed")));
+
+    verify(bloomOperations).addMulti("bf:Player:email", "a@b.c", "d@e.f");
+    verify(bloomOperations).addMulti("players_by_team", "red", "blue", "red");
+    verify(bloomOperations, never()).add(any(), any());
+    verify(replicas).add("bf:Player:email", "a@b.c", "d@e.f");
+  }
+
+  @Test
+  void saveAllAggregatesCountMinIncrementsPerSketch() {
+    when(countMinOperations.cmsInfo("cms:Player:team")).thenReturn(Map.of());
+    CountMinAspect aspect = new CountMinAspect(countMinOperations, template);
+
+    aspect.addAllToCountMin(null, List.of(new Player("a@b.c", "red", "ace"), new Player("d@e.f", "blue", "duke"),
+        new Player("g@h.i", "red", "zed")));
+
+    verify(countMinOperations).cmsIncrBy("cms:Player:team", Map.of("red", 2L, "blue", 1L));
+    verify(countMinOperations, never()).cmsIncrBy(any(), any(), anyLong());
+  }
+
+  public static class Player {
+    @Bloom(
+      capacity = 100, errorRate = 0.01
+    )
+    private String email;
+
+    @Bloom(
+      name = "players_by_team", capacity = 100, errorRate = 0.01
+    )
+    @CountMin
+    @AutoCompletePayload(
+      "nickname"
+    )
+    private String team;
+
+    @AutoComplete
+    private String nickname;
+
+    public Player(String email, String team, String nickname) {
+      this.email = email;
+      this.team = team;
+      this.nickname = nickname;
+    }
+
+    public String getEmail() {
+      return email;
+    }
+
+    public String getTeam() {
+      return team;
+    }
+
+    public String getNickname() {
+      return nickname;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.redis.om.spring.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ValueByPathTest {
+
+  @Test
+  void valuesAreReadThroughCompiledAccessors() {
+    Customer customer = new Customer("Ann", new Address("Austin"), List.of());
+
+    // past the interpretation threshold, so the expressions are compiled
+    for (int i = 0; i < 500; i++) {
+      assertThat(ObjectUtils.getValueByPath(customer, "$.name")).isEqualTo("Ann");
+      assertThat(ObjectUtils.getValueByPath(customer, "$.address.city")).isEqualTo("Austin");
+    }
+  }
+
+  @Test
+  void nullsAlongThePathAreSafelyNavigated() {
+    Customer customer = new Customer("Ann", null, null);
+
+    for (int i = 0; i < 500; i++) {
+      assertThat(ObjectUtils.getValueByPath(customer, "$.address.city")).isNull();
+      assertThat(ObjectUtils.getValueByPath(customer, "$.orders[0:].items[*]")).isNull();
+    }
+  }
+
+  @Test
+  void nestedArraysAreFlattened() {
+    Customer customer = new Customer("Ann", null, List.of(new Order(List.of("a", "b")), new Order(List.of("c"))));
+
+    for (int i = 0; i < 500; i++) {
+      assertThat(ObjectUtils.getValueByPath(customer, "$.orders[0:].items[*]")).asList().containsExactly("a", "b",
+          "c");
+    }
+  }
+
+  public record Address(String city) {
+    public String getCity() {
+      return city;
+    }
+  }
+
+  public record Order(List<String> items) {
+    public List<String> getItems() {
+      return items;
+    }
+  }
+
+  public record Customer(String name, Address address, List<Order> orders) {
+    public String getName() {
+      return name;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+
+    public List<Order> getOrders() {
+      return orders;
+    }
+  }
+}
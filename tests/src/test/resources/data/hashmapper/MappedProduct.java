@@ -0,0 +1,84 @@
+package mapped;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.redis.core.RedisHash;
+
+import com.redis.om.spring.convert.Product;
+
+@RedisHash
+public class MappedProduct implements Product {
+  @Id
+  private String id;
+
+  private String name;
+
+  private int stock;
+
+  private Double price;
+
+  private boolean available;
+
+  private Category category;
+
+  @Transient
+  private int getterCalls;
+
+  public String getId() {
+    getterCalls++;
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    getterCalls++;
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getStock() {
+    getterCalls++;
+    return stock;
+  }
+
+  public void setStock(int stock) {
+    this.stock = stock;
+  }
+
+  public Double getPrice() {
+    getterCalls++;
+    return price;
+  }
+
+  public void setPrice(Double price) {
+    this.price = price;
+  }
+
+  public boolean isAvailable() {
+    getterCalls++;
+    return available;
+  }
+
+  public void setAvailable(boolean available) {
+    this.available = available;
+  }
+
+  public Category getCategory() {
+    getterCalls++;
+    return category;
+  }
+
+  public void setCategory(Category category) {
+    this.category = category;
+  }
+
+  public int getterCalls() {
+    return getterCalls;
+  }
+}
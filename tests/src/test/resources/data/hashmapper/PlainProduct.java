@@ -0,0 +1,5 @@
+package mapped;
+
+// subclasses get no generated mapper
+public class PlainProduct extends MappedProduct {
+}
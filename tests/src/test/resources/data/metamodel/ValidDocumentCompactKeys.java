@@ -0,0 +1,31 @@
+package valid;
+
+import com.google.gson.annotations.SerializedName;
+import com.redis.om.spring.annotations.CompactKeys;
+import com.redis.om.spring.annotations.Document;
+import com.redis.om.spring.annotations.Indexed;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+
+@Data
+@NoArgsConstructor
+@Document
+@CompactKeys
+public class ValidDocumentCompactKeys {
+  @Id
+  private String id;
+
+  @Indexed
+  private String customerShippingAddressLine1;
+
+  @Indexed
+  private String name;
+
+  @Indexed
+  @SerializedName("num")
+  private Integer number;
+
+  @Indexed
+  @SerializedName("email")
+  private String emailAddress;
+}
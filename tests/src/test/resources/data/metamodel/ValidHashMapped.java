@@ -0,0 +1,70 @@
+package valid;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+
+@RedisHash
+public class ValidHashMapped {
+  @Id
+  private String id;
+
+  private String name;
+
+  private int age;
+
+  private boolean active;
+
+  private Long visits;
+
+  Status status;
+
+  private transient String cached;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getAge() {
+    return age;
+  }
+
+  public void setAge(int age) {
+    this.age = age;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+
+  public Long getVisits() {
+    return visits;
+  }
+
+  public void setVisits(Long visits) {
+    this.visits = visits;
+  }
+
+  public String getCached() {
+    return cached;
+  }
+
+  public enum Status {
+    ACTIVE, CLOSED
+  }
+}